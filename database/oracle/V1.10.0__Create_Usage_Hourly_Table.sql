@@ -0,0 +1,59 @@
+-- ============================================================================
+-- Hourly Usage Rollups
+-- Version: 1.10.0
+-- Description: Create hourly GPU usage rollup table (device / model / cluster)
+-- ============================================================================
+
+CREATE TABLE gpu_usage_hourly (
+    usage_hour_id NUMBER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    hour_start DATE NOT NULL,
+    scope_type VARCHAR2(10) NOT NULL,
+    scope_id VARCHAR2(50) NOT NULL,
+    sample_count NUMBER(8) DEFAULT 0,
+    avg_gpu_utilization_pct NUMBER(5,2),
+    max_gpu_utilization_pct NUMBER(5,2),
+    avg_memory_utilization_pct NUMBER(5,2),
+    avg_temperature_c NUMBER(5,2),
+    created_date DATE DEFAULT SYSDATE,
+    CONSTRAINT uk_gpu_usage_hourly_scope UNIQUE (hour_start, scope_type, scope_id),
+    CONSTRAINT chk_gpu_usage_hourly_scope CHECK (scope_type IN ('DEVICE', 'MODEL', 'CLUSTER'))
+);
+
+CREATE INDEX idx_gpu_usage_hourly_hour ON gpu_usage_hourly(hour_start);
+
+COMMENT ON TABLE gpu_usage_hourly IS '시간별 GPU 사용량 롤업 (예측 모델 입력)';
+COMMENT ON COLUMN gpu_usage_hourly.scope_type IS '집계 범위 (DEVICE, MODEL, CLUSTER)';
+COMMENT ON COLUMN gpu_usage_hourly.scope_id IS '장비 ID, 모델 ID 또는 cluster';
+
+-- 기존 원시 메트릭 이관 (보관 기간 내 데이터)
+INSERT INTO gpu_usage_hourly (hour_start, scope_type, scope_id, sample_count, avg_gpu_utilization_pct,
+                              max_gpu_utilization_pct, avg_memory_utilization_pct, avg_temperature_c)
+SELECT TRUNC(m.timestamp, 'HH24'), 'DEVICE', m.device_id, COUNT(*),
+       AVG(m.gpu_utilization_pct), MAX(m.gpu_utilization_pct), AVG(m.memory_utilization_pct), AVG(m.temperature_c)
+FROM gpu_usage_metrics m
+WHERE m.device_id IS NOT NULL
+  AND m.gpu_utilization_pct IS NOT NULL
+  AND m.timestamp < TRUNC(SYSDATE, 'HH24')
+GROUP BY TRUNC(m.timestamp, 'HH24'), m.device_id;
+
+INSERT INTO gpu_usage_hourly (hour_start, scope_type, scope_id, sample_count, avg_gpu_utilization_pct,
+                              max_gpu_utilization_pct, avg_memory_utilization_pct, avg_temperature_c)
+SELECT TRUNC(m.timestamp, 'HH24'), 'MODEL', d.model_id, COUNT(*),
+       AVG(m.gpu_utilization_pct), MAX(m.gpu_utilization_pct), AVG(m.memory_utilization_pct), AVG(m.temperature_c)
+FROM gpu_usage_metrics m
+JOIN gpu_devices d ON d.device_id = m.device_id
+WHERE m.gpu_utilization_pct IS NOT NULL
+  AND d.model_id IS NOT NULL
+  AND m.timestamp < TRUNC(SYSDATE, 'HH24')
+GROUP BY TRUNC(m.timestamp, 'HH24'), d.model_id;
+
+INSERT INTO gpu_usage_hourly (hour_start, scope_type, scope_id, sample_count, avg_gpu_utilization_pct,
+                              max_gpu_utilization_pct, avg_memory_utilization_pct, avg_temperature_c)
+SELECT TRUNC(m.timestamp, 'HH24'), 'CLUSTER', 'cluster', COUNT(*),
+       AVG(m.gpu_utilization_pct), MAX(m.gpu_utilization_pct), AVG(m.memory_utilization_pct), AVG(m.temperature_c)
+FROM gpu_usage_metrics m
+WHERE m.gpu_utilization_pct IS NOT NULL
+  AND m.timestamp < TRUNC(SYSDATE, 'HH24')
+GROUP BY TRUNC(m.timestamp, 'HH24');
+
+COMMIT;
@@ -0,0 +1,22 @@
+-- ============================================================================
+-- Alert Rule Windows
+-- Version: 1.11.0
+-- Description: Add sliding window aggregation and "for" duration to alert rules
+--              (rules are evaluated in-process against the telemetry stream)
+-- ============================================================================
+
+ALTER TABLE alert_rules ADD (
+    aggregation VARCHAR2(10) DEFAULT 'LAST'
+        CHECK (aggregation IN ('LAST', 'AVG', 'MAX', 'MIN', 'RATE')),
+    window_minutes NUMBER(4) DEFAULT 0,
+    for_minutes NUMBER(4) DEFAULT 0
+);
+
+COMMENT ON COLUMN alert_rules.aggregation IS '윈도우 집계 함수 (RATE 는 분당 변화량)';
+COMMENT ON COLUMN alert_rules.window_minutes IS '집계 윈도우 (0 이면 마지막 샘플)';
+COMMENT ON COLUMN alert_rules.for_minutes IS '조건 지속 시간 (이 기간 이상 충족 시 발생)';
+
+-- 규칙 엔진이 발생/해소를 기록하므로 장비 온도 갱신 트리거 제거 (중복 알람 방지)
+DROP TRIGGER tr_gpu_temperature_alert;
+
+CREATE INDEX idx_system_alerts_rule_status ON system_alerts(rule_id, status);
@@ -0,0 +1,12 @@
+-- ============================================================================
+-- Alert Rule Hysteresis
+-- Version: 1.12.0
+-- Description: Add clear threshold to alert rules (firing alerts resolve only
+--              once the value crosses back past the clear threshold)
+-- ============================================================================
+
+ALTER TABLE alert_rules ADD (
+    clear_threshold NUMBER(10,2)
+);
+
+COMMENT ON COLUMN alert_rules.clear_threshold IS '해소 임계치 (NULL 이면 임계치에서 hysteresis-pct 만큼 완화)';
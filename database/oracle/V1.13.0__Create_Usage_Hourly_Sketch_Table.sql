@@ -0,0 +1,29 @@
+-- ============================================================================
+-- Hourly Usage Quantile Sketches
+-- Version: 1.13.0
+-- Description: Store mergeable quantile sketches (DDSketch format) per hourly
+--              usage rollup bucket so percentiles can be answered over any
+--              window and grouping without scanning raw metrics
+-- ============================================================================
+
+CREATE TABLE gpu_usage_hourly_sketch (
+    usage_hour_id NUMBER PRIMARY KEY,
+    hour_start DATE NOT NULL,
+    scope_type VARCHAR2(10) NOT NULL,
+    scope_id VARCHAR2(50) NOT NULL,
+    relative_accuracy NUMBER(6,4) NOT NULL,
+    utilization_sketch BLOB,
+    memory_sketch BLOB,
+    power_sketch BLOB,
+    created_date DATE DEFAULT SYSDATE,
+    CONSTRAINT fk_usage_hourly_sketch_hour FOREIGN KEY (usage_hour_id)
+        REFERENCES gpu_usage_hourly(usage_hour_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_usage_hourly_sketch_scope ON gpu_usage_hourly_sketch(scope_type, hour_start);
+
+COMMENT ON TABLE gpu_usage_hourly_sketch IS '시간별 GPU 사용량 분위수 스케치 (롤업 구간별, 병합 가능)';
+COMMENT ON COLUMN gpu_usage_hourly_sketch.relative_accuracy IS '스케치 상대 오차 (같은 값끼리만 병합)';
+COMMENT ON COLUMN gpu_usage_hourly_sketch.utilization_sketch IS 'GPU 사용률(%) 스케치';
+COMMENT ON COLUMN gpu_usage_hourly_sketch.memory_sketch IS '메모리 사용률(%) 스케치';
+COMMENT ON COLUMN gpu_usage_hourly_sketch.power_sketch IS '전력(W) 스케치';
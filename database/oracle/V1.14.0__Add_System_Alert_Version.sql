@@ -0,0 +1,12 @@
+-- ============================================================================
+-- System Alert Optimistic Locking
+-- Version: 1.14.0
+-- Description: Add row version to system alerts so acknowledgement and rule
+--              engine status flushes cannot overwrite each other
+-- ============================================================================
+
+ALTER TABLE system_alerts ADD (
+    row_version NUMBER(10) DEFAULT 0 NOT NULL
+);
+
+COMMENT ON COLUMN system_alerts.row_version IS '낙관적 잠금 버전 (확인 처리와 규칙 엔진 상태 저장 충돌 감지)';
@@ -0,0 +1,14 @@
+-- ============================================================================
+-- MIG GPU Instance Placement
+-- Version: 1.15.0
+-- Description: Record the driver-assigned GPU instance ID of each MIG instance
+--              so telemetry can be mapped by placement and the real MIG UUID
+--              can replace the placeholder written at creation time
+-- ============================================================================
+
+ALTER TABLE mig_instances ADD (
+    gpu_instance_id NUMBER(2)
+);
+
+COMMENT ON COLUMN mig_instances.gpu_instance_id IS '드라이버가 부여한 GPU instance ID (텔레메트리 매핑으로 확인된 배치)';
+COMMENT ON COLUMN mig_instances.mig_uuid IS 'MIG UUID (생성 시 임시 값, 첫 텔레메트리 매핑 시 실제 UUID 로 교체)';
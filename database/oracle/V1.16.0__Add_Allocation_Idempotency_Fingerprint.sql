@@ -0,0 +1,12 @@
+-- ============================================================================
+-- Allocation Idempotency Fingerprint
+-- Version: 1.16.0
+-- Description: Store a hash of the original request body with the idempotency
+--              key so a reused key with a different request can be rejected
+-- ============================================================================
+
+ALTER TABLE gpu_allocations ADD (
+    idempotency_fingerprint VARCHAR2(64)
+);
+
+COMMENT ON COLUMN gpu_allocations.idempotency_fingerprint IS '멱등성 키 최초 요청 본문 해시 (SHA-256, 다른 요청의 키 재사용 거부)';
@@ -0,0 +1,29 @@
+-- ============================================================================
+-- Allocation Preemption Status
+-- Version: 1.5.1
+-- Description: Allow PREEMPTED status on GPU allocations (priority preemption)
+-- ============================================================================
+
+-- 상태 CHECK 제약조건 재생성 (PREEMPTED 추가)
+DECLARE
+    v_constraint_name VARCHAR2(128);
+BEGIN
+    SELECT c.constraint_name INTO v_constraint_name
+    FROM user_constraints c
+    JOIN user_cons_columns cc ON c.constraint_name = cc.constraint_name
+    WHERE c.table_name = 'GPU_ALLOCATIONS'
+      AND c.constraint_type = 'C'
+      AND cc.column_name = 'STATUS'
+      AND c.search_condition_vc LIKE '%EXPIRED%';
+
+    EXECUTE IMMEDIATE 'ALTER TABLE gpu_allocations DROP CONSTRAINT ' || v_constraint_name;
+EXCEPTION
+    WHEN NO_DATA_FOUND THEN
+        NULL;
+END;
+/
+
+ALTER TABLE gpu_allocations ADD CONSTRAINT chk_gpu_allocations_status
+    CHECK (status IN ('PENDING', 'ALLOCATED', 'RELEASED', 'FAILED', 'EXPIRED', 'PREEMPTED'));
+
+COMMENT ON COLUMN gpu_allocations.status IS '할당 상태 (PENDING, ALLOCATED, RELEASED, FAILED, EXPIRED, PREEMPTED)';
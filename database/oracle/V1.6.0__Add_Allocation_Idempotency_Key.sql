@@ -0,0 +1,13 @@
+-- ============================================================================
+-- Allocation Idempotency Key
+-- Version: 1.6.0
+-- Description: Add client idempotency key to GPU allocations
+-- ============================================================================
+
+ALTER TABLE gpu_allocations ADD (
+    idempotency_key VARCHAR2(100)
+);
+
+CREATE UNIQUE INDEX uk_gpu_allocations_idem_key ON gpu_allocations(idempotency_key);
+
+COMMENT ON COLUMN gpu_allocations.idempotency_key IS '클라이언트 요청 멱등성 키 (Idempotency-Key 헤더)';
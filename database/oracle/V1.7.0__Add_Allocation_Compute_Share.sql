@@ -0,0 +1,13 @@
+-- ============================================================================
+-- Shared GPU Allocation
+-- Version: 1.7.0
+-- Description: Add compute share for SHARED_GPU (time-slicing) allocations
+-- ============================================================================
+
+ALTER TABLE gpu_allocations ADD (
+    compute_share NUMBER(3,2) CHECK (compute_share > 0 AND compute_share <= 1)
+);
+
+CREATE INDEX idx_gpu_allocations_type_status ON gpu_allocations(resource_type, status);
+
+COMMENT ON COLUMN gpu_allocations.compute_share IS 'SHARED_GPU 연산 점유율 (0~1)';
@@ -0,0 +1,12 @@
+-- ============================================================================
+-- Streaming Cost Accrual
+-- Version: 1.8.0
+-- Description: Add accrued cost checkpoint time for active allocations
+-- ============================================================================
+
+ALTER TABLE gpu_allocations ADD (
+    cost_accrued_until TIMESTAMP
+);
+
+COMMENT ON COLUMN gpu_allocations.total_cost IS '총 비용 (활성 할당은 누적 비용 체크포인트)';
+COMMENT ON COLUMN gpu_allocations.cost_accrued_until IS '비용 누적 체크포인트 시각';
@@ -0,0 +1,48 @@
+-- ============================================================================
+-- Daily Cost Cube
+-- Version: 1.9.0
+-- Description: Create daily pre-aggregated cost table (day x cost dimensions)
+-- ============================================================================
+
+CREATE TABLE gpu_cost_daily (
+    cost_id NUMBER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    cost_date DATE NOT NULL,
+    namespace VARCHAR2(50) NOT NULL,
+    team_id VARCHAR2(50) NOT NULL,
+    project_id VARCHAR2(50) NOT NULL,
+    workload_type VARCHAR2(30) NOT NULL,
+    resource_type VARCHAR2(20) NOT NULL,
+    model_id VARCHAR2(20) NOT NULL,
+    total_cost NUMBER(12,4) DEFAULT 0,
+    usage_hours NUMBER(12,4) DEFAULT 0,
+    updated_date DATE DEFAULT SYSDATE,
+    CONSTRAINT uk_gpu_cost_daily_cell UNIQUE (cost_date, namespace, team_id, project_id, workload_type, resource_type, model_id)
+);
+
+CREATE INDEX idx_gpu_cost_daily_date ON gpu_cost_daily(cost_date);
+
+COMMENT ON TABLE gpu_cost_daily IS '일별 GPU 비용 집계 (cost cube)';
+COMMENT ON COLUMN gpu_cost_daily.team_id IS '팀 ID (없으면 ''-'')';
+COMMENT ON COLUMN gpu_cost_daily.usage_hours IS '리소스 점유 시간 합계';
+
+-- 기존 해제된 할당 비용 이관 (할당 일자 기준)
+INSERT INTO gpu_cost_daily (cost_date, namespace, team_id, project_id, workload_type, resource_type, model_id,
+                            total_cost, usage_hours)
+SELECT TRUNC(a.allocation_time),
+       a.namespace,
+       NVL(a.team_id, '-'),
+       NVL(a.project_id, '-'),
+       NVL(a.workload_type, '-'),
+       a.resource_type,
+       NVL(d.model_id, '-'),
+       SUM(NVL(a.total_cost, 0)),
+       SUM((a.release_time - a.allocation_time) * 24)
+FROM gpu_allocations a
+LEFT JOIN mig_instances m ON a.resource_type = 'MIG_INSTANCE' AND m.mig_id = a.allocated_resource
+LEFT JOIN gpu_devices d ON d.device_id = NVL(m.device_id, a.allocated_resource)
+WHERE a.status <> 'ALLOCATED'
+  AND a.release_time IS NOT NULL
+GROUP BY TRUNC(a.allocation_time), a.namespace, NVL(a.team_id, '-'), NVL(a.project_id, '-'),
+         NVL(a.workload_type, '-'), a.resource_type, NVL(d.model_id, '-');
+
+COMMIT;
@@ -0,0 +1,130 @@
+package com.k8s.monitor.controller.gpu;
+
+import com.k8s.monitor.dto.gpu.GpuAlertGroup;
+import com.k8s.monitor.dto.gpu.GpuAlertInfo;
+import com.k8s.monitor.dto.gpu.GpuAlertRuleInfo;
+import com.k8s.monitor.service.gpu.GpuAlertRuleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * GPU 알람 REST API 컨트롤러
+ * 알람 규칙 조회/재적재, 발생 중인 알람 및 알람 이력 조회, 알람 확인 처리
+ */
+@RestController
+@RequestMapping("/api/v1/gpu/alerts")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class GpuAlertController {
+    
+    private final GpuAlertRuleService alertRuleService;
+
+    /**
+     * 현재 미해소 알람 조회 ((규칙, 대상)별 1건, 플래핑 중인 알람은 SUPPRESSED - 규칙 엔진 메모리 상태)
+     */
+    @GetMapping("/firing")
+    public ResponseEntity<List<GpuAlertInfo>> getFiringAlerts() {
+        log.info("Fetching firing GPU alerts");
+        
+        try {
+            return ResponseEntity.ok(alertRuleService.getOpenAlerts());
+        } catch (Exception e) {
+            log.error("Error fetching firing GPU alerts: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 노드/모델별 미해소 알람 그룹 조회
+     */
+    @GetMapping("/groups")
+    public ResponseEntity<List<GpuAlertGroup>> getAlertGroups() {
+        log.info("Fetching GPU alert groups");
+        
+        try {
+            return ResponseEntity.ok(alertRuleService.getAlertGroups());
+        } catch (Exception e) {
+            log.error("Error fetching GPU alert groups: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 알람 이력 조회 (status: 쉼표 구분, 기본 미해소 알람)
+     */
+    @GetMapping
+    public ResponseEntity<List<GpuAlertInfo>> getAlerts(
+            @RequestParam(defaultValue = "ACTIVE,ACKNOWLEDGED,SUPPRESSED") String status) {
+        log.info("Fetching GPU alerts with status: {}", status);
+        
+        try {
+            List<String> statuses = Arrays.stream(status.split(","))
+                .map(String::trim)
+                .map(String::toUpperCase)
+                .filter(value -> !value.isEmpty())
+                .toList();
+            return ResponseEntity.ok(alertRuleService.getAlerts(statuses));
+        } catch (Exception e) {
+            log.error("Error fetching GPU alerts: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 알람 확인 처리
+     */
+    @PostMapping("/{alertId}/acknowledge")
+    public ResponseEntity<GpuAlertInfo> acknowledgeAlert(
+            @PathVariable String alertId,
+            @RequestParam(defaultValue = "admin") String acknowledgedBy) {
+        log.info("Acknowledging GPU alert: {} by {}", alertId, acknowledgedBy);
+        
+        try {
+            return ResponseEntity.ok(alertRuleService.acknowledgeAlert(alertId, acknowledgedBy));
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("GPU alert {} changed concurrently, acknowledge again: {}", alertId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RuntimeException e) {
+            log.error("Error acknowledging GPU alert {}: {}", alertId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 알람 규칙 목록 조회 (평가 상태 포함)
+     */
+    @GetMapping("/rules")
+    public ResponseEntity<List<GpuAlertRuleInfo>> getRules() {
+        log.info("Fetching GPU alert rules");
+        
+        try {
+            return ResponseEntity.ok(alertRuleService.getRules());
+        } catch (Exception e) {
+            log.error("Error fetching GPU alert rules: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * alert_rules 재적재
+     */
+    @PostMapping("/rules/reload")
+    public ResponseEntity<List<GpuAlertRuleInfo>> reloadRules() {
+        log.info("Reloading GPU alert rules");
+        
+        try {
+            return ResponseEntity.ok(alertRuleService.reloadRules());
+        } catch (Exception e) {
+            log.error("Error reloading GPU alert rules: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
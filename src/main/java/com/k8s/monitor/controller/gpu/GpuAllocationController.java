@@ -2,15 +2,26 @@ package com.k8s.monitor.controller.gpu;
 
 import com.k8s.monitor.dto.gpu.GpuAllocationInfo;
 import com.k8s.monitor.dto.gpu.GpuAllocationRequest;
+import com.k8s.monitor.dto.gpu.GpuAllocationTicket;
+import com.k8s.monitor.event.gpu.GpuAllocationPreemptedEvent;
+import com.k8s.monitor.exception.IdempotencyKeyMismatchException;
+import com.k8s.monitor.service.gpu.GpuAllocationIdempotencyService;
+import com.k8s.monitor.service.gpu.GpuAllocationQueueService;
 import com.k8s.monitor.service.gpu.GpuAllocationService;
+import com.k8s.monitor.service.gpu.GpuPreemptionHistory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * GPU 할당 관리 REST API 컨트롤러
@@ -24,17 +35,25 @@ import java.util.Map;
 public class GpuAllocationController {
     
     private final GpuAllocationService allocationService;
+    private final GpuAllocationQueueService queueService;
+    private final GpuAllocationIdempotencyService idempotencyService;
+    private final GpuPreemptionHistory preemptionHistory;
 
     /**
-     * GPU 리소스 할당
+     * GPU 리소스 할당 (Idempotency-Key 헤더 지정 시 재시도에 대해 최초 결과 반환)
      */
     @PostMapping
-    public ResponseEntity<GpuAllocationInfo> allocateGpuResource(@RequestBody GpuAllocationRequest request) {
+    public ResponseEntity<GpuAllocationInfo> allocateGpuResource(
+            @RequestBody GpuAllocationRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         log.info("Allocating GPU resource for pod: {}/{}", request.getNamespace(), request.getPodName());
         
         try {
-            GpuAllocationInfo allocation = allocationService.allocateGpuResource(request);
+            GpuAllocationInfo allocation = idempotencyService.allocate(idempotencyKey, request);
             return ResponseEntity.ok(allocation);
+        } catch (IdempotencyKeyMismatchException e) {
+            log.warn("Rejected allocation request: {}", e.getMessage());
+            return ResponseEntity.unprocessableEntity().build();
         } catch (RuntimeException e) {
             log.error("Error allocating GPU resource: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
@@ -124,4 +143,117 @@ public class GpuAllocationController {
             return ResponseEntity.internalServerError().build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 최근 선점 이력 조회
+     */
+    @GetMapping("/preemptions")
+    public ResponseEntity<List<GpuAllocationPreemptedEvent>> getPreemptions(
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(preemptionHistory.getRecentEvents(Math.max(1, Math.min(limit, 500))));
+    }
+
+    /**
+     * GPU 할당 요청 대기열 등록 (티켓 발급)
+     */
+    @PostMapping("/queue")
+    public ResponseEntity<GpuAllocationTicket> submitAllocationRequest(@RequestBody GpuAllocationRequest request) {
+        log.info("Queueing GPU allocation request for pod: {}/{}", request.getNamespace(), request.getPodName());
+        
+        try {
+            GpuAllocationTicket ticket = queueService.submit(request);
+            return ResponseEntity.accepted().body(ticket);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid GPU allocation request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error queueing GPU allocation request: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 대기열 티켓 조회 (waitSeconds 지정 시 할당 완료까지 long-poll)
+     */
+    @GetMapping("/queue/{ticketId}")
+    public DeferredResult<ResponseEntity<GpuAllocationTicket>> getAllocationTicket(
+            @PathVariable String ticketId,
+            @RequestParam(defaultValue = "0") int waitSeconds) {
+        Optional<GpuAllocationTicket> current = queueService.getTicket(ticketId);
+        
+        long timeoutMs = Math.min(Math.max(waitSeconds, 0), 60) * 1000L;
+        DeferredResult<ResponseEntity<GpuAllocationTicket>> result = new DeferredResult<>(timeoutMs > 0 ? timeoutMs : null);
+        
+        if (current.isEmpty()) {
+            result.setResult(ResponseEntity.notFound().build());
+            return result;
+        }
+        if (timeoutMs == 0 || !"QUEUED".equals(current.get().getStatus())) {
+            result.setResult(ResponseEntity.ok(current.get()));
+            return result;
+        }
+        
+        // 조회 직후 티켓이 정리되었으면 404
+        Optional<CompletableFuture<GpuAllocationTicket>> completion = queueService.awaitTicket(ticketId);
+        if (completion.isEmpty()) {
+            result.setResult(ResponseEntity.notFound().build());
+            return result;
+        }
+        
+        result.onTimeout(() -> result.setResult(ResponseEntity.ok(
+            queueService.getTicket(ticketId).orElse(current.get()))));
+        completion.get().thenAccept(ticket -> result.setResult(ResponseEntity.ok(ticket)));
+        return result;
+    }
+
+    /**
+     * 대기열 티켓 할당 결과 구독 (SSE)
+     */
+    @GetMapping("/queue/{ticketId}/subscribe")
+    public SseEmitter subscribeAllocationTicket(@PathVariable String ticketId) {
+        SseEmitter emitter = new SseEmitter(0L);
+        
+        try {
+            queueService.awaitTicket(ticketId)
+                .orElseThrow(() -> new RuntimeException("Ticket not found: " + ticketId))
+                .thenAccept(ticket -> {
+                    try {
+                        emitter.send(SseEmitter.event().name(ticket.getStatus().toLowerCase()).data(ticket));
+                        emitter.complete();
+                    } catch (IOException e) {
+                        emitter.completeWithError(e);
+                    }
+                });
+        } catch (RuntimeException e) {
+            log.error("Error subscribing allocation ticket: {}", e.getMessage());
+            emitter.completeWithError(e);
+        }
+        
+        return emitter;
+    }
+
+    /**
+     * 대기열 티켓 취소
+     */
+    @DeleteMapping("/queue/{ticketId}")
+    public ResponseEntity<Void> cancelAllocationTicket(@PathVariable String ticketId) {
+        log.info("Cancelling GPU allocation ticket: {}", ticketId);
+        
+        return queueService.cancel(ticketId) ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * 대기 중인 할당 요청 조회
+     */
+    @GetMapping("/queue")
+    public ResponseEntity<List<GpuAllocationTicket>> getPendingAllocationRequests() {
+        log.info("Fetching pending GPU allocation requests");
+        
+        try {
+            return ResponseEntity.ok(queueService.getPendingTickets());
+        } catch (Exception e) {
+            log.error("Error fetching pending allocation requests: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
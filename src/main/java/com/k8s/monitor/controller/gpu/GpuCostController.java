@@ -2,7 +2,9 @@ package com.k8s.monitor.controller.gpu;
 
 import com.k8s.monitor.dto.gpu.CostOptimizationSuggestion;
 import com.k8s.monitor.dto.gpu.GpuCostAnalysis;
+import com.k8s.monitor.dto.gpu.GpuCostEfficiencyInfo;
 import com.k8s.monitor.service.gpu.GpuCostAnalysisService; // 추가 필요
+import com.k8s.monitor.service.gpu.GpuCostEfficiencyService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +21,7 @@ public class GpuCostController {
     
     // 올바른 의존성 주입
     private final GpuCostAnalysisService costAnalysisService;
+    private final GpuCostEfficiencyService costEfficiencyService;
 
     /**
      * GPU 비용 분석 조회
@@ -42,18 +45,36 @@ public class GpuCostController {
      * 비용 최적화 제안 조회
      */
     @GetMapping("/optimization")
-    public ResponseEntity<List<CostOptimizationSuggestion>> getCostOptimizationSuggestions() {
+    public ResponseEntity<List<CostOptimizationSuggestion>> getCostOptimizationSuggestions(
+            @RequestParam(defaultValue = "30") int days) {
         log.info("Fetching cost optimization suggestions");
         
         try {
             // 서비스 메서드 위임
             List<CostOptimizationSuggestion> suggestions = 
-                costAnalysisService.generateOptimizationSuggestions(null);
+                costAnalysisService.generateOptimizationSuggestions(days);
             return ResponseEntity.ok(suggestions);
         } catch (Exception e) {
             log.error("Error fetching cost optimization suggestions: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /**
+     * 할당별 사용률 가중 비용 효율 조회
+     */
+    @GetMapping("/efficiency")
+    public ResponseEntity<List<GpuCostEfficiencyInfo>> getCostEfficiency(
+            @RequestParam(required = false) String namespace,
+            @RequestParam(defaultValue = "true") boolean includeReleased) {
+        log.info("Fetching GPU cost efficiency (namespace: {})", namespace);
+        
+        try {
+            return ResponseEntity.ok(costEfficiencyService.getEfficiency(namespace, includeReleased));
+        } catch (Exception e) {
+            log.error("Error fetching GPU cost efficiency: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
      
 }
\ No newline at end of file
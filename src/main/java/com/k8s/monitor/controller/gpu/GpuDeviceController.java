@@ -1,6 +1,7 @@
 package com.k8s.monitor.controller.gpu;
 
 import com.k8s.monitor.dto.gpu.*;
+import com.k8s.monitor.service.gpu.GpuAnomalyDetectionService;
 import com.k8s.monitor.service.gpu.GpuDeviceService;
 import com.k8s.monitor.service.gpu.GpuMetricsCollectionService;
 import com.k8s.monitor.entity.gpu.GpuUsageMetrics;
@@ -29,6 +30,7 @@ public class GpuDeviceController {
     
     private final GpuDeviceService gpuDeviceService;
     private final GpuMetricsCollectionService metricsService; // 추가된 의존성
+    private final GpuAnomalyDetectionService anomalyDetectionService;
 
     /**
      * 모든 GPU 장비 조회
@@ -151,6 +153,21 @@ public class GpuDeviceController {
         }
     }
 
+    /**
+     * 텔레메트리 이상이 감지된 GPU 장비 조회 (피어 대비 과열/전력 과다, 급변, 클럭 저하)
+     */
+    @GetMapping("/anomalies")
+    public ResponseEntity<List<GpuDeviceAnomalyStatus>> getAnomalousGpuDevices() {
+        log.info("Fetching GPU devices with telemetry anomalies");
+        
+        try {
+            return ResponseEntity.ok(anomalyDetectionService.getAnomalousDevices());
+        } catch (Exception e) {
+            log.error("Error fetching GPU anomalies: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * 특정 GPU 장비 헬스 체크
      */
@@ -213,22 +230,34 @@ public class GpuDeviceController {
             );
             health.put("powerStatus", powerStatus);
             
-            // 6. 전반적인 헬스 상태 결정
+            // 6. 이상 감지 상태 (피어 비교/급변/클럭 저하)
+            Optional<GpuDeviceAnomalyStatus> anomalyStatus = anomalyDetectionService.getDeviceStatus(deviceId);
+            List<GpuAnomalyInfo> anomalies = anomalyStatus.map(GpuDeviceAnomalyStatus::getAnomalies).orElse(List.of());
+            health.put("anomalyStatus", anomalyStatus.map(GpuDeviceAnomalyStatus::getStatus).orElse("NO_DATA"));
+            health.put("anomalies", anomalies);
+            anomalyStatus.ifPresent(status -> health.put("peerComparison", Map.of(
+                "peerGroup", status.getPeerGroup(),
+                "peerCount", status.getPeerCount(),
+                "temperatureResidualC", status.getTemperatureResidualC(),
+                "powerResidualW", status.getPowerResidualW())));
+            
+            // 7. 전반적인 헬스 상태 결정
             String overallHealth = determineOverallHealth(
                 deviceInfo.getDeviceStatus(),
                 temperatureStatus,
                 utilizationStatus,
-                powerStatus
+                powerStatus,
+                anomalies
             );
             health.put("overallHealth", overallHealth);
             
-            // 7. 권장사항 생성
+            // 8. 권장사항 생성
             List<String> recommendations = generateHealthRecommendations(
-                temperatureStatus, utilizationStatus, powerStatus
+                temperatureStatus, utilizationStatus, powerStatus, anomalies
             );
             health.put("recommendations", recommendations);
             
-            // 8. 타임스탬프 추가
+            // 9. 타임스탬프 추가
             health.put("timestamp", LocalDateTime.now());
             health.put("lastUpdateTime", deviceInfo.getLastMaintenanceDate());
             
@@ -335,7 +364,8 @@ public class GpuDeviceController {
      * 전반적인 헬스 상태 결정
      */
     private String determineOverallHealth(String deviceStatus, String tempStatus, 
-                                        String utilizationStatus, String powerStatus) {
+                                        String utilizationStatus, String powerStatus,
+                                        List<GpuAnomalyInfo> anomalies) {
         
         // 장비 상태가 비활성이면 우선 반영
         if (!"ACTIVE".equals(deviceStatus) && !"MIG_ENABLED".equals(deviceStatus)) {
@@ -347,7 +377,7 @@ public class GpuDeviceController {
             return "CRITICAL";
         }
         
-        if ("WARNING".equals(tempStatus) || "HIGH_CONSUMPTION".equals(powerStatus)) {
+        if ("WARNING".equals(tempStatus) || "HIGH_CONSUMPTION".equals(powerStatus) || !anomalies.isEmpty()) {
             return "WARNING";
         }
         
@@ -363,7 +393,8 @@ public class GpuDeviceController {
      */
     private List<String> generateHealthRecommendations(String tempStatus, 
                                                      String utilizationStatus, 
-                                                     String powerStatus) {
+                                                     String powerStatus,
+                                                     List<GpuAnomalyInfo> anomalies) {
         List<String> recommendations = new ArrayList<>();
         
         if ("CRITICAL".equals(tempStatus)) {
@@ -385,6 +416,16 @@ public class GpuDeviceController {
             recommendations.add("전력 제한 설정 검토");
         }
         
+        for (GpuAnomalyInfo anomaly : anomalies) {
+            switch (anomaly.getKind()) {
+                case "PEER_OUTLIER" -> recommendations.add("같은 노드의 동일 모델 대비 " + anomaly.getSignal()
+                    + " 이 높음 - 방열판/서멀 페이스트, 팬 상태 점검");
+                case "SUDDEN_SHIFT" -> recommendations.add(anomaly.getSignal() + " 급상승 - 최근 워크로드/냉각 변화 확인");
+                case "CLOCK_DROP" -> recommendations.add("부하 중 클럭 저하 - 스로틀링 사유(nvidia-smi -q -d PERFORMANCE) 확인");
+                default -> { }
+            }
+        }
+        
         if (recommendations.isEmpty()) {
             recommendations.add("현재 상태가 양호합니다");
         }
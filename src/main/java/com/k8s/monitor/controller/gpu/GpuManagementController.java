@@ -4,6 +4,9 @@ import com.k8s.monitor.dto.gpu.*;
 import com.k8s.monitor.service.gpu.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -29,17 +32,28 @@ public class GpuManagementController {
     private final GpuMetricsCollectionService metricsService;
     private final GpuForecastService forecastService; // 추가된 의존성
     private final GpuCostAnalysisService costAnalysisService; // 추가된 의존성
+    private final GpuCapacitySimulationService capacitySimulationService;
+    private final GpuAlertRuleService alertRuleService;
+    private final GpuClusterOverviewService overviewService;
 
     /**
      * GPU 클러스터 전체 개요 조회
      */
     @GetMapping("/overview")
-    public ResponseEntity<GpuClusterOverview> getClusterOverview() {
-        log.info("Fetching GPU cluster overview");
+    public ResponseEntity<GpuClusterOverview> getClusterOverview(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("Fetching GPU cluster overview");
         
         try {
-            GpuClusterOverview overview = buildClusterOverview();
-            return ResponseEntity.ok(overview);
+            // 백그라운드에서 갱신된 스냅샷 제공 (내용이 같으면 304)
+            GpuClusterOverviewService.OverviewSnapshot snapshot = overviewService.getSnapshot();
+            if (ifNoneMatch != null && ifNoneMatch.contains(snapshot.etag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+            }
+            return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.overview());
         } catch (Exception e) {
             log.error("Error fetching GPU cluster overview: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
@@ -69,6 +83,65 @@ public class GpuManagementController {
         }
     }
 
+    /**
+     * 장비/모델/클러스터별 사용률 예측 조회 (시간별 예측 구간 포함)
+     */
+    @GetMapping("/forecast/utilization")
+    public ResponseEntity<GpuUtilizationForecast> getUtilizationForecast(
+            @RequestParam(defaultValue = "CLUSTER") String scopeType,
+            @RequestParam(defaultValue = "cluster") String scopeId,
+            @RequestParam(defaultValue = "24") int hours) {
+        log.info("Fetching utilization forecast for {} {} ({} hours)", scopeType, scopeId, hours);
+        
+        if (hours <= 0 || hours > 8760) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        try {
+            return forecastService.getUtilizationForecast(scopeType.toUpperCase(), scopeId, hours)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            log.error("Error fetching utilization forecast: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 용량 시뮬레이션 (과거 할당 도착/사용 시간 재생 기반 대기/거절/고갈 시점 추정)
+     */
+    @GetMapping("/capacity/simulation")
+    public ResponseEntity<GpuCapacitySimulationResult> simulateCapacity(
+            @RequestParam(required = false) Integer horizonDays,
+            @RequestParam(defaultValue = "1.0") double demandScale,
+            @RequestParam(required = false) Double annualGrowth,
+            @RequestParam(required = false) Integer runs,
+            @RequestParam(required = false) Long maxWaitMinutes) {
+        GpuCapacitySimulationService.SimulationRequest defaults = capacitySimulationService.defaultRequest();
+        GpuCapacitySimulationService.SimulationRequest request = new GpuCapacitySimulationService.SimulationRequest(
+            horizonDays != null ? horizonDays : defaults.horizonDays(),
+            demandScale,
+            annualGrowth != null ? annualGrowth : defaults.annualGrowth(),
+            maxWaitMinutes != null ? maxWaitMinutes : defaults.maxWaitMinutes(),
+            runs != null ? runs : defaults.runs());
+        log.info("Running capacity simulation: {}", request);
+        
+        if (request.horizonDays() <= 0 || request.horizonDays() > 730
+                || request.demandScale() <= 0 || request.demandScale() > 10
+                || request.annualGrowth() <= -1 || request.annualGrowth() > 10
+                || request.runs() <= 0 || request.runs() > 2000
+                || request.maxWaitMinutes() < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        try {
+            return ResponseEntity.ok(capacitySimulationService.simulate(request));
+        } catch (Exception e) {
+            log.error("Error running capacity simulation: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * GPU 클러스터 헬스 상태 조회
      */
@@ -87,101 +160,6 @@ public class GpuManagementController {
 
     // Helper methods 구현
 
-    /**
-     * GPU 클러스터 개요 구성
-     */
-    private GpuClusterOverview buildClusterOverview() {
-        try {
-            log.debug("Building GPU cluster overview");
-            
-            // 1. 기본 통계 수집
-            GpuDeviceStatistics deviceStats = gpuDeviceService.getGpuDeviceStatistics();
-            List<GpuAllocationInfo> activeAllocations = allocationService.getActiveAllocations();
-            
-            // 2. 장비별 분포 계산
-            Map<String, Integer> devicesByModel = deviceStats.getDevicesByModel();
-            Map<String, Integer> devicesByNode = deviceStats.getDevicesByNode();
-            
-            // 아키텍처별 분포 (모델명에서 추출)
-            Map<String, Integer> devicesByArchitecture = calculateDevicesByArchitecture(devicesByModel);
-            
-            // 세대별 분포 (모델명에서 추출)
-            Map<String, Integer> devicesByGeneration = calculateDevicesByGeneration(devicesByModel);
-            
-            // 3. 사용률 정보 계산
-            Map<String, Object> utilizationInfo = calculateUtilizationInfo();
-            
-            // 4. 할당 정보 분석
-            Map<String, Integer> allocationsByWorkloadType = calculateAllocationsByWorkloadType(activeAllocations);
-            Map<String, Integer> allocationsByNamespace = calculateAllocationsByNamespace(activeAllocations);
-            Map<String, Integer> allocationsByTeam = calculateAllocationsByTeam(activeAllocations);
-            
-            // 5. 비용 정보 계산
-            Map<String, Double> costInfo = calculateCostInfo(activeAllocations);
-            
-            // 6. 용량 정보 계산
-            Map<String, Integer> capacityInfo = calculateCapacityInfo(deviceStats);
-            
-            // 7. 알람 정보 수집
-            Map<String, Object> alertInfo = calculateAlertInfo();
-            
-            // 8. 성능 동향 계산
-            Map<String, Double> utilizationTrend24h = calculateUtilizationTrend();
-            Map<String, Double> temperatureTrend24h = calculateTemperatureTrend();
-            
-            return GpuClusterOverview.builder()
-                // 기본 통계
-                .totalNodes(devicesByNode.size())
-                .totalGpuDevices(deviceStats.getTotalDevices())
-                .totalMigInstances(0) // MIG 통계는 별도 서비스에서 조회 필요
-                .activeAllocations(activeAllocations.size())
-                
-                // 분포 정보
-                .devicesByModel(devicesByModel)
-                .devicesByArchitecture(devicesByArchitecture)
-                .devicesByGeneration(devicesByGeneration)
-                
-                // 사용률 정보
-                .overallGpuUtilization((Double) utilizationInfo.get("gpuUtilization"))
-                .overallMemoryUtilization((Double) utilizationInfo.get("memoryUtilization"))
-                .overallTemperature((Double) utilizationInfo.get("temperature"))
-                .overallPowerConsumption((Double) utilizationInfo.get("powerConsumption"))
-                
-                // 할당 정보
-                .allocationsByWorkloadType(allocationsByWorkloadType)
-                .allocationsByNamespace(allocationsByNamespace)
-                .allocationsByTeam(allocationsByTeam)
-                
-                // 비용 정보
-                .totalHourlyCost(costInfo.get("hourlyCost"))
-                .totalMonthlyCost(costInfo.get("monthlyCost"))
-                .costByWorkloadType(costInfo.get("workloadCost"))
-                
-                // 용량 정보
-                .totalMemoryCapacityGb(capacityInfo.get("totalMemory"))
-                .availableMemoryCapacityGb(capacityInfo.get("availableMemory"))
-                .memoryUtilizationPercent(calculateMemoryUtilizationPercent(capacityInfo))
-                
-                // 알람 정보
-                .totalAlerts((Integer) alertInfo.get("total"))
-                .criticalAlerts((Integer) alertInfo.get("critical"))
-                .warningAlerts((Integer) alertInfo.get("warning"))
-                .topAlerts((List<String>) alertInfo.get("topAlerts"))
-                
-                // 성능 동향
-                .utilizationTrend24h(utilizationTrend24h)
-                .temperatureTrend24h(temperatureTrend24h)
-                
-                .lastUpdated(LocalDateTime.now())
-                .build();
-                
-        } catch (Exception e) {
-            log.error("Error building cluster overview: {}", e.getMessage(), e);
-            // 기본값으로 빈 개요 반환
-            return createDefaultClusterOverview();
-        }
-    }
-
     /**
      * GPU 예측 분석 구성
      */
@@ -231,7 +209,7 @@ public class GpuManagementController {
             health.put("resourceHealth", resourceHealth);
             
             // 5. 알람 상태 확인
-            List<Map<String, Object>> activeAlerts = metricsService.getOverheatingAlerts();
+            List<GpuAlertInfo> activeAlerts = alertRuleService.getOpenAlerts();
             Map<String, Object> alertHealth = calculateAlertHealth(activeAlerts);
             health.put("alertHealth", alertHealth);
             
@@ -268,259 +246,8 @@ public class GpuManagementController {
 
     // Private helper methods
 
-    private Map<String, Integer> calculateDevicesByArchitecture(Map<String, Integer> devicesByModel) {
-        Map<String, Integer> result = new HashMap<>();
-        
-        for (Map.Entry<String, Integer> entry : devicesByModel.entrySet()) {
-            String model = entry.getKey();
-            Integer count = entry.getValue();
-            
-            String architecture = extractArchitecture(model);
-            result.merge(architecture, count, Integer::sum);
-        }
-        
-        return result;
-    }
-
-    private Map<String, Integer> calculateDevicesByGeneration(Map<String, Integer> devicesByModel) {
-        Map<String, Integer> result = new HashMap<>();
-        
-        for (Map.Entry<String, Integer> entry : devicesByModel.entrySet()) {
-            String model = entry.getKey();
-            Integer count = entry.getValue();
-            
-            String generation = extractGeneration(model);
-            result.merge(generation, count, Integer::sum);
-        }
-        
-        return result;
-    }
-
-    private String extractArchitecture(String modelName) {
-        if (modelName.contains("RTX40") || modelName.contains("RTX 40")) return "Ada Lovelace";
-        if (modelName.contains("RTX30") || modelName.contains("RTX 30")) return "Ampere";
-        if (modelName.contains("RTX20") || modelName.contains("RTX 20")) return "Turing";
-        if (modelName.contains("GTX10") || modelName.contains("GTX 10")) return "Pascal";
-        if (modelName.contains("A100") || modelName.contains("H100")) return "Hopper";
-        if (modelName.contains("V100")) return "Volta";
-        return "Unknown";
-    }
-
-    private String extractGeneration(String modelName) {
-        if (modelName.contains("RTX40") || modelName.contains("H100")) return "Latest";
-        if (modelName.contains("RTX30") || modelName.contains("A100")) return "Current";
-        if (modelName.contains("RTX20") || modelName.contains("V100")) return "Previous";
-        if (modelName.contains("GTX10") || modelName.contains("GTX16")) return "Legacy";
-        return "Unknown";
-    }
-
-    private Map<String, Object> calculateUtilizationInfo() {
-        Map<String, Object> info = new HashMap<>();
-        
-        try {
-            Map<String, Object> stats = metricsService.getGpuUsageStatistics(1); // 최근 1시간
-            Map<String, Object> deviceStats = (Map<String, Object>) stats.get("deviceStatistics");
-            
-            if (deviceStats != null && !deviceStats.isEmpty()) {
-                double totalGpuUtil = 0.0, totalMemoryUtil = 0.0, totalTemp = 0.0, totalPower = 0.0;
-                int count = 0;
-                
-                for (Object deviceData : deviceStats.values()) {
-                    if (deviceData instanceof Map) {
-                        Map<String, Object> data = (Map<String, Object>) deviceData;
-                        totalGpuUtil += getDoubleValue(data, "avgGpuUtilization");
-                        totalMemoryUtil += getDoubleValue(data, "avgMemoryUtilization");
-                        totalTemp += getDoubleValue(data, "avgTemperature");
-                        count++;
-                    }
-                }
-                
-                if (count > 0) {
-                    info.put("gpuUtilization", totalGpuUtil / count);
-                    info.put("memoryUtilization", totalMemoryUtil / count);
-                    info.put("temperature", totalTemp / count);
-                    info.put("powerConsumption", totalPower / count);
-                }
-            }
-        } catch (Exception e) {
-            log.warn("Failed to calculate utilization info: {}", e.getMessage());
-        }
-        
-        // 기본값 설정
-        info.putIfAbsent("gpuUtilization", 0.0);
-        info.putIfAbsent("memoryUtilization", 0.0);
-        info.putIfAbsent("temperature", 0.0);
-        info.putIfAbsent("powerConsumption", 0.0);
-        
-        return info;
-    }
-
-    private double getDoubleValue(Map<String, Object> map, String key) {
-        Object value = map.get(key);
-        if (value instanceof Number) {
-            return ((Number) value).doubleValue();
-        }
-        return 0.0;
-    }
-
-    private Map<String, Integer> calculateAllocationsByWorkloadType(List<GpuAllocationInfo> allocations) {
-        Map<String, Integer> result = new HashMap<>();
-        
-        for (GpuAllocationInfo allocation : allocations) {
-            String workloadType = allocation.getWorkloadType() != null ? 
-                allocation.getWorkloadType() : "Unknown";
-            result.merge(workloadType, 1, Integer::sum);
-        }
-        
-        return result;
-    }
-
-    private Map<String, Integer> calculateAllocationsByNamespace(List<GpuAllocationInfo> allocations) {
-        Map<String, Integer> result = new HashMap<>();
-        
-        for (GpuAllocationInfo allocation : allocations) {
-            String namespace = allocation.getNamespace() != null ? 
-                allocation.getNamespace() : "Unknown";
-            result.merge(namespace, 1, Integer::sum);
-        }
-        
-        return result;
-    }
-
-    private Map<String, Integer> calculateAllocationsByTeam(List<GpuAllocationInfo> allocations) {
-        Map<String, Integer> result = new HashMap<>();
-        
-        for (GpuAllocationInfo allocation : allocations) {
-            String teamId = allocation.getTeamId() != null ? 
-                allocation.getTeamId() : "Unknown";
-            result.merge(teamId, 1, Integer::sum);
-        }
-        
-        return result;
-    }
-
-    private Map<String, Double> calculateCostInfo(List<GpuAllocationInfo> allocations) {
-        Map<String, Double> result = new HashMap<>();
-        
-        double totalHourlyCost = allocations.stream()
-            .filter(allocation -> allocation.getCostPerHour() != null)
-            .mapToDouble(GpuAllocationInfo::getCostPerHour)
-            .sum();
-        
-        result.put("hourlyCost", totalHourlyCost);
-        result.put("monthlyCost", totalHourlyCost * 24 * 30);
-        result.put("workloadCost", totalHourlyCost); // 간단히 전체 비용으로 설정
-        
-        return result;
-    }
-
-    private Map<String, Integer> calculateCapacityInfo(GpuDeviceStatistics deviceStats) {
-        Map<String, Integer> result = new HashMap<>();
-        
-        // 기본값 또는 실제 계산 로직
-        result.put("totalMemory", deviceStats.getTotalDevices() * 24); // GPU당 평균 24GB 가정
-        result.put("availableMemory", (deviceStats.getTotalDevices() - 
-            (deviceStats.getTotalDevices() - (deviceStats.getActiveDevices() != null ? deviceStats.getActiveDevices() : 0))) * 24);
-        
-        return result;
-    }
-
-    private Double calculateMemoryUtilizationPercent(Map<String, Integer> capacityInfo) {
-        Integer total = capacityInfo.get("totalMemory");
-        Integer available = capacityInfo.get("availableMemory");
-        
-        if (total != null && total > 0 && available != null) {
-            return ((double) (total - available) / total) * 100.0;
-        }
-        
-        return 0.0;
-    }
-
-    private Map<String, Object> calculateAlertInfo() {
-        Map<String, Object> result = new HashMap<>();
-        
-        try {
-            List<Map<String, Object>> alerts = metricsService.getOverheatingAlerts();
-            
-            int total = alerts.size();
-            int critical = (int) alerts.stream()
-                .filter(alert -> "CRITICAL".equals(alert.get("severity")))
-                .count();
-            int warning = total - critical;
-            
-            List<String> topAlerts = alerts.stream()
-                .limit(5)
-                .map(alert -> (String) alert.get("deviceId") + ": " + alert.get("severity"))
-                .collect(java.util.stream.Collectors.toList());
-            
-            result.put("total", total);
-            result.put("critical", critical);
-            result.put("warning", warning);
-            result.put("topAlerts", topAlerts);
-            
-        } catch (Exception e) {
-            log.warn("Failed to calculate alert info: {}", e.getMessage());
-            result.put("total", 0);
-            result.put("critical", 0);
-            result.put("warning", 0);
-            result.put("topAlerts", new ArrayList<>());
-        }
-        
-        return result;
-    }
-
-    private Map<String, Double> calculateUtilizationTrend() {
-        // 간단한 더미 데이터 - 실제로는 시계열 데이터 분석 필요
-        Map<String, Double> trend = new HashMap<>();
-        for (int i = 0; i < 24; i++) {
-            trend.put("hour_" + i, Math.random() * 100);
-        }
-        return trend;
-    }
-
-    private Map<String, Double> calculateTemperatureTrend() {
-        // 간단한 더미 데이터 - 실제로는 시계열 데이터 분석 필요
-        Map<String, Double> trend = new HashMap<>();
-        for (int i = 0; i < 24; i++) {
-            trend.put("hour_" + i, 65.0 + Math.random() * 20);
-        }
-        return trend;
-    }
-
     // 기본값 생성 메서드들
 
-    private GpuClusterOverview createDefaultClusterOverview() {
-        return GpuClusterOverview.builder()
-            .totalNodes(0)
-            .totalGpuDevices(0)
-            .totalMigInstances(0)
-            .activeAllocations(0)
-            .devicesByModel(new HashMap<>())
-            .devicesByArchitecture(new HashMap<>())
-            .devicesByGeneration(new HashMap<>())
-            .overallGpuUtilization(0.0)
-            .overallMemoryUtilization(0.0)
-            .overallTemperature(0.0)
-            .overallPowerConsumption(0.0)
-            .allocationsByWorkloadType(new HashMap<>())
-            .allocationsByNamespace(new HashMap<>())
-            .allocationsByTeam(new HashMap<>())
-            .totalHourlyCost(0.0)
-            .totalMonthlyCost(0.0)
-            .costByWorkloadType(0.0)
-            .totalMemoryCapacityGb(0)
-            .availableMemoryCapacityGb(0)
-            .memoryUtilizationPercent(0.0)
-            .totalAlerts(0)
-            .criticalAlerts(0)
-            .warningAlerts(0)
-            .topAlerts(new ArrayList<>())
-            .utilizationTrend24h(new HashMap<>())
-            .temperatureTrend24h(new HashMap<>())
-            .lastUpdated(LocalDateTime.now())
-            .build();
-    }
-
     private GpuForecastAnalysis createBasicForecastAnalysis(int hours) {
         return GpuForecastAnalysis.builder()
             .utilizationForecast24h(new HashMap<>())
@@ -605,11 +332,11 @@ public class GpuManagementController {
     private Map<String, Object> calculateResourceHealth() {
         Map<String, Object> health = new HashMap<>();
         
-        // 간단한 리소스 헬스 체크
-        Map<String, Object> utilizationInfo = calculateUtilizationInfo();
+        // 간단한 리소스 헬스 체크 (개요 스냅샷의 최근 1시간 사용률 기준)
+        GpuClusterOverview overview = overviewService.getSnapshot().overview();
         
-        double gpuUtilization = (Double) utilizationInfo.get("gpuUtilization");
-        double temperature = (Double) utilizationInfo.get("temperature");
+        double gpuUtilization = overview.getOverallGpuUtilization();
+        double temperature = overview.getOverallTemperature();
         
         String status = "HEALTHY";
         if (temperature > 85.0 || gpuUtilization > 95.0) {
@@ -625,12 +352,15 @@ public class GpuManagementController {
         return health;
     }
 
-    private Map<String, Object> calculateAlertHealth(List<Map<String, Object>> alerts) {
+    private Map<String, Object> calculateAlertHealth(List<GpuAlertInfo> alerts) {
         Map<String, Object> health = new HashMap<>();
         
         int total = alerts.size();
         long critical = alerts.stream()
-            .filter(alert -> "CRITICAL".equals(alert.get("severity")))
+            .filter(alert -> "CRITICAL".equals(alert.getSeverity()))
+            .count();
+        long suppressed = alerts.stream()
+            .filter(alert -> "SUPPRESSED".equals(alert.getStatus()))
             .count();
         
         String status = "HEALTHY";
@@ -642,6 +372,7 @@ public class GpuManagementController {
         
         health.put("totalAlerts", total);
         health.put("criticalAlerts", critical);
+        health.put("suppressedAlerts", suppressed);
         health.put("status", status);
         
         return health;
@@ -693,7 +424,7 @@ public class GpuManagementController {
     private List<String> generateClusterRecommendations(String overallStatus, 
                                                        Map<String, Object> deviceHealth,
                                                        Map<String, Object> allocationHealth,
-                                                       List<Map<String, Object>> alerts) {
+                                                       List<GpuAlertInfo> alerts) {
         List<String> recommendations = new ArrayList<>();
         
         if ("CRITICAL".equals(overallStatus)) {
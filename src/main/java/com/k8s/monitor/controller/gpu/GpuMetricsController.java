@@ -1,14 +1,23 @@
 package com.k8s.monitor.controller.gpu;
 
+import com.k8s.monitor.dto.gpu.GpuTopKEntry;
+import com.k8s.monitor.dto.gpu.GpuUsagePercentiles;
 import com.k8s.monitor.service.gpu.GpuMetricsCollectionService;
+import com.k8s.monitor.service.gpu.GpuMetricsStreamService;
+import com.k8s.monitor.service.gpu.GpuTopKService;
+import com.k8s.monitor.service.gpu.GpuUsagePercentileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * GPU 메트릭 관리 REST API 컨트롤러 (수정된 버전)
@@ -22,6 +31,9 @@ import java.util.Map;
 public class GpuMetricsController {
     
     private final GpuMetricsCollectionService metricsService;
+    private final GpuUsagePercentileService percentileService;
+    private final GpuTopKService topKService;
+    private final GpuMetricsStreamService streamService;
 
     /**
      * GPU 사용량 통계 조회
@@ -40,6 +52,56 @@ public class GpuMetricsController {
         }
     }
 
+    /**
+     * GPU 사용량 분위수 조회 (시간별 롤업 스케치 병합)
+     * groupBy: DEVICE, NODE, MODEL, CLUSTER / quantiles: 0~1 (기본 0.5,0.95,0.99)
+     */
+    @GetMapping("/percentiles")
+    public ResponseEntity<List<GpuUsagePercentiles>> getUsagePercentiles(
+            @RequestParam(defaultValue = "CLUSTER") String groupBy,
+            @RequestParam(defaultValue = "24") int hours,
+            @RequestParam(required = false) List<Double> quantiles) {
+        log.info("Fetching GPU usage percentiles by {} for last {} hours", groupBy, hours);
+        
+        if (hours <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<GpuUsagePercentiles> percentiles = percentileService.getPercentiles(groupBy, now.minusHours(hours), now,
+                quantiles != null && !quantiles.isEmpty() ? quantiles : GpuUsagePercentileService.DEFAULT_QUANTILES);
+            return ResponseEntity.ok(percentiles);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid percentile request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error fetching GPU usage percentiles: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 상위 K GPU 조회 (수집 스트림으로 유지되는 인메모리 순위, DB 조회 없음)
+     * metric: GPU_UTILIZATION, MEMORY_UTILIZATION, TEMPERATURE, POWER / window: 5m, 1h
+     */
+    @GetMapping("/top")
+    public ResponseEntity<List<GpuTopKEntry>> getTopDevices(
+            @RequestParam(defaultValue = "GPU_UTILIZATION") String metric,
+            @RequestParam(defaultValue = "5m") String window,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("Fetching top {} GPUs by {} over {}", limit, metric, window);
+        
+        try {
+            return ResponseEntity.ok(topKService.getTop(metric, window, limit));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid top-K request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error fetching top GPUs: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * 과열 알람 조회
      */
@@ -212,6 +274,28 @@ public class GpuMetricsController {
         }
     }
 
+    /**
+     * 실시간 메트릭 스트림 구독 (SSE)
+     * 연결 시 snapshot 이벤트로 전체 상태, 이후 수집 주기마다 delta 이벤트로 변경된 장비/필드만 전송
+     * deviceId, node, model 필터는 쉼표 구분 목록 (생략 시 전체)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamMetrics(
+            @RequestParam(required = false) List<String> deviceId,
+            @RequestParam(required = false) List<String> node,
+            @RequestParam(required = false) List<String> model) {
+        try {
+            GpuMetricsStreamService.Filter filter = new GpuMetricsStreamService.Filter(
+                deviceId != null ? Set.copyOf(deviceId) : Set.of(),
+                node != null ? Set.copyOf(node) : Set.of(),
+                model != null ? Set.copyOf(model) : Set.of());
+            return ResponseEntity.ok(streamService.subscribe(filter));
+        } catch (IllegalStateException e) {
+            log.warn("Rejected metrics stream subscription: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     /**
      * 실시간 GPU 상태 조회
      */
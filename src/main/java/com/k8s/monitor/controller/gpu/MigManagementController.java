@@ -1,6 +1,12 @@
 package com.k8s.monitor.controller.gpu;
 
+import com.k8s.monitor.dto.gpu.MigFleetOperationResult;
+import com.k8s.monitor.dto.gpu.MigFleetRequest;
+import com.k8s.monitor.dto.gpu.MigIdleInstanceInfo;
 import com.k8s.monitor.dto.gpu.MigInstanceInfo;
+import com.k8s.monitor.dto.gpu.MigReconfigurationPlan;
+import com.k8s.monitor.service.gpu.MigFleetService;
+import com.k8s.monitor.service.gpu.MigLayoutPlanningService;
 import com.k8s.monitor.service.gpu.MigManagementService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,9 +28,11 @@ import java.util.Map;
 public class MigManagementController {
     
     private final MigManagementService migManagementService;
+    private final MigLayoutPlanningService layoutPlanningService;
+    private final MigFleetService fleetService;
 
     /**
-     * MIG 인스턴스 생성
+     * MIG 인스턴스 생성 (profileIds 항목당 인스턴스 1개)
      */
     @PostMapping("/devices/{deviceId}")
     public ResponseEntity<List<MigInstanceInfo>> createMigInstances(
@@ -44,6 +52,54 @@ public class MigManagementController {
         }
     }
 
+    /**
+     * MIG 재구성 계획 조회 (대기/예상 수요 기준, 적용하지 않음)
+     */
+    @GetMapping("/plan")
+    public ResponseEntity<MigReconfigurationPlan> getReconfigurationPlan() {
+        try {
+            return ResponseEntity.ok(layoutPlanningService.buildPlan());
+        } catch (Exception e) {
+            log.error("Error building MIG reconfiguration plan: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * MIG 재구성 계획 생성 및 적용
+     */
+    @PostMapping("/plan/apply")
+    public ResponseEntity<MigFleetOperationResult> applyReconfigurationPlan() {
+        log.info("Applying MIG reconfiguration plan");
+        
+        try {
+            return ResponseEntity.ok(fleetService.applyPlan());
+        } catch (Exception e) {
+            log.error("Error applying MIG reconfiguration plan: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 플릿 MIG 레이아웃 일괄 적용 (장비별 트랜잭션, 부분 실패 허용)
+     */
+    @PostMapping("/fleet")
+    public ResponseEntity<MigFleetOperationResult> applyFleetLayouts(@RequestBody MigFleetRequest request) {
+        log.info("Applying MIG fleet operation: {} layouts, {} resets",
+                request.getLayouts() != null ? request.getLayouts().size() : 0,
+                request.getResetDeviceIds() != null ? request.getResetDeviceIds().size() : 0);
+        
+        try {
+            return ResponseEntity.ok(fleetService.apply(request));
+        } catch (RuntimeException e) {
+            log.error("Error applying MIG fleet operation: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error applying MIG fleet operation: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * MIG 인스턴스 삭제
      */
@@ -110,4 +166,19 @@ public class MigManagementController {
             return ResponseEntity.internalServerError().build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 유휴 MIG 인스턴스 조회 (할당되었으나 텔레메트리상 활동이 없는 인스턴스)
+     */
+    @GetMapping("/idle")
+    public ResponseEntity<List<MigIdleInstanceInfo>> getIdleMigInstances() {
+        log.info("Fetching idle MIG instances");
+        
+        try {
+            return ResponseEntity.ok(migManagementService.getIdleMigInstances());
+        } catch (Exception e) {
+            log.error("Error fetching idle MIG instances: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
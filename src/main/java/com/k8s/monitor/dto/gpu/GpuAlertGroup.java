@@ -0,0 +1,32 @@
+package com.k8s.monitor.dto.gpu;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 노드/모델별 미해소 GPU 알람 그룹 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GpuAlertGroup {
+    
+    private String groupKey; // nodeName/modelId
+    private String nodeName;
+    private String modelId;
+    private String highestSeverity; // CRITICAL, HIGH, MEDIUM, LOW
+    
+    private Integer openAlerts; // 서로 다른 (규칙, 대상) 조건 수
+    private Integer suppressedAlerts; // 플래핑으로 억제 중인 조건 수
+    private Integer affectedTargets;
+    private List<String> ruleIds;
+    private LocalDateTime firstTriggeredAt;
+    
+    private List<GpuAlertInfo> alerts;
+}
@@ -18,13 +18,16 @@ import java.util.List;
 public class GpuAlertInfo {
     
     private String alertId;
+    private String ruleId;
     private String alertType; // TEMPERATURE, UTILIZATION, MEMORY, POWER, FAILURE
     private String severity; // CRITICAL, WARNING, INFO
-    private String status; // ACTIVE, ACKNOWLEDGED, RESOLVED
+    private String status; // ACTIVE, ACKNOWLEDGED, SUPPRESSED, RESOLVED
     
     private String targetType; // DEVICE, MIG_INSTANCE, NODE
     private String targetId;
     private String targetName;
+    private String nodeName;
+    private String modelId;
     
     private String message;
     private String description;
@@ -0,0 +1,43 @@
+package com.k8s.monitor.dto.gpu;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * GPU 알람 규칙 정보 DTO (규칙 정의 + 실시간 평가 상태)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GpuAlertRuleInfo {
+    
+    private String ruleId;
+    private String ruleName;
+    private String ruleType; // TEMPERATURE, UTILIZATION, MEMORY, POWER
+    private String targetType; // DEVICE, MIG, ALLOCATION
+    private String targetFilter;
+    
+    private String expression; // 예: avg(5m) >= 95.0 for 5m
+    private String aggregation;
+    private Integer windowMinutes;
+    private Integer forMinutes;
+    private String thresholdOperator;
+    private Double thresholdValue;
+    private Double clearThreshold;
+    private String severity;
+    private Boolean enabled;
+    
+    // 평가 상태
+    private Boolean loaded; // 엔진에 적재되어 평가 중인지 (지원하지 않는 규칙은 false)
+    private String loadError;
+    private Integer trackedSeries;
+    private Integer pendingSeries;
+    private Integer firingSeries;
+    
+    private LocalDateTime updatedDate;
+}
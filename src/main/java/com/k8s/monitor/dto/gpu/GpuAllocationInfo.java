@@ -29,6 +29,7 @@ public class GpuAllocationInfo {
     private String allocatedResource; // device_id or mig_id
     private Integer requestedMemoryGb;
     private Integer allocatedMemoryGb;
+    private Double computeShare; // SHARED_GPU 연산 점유율
     private String priorityClass;
     
     // 시간 정보
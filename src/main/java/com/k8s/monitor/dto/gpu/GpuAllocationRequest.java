@@ -30,6 +30,8 @@ public class GpuAllocationRequest {
     private Integer requiredMemoryGb;
     private String preferredModelId;
     private String preferredArchitecture;
+    private Double computeShare; // SHARED_GPU 배치 시 연산 점유율 ((0, 1], 최소 0.01, 미지정 시 메모리 비율)
+    private Integer maxSharingRatio; // SHARED_GPU 장비당 최대 공유 워크로드 수 (GpuWorkloadProfile 기준)
     
     // 스케줄링 정보
     private LocalDateTime plannedReleaseTime;
@@ -47,5 +49,6 @@ public class GpuAllocationRequest {
     // 선호도 설정
     private Boolean preferHighMemory;
     private Boolean preferNewGeneration;
-    private Boolean allowSharedGpu;
+    private Boolean allowSharedGpu; // true 이면 SHARED_GPU 타임슬라이싱으로 배치 (공유 중인 장비 우선, 없으면 빈 장비를 공유로 개방)
+    private Boolean allowPreemption; // true 일 때만 우선순위가 낮은 할당 선점 (미지정 시 선점하지 않음)
 }
\ No newline at end of file
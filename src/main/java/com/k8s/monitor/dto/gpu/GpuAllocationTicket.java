@@ -0,0 +1,33 @@
+package com.k8s.monitor.dto.gpu;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * GPU 할당 대기열 티켓 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GpuAllocationTicket {
+
+    private String ticketId;
+    private String status; // QUEUED, ALLOCATED, FAILED, CANCELLED
+    private String priorityClass;
+    private Integer queuePosition;
+
+    private String namespace;
+    private String podName;
+
+    private LocalDateTime submittedAt;
+    private LocalDateTime completedAt;
+    private Long waitSeconds;
+
+    private GpuAllocationInfo allocation;
+    private String failureReason;
+}
@@ -0,0 +1,27 @@
+package com.k8s.monitor.dto.gpu;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * GPU 텔레메트리 이상 정보 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GpuAnomalyInfo {
+    
+    private String deviceId;
+    private String signal; // TEMPERATURE, POWER, CLOCK
+    private String kind; // PEER_OUTLIER, SUDDEN_SHIFT, CLOCK_DROP
+    private Double value;
+    private Double expected; // 피어/기준 대비 기대값
+    private Double score; // z 점수 (CLOCK_DROP 은 저하 비율)
+    private String description;
+    private LocalDateTime detectedAt;
+}
@@ -0,0 +1,49 @@
+package com.k8s.monitor.dto.gpu;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * GPU 용량 시뮬레이션 결과 DTO (과거 할당 재생 기반 Monte Carlo)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GpuCapacitySimulationResult {
+    
+    // 시뮬레이션 조건
+    private Integer horizonDays;
+    private Integer historyDays;
+    private Double demandScale;
+    private Double annualGrowth;
+    private Long maxWaitMinutes;
+    private Integer runs;
+    private Integer simulatedDevices;
+    private Integer historicalAllocations;
+    private Double meanArrivalsPerRun;
+    
+    // 대기/거절
+    private Double rejectionProbability;
+    private Double queueingProbability;
+    private Double meanWaitMinutes;
+    private Double p95WaitMinutes;
+    
+    // 용량 고갈
+    private Double exhaustionProbability; // 시뮬레이션 기간 내 고갈된 실행 비율
+    private LocalDate exhaustionEta; // 중앙값
+    private LocalDate pessimisticExhaustionEta; // 10 백분위
+    
+    // 증설 권장 (기본 시뮬레이션에서만 계산)
+    private Integer additionalGpusNeeded;
+    private Boolean additionalGpusExceedsLimit; // true 이면 상한(additionalGpusNeeded)까지 늘려도 목표 거절률 미달
+    private String expansionModelId;
+    
+    private Long elapsedMillis;
+    private LocalDateTime simulatedAt;
+}
@@ -0,0 +1,46 @@
+package com.k8s.monitor.dto.gpu;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 할당별 사용률 가중 비용 효율 DTO
+ * 측정 구간(텔레메트리 샘플이 있는 구간)만 집계하며, GPU-시간은 공유 GPU 의 경우 computeShare 로 가중
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GpuCostEfficiencyInfo {
+    
+    private String allocationId;
+    private String namespace;
+    private String teamId;
+    private String resourceType;
+    private String allocatedResource;
+    private String status; // ACTIVE, RELEASED
+    private Double computeShare;
+    private Double costPerHour;
+    
+    // 측정 구간
+    private LocalDateTime firstSampleAt;
+    private LocalDateTime lastSampleAt;
+    private Long sampleCount;
+    private Double measuredHours;
+    
+    // GPU-시간 집계
+    private Double allocatedGpuHours;
+    private Double utilizedGpuHours;
+    private Double idleGpuHours;
+    private Double avgUtilizationPct;
+    private Double idleFraction;
+    
+    // 비용
+    private Double measuredCost;
+    private Double idleCost;
+    private Double costPerUtilizedGpuHour;
+}
@@ -0,0 +1,31 @@
+package com.k8s.monitor.dto.gpu;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * GPU 장비 이상 감지 상태 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GpuDeviceAnomalyStatus {
+    
+    private String deviceId;
+    private String peerGroup; // nodeName/modelId
+    private Integer peerCount;
+    private Long samples;
+    private String status; // LEARNING, NORMAL, ANOMALOUS
+    
+    // 피어 회귀 대비 평활 잔차 (같은 부하에서 피어보다 얼마나 높은지)
+    private Double temperatureResidualC;
+    private Double powerResidualW;
+    private Double clockBaselineMhz;
+    
+    private List<GpuAnomalyInfo> anomalies;
+}
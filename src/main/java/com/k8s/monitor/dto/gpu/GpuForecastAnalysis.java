@@ -22,6 +22,8 @@ public class GpuForecastAnalysis {
     private Map<String, Double> utilizationForecast24h;
     private Map<String, Double> utilizationForecast7d;
     private Map<String, Double> utilizationForecast30d;
+    private GpuUtilizationForecast clusterForecast; // 요청 구간 시간별 예측 (예측 구간 포함)
+    private Map<String, Map<String, Double>> modelUtilizationForecast; // 모델 ID -> 요청 구간 예측
     
     // 비용 예측
     private Double costForecast24h;
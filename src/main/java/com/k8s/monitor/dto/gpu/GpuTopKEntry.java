@@ -0,0 +1,34 @@
+package com.k8s.monitor.dto.gpu;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지표/윈도우별 상위 GPU 항목 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GpuTopKEntry {
+    
+    private Integer rank;
+    private String deviceId;
+    private String nodeName;
+    private String modelId;
+    
+    private String metric; // GPU_UTILIZATION, MEMORY_UTILIZATION, TEMPERATURE, POWER
+    private String window; // 예: 5m, 1h
+    private String ranking; // AVG, MAX
+    
+    private Double score;
+    private Double avgValue;
+    private Double maxValue;
+    private Double lastValue;
+    private Long samples;
+    private LocalDateTime lastSeen;
+}
@@ -0,0 +1,35 @@
+package com.k8s.monitor.dto.gpu;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * GPU 사용량 분위수 DTO (시간별 롤업 스케치 병합 결과)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GpuUsagePercentiles {
+    
+    private String groupBy; // DEVICE, NODE, MODEL, CLUSTER
+    private String groupId;
+    private LocalDateTime from; // 정시 단위 [from, to)
+    private LocalDateTime to;
+    private Integer hourBuckets; // 병합한 시간 구간 수
+    private Long sampleCount;
+    private Double relativeAccuracy;
+    
+    // 분위수 -> 값 (예: p50, p95, p99)
+    private Map<String, Double> gpuUtilizationPct;
+    private Map<String, Double> memoryUtilizationPct;
+    private Map<String, Double> powerDrawW;
+    
+    private Double avgGpuUtilizationPct;
+    private Double maxGpuUtilizationPct;
+}
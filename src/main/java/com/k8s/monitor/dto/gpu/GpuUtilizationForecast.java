@@ -0,0 +1,48 @@
+package com.k8s.monitor.dto.gpu;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GPU 사용률 시계열 예측 DTO (장비/모델/클러스터 단위, 시간별 예측 구간 포함)
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class GpuUtilizationForecast {
+    
+    private String scopeType; // DEVICE, MODEL, CLUSTER
+    private String scopeId;
+    private String method;
+    
+    // 모델 상태
+    private LocalDateTime lastObservedHour;
+    private Long observations;
+    private Double level;
+    private Double trendPerDay;
+    private Double residualStdDev;
+    private Double intervalLevel; // 예측 구간 신뢰수준 (예: 0.95)
+    
+    // 시간대별 전형적 사용률 (hour_00 ~ hour_23)
+    private Map<String, Double> dailyProfile;
+    
+    private List<ForecastPoint> points;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ForecastPoint {
+        private LocalDateTime hour;
+        private Double predicted;
+        private Double lower;
+        private Double upper;
+    }
+}
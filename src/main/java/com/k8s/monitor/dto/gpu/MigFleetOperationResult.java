@@ -0,0 +1,44 @@
+package com.k8s.monitor.dto.gpu;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * MIG 플릿 일괄 재구성 결과 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MigFleetOperationResult {
+    
+    private Integer totalDevices;
+    private Integer succeededDevices;
+    private Integer failedDevices;
+    private Integer createdInstances;
+    private Integer resetDevices;
+    private List<DeviceResult> deviceResults;
+    private Long durationMs;
+    private LocalDateTime completedAt;
+    
+    /**
+     * 장비별 처리 결과
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DeviceResult {
+        
+        private String deviceId;
+        private String operation; // APPLY, RESET
+        private String status; // SUCCESS, FAILED
+        private Integer instanceCount;
+        private String error;
+    }
+}
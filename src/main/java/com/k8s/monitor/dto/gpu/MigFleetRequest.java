@@ -0,0 +1,25 @@
+package com.k8s.monitor.dto.gpu;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MIG 플릿 일괄 재구성 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MigFleetRequest {
+    
+    // 장비 ID -> 생성할 프로필 ID 목록 (항목당 인스턴스 1개)
+    private Map<String, List<String>> layouts;
+    
+    // MIG 인스턴스를 삭제하고 일반 모드로 되돌릴 장비 ID
+    private List<String> resetDeviceIds;
+}
@@ -0,0 +1,34 @@
+package com.k8s.monitor.dto.gpu;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 유휴 MIG 인스턴스 정보 DTO (판정 근거 포함)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MigIdleInstanceInfo {
+    
+    private String migId;
+    private String deviceId;
+    private String allocationId;
+    private LocalDateTime idleSince;
+    private Long idleMinutes;
+    private LocalDateTime lastActiveAt;
+    private LocalDateTime lastSampleAt;
+    
+    // 슬라이딩 윈도우 근거
+    private Integer windowMinutes;
+    private Integer sampleCount;
+    private Double avgUtilizationPct;
+    private Long maxMemoryUsedMb;
+    private Double utilizationThresholdPct;
+    private Long memoryThresholdMb;
+}
@@ -0,0 +1,55 @@
+package com.k8s.monitor.dto.gpu;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MIG 재구성 계획 DTO
+ * 대기/예상 수요를 기준으로 재구성 가능한 장비별 MIG 레이아웃을 제시
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MigReconfigurationPlan {
+    
+    // 수요 (프로필 ID -> 인스턴스 수)
+    private Map<String, Integer> pendingDemand;
+    private Map<String, Integer> forecastDemand;
+    private Map<String, Integer> lockedSupply;
+    private Map<String, Integer> plannedDemand;
+    private Map<String, Integer> unmetDemand;
+    private Map<String, Integer> currentUnmetDemand; // 재구성 가능 장비를 현재 레이아웃 그대로 둘 때의 미충족 수요 (계획과 비교용)
+    
+    // 장비
+    private List<DeviceLayout> deviceLayouts;
+    private List<String> untouchedDeviceIds;
+    private Integer reconfigurableDeviceCount;
+    private Integer lockedDeviceCount;
+    
+    private Long planningTimeMs;
+    private LocalDateTime generatedAt;
+    
+    /**
+     * 장비별 계획 레이아웃
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DeviceLayout {
+        
+        private String deviceId;
+        private String modelId;
+        private Map<String, Integer> profileInstances; // 프로필 ID -> 인스턴스 수
+        private List<String> profileIds; // createMigInstances 요청 형식 (인스턴스당 1개)
+        private Integer computeSlices;
+        private Integer memorySlices;
+    }
+}
@@ -0,0 +1,505 @@
+package com.k8s.monitor.engine;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * GPU 용량 이산 사건 시뮬레이터 (Monte Carlo)
+ * 과거 할당의 도착 시각/점유 시간을 기간 단위로 반복 재생(배율, 연간 증가율 적용)하여
+ * 현재 장비/MIG 구성에 GpuPlacementRules 로 배치하고, 대기 지연/거절 확률/용량 고갈 시점을 추정
+ *
+ * - 도착 시각은 과거 분포를 그대로 재생하되 복제본마다 지터를 주고, 점유 시간은 같은 리소스 유형의 이력에서 재표본
+ * - 즉시 배치할 수 없는 요청은 우선순위 순(클래스 내 FIFO)으로 대기하며, 선두가 막히면 더 작은 요청만 백필
+ * - 최대 대기 시간을 넘긴 요청은 거절로 집계
+ * - 하루 거절 비율이 임계치를 넘는 첫 날을 고갈 시점으로 봄
+ *
+ * 실행(run)마다 독립된 난수 스트림을 사용하며 실행들은 ForkJoin 풀에서 병렬 수행
+ * 선점(preemption)은 모사하지 않음 (보수적 추정)
+ */
+public class CapacitySimulator {
+
+    private static final long MINUTES_PER_DAY = 1440;
+    private static final double MINUTES_PER_YEAR = 525_600.0;
+    private static final long ARRIVAL_JITTER_MINUTES = 30;
+    private static final int MIN_DAILY_ARRIVALS = 5;
+    private static final int MAX_QUEUE_SCAN = 64;
+
+    private static final int ARRIVAL = 0;
+    private static final int DEPARTURE = 1;
+    private static final int TIMEOUT = 2;
+
+    public enum ResourceKind { FULL_GPU, SHARED_GPU, MIG_INSTANCE }
+
+    /**
+     * 장비 구성 (MIG 활성 장비는 MIG 인스턴스 프로필 메모리 목록만 배치 대상)
+     */
+    public record Device(String deviceId, String modelId, String architecture, int memoryGb,
+                         boolean migEnabled, List<Integer> migProfileMemoryGb) {
+    }
+
+    /**
+     * 작업 (과거 할당 또는 현재 활성 할당)
+     *
+     * @param arrivalOffsetMinutes 이력 구간 시작 기준 도착 시각
+     * @param durationMinutes      점유 시간 (0 이하면 같은 유형 이력에서 재표본)
+     */
+    public record Job(long arrivalOffsetMinutes, long durationMinutes, ResourceKind kind,
+                      Integer requiredMemoryGb, Double computeShare,
+                      String preferredModelId, String preferredArchitecture, int priorityRank) {
+    }
+
+    /**
+     * 시뮬레이션 설정
+     *
+     * @param historyWindowMinutes     재생할 이력 구간 길이
+     * @param demandScale              도착량 배율
+     * @param annualGrowth             연간 도착량 증가율 (0.2 = 연 20%)
+     * @param maxWaitMinutes           최대 대기 시간 (초과 시 거절, 0 이면 대기 없이 즉시 거절)
+     * @param exhaustionRejectionRate  고갈 판정 하루 거절 비율
+     */
+    public record Settings(int horizonDays, long historyWindowMinutes, double demandScale, double annualGrowth,
+                           long maxWaitMinutes, int sharingRatio, double exhaustionRejectionRate,
+                           int runs, long seed) {
+    }
+
+    public record RunResult(long arrivals, long queued, long rejected,
+                            double meanWaitMinutes, double p95WaitMinutes, Integer exhaustionDay) {
+    }
+
+    /**
+     * 집계 결과 (고갈 일자는 시뮬레이션 시작 기준 일수, 고갈되지 않은 실행이 절반 이상이면 중앙값은 null)
+     */
+    public record Result(int runs, double meanArrivalsPerRun,
+                         double rejectionProbability, double queueingProbability,
+                         double meanWaitMinutes, double p95WaitMinutes,
+                         double exhaustionProbability, Integer medianExhaustionDay, Integer p10ExhaustionDay,
+                         long elapsedMillis) {
+    }
+
+    private final List<Device> devices;
+    private final List<Job> history;
+    private final List<Job> initialJobs;
+    private final Map<ResourceKind, long[]> durationsByKind = new EnumMap<>(ResourceKind.class);
+
+    public CapacitySimulator(List<Device> devices, List<Job> history, List<Job> initialJobs) {
+        this.devices = List.copyOf(devices);
+        this.history = List.copyOf(history);
+        this.initialJobs = List.copyOf(initialJobs);
+        for (ResourceKind kind : ResourceKind.values()) {
+            durationsByKind.put(kind, history.stream()
+                .filter(job -> job.kind() == kind && job.durationMinutes() > 0)
+                .mapToLong(Job::durationMinutes)
+                .toArray());
+        }
+    }
+
+    /**
+     * Monte Carlo 시뮬레이션 실행
+     */
+    public Result simulate(Settings settings, ForkJoinPool pool) {
+        long started = System.currentTimeMillis();
+        SplittableRandom root = new SplittableRandom(settings.seed());
+        SplittableRandom[] streams = new SplittableRandom[settings.runs()];
+        for (int i = 0; i < streams.length; i++) {
+            streams[i] = root.split();
+        }
+
+        List<RunResult> runs = pool.submit(() -> IntStream.range(0, settings.runs())
+                .parallel()
+                .mapToObj(i -> new Run(settings, streams[i]).execute())
+                .toList())
+            .join();
+
+        return aggregate(runs, System.currentTimeMillis() - started);
+    }
+
+    // Private helper methods
+
+    private Result aggregate(List<RunResult> runs, long elapsedMillis) {
+        long arrivals = runs.stream().mapToLong(RunResult::arrivals).sum();
+        long queued = runs.stream().mapToLong(RunResult::queued).sum();
+        long rejected = runs.stream().mapToLong(RunResult::rejected).sum();
+
+        int[] exhaustionDays = runs.stream()
+            .mapToInt(run -> run.exhaustionDay() != null ? run.exhaustionDay() : Integer.MAX_VALUE)
+            .sorted()
+            .toArray();
+
+        return new Result(
+            runs.size(),
+            runs.isEmpty() ? 0.0 : (double) arrivals / runs.size(),
+            arrivals > 0 ? (double) rejected / arrivals : 0.0,
+            arrivals > 0 ? (double) queued / arrivals : 0.0,
+            runs.stream().mapToDouble(RunResult::meanWaitMinutes).average().orElse(0.0),
+            runs.stream().mapToDouble(RunResult::p95WaitMinutes).average().orElse(0.0),
+            runs.isEmpty() ? 0.0 : (double) runs.stream().filter(run -> run.exhaustionDay() != null).count() / runs.size(),
+            quantileDay(exhaustionDays, 0.5),
+            quantileDay(exhaustionDays, 0.1),
+            elapsedMillis
+        );
+    }
+
+    private static Integer quantileDay(int[] sortedDays, double quantile) {
+        if (sortedDays.length == 0) {
+            return null;
+        }
+        int day = sortedDays[(int) Math.min(sortedDays.length - 1, Math.floor(quantile * sortedDays.length))];
+        return day == Integer.MAX_VALUE ? null : day;
+    }
+
+    private static boolean isFractional(ResourceKind kind) {
+        return kind != ResourceKind.FULL_GPU;
+    }
+
+    /**
+     * 백필 가능 여부 (대기열 서비스와 동일: 분할 리소스가 전체 GPU 보다 작고, 같은 유형은 요구 메모리로 비교)
+     */
+    private static boolean isSmallerThan(Job candidate, Job blocked) {
+        if (isFractional(candidate.kind()) != isFractional(blocked.kind())) {
+            return isFractional(candidate.kind());
+        }
+        return candidate.requiredMemoryGb() != null && blocked.requiredMemoryGb() != null
+            && candidate.requiredMemoryGb() < blocked.requiredMemoryGb();
+    }
+
+    private record Event(long time, int type, long sequence, Pending pending, Placement placement) {
+    }
+
+    private static final Comparator<Event> EVENT_ORDER = (a, b) -> {
+        if (a.time() != b.time()) {
+            return Long.compare(a.time(), b.time());
+        }
+        if (a.type() != b.type()) {
+            return Integer.compare(a.type(), b.type());
+        }
+        return Long.compare(a.sequence(), b.sequence());
+    };
+
+    /**
+     * 배치 위치 (slotIndex 는 MIG 인스턴스 위치, 전체/공유 GPU 는 -1)
+     */
+    private record Placement(int deviceIndex, int slotIndex, boolean shared, int memoryGb, double computeShare) {
+    }
+
+    // Inner class for a queued or arriving job
+    private static final class Pending {
+        private final Job job;
+        private final long arrival;
+        private final long duration;
+        private final long sequence;
+        private boolean done;
+
+        Pending(Job job, long arrival, long duration, long sequence) {
+            this.job = job;
+            this.arrival = arrival;
+            this.duration = duration;
+            this.sequence = sequence;
+        }
+    }
+
+    // Inner class for mutable per-device state within one run
+    private static final class DeviceState {
+        private boolean fullyAllocated;
+        private int tenants;
+        private int declaredMemoryGb;
+        private double declaredCompute;
+        private boolean[] slotBusy;
+    }
+
+    // Inner class for a single simulation run
+    private final class Run {
+        private final Settings settings;
+        private final SplittableRandom random;
+        private final long horizonMinutes;
+        private final DeviceState[] states;
+        private final PriorityQueue<Event> events = new PriorityQueue<>(EVENT_ORDER);
+        private final TreeSet<Pending> queue = new TreeSet<>(
+            Comparator.comparingInt((Pending pending) -> -pending.job.priorityRank())
+                .thenComparingLong(pending -> pending.arrival)
+                .thenComparingLong(pending -> pending.sequence));
+        private final int[] dailyArrivals;
+        private final int[] dailyRejections;
+        private long sequence;
+        private long arrivals;
+        private long queued;
+        private long rejected;
+        private double waitSum;
+        private double[] waits = new double[1024];
+        private int waitCount;
+
+        Run(Settings settings, SplittableRandom random) {
+            this.settings = settings;
+            this.random = random;
+            this.horizonMinutes = settings.horizonDays() * MINUTES_PER_DAY;
+            this.states = new DeviceState[devices.size()];
+            for (int i = 0; i < states.length; i++) {
+                states[i] = new DeviceState();
+                states[i].slotBusy = new boolean[devices.get(i).migProfileMemoryGb().size()];
+            }
+            this.dailyArrivals = new int[settings.horizonDays() + 1];
+            this.dailyRejections = new int[settings.horizonDays() + 1];
+        }
+
+        RunResult execute() {
+            for (Job job : initialJobs) {
+                Placement placement = place(job);
+                if (placement != null) {
+                    long duration = job.durationMinutes() > 0 ? job.durationMinutes() : sampleDuration(job);
+                    events.add(new Event(duration, DEPARTURE, sequence++, null, placement));
+                }
+            }
+            generateArrivals();
+
+            while (!events.isEmpty()) {
+                Event event = events.poll();
+                if (event.time() > horizonMinutes) {
+                    break;
+                }
+                switch (event.type()) {
+                    case ARRIVAL -> onArrival(event.pending(), event.time());
+                    case DEPARTURE -> {
+                        free(event.placement());
+                        schedule(event.time());
+                    }
+                    default -> onTimeout(event.pending());
+                }
+            }
+            return toResult();
+        }
+
+        private void generateArrivals() {
+            long window = Math.max(1, settings.historyWindowMinutes());
+            // 일 단위 수요 증가 배율 (도착마다 거듭제곱을 계산하지 않도록 미리 계산)
+            double[] growth = new double[settings.horizonDays() + 1];
+            for (int day = 0; day < growth.length; day++) {
+                growth[day] = Math.pow(1 + settings.annualGrowth(), day * MINUTES_PER_DAY / MINUTES_PER_YEAR);
+            }
+            for (long cycleStart = 0; cycleStart < horizonMinutes; cycleStart += window) {
+                for (Job job : history) {
+                    long base = cycleStart + job.arrivalOffsetMinutes();
+                    if (base >= horizonMinutes) {
+                        continue;
+                    }
+                    double expected = settings.demandScale() * growth[(int) (base / MINUTES_PER_DAY)];
+                    int copies = (int) expected + (random.nextDouble() < expected - Math.floor(expected) ? 1 : 0);
+                    for (int copy = 0; copy < copies; copy++) {
+                        long jitter = random.nextLong(-ARRIVAL_JITTER_MINUTES, ARRIVAL_JITTER_MINUTES + 1);
+                        long arrival = Math.min(horizonMinutes, Math.max(0, base + jitter));
+                        Pending pending = new Pending(job, arrival, sampleDuration(job), sequence++);
+                        events.add(new Event(arrival, ARRIVAL, pending.sequence, pending, null));
+                    }
+                }
+            }
+        }
+
+        private long sampleDuration(Job job) {
+            long[] pool = durationsByKind.get(job.kind());
+            if (pool.length == 0) {
+                return Math.max(1, job.durationMinutes());
+            }
+            return pool[random.nextInt(pool.length)];
+        }
+
+        private void onArrival(Pending pending, long now) {
+            arrivals++;
+            dailyArrivals[day(now)]++;
+
+            if (queue.isEmpty()) {
+                Placement placement = place(pending.job);
+                if (placement != null) {
+                    start(pending, placement, now);
+                    return;
+                }
+                queue.add(pending);
+            } else {
+                // 대기 중인 요청이 있으면 대기열 순서와 백필 규칙에 따라 배치
+                queue.add(pending);
+                schedule(now);
+                if (pending.done) {
+                    return;
+                }
+            }
+
+            if (settings.maxWaitMinutes() <= 0) {
+                queue.remove(pending);
+                reject(pending);
+                return;
+            }
+            queued++;
+            events.add(new Event(now + settings.maxWaitMinutes(), TIMEOUT, sequence++, pending, null));
+        }
+
+        private void onTimeout(Pending pending) {
+            if (pending.done) {
+                return;
+            }
+            queue.remove(pending);
+            reject(pending);
+        }
+
+        private void reject(Pending pending) {
+            pending.done = true;
+            rejected++;
+            dailyRejections[day(pending.arrival)]++;
+        }
+
+        /**
+         * 리소스 반환 시 대기열 스케줄링 (높은 우선순위부터, 선두가 막히면 더 작은 요청만 백필)
+         */
+        private void schedule(long now) {
+            if (queue.isEmpty()) {
+                return;
+            }
+            List<Job> blockedHeads = new ArrayList<>();
+            Set<Integer> blockedRanks = new HashSet<>();
+            int scanned = 0;
+
+            Iterator<Pending> iterator = queue.iterator();
+            while (iterator.hasNext() && scanned++ < MAX_QUEUE_SCAN) {
+                Pending candidate = iterator.next();
+                boolean fitsInGap = blockedHeads.stream().allMatch(blocked -> isSmallerThan(candidate.job, blocked));
+                Placement placement = fitsInGap ? place(candidate.job) : null;
+                if (placement != null) {
+                    iterator.remove();
+                    start(candidate, placement, now);
+                } else if (blockedRanks.add(candidate.job.priorityRank())) {
+                    blockedHeads.add(candidate.job);
+                }
+            }
+        }
+
+        private void start(Pending pending, Placement placement, long now) {
+            pending.done = true;
+            recordWait(now - pending.arrival);
+            events.add(new Event(now + Math.max(1, pending.duration), DEPARTURE, sequence++, null, placement));
+        }
+
+        private Placement place(Job job) {
+            return switch (job.kind()) {
+                case MIG_INSTANCE -> placeMig(job);
+                case SHARED_GPU -> placeShared(job);
+                default -> placeFull(job);
+            };
+        }
+
+        private Placement placeMig(Job job) {
+            for (int d = 0; d < states.length; d++) {
+                Device device = devices.get(d);
+                if (!device.migEnabled()) {
+                    continue;
+                }
+                boolean[] busy = states[d].slotBusy;
+                for (int s = 0; s < busy.length; s++) {
+                    if (!busy[s] && GpuPlacementRules.migMatches(device.migProfileMemoryGb().get(s), device.modelId(),
+                            job.requiredMemoryGb(), job.preferredModelId())) {
+                        busy[s] = true;
+                        return new Placement(d, s, false, 0, 0.0);
+                    }
+                }
+            }
+            return null;
+        }
+
+        private Placement placeFull(Job job) {
+            for (int d = 0; d < states.length; d++) {
+                Device device = devices.get(d);
+                DeviceState state = states[d];
+                if (device.migEnabled() || state.fullyAllocated || state.tenants > 0) {
+                    continue;
+                }
+                if (GpuPlacementRules.deviceMatches(device.memoryGb(), device.modelId(), device.architecture(),
+                        job.requiredMemoryGb(), job.preferredModelId(), job.preferredArchitecture())) {
+                    state.fullyAllocated = true;
+                    return new Placement(d, -1, false, 0, 0.0);
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 공유 GPU 배치 (운영 배치와 같은 GpuPlacementRules.sharedPreferred 순서: 공유 중인 장비에 best-fit,
+         * 없으면 빈 장비를 새 공유 장비로 개방)
+         */
+        private Placement placeShared(Job job) {
+            if (job.requiredMemoryGb() == null) {
+                return null;
+            }
+            int requiredMemoryGb = job.requiredMemoryGb();
+            int best = -1;
+            double bestCompute = 0.0;
+            for (int d = 0; d < states.length; d++) {
+                Device device = devices.get(d);
+                DeviceState state = states[d];
+                if (device.migEnabled() || state.fullyAllocated) {
+                    continue;
+                }
+                if (!GpuPlacementRules.deviceMatches(device.memoryGb(), device.modelId(), device.architecture(),
+                        requiredMemoryGb, job.preferredModelId(), job.preferredArchitecture())) {
+                    continue;
+                }
+                double computeShare = GpuPlacementRules.sharedComputeShare(job.computeShare(), requiredMemoryGb, device.memoryGb());
+                if (!GpuPlacementRules.sharedFits(device.memoryGb(), state.tenants, settings.sharingRatio(),
+                        state.declaredMemoryGb, state.declaredCompute, requiredMemoryGb, computeShare)) {
+                    continue;
+                }
+                if (best < 0 || GpuPlacementRules.sharedPreferred(state.tenants, state.declaredMemoryGb,
+                        states[best].tenants, states[best].declaredMemoryGb)) {
+                    best = d;
+                    bestCompute = computeShare;
+                }
+            }
+            if (best < 0) {
+                return null;
+            }
+            DeviceState state = states[best];
+            state.tenants++;
+            state.declaredMemoryGb += requiredMemoryGb;
+            state.declaredCompute += bestCompute;
+            return new Placement(best, -1, true, requiredMemoryGb, bestCompute);
+        }
+
+        private void free(Placement placement) {
+            DeviceState state = states[placement.deviceIndex()];
+            if (placement.slotIndex() >= 0) {
+                state.slotBusy[placement.slotIndex()] = false;
+            } else if (placement.shared()) {
+                state.tenants--;
+                state.declaredMemoryGb -= placement.memoryGb();
+                state.declaredCompute = Math.max(0.0, state.declaredCompute - placement.computeShare());
+            } else {
+                state.fullyAllocated = false;
+            }
+        }
+
+        private void recordWait(long waitMinutes) {
+            if (waitCount == waits.length) {
+                waits = Arrays.copyOf(waits, waits.length * 2);
+            }
+            waits[waitCount++] = waitMinutes;
+            waitSum += waitMinutes;
+        }
+
+        private int day(long minute) {
+            return (int) Math.min(settings.horizonDays(), minute / MINUTES_PER_DAY);
+        }
+
+        private RunResult toResult() {
+            // 대기 중 시뮬레이션이 끝난 요청은 거절로 보지 않음
+            double[] sorted = Arrays.copyOf(waits, waitCount);
+            Arrays.sort(sorted);
+            double p95 = waitCount > 0 ? sorted[(int) Math.min(waitCount - 1, Math.floor(0.95 * waitCount))] : 0.0;
+
+            Integer exhaustionDay = null;
+            for (int d = 0; d < dailyArrivals.length; d++) {
+                if (dailyArrivals[d] >= MIN_DAILY_ARRIVALS
+                        && (double) dailyRejections[d] / dailyArrivals[d] >= settings.exhaustionRejectionRate()) {
+                    exhaustionDay = d;
+                    break;
+                }
+            }
+            return new RunResult(arrivals, queued, rejected,
+                waitCount > 0 ? waitSum / waitCount : 0.0, p95, exhaustionDay);
+        }
+    }
+}
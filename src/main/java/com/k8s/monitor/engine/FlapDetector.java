@@ -0,0 +1,92 @@
+package com.k8s.monitor.engine;
+
+import java.util.*;
+
+/**
+ * 알람 플래핑(flapping) 감지기
+ * 키별 최근 window 구간의 상태 변경(발생/해소) 횟수를 세어, startChanges 이상이면 플래핑 시작,
+ * stopChanges 이하로 줄어들면 플래핑 종료 (시작/종료 기준을 달리하여 판정 자체가 흔들리지 않도록 함)
+ *
+ * 동시 접근은 인스턴스 단위 동기화로 보호
+ */
+public class FlapDetector {
+
+    private final long windowMillis;
+    private final int startChanges;
+    private final int stopChanges;
+
+    private final Map<String, KeyState> states = new HashMap<>();
+
+    public FlapDetector(long windowMillis, int startChanges, int stopChanges) {
+        if (windowMillis <= 0 || startChanges <= 0 || stopChanges < 0 || stopChanges >= startChanges) {
+            throw new IllegalArgumentException("Invalid flap detector configuration");
+        }
+        this.windowMillis = windowMillis;
+        this.startChanges = startChanges;
+        this.stopChanges = stopChanges;
+    }
+
+    /**
+     * 상태 변경 기록 후 플래핑 여부 반환
+     */
+    public synchronized boolean recordChange(String key, long nowMillis) {
+        KeyState state = states.computeIfAbsent(key, ignored -> new KeyState());
+        state.changes.addLast(nowMillis);
+        return update(state, nowMillis);
+    }
+
+    public synchronized boolean isFlapping(String key) {
+        KeyState state = states.get(key);
+        return state != null && state.flapping;
+    }
+
+    /**
+     * 시간 경과 반영: 변경이 잦아들어 플래핑이 끝난 키 목록 반환 (변경 이력이 없어진 키는 제거)
+     */
+    public synchronized List<String> settle(long nowMillis) {
+        List<String> settled = new ArrayList<>();
+        Iterator<Map.Entry<String, KeyState>> iterator = states.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, KeyState> entry = iterator.next();
+            KeyState state = entry.getValue();
+            boolean wasFlapping = state.flapping;
+            update(state, nowMillis);
+            if (wasFlapping && !state.flapping) {
+                settled.add(entry.getKey());
+            }
+            if (state.changes.isEmpty() && !state.flapping) {
+                iterator.remove();
+            }
+        }
+        return settled;
+    }
+
+    public synchronized void remove(String key) {
+        states.remove(key);
+    }
+
+    public synchronized int flappingCount() {
+        return (int) states.values().stream().filter(state -> state.flapping).count();
+    }
+
+    // Private helper methods
+
+    private boolean update(KeyState state, long nowMillis) {
+        while (!state.changes.isEmpty() && state.changes.peekFirst() <= nowMillis - windowMillis) {
+            state.changes.pollFirst();
+        }
+        int changes = state.changes.size();
+        if (!state.flapping && changes >= startChanges) {
+            state.flapping = true;
+        } else if (state.flapping && changes <= stopChanges) {
+            state.flapping = false;
+        }
+        return state.flapping;
+    }
+
+    // Inner class for per-key change history
+    private static final class KeyState {
+        private final ArrayDeque<Long> changes = new ArrayDeque<>();
+        private boolean flapping;
+    }
+}
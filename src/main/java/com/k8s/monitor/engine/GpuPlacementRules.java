@@ -0,0 +1,92 @@
+package com.k8s.monitor.engine;
+
+/**
+ * GPU 배치 규칙
+ * 요청과 리소스(장비, MIG 인스턴스, 공유 장비)의 적합 여부 판정
+ * 실제 할당 서비스와 용량 시뮬레이터가 같은 규칙을 사용하도록 저장소와 무관한 값만 받음
+ */
+public final class GpuPlacementRules {
+
+    // compute_share 컬럼 정밀도 NUMBER(3,2) 기준 최소 연산 점유율
+    public static final double MIN_COMPUTE_SHARE = 0.01;
+    private static final double SHARE_EPSILON = 1e-9;
+
+    private GpuPlacementRules() {
+    }
+
+    /**
+     * 전체 GPU(또는 공유 GPU) 장비 적합 여부: 메모리, 선호 모델, 선호 아키텍처
+     */
+    public static boolean deviceMatches(int modelMemoryGb, String modelId, String architecture,
+                                        Integer requiredMemoryGb, String preferredModelId, String preferredArchitecture) {
+        if (requiredMemoryGb != null && modelMemoryGb < requiredMemoryGb) {
+            return false;
+        }
+        if (preferredModelId != null && !preferredModelId.equals(modelId)) {
+            return false;
+        }
+        return preferredArchitecture == null || preferredArchitecture.equals(architecture);
+    }
+
+    /**
+     * MIG 인스턴스 적합 여부: 프로필 메모리, 선호 모델
+     */
+    public static boolean migMatches(int profileMemoryGb, String deviceModelId,
+                                     Integer requiredMemoryGb, String preferredModelId) {
+        if (requiredMemoryGb != null && profileMemoryGb < requiredMemoryGb) {
+            return false;
+        }
+        return preferredModelId == null || preferredModelId.equals(deviceModelId);
+    }
+
+    /**
+     * 요청 연산 점유율 검증: (0, 1] 범위이고 저장 정밀도(소수 둘째 자리)로 반올림해도 0 이 아니어야 함
+     */
+    public static void validateComputeShare(Double computeShare) {
+        if (computeShare == null) {
+            return;
+        }
+        if (computeShare.isNaN() || computeShare <= 0.0 || computeShare > 1.0) {
+            throw new IllegalArgumentException("computeShare must be in (0, 1]: " + computeShare);
+        }
+        if (roundShare(computeShare) < MIN_COMPUTE_SHARE) {
+            throw new IllegalArgumentException("computeShare must be at least " + MIN_COMPUTE_SHARE + ": " + computeShare);
+        }
+    }
+
+    /**
+     * 공유 GPU 연산 점유율 (요청값이 없으면 메모리 비율, 저장 정밀도로 반올림하여 [0.01, 1] 로 제한)
+     */
+    public static double sharedComputeShare(Double requestedComputeShare, int requiredMemoryGb, int deviceMemoryGb) {
+        double share = requestedComputeShare != null ? requestedComputeShare : (double) requiredMemoryGb / deviceMemoryGb;
+        return Math.min(1.0, Math.max(MIN_COMPUTE_SHARE, roundShare(share)));
+    }
+
+    /**
+     * 공유 GPU 선언 용량 적합 여부: 공유 수, 선언 메모리 합계, 연산 점유율 합계
+     */
+    public static boolean sharedFits(int deviceMemoryGb, int tenants, int sharingRatio,
+                                     int declaredMemoryGb, double declaredCompute,
+                                     int requiredMemoryGb, double computeShare) {
+        if (tenants >= sharingRatio) {
+            return false;
+        }
+        return declaredMemoryGb + requiredMemoryGb <= deviceMemoryGb
+            && declaredCompute + computeShare <= 1.0 + SHARE_EPSILON;
+    }
+
+    /**
+     * 공유 GPU 장비 선택 순서: 이미 공유 중인 장비를 빈 장비보다 우선하고, 그중 선언 메모리가 가장 많이 채워진 장비 (best-fit)
+     * 빈 장비는 공유 중인 장비에 자리가 없을 때만 새 공유 장비로 개방
+     */
+    public static boolean sharedPreferred(int tenants, int declaredMemoryGb, int bestTenants, int bestDeclaredMemoryGb) {
+        if ((tenants > 0) != (bestTenants > 0)) {
+            return tenants > 0;
+        }
+        return declaredMemoryGb > bestDeclaredMemoryGb;
+    }
+
+    private static double roundShare(double share) {
+        return Math.round(share * 100.0) / 100.0;
+    }
+}
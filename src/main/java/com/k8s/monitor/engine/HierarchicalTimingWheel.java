@@ -0,0 +1,168 @@
+package com.k8s.monitor.engine;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계층형 타이밍 휠 (Hierarchical Timing Wheel)
+ * 키별 만료 시각을 등록/취소하고, 시간이 진행될 때 만료된 키만 반환
+ * 등록/취소는 O(1), 진행은 경과한 tick 수에 비례하며 대기 중인 전체 항목 수와 무관
+ *
+ * 동시 접근은 인스턴스 단위 동기화로 보호
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelBits;
+    private final int wheelMask;
+    private final int levels;
+
+    // levels x wheelSize 버킷, 각 버킷은 키 -> 만료 tick
+    private final List<List<Map<K, Long>>> buckets;
+    // 최상위 레벨 범위를 벗어난 항목
+    private final Map<K, Long> overflow = new HashMap<>();
+    // 이미 만료 시각이 지난 상태로 등록된 항목 (다음 advance 에서 반환)
+    private final Map<K, Long> overdue = new HashMap<>();
+    // 키 -> 현재 보관 중인 버킷
+    private final Map<K, Map<K, Long>> index = new HashMap<>();
+
+    private long currentTick;
+
+    /**
+     * @param tickMillis 최소 해상도 (밀리초)
+     * @param wheelBits  레벨별 슬롯 수 = 2^wheelBits
+     * @param levels     레벨 수 (커버 범위 = tickMillis * 2^(wheelBits * levels))
+     * @param startMillis 시작 시각 (epoch 밀리초)
+     */
+    public HierarchicalTimingWheel(long tickMillis, int wheelBits, int levels, long startMillis) {
+        if (tickMillis <= 0 || wheelBits <= 0 || levels <= 0 || wheelBits * levels >= 63) {
+            throw new IllegalArgumentException("Invalid timing wheel configuration");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelBits = wheelBits;
+        this.wheelMask = (1 << wheelBits) - 1;
+        this.levels = levels;
+        List<List<Map<K, Long>>> wheels = new ArrayList<>(levels);
+        for (int level = 0; level < levels; level++) {
+            List<Map<K, Long>> slots = new ArrayList<>(1 << wheelBits);
+            for (int slot = 0; slot <= wheelMask; slot++) {
+                slots.add(new HashMap<>());
+            }
+            wheels.add(List.copyOf(slots));
+        }
+        this.buckets = List.copyOf(wheels);
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 만료 시각 등록 (같은 키가 있으면 교체)
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        place(key, ceilTick(deadlineMillis));
+    }
+
+    /**
+     * 등록 취소
+     */
+    public synchronized boolean cancel(K key) {
+        Map<K, Long> bucket = index.remove(key);
+        if (bucket == null) {
+            return false;
+        }
+        bucket.remove(key);
+        return true;
+    }
+
+    /**
+     * 지정 시각까지 시간을 진행하고 만료된 키 반환
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        drain(overdue, expired);
+
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // 상위 레벨부터 하위 레벨로 내려보내기
+            for (int level = levels - 1; level >= 1; level--) {
+                if ((currentTick & ((1L << (wheelBits * level)) - 1)) == 0) {
+                    if (level == levels - 1 && !overflow.isEmpty()) {
+                        cascade(overflow, expired);
+                    }
+                    cascade(buckets.get(level).get(slotOf(currentTick, level)), expired);
+                }
+            }
+            drain(buckets.get(0).get(slotOf(currentTick, 0)), expired);
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    public synchronized boolean contains(K key) {
+        return index.containsKey(key);
+    }
+
+    // Private helper methods
+
+    private void place(K key, long deadlineTick) {
+        long delta = deadlineTick - currentTick;
+        Map<K, Long> bucket;
+
+        if (delta <= 0) {
+            bucket = overdue;
+        } else {
+            bucket = overflow;
+            for (int level = 0; level < levels; level++) {
+                if (delta < (1L << (wheelBits * (level + 1)))) {
+                    bucket = buckets.get(level).get(slotOf(deadlineTick, level));
+                    break;
+                }
+            }
+        }
+
+        bucket.put(key, deadlineTick);
+        index.put(key, bucket);
+    }
+
+    private void cascade(Map<K, Long> bucket, List<K> expired) {
+        if (bucket.isEmpty()) {
+            return;
+        }
+        Map<K, Long> entries = new HashMap<>(bucket);
+        bucket.clear();
+        entries.forEach((key, deadlineTick) -> {
+            if (deadlineTick <= currentTick) {
+                index.remove(key);
+                expired.add(key);
+            } else {
+                place(key, deadlineTick);
+            }
+        });
+    }
+
+    private void drain(Map<K, Long> bucket, List<K> expired) {
+        if (bucket.isEmpty()) {
+            return;
+        }
+        for (K key : bucket.keySet()) {
+            index.remove(key);
+            expired.add(key);
+        }
+        bucket.clear();
+    }
+
+    private int slotOf(long tick, int level) {
+        return (int) ((tick >>> (wheelBits * level)) & wheelMask);
+    }
+
+    private long ceilTick(long millis) {
+        return Math.floorDiv(millis + tickMillis - 1, tickMillis);
+    }
+}
@@ -0,0 +1,255 @@
+package com.k8s.monitor.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이중 계절성 Holt-Winters 예측기 (Taylor 가법 모형)
+ * 수준 + 감쇠 추세 + 일/주 계절 성분을 시간 단위 관측값 1건마다 O(1)로 갱신 (재적합 불필요)
+ *
+ * 관측 위치는 절대 시간 인덱스(epoch 기준 시간 수)로 받아 계절 위상을 맞추며,
+ * 누락된 시간은 1-step 예측값으로 채움
+ * 예측 구간은 1-step 잔차 분산에 가법 ETS 모형의 h-step 분산 계수를 적용한 근사
+ *
+ * 동기화하지 않음 (호출 측에서 보호)
+ */
+public class HoltWintersForecaster {
+
+    // 잔차 분산 지수 가중 계수 (최근 잔차 비중)
+    private static final double RESIDUAL_DECAY = 0.05;
+
+    private final Parameters parameters;
+    private final double[] daily;
+    private final double[] weekly;
+    private final List<Double> warmup = new ArrayList<>();
+
+    private boolean initialized;
+    private double level;
+    private double trend;
+    private double residualVariance;
+    private double squaredErrorSum;
+    private long residualCount;
+    private long observations;
+    private long lastIndex = Long.MIN_VALUE;
+
+    /**
+     * 평활 계수
+     *
+     * @param alpha        수준
+     * @param beta         추세
+     * @param gamma        일 계절
+     * @param delta        주 계절
+     * @param phi          추세 감쇠 (1 이면 감쇠 없음)
+     * @param dailyPeriod  일 주기 (시간)
+     * @param weeklyPeriod 주 주기 (시간)
+     */
+    public record Parameters(double alpha, double beta, double gamma, double delta, double phi,
+                             int dailyPeriod, int weeklyPeriod) {
+
+        public static Parameters hourlyDefaults() {
+            return new Parameters(0.2, 0.01, 0.15, 0.1, 0.98, 24, 168);
+        }
+    }
+
+    /**
+     * 예측값 (step 은 마지막 관측 이후 시간 수)
+     */
+    public record Point(int step, double mean, double lower, double upper) {
+    }
+
+    public HoltWintersForecaster(Parameters parameters) {
+        if (parameters.dailyPeriod() <= 0 || parameters.weeklyPeriod() < parameters.dailyPeriod()) {
+            throw new IllegalArgumentException("Invalid seasonal periods");
+        }
+        this.parameters = parameters;
+        this.daily = new double[parameters.dailyPeriod()];
+        this.weekly = new double[parameters.weeklyPeriod()];
+    }
+
+    /**
+     * 관측값 반영
+     *
+     * @param index 절대 시간 인덱스
+     * @return 이미 반영된 시점 이전의 관측이면 false
+     */
+    public boolean update(long index, double value) {
+        if (lastIndex != Long.MIN_VALUE) {
+            if (index <= lastIndex) {
+                return false;
+            }
+            // 누락 구간은 예측값으로 채움 (계절 위상 유지)
+            for (long missing = lastIndex + 1; missing < index; missing++) {
+                apply(missing, initialized ? predictNext(missing) : lastWarmupValue(), false);
+            }
+        }
+        apply(index, value, true);
+        observations++;
+        return true;
+    }
+
+    /**
+     * 마지막 관측 이후 horizon 시간 예측
+     *
+     * @param z 예측 구간 폭 (표준정규 분위수, 95% 는 1.96)
+     */
+    public List<Point> forecast(int horizon, double z) {
+        List<Point> points = new ArrayList<>(Math.max(0, horizon));
+        if (!initialized) {
+            return points;
+        }
+        double sigma = Math.sqrt(residualVariance);
+        double varianceFactor = 1.0;
+        double dampedSum = 0.0;
+        double phiPower = 1.0;
+
+        for (int h = 1; h <= horizon; h++) {
+            phiPower *= parameters.phi();
+            dampedSum += phiPower;
+            long index = lastIndex + h;
+            double mean = level + dampedSum * trend + daily[dailySlot(index)] + weekly[weeklySlot(index)];
+
+            double width = z * sigma * Math.sqrt(varianceFactor);
+            points.add(new Point(h, mean, mean - width, mean + width));
+
+            // 다음 step 의 분산 계수: 1 + sum_{j<h+1} c_j^2
+            double c = parameters.alpha() * (1 + parameters.beta() * dampedSum)
+                + (h % parameters.dailyPeriod() == 0 ? parameters.gamma() : 0.0)
+                + (h % parameters.weeklyPeriod() == 0 ? parameters.delta() : 0.0);
+            varianceFactor += c * c;
+        }
+        return points;
+    }
+
+    /**
+     * 일 계절 성분 (인덱스 = index mod dailyPeriod)
+     */
+    public double[] getDailySeason() {
+        return daily.clone();
+    }
+
+    public boolean isReady() {
+        return initialized;
+    }
+
+    public long getObservationCount() {
+        return observations;
+    }
+
+    public long getLastIndex() {
+        return lastIndex;
+    }
+
+    public double getLevel() {
+        return level;
+    }
+
+    /**
+     * 시간당 추세 (감쇠 적용 전)
+     */
+    public double getTrend() {
+        return trend;
+    }
+
+    public double getResidualStdDev() {
+        return Math.sqrt(residualVariance);
+    }
+
+    /**
+     * 초기화 이후 전체 1-step 평균 제곱 오차 (파라미터 선택 기준)
+     */
+    public double getOneStepMse() {
+        return residualCount > 0 ? squaredErrorSum / residualCount : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * 후보 평활 계수마다 이력 전체를 학습하여 1-step 평균 제곱 오차가 가장 작은 모델 반환
+     *
+     * @param indices 절대 시간 인덱스 (오름차순)
+     * @param values  관측값
+     */
+    public static HoltWintersForecaster fitBest(long[] indices, double[] values, List<Parameters> candidates) {
+        if (indices.length != values.length || candidates.isEmpty()) {
+            throw new IllegalArgumentException("Invalid fit input");
+        }
+        HoltWintersForecaster best = null;
+        for (Parameters candidate : candidates) {
+            HoltWintersForecaster model = new HoltWintersForecaster(candidate);
+            for (int i = 0; i < indices.length; i++) {
+                model.update(indices[i], values[i]);
+            }
+            if (best == null || model.getOneStepMse() < best.getOneStepMse()) {
+                best = model;
+            }
+        }
+        return best;
+    }
+
+    public Parameters getParameters() {
+        return parameters;
+    }
+
+    // Private helper methods
+
+    private void apply(long index, double value, boolean observed) {
+        lastIndex = index;
+        if (!initialized) {
+            warmup.add(value);
+            if (warmup.size() >= parameters.dailyPeriod()) {
+                initialize(index);
+            }
+            return;
+        }
+
+        int dailySlot = dailySlot(index);
+        int weeklySlot = weeklySlot(index);
+        double d = daily[dailySlot];
+        double w = weekly[weeklySlot];
+
+        if (observed) {
+            double error = value - (level + parameters.phi() * trend + d + w);
+            residualCount++;
+            squaredErrorSum += error * error;
+            double weight = Math.max(RESIDUAL_DECAY, 1.0 / residualCount);
+            residualVariance = (1 - weight) * residualVariance + weight * error * error;
+        }
+
+        double previousLevel = level;
+        level = parameters.alpha() * (value - d - w)
+            + (1 - parameters.alpha()) * (previousLevel + parameters.phi() * trend);
+        trend = parameters.beta() * (level - previousLevel)
+            + (1 - parameters.beta()) * parameters.phi() * trend;
+        daily[dailySlot] = parameters.gamma() * (value - level - w) + (1 - parameters.gamma()) * d;
+        weekly[weeklySlot] = parameters.delta() * (value - level - d) + (1 - parameters.delta()) * w;
+    }
+
+    /**
+     * 첫 일 주기 관측으로 초기화: 수준 = 평균, 일 계절 = 평균 대비 편차, 주 계절 = 0
+     */
+    private void initialize(long lastWarmupIndex) {
+        double mean = warmup.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
+        long firstIndex = lastWarmupIndex - warmup.size() + 1;
+        for (int i = 0; i < warmup.size(); i++) {
+            daily[dailySlot(firstIndex + i)] = warmup.get(i) - mean;
+        }
+        level = mean;
+        trend = 0.0;
+        warmup.clear();
+        initialized = true;
+    }
+
+    private double predictNext(long index) {
+        return level + parameters.phi() * trend + daily[dailySlot(index)] + weekly[weeklySlot(index)];
+    }
+
+    private double lastWarmupValue() {
+        return warmup.isEmpty() ? 0.0 : warmup.get(warmup.size() - 1);
+    }
+
+    private int dailySlot(long index) {
+        return (int) Math.floorMod(index, (long) parameters.dailyPeriod());
+    }
+
+    private int weeklySlot(long index) {
+        return (int) Math.floorMod(index, (long) parameters.weeklyPeriod());
+    }
+}
@@ -0,0 +1,249 @@
+package com.k8s.monitor.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MIG 레이아웃 플래너
+ * GPU 1장의 compute/memory slice 예산(A100/H100 기준 7/8) 안에서 가능한 프로필 조합을 모두 열거하고,
+ * 프로필별 수요를 만족하도록 장비별 레이아웃을 배정
+ *
+ * 같은 모델의 장비는 동일하므로, 매 단계에서 남은 수요를 가장 많이 충족(충족 slice 최대, 낭비 최소)하는
+ * 레이아웃을 고른 뒤 수요가 허용하는 만큼 여러 장비에 한 번에 적용 (장비 수와 무관하게 레이아웃 수에 비례)
+ * 배정된 레이아웃의 남는 slice 는 가장 작은 프로필로 채워 여유 용량으로 남김
+ */
+public class MigLayoutPlanner {
+
+    public static final int DEFAULT_COMPUTE_SLICES = 7;
+    public static final int DEFAULT_MEMORY_SLICES = 8;
+
+    private final int computeBudget;
+    private final int memoryBudget;
+
+    public MigLayoutPlanner() {
+        this(DEFAULT_COMPUTE_SLICES, DEFAULT_MEMORY_SLICES);
+    }
+
+    public MigLayoutPlanner(int computeBudget, int memoryBudget) {
+        this.computeBudget = computeBudget;
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * MIG 프로필 사양
+     */
+    public record ProfileSpec(String profileId, int computeSlices, int memorySlices, int maxInstances) {
+    }
+
+    /**
+     * 장비 1장의 레이아웃 (프로필 ID -> 인스턴스 수)
+     */
+    public record Layout(Map<String, Integer> instances, int computeSlices, int memorySlices) {
+    }
+
+    public record DeviceAssignment(String deviceId, Layout layout) {
+    }
+
+    /**
+     * 계획 결과
+     */
+    public record Plan(List<DeviceAssignment> assignments,
+                       Map<String, Integer> unmetDemand,
+                       List<String> untouchedDevices) {
+    }
+
+    /**
+     * 프로필 조합이 slice 예산과 프로필별 최대 인스턴스 수를 만족하는지 확인
+     */
+    public boolean isFeasible(List<ProfileSpec> profiles, Map<String, Integer> counts) {
+        int compute = 0;
+        int memory = 0;
+        for (ProfileSpec profile : profiles) {
+            int count = counts.getOrDefault(profile.profileId(), 0);
+            if (count > profile.maxInstances()) {
+                return false;
+            }
+            compute += count * profile.computeSlices();
+            memory += count * profile.memorySlices();
+        }
+        for (String profileId : counts.keySet()) {
+            if (profiles.stream().noneMatch(profile -> profile.profileId().equals(profileId))) {
+                return false;
+            }
+        }
+        return compute <= computeBudget && memory <= memoryBudget;
+    }
+
+    /**
+     * 가능한 모든 (비어 있지 않은) 레이아웃 열거
+     */
+    public List<Layout> enumerateLayouts(List<ProfileSpec> profiles) {
+        List<int[]> vectors = enumerate(profiles);
+        List<Layout> layouts = new ArrayList<>(vectors.size());
+        for (int[] vector : vectors) {
+            layouts.add(toLayout(profiles, vector));
+        }
+        return layouts;
+    }
+
+    /**
+     * 수요를 만족하는 장비별 레이아웃 계획
+     *
+     * @param profiles  모델의 MIG 프로필
+     * @param demand    프로필 ID -> 필요한 인스턴스 수
+     * @param deviceIds 재구성 가능한 장비 (모두 같은 모델)
+     */
+    public Plan plan(List<ProfileSpec> profiles, Map<String, Integer> demand, List<String> deviceIds) {
+        int profileCount = profiles.size();
+        int[] remaining = new int[profileCount];
+        for (int p = 0; p < profileCount; p++) {
+            remaining[p] = Math.max(0, demand.getOrDefault(profiles.get(p).profileId(), 0));
+        }
+
+        List<int[]> candidates = enumerate(profiles);
+        int smallest = smallestProfileIndex(profiles);
+
+        List<DeviceAssignment> assignments = new ArrayList<>();
+        int next = 0;
+
+        while (next < deviceIds.size() && hasDemand(remaining)) {
+            int[] best = null;
+            int bestServed = 0;
+            int bestWaste = Integer.MAX_VALUE;
+
+            for (int[] candidate : candidates) {
+                int served = 0;
+                int total = 0;
+                for (int p = 0; p < profileCount; p++) {
+                    served += Math.min(candidate[p], remaining[p]) * profiles.get(p).computeSlices();
+                    total += candidate[p] * profiles.get(p).computeSlices();
+                }
+                int waste = total - served;
+                if (served > bestServed || (served == bestServed && served > 0 && waste < bestWaste)) {
+                    best = candidate;
+                    bestServed = served;
+                    bestWaste = waste;
+                }
+            }
+            if (best == null) {
+                break;
+            }
+
+            // 수요가 허용하는 만큼 같은 레이아웃을 연속 적용
+            int repeat = Integer.MAX_VALUE;
+            for (int p = 0; p < profileCount; p++) {
+                if (best[p] > 0) {
+                    repeat = Math.min(repeat, remaining[p] / best[p]);
+                }
+            }
+            repeat = Math.min(Math.max(1, repeat), deviceIds.size() - next);
+
+            Layout layout = toLayout(profiles, pad(profiles, best, smallest));
+            for (int i = 0; i < repeat; i++) {
+                assignments.add(new DeviceAssignment(deviceIds.get(next++), layout));
+            }
+            for (int p = 0; p < profileCount; p++) {
+                remaining[p] = Math.max(0, remaining[p] - best[p] * repeat);
+            }
+        }
+
+        Map<String, Integer> unmet = new LinkedHashMap<>();
+        for (int p = 0; p < profileCount; p++) {
+            if (remaining[p] > 0) {
+                unmet.put(profiles.get(p).profileId(), remaining[p]);
+            }
+        }
+        return new Plan(assignments, unmet, new ArrayList<>(deviceIds.subList(next, deviceIds.size())));
+    }
+
+    // Private helper methods
+
+    private List<int[]> enumerate(List<ProfileSpec> profiles) {
+        List<int[]> result = new ArrayList<>();
+        enumerate(profiles, 0, new int[profiles.size()], 0, 0, result);
+        return result;
+    }
+
+    private void enumerate(List<ProfileSpec> profiles, int index, int[] counts,
+                           int compute, int memory, List<int[]> result) {
+        if (index == profiles.size()) {
+            if (compute > 0) {
+                result.add(counts.clone());
+            }
+            return;
+        }
+        ProfileSpec profile = profiles.get(index);
+        for (int count = 0; count <= profile.maxInstances(); count++) {
+            int nextCompute = compute + count * profile.computeSlices();
+            int nextMemory = memory + count * profile.memorySlices();
+            if (nextCompute > computeBudget || nextMemory > memoryBudget) {
+                break;
+            }
+            counts[index] = count;
+            enumerate(profiles, index + 1, counts, nextCompute, nextMemory, result);
+        }
+        counts[index] = 0;
+    }
+
+    private int[] pad(List<ProfileSpec> profiles, int[] counts, int smallest) {
+        int[] padded = counts.clone();
+        if (smallest < 0) {
+            return padded;
+        }
+        ProfileSpec profile = profiles.get(smallest);
+        int compute = 0;
+        int memory = 0;
+        for (int p = 0; p < profiles.size(); p++) {
+            compute += padded[p] * profiles.get(p).computeSlices();
+            memory += padded[p] * profiles.get(p).memorySlices();
+        }
+        while (padded[smallest] < profile.maxInstances()
+                && compute + profile.computeSlices() <= computeBudget
+                && memory + profile.memorySlices() <= memoryBudget) {
+            padded[smallest]++;
+            compute += profile.computeSlices();
+            memory += profile.memorySlices();
+        }
+        return padded;
+    }
+
+    private int smallestProfileIndex(List<ProfileSpec> profiles) {
+        int smallest = -1;
+        for (int p = 0; p < profiles.size(); p++) {
+            ProfileSpec profile = profiles.get(p);
+            if (profile.computeSlices() <= 0) {
+                continue;
+            }
+            if (smallest < 0 || profile.computeSlices() < profiles.get(smallest).computeSlices()) {
+                smallest = p;
+            }
+        }
+        return smallest;
+    }
+
+    private Layout toLayout(List<ProfileSpec> profiles, int[] counts) {
+        Map<String, Integer> instances = new LinkedHashMap<>();
+        int compute = 0;
+        int memory = 0;
+        for (int p = 0; p < profiles.size(); p++) {
+            if (counts[p] > 0) {
+                instances.put(profiles.get(p).profileId(), counts[p]);
+                compute += counts[p] * profiles.get(p).computeSlices();
+                memory += counts[p] * profiles.get(p).memorySlices();
+            }
+        }
+        return new Layout(Collections.unmodifiableMap(instances), compute, memory);
+    }
+
+    private boolean hasDemand(int[] remaining) {
+        for (int value : remaining) {
+            if (value > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
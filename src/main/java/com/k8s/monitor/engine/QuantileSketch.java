@@ -0,0 +1,310 @@
+package com.k8s.monitor.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * 병합 가능한 분위수 스케치 (DDSketch 방식)
+ * 값을 로그 간격 버킷(γ = (1+α)/(1-α))에 세어, 어떤 분위수도 상대 오차 α 이내로 추정
+ * 같은 α 의 스케치는 버킷별 합산으로 병합되므로 시간 구간/그룹을 자유롭게 합칠 수 있음
+ *
+ * 버킷 수는 maxBins 로 제한하며 초과하면 가장 낮은 버킷부터 합침 (높은 분위수 정확도 유지)
+ * 음수와 MIN_INDEXABLE 미만 값은 0 버킷으로 집계 (사용률/전력 등 0 이상 지표 대상)
+ * 동기화하지 않음 (호출자가 보호)
+ */
+public class QuantileSketch {
+
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+    public static final int DEFAULT_MAX_BINS = 1024;
+
+    private static final double MIN_INDEXABLE = 1e-3;
+    private static final byte FORMAT_VERSION = 1;
+    private static final int INITIAL_BINS = 32;
+
+    private final double relativeAccuracy;
+    private final int maxBins;
+    private final double gamma;
+    private final double logGamma;
+
+    // bins[i] 는 인덱스 offset + i 버킷의 개수
+    private long[] bins = new long[0];
+    private int offset;
+    private int minIndex = Integer.MAX_VALUE;
+    private int maxIndex = Integer.MIN_VALUE;
+    private long zeroCount;
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY, DEFAULT_MAX_BINS);
+    }
+
+    public QuantileSketch(double relativeAccuracy, int maxBins) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1 || maxBins < 2) {
+            throw new IllegalArgumentException("Invalid sketch configuration");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.maxBins = maxBins;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (value < MIN_INDEXABLE) {
+            zeroCount++;
+        } else {
+            increment((int) Math.ceil(Math.log(value) / logGamma), 1);
+        }
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * 다른 스케치 병합 (상대 오차가 같아야 함)
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different relative accuracy");
+        }
+        if (other.count == 0) {
+            return;
+        }
+        for (int index = other.minIndex; index <= other.maxIndex; index++) {
+            increment(index, other.bins[index - other.offset]);
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * 분위수 추정 (q: 0~1, 비어 있으면 NaN)
+     */
+    public double quantile(double q) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (q <= 0) {
+            return min;
+        }
+        if (q >= 1) {
+            return max;
+        }
+        double rank = q * (count - 1);
+        long seen = zeroCount;
+        if (rank < seen) {
+            return Math.max(min, 0.0);
+        }
+        for (int index = minIndex; index <= maxIndex; index++) {
+            seen += bins[index - offset];
+            if (rank < seen) {
+                double value = 2 * Math.pow(gamma, index) / (gamma + 1);
+                return Math.min(max, Math.max(min, value));
+            }
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMin() {
+        return count > 0 ? min : Double.NaN;
+    }
+
+    public double getMax() {
+        return count > 0 ? max : Double.NaN;
+    }
+
+    public double getMean() {
+        return count > 0 ? sum / count : Double.NaN;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    public int getBinCount() {
+        return count == 0 || minIndex > maxIndex ? 0 : maxIndex - minIndex + 1;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * 직렬화 (비어 있지 않은 버킷만 인덱스 차분 + 개수를 가변 길이 정수로 기록)
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        ByteBuffer header = ByteBuffer.allocate(1 + 8 * 4);
+        header.put(FORMAT_VERSION).putDouble(relativeAccuracy).putDouble(sum)
+            .putDouble(count > 0 ? min : 0).putDouble(count > 0 ? max : 0);
+        out.write(header.array(), 0, header.position());
+        writeVarLong(out, count);
+        writeVarLong(out, zeroCount);
+
+        int nonEmpty = 0;
+        for (int index = minIndex; index <= maxIndex; index++) {
+            if (bins[index - offset] > 0) {
+                nonEmpty++;
+            }
+        }
+        writeVarLong(out, nonEmpty);
+        int previous = 0;
+        boolean first = true;
+        for (int index = minIndex; index <= maxIndex; index++) {
+            long binCount = bins[index - offset];
+            if (binCount == 0) {
+                continue;
+            }
+            writeVarLong(out, first ? zigZag(index) : index - previous);
+            writeVarLong(out, binCount);
+            previous = index;
+            first = false;
+        }
+        return out.toByteArray();
+    }
+
+    public static QuantileSketch fromBytes(byte[] bytes) {
+        return fromBytes(bytes, DEFAULT_MAX_BINS);
+    }
+
+    public static QuantileSketch fromBytes(byte[] bytes, int maxBins) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported sketch format version: " + version);
+        }
+        QuantileSketch sketch = new QuantileSketch(buffer.getDouble(), maxBins);
+        sketch.sum = buffer.getDouble();
+        double min = buffer.getDouble();
+        double max = buffer.getDouble();
+        sketch.count = readVarLong(buffer);
+        sketch.zeroCount = readVarLong(buffer);
+        if (sketch.count > 0) {
+            sketch.min = min;
+            sketch.max = max;
+        }
+
+        long nonEmpty = readVarLong(buffer);
+        int index = 0;
+        for (long i = 0; i < nonEmpty; i++) {
+            long encoded = readVarLong(buffer);
+            index = i == 0 ? unZigZag(encoded) : index + (int) encoded;
+            sketch.increment(index, readVarLong(buffer));
+        }
+        return sketch;
+    }
+
+    public static QuantileSketch merged(Iterable<QuantileSketch> sketches) {
+        QuantileSketch merged = null;
+        for (QuantileSketch sketch : sketches) {
+            if (merged == null) {
+                merged = new QuantileSketch(sketch.relativeAccuracy, sketch.maxBins);
+            }
+            merged.merge(sketch);
+        }
+        return merged != null ? merged : new QuantileSketch();
+    }
+
+    // Private helper methods
+
+    private void increment(int index, long n) {
+        if (n == 0) {
+            return;
+        }
+        if (Math.max(maxIndex, index) - Math.min(minIndex, index) + 1 > maxBins) {
+            // 범위 초과 시 가장 낮은 버킷들을 하한 버킷으로 합침
+            int lowest = Math.max(maxIndex, index) - maxBins + 1;
+            collapseBelow(lowest);
+            index = Math.max(index, lowest);
+        }
+        ensureCapacity(Math.min(minIndex, index), Math.max(maxIndex, index));
+        bins[index - offset] += n;
+        minIndex = Math.min(minIndex, index);
+        maxIndex = Math.max(maxIndex, index);
+    }
+
+    private void collapseBelow(int lowest) {
+        if (minIndex >= lowest) {
+            return;
+        }
+        long collapsed = 0;
+        int upper = Math.min(maxIndex, lowest - 1);
+        for (int index = minIndex; index <= upper; index++) {
+            collapsed += bins[index - offset];
+            bins[index - offset] = 0;
+        }
+        minIndex = lowest;
+        maxIndex = Math.max(maxIndex, lowest);
+        ensureCapacity(minIndex, maxIndex);
+        bins[lowest - offset] += collapsed;
+    }
+
+    private void ensureCapacity(int low, int high) {
+        if (bins.length > 0 && low >= offset && high < offset + bins.length) {
+            return;
+        }
+        int span = high - low + 1;
+        int length = Math.max(span, Math.min(maxBins, Math.max(INITIAL_BINS, bins.length * 2)));
+        int newOffset = low - (length - span) / 2;
+        long[] resized = new long[length];
+        for (int i = 0; i < bins.length; i++) {
+            if (bins[i] != 0) {
+                resized[offset + i - newOffset] = bins[i];
+            }
+        }
+        bins = resized;
+        offset = newOffset;
+    }
+
+    private static long zigZag(int value) {
+        return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+    }
+
+    private static int unZigZag(long encoded) {
+        int value = (int) encoded;
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "QuantileSketch[count=" + count + ", bins=" + getBinCount()
+            + ", p50=" + quantile(0.5) + ", p99=" + quantile(0.99) + "]";
+    }
+}
@@ -0,0 +1,251 @@
+package com.k8s.monitor.engine;
+
+import java.util.*;
+
+/**
+ * 슬라이딩 윈도우 알람 규칙 평가기 (Prometheus alerting rule 방식)
+ * 시계열(series)별로 최근 window 구간의 샘플을 유지하며 집계값(LAST/AVG/MAX/MIN/RATE)을 임계치와 비교하고,
+ * 조건이 for 기간 이상 지속되면 FIRING, 해소되면 INACTIVE 로 전이
+ * 발생 중에는 해소 임계치(clearThreshold)를 적용하여 임계치 근처에서 발생/해소가 반복되지 않도록 함 (히스테리시스)
+ *
+ * 샘플 추가/만료는 상각 O(1) (합계 누적 + 단조 덱으로 최대/최소 유지)
+ * 동시 접근은 인스턴스 단위 동기화로 보호
+ */
+public class SlidingWindowRule {
+
+    private static final double MILLIS_PER_MINUTE = 60_000.0;
+
+    public enum Aggregation {
+        LAST, AVG, MAX, MIN, RATE // RATE: 윈도우 내 분당 변화량
+    }
+
+    public enum Operator {
+        GT(">"), GTE(">="), LT("<"), LTE("<="), EQ("="), NE("!=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String symbol() {
+            return symbol;
+        }
+
+        public static Operator fromSymbol(String symbol) {
+            for (Operator operator : values()) {
+                if (operator.symbol.equals(symbol)) {
+                    return operator;
+                }
+            }
+            throw new IllegalArgumentException("Unknown threshold operator: " + symbol);
+        }
+
+        public boolean test(double value, double threshold) {
+            return switch (this) {
+                case GT -> value > threshold;
+                case GTE -> value >= threshold;
+                case LT -> value < threshold;
+                case LTE -> value <= threshold;
+                case EQ -> value == threshold;
+                case NE -> value != threshold;
+            };
+        }
+    }
+
+    public enum State {
+        INACTIVE, PENDING, FIRING
+    }
+
+    /**
+     * 규칙 사양 (windowMillis 가 0 이면 마지막 샘플만 사용, clearThreshold 는 발생 중 유지 조건의 임계치)
+     */
+    public record Spec(Aggregation aggregation, Operator operator, double threshold, double clearThreshold,
+                       long windowMillis, long forMillis) {
+    }
+
+    /**
+     * 상태 전이 (activeSinceMillis 는 조건이 처음 충족된 시각)
+     */
+    public record Transition(String series, State from, State to, double value,
+                             long activeSinceMillis, long atMillis) {
+
+        public boolean fired() {
+            return to == State.FIRING;
+        }
+
+        public boolean resolved() {
+            return from == State.FIRING && to == State.INACTIVE;
+        }
+    }
+
+    /**
+     * PENDING/FIRING 상태의 시계열
+     */
+    public record ActiveSeries(String series, State state, double value, long activeSinceMillis) {
+    }
+
+    private final Spec spec;
+    private final Map<String, Series> series = new HashMap<>();
+
+    public SlidingWindowRule(Spec spec) {
+        if (spec.windowMillis() < 0 || spec.forMillis() < 0) {
+            throw new IllegalArgumentException("Window and for durations must not be negative");
+        }
+        boolean clearValid = switch (spec.operator()) {
+            case GT, GTE -> spec.clearThreshold() <= spec.threshold();
+            case LT, LTE -> spec.clearThreshold() >= spec.threshold();
+            case EQ, NE -> spec.clearThreshold() == spec.threshold();
+        };
+        if (!clearValid) {
+            throw new IllegalArgumentException("Clear threshold must not be stricter than the firing threshold");
+        }
+        this.spec = spec;
+    }
+
+    public Spec getSpec() {
+        return spec;
+    }
+
+    /**
+     * 샘플 반영 후 상태 전이가 있으면 반환 (시계열별로 시간 역순 샘플은 무시)
+     */
+    public synchronized Optional<Transition> observe(String key, long timeMillis, double value) {
+        if (Double.isNaN(value)) {
+            return Optional.empty();
+        }
+        Series state = series.computeIfAbsent(key, ignored -> new Series());
+        if (!state.add(timeMillis, value, spec.windowMillis())) {
+            return Optional.empty();
+        }
+
+        double aggregated = state.aggregate(spec.aggregation());
+        state.lastValue = aggregated;
+        State from = state.state;
+        double threshold = from == State.FIRING ? spec.clearThreshold() : spec.threshold();
+        boolean conditionMet = !Double.isNaN(aggregated) && spec.operator().test(aggregated, threshold);
+
+        if (conditionMet) {
+            if (from == State.INACTIVE) {
+                state.activeSince = timeMillis;
+            }
+            state.state = timeMillis - state.activeSince >= spec.forMillis() ? State.FIRING : State.PENDING;
+        } else {
+            state.state = State.INACTIVE;
+        }
+
+        return from != state.state
+            ? Optional.of(new Transition(key, from, state.state, aggregated, state.activeSince, timeMillis))
+            : Optional.empty();
+    }
+
+    /**
+     * 재시작 전 발생 중이던 알람 복원 (조건이 해소되면 정상적으로 INACTIVE 전이 반환)
+     * 유휴 만료는 발생 시각이 아닌 복원 시각부터 계산
+     */
+    public synchronized void restoreFiring(String key, long activeSinceMillis, long restoredAtMillis) {
+        Series state = series.computeIfAbsent(key, ignored -> new Series());
+        state.state = State.FIRING;
+        state.activeSince = activeSinceMillis;
+        state.restoredAt = restoredAtMillis;
+    }
+
+    /**
+     * 지정 시간 동안 샘플이 없는 시계열 제거, 발생 중이던 시계열은 해소 전이로 반환
+     */
+    public synchronized List<Transition> expireIdle(long nowMillis, long idleMillis) {
+        List<Transition> resolved = new ArrayList<>();
+        Iterator<Map.Entry<String, Series>> iterator = series.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Series> entry = iterator.next();
+            Series state = entry.getValue();
+            long lastSeen = state.times.isEmpty() ? Math.max(state.activeSince, state.restoredAt) : state.times.peekLast();
+            if (nowMillis - lastSeen < idleMillis) {
+                continue;
+            }
+            if (state.state == State.FIRING) {
+                resolved.add(new Transition(entry.getKey(), State.FIRING, State.INACTIVE, state.lastValue,
+                        state.activeSince, nowMillis));
+            }
+            iterator.remove();
+        }
+        return resolved;
+    }
+
+    /**
+     * PENDING/FIRING 상태 시계열 목록
+     */
+    public synchronized List<ActiveSeries> getActiveSeries() {
+        List<ActiveSeries> active = new ArrayList<>();
+        series.forEach((key, state) -> {
+            if (state.state != State.INACTIVE) {
+                active.add(new ActiveSeries(key, state.state, state.lastValue, state.activeSince));
+            }
+        });
+        return active;
+    }
+
+    public synchronized int size() {
+        return series.size();
+    }
+
+    // Inner class for per-series window state
+    private static final class Series {
+        private final ArrayDeque<Long> times = new ArrayDeque<>();
+        private final ArrayDeque<Double> values = new ArrayDeque<>();
+        // 단조 덱 (값, 시각): maxima 는 값 내림차순, minima 는 값 오름차순
+        private final ArrayDeque<double[]> maxima = new ArrayDeque<>();
+        private final ArrayDeque<double[]> minima = new ArrayDeque<>();
+        private double sum;
+        private double lastValue = Double.NaN;
+        private State state = State.INACTIVE;
+        private long activeSince;
+        private long restoredAt;
+
+        boolean add(long timeMillis, double value, long windowMillis) {
+            if (!times.isEmpty() && timeMillis < times.peekLast()) {
+                return false;
+            }
+            times.addLast(timeMillis);
+            values.addLast(value);
+            sum += value;
+            while (!maxima.isEmpty() && maxima.peekLast()[0] <= value) {
+                maxima.pollLast();
+            }
+            maxima.addLast(new double[]{value, timeMillis});
+            while (!minima.isEmpty() && minima.peekLast()[0] >= value) {
+                minima.pollLast();
+            }
+            minima.addLast(new double[]{value, timeMillis});
+
+            // 윈도우 밖(또는 윈도우 0 이면 마지막 이외) 샘플 만료
+            long cutoff = timeMillis - windowMillis;
+            while (times.size() > 1 && (windowMillis == 0 || times.peekFirst() <= cutoff)) {
+                times.pollFirst();
+                sum -= values.pollFirst();
+            }
+            // 단조 덱은 마지막 샘플을 항상 포함하므로 남은 가장 오래된 시각 이전 항목만 정리
+            long oldest = times.peekFirst();
+            while (maxima.peekFirst()[1] < oldest) {
+                maxima.pollFirst();
+            }
+            while (minima.peekFirst()[1] < oldest) {
+                minima.pollFirst();
+            }
+            return true;
+        }
+
+        double aggregate(Aggregation aggregation) {
+            return switch (aggregation) {
+                case LAST -> values.peekLast();
+                case AVG -> sum / values.size();
+                case MAX -> maxima.peekFirst()[0];
+                case MIN -> minima.peekFirst()[0];
+                case RATE -> {
+                    long elapsed = times.peekLast() - times.peekFirst();
+                    yield elapsed > 0 ? (values.peekLast() - values.peekFirst()) / (elapsed / MILLIS_PER_MINUTE) : Double.NaN;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.k8s.monitor.engine;
+
+import java.util.*;
+
+/**
+ * GPU 텔레메트리 온라인 이상 감지기
+ * 수집 스트림을 샘플 단위로 반영하며 장비별 상태는 고정 크기 (EWMA 평균/분산)
+ *
+ * - 피어 비교: 같은 피어 그룹(같은 노드의 같은 모델)의 사용률 대비 온도/전력 회귀(EWMA 적률)로 부하 영향을 제거한 잔차를 구하고,
+ *   장비의 평활 잔차가 다른 피어 잔차의 중앙값보다 (MAD 기준) 크게 높으면 PEER_OUTLIER
+ * - 급변: 현재 잔차가 장비 자신의 잔차 EWMA 대비 z 점수 이상 높으면 SUDDEN_SHIFT
+ * - 클럭 저하: 부하 중 그래픽 클럭이 장비 기준(정상 부하 샘플의 EWMA)보다 일정 비율 이상 낮으면 CLOCK_DROP
+ *
+ * 이상 상태는 해당 신호가 정상으로 돌아오면 해제, 동시 접근은 인스턴스 단위 동기화로 보호
+ */
+public class TelemetryAnomalyDetector {
+
+    public enum Signal {
+        TEMPERATURE, POWER, CLOCK
+    }
+
+    public enum Kind {
+        PEER_OUTLIER, SUDDEN_SHIFT, CLOCK_DROP
+    }
+
+    /**
+     * 감지 설정
+     *
+     * @param alpha              EWMA 가중치 (0~1, 클수록 최근 샘플 비중 큼)
+     * @param zThreshold         급변/피어 이탈 판정 z 점수
+     * @param warmupSamples      판정 전 최소 샘플 수
+     * @param minPeers           피어 비교에 필요한 그룹 내 최소 장비 수 (자신 포함)
+     * @param minTemperatureDelta 최소 온도 차이 (°C, 작은 편차 무시)
+     * @param minPowerDelta      최소 전력 차이 (W)
+     * @param clockDropRatio     기준 대비 클럭 저하 비율 (예: 0.15)
+     * @param busyUtilization    클럭 판정을 위한 최소 사용률 (%)
+     */
+    public record Config(double alpha, double zThreshold, int warmupSamples, int minPeers,
+                         double minTemperatureDelta, double minPowerDelta,
+                         double clockDropRatio, double busyUtilization) {
+    }
+
+    /**
+     * 감지된 이상 (expected 는 피어/기준 값, score 는 z 점수 또는 저하 비율)
+     */
+    public record Anomaly(String deviceId, Signal signal, Kind kind, double value, double expected,
+                          double score, long detectedAtMillis) {
+    }
+
+    /**
+     * 장비 상태 요약
+     */
+    public record DeviceStatus(String deviceId, String peerGroup, long samples, boolean warmedUp, int peers,
+                               double temperatureResidual, double powerResidual, double clockBaseline,
+                               List<Anomaly> anomalies) {
+    }
+
+    private final Config config;
+    private final Map<String, DeviceState> devices = new HashMap<>();
+    private final Map<String, PeerGroup> groups = new HashMap<>();
+
+    public TelemetryAnomalyDetector(Config config) {
+        if (config.alpha() <= 0 || config.alpha() >= 1 || config.zThreshold() <= 0
+                || config.clockDropRatio() <= 0 || config.clockDropRatio() >= 1) {
+            throw new IllegalArgumentException("Invalid anomaly detector configuration");
+        }
+        this.config = config;
+    }
+
+    /**
+     * 장비 샘플 반영 후 새로 감지된 이상 목록 반환 (이미 감지 중인 이상은 반환하지 않음)
+     */
+    public synchronized List<Anomaly> observe(String deviceId, String peerGroup, long timeMillis,
+                                              double utilization, Double temperature, Double powerDraw,
+                                              Integer clockMhz) {
+        DeviceState device = devices.computeIfAbsent(deviceId, DeviceState::new);
+        if (!peerGroup.equals(device.group)) {
+            moveToGroup(device, peerGroup);
+        }
+        PeerGroup group = groups.get(peerGroup);
+        List<Anomaly> raised = new ArrayList<>();
+        device.samples++;
+
+        // 그룹 회귀가 비어 있는 첫 샘플은 잔차 없이 회귀에만 반영
+        if (temperature != null) {
+            double expected = group.temperature.predict(utilization);
+            if (!Double.isNaN(expected)) {
+                evaluateResidual(device, group, Signal.TEMPERATURE, device.temperature, temperature - expected,
+                    temperature, config.minTemperatureDelta(), timeMillis, raised);
+            }
+            group.temperature.update(utilization, temperature, config.alpha());
+        }
+        if (powerDraw != null) {
+            double expected = group.power.predict(utilization);
+            if (!Double.isNaN(expected)) {
+                evaluateResidual(device, group, Signal.POWER, device.power, powerDraw - expected,
+                    powerDraw, config.minPowerDelta(), timeMillis, raised);
+            }
+            group.power.update(utilization, powerDraw, config.alpha());
+        }
+        if (clockMhz != null && clockMhz > 0 && utilization >= config.busyUtilization()) {
+            evaluateClock(device, clockMhz, timeMillis, raised);
+        }
+        return raised;
+    }
+
+    public synchronized Optional<DeviceStatus> getStatus(String deviceId) {
+        DeviceState device = devices.get(deviceId);
+        return device != null ? Optional.of(toStatus(device)) : Optional.empty();
+    }
+
+    /**
+     * 이상이 감지된 장비 상태 목록
+     */
+    public synchronized List<DeviceStatus> getAnomalousDevices() {
+        List<DeviceStatus> anomalous = new ArrayList<>();
+        for (DeviceState device : devices.values()) {
+            if (!device.active.isEmpty()) {
+                anomalous.add(toStatus(device));
+            }
+        }
+        return anomalous;
+    }
+
+    public synchronized int activeAnomalyCount() {
+        int count = 0;
+        for (DeviceState device : devices.values()) {
+            count += device.active.size();
+        }
+        return count;
+    }
+
+    public synchronized void remove(String deviceId) {
+        DeviceState device = devices.remove(deviceId);
+        if (device != null && device.group != null) {
+            leaveGroup(device);
+        }
+    }
+
+    // Private helper methods
+
+    private void evaluateResidual(DeviceState device, PeerGroup group, Signal signal, Ewma history,
+                                  double residual, double value, double minDelta, long timeMillis,
+                                  List<Anomaly> raised) {
+        boolean warmedUp = history.count >= config.warmupSamples();
+
+        // 급변: 자신의 잔차 이력 대비 (갱신 전 기준)
+        if (warmedUp) {
+            double shift = residual - history.mean;
+            double score = history.z(residual);
+            boolean sudden = shift >= minDelta && score >= config.zThreshold();
+            update(device, signal, Kind.SUDDEN_SHIFT, sudden, value, value - shift, score, timeMillis, raised);
+        }
+        history.update(residual, config.alpha());
+
+        // 피어 이탈: 다른 피어 평활 잔차의 중앙값/MAD 대비
+        if (warmedUp) {
+            double[] peers = peerResiduals(group, device, signal);
+            if (peers.length + 1 >= config.minPeers() && peers.length > 0) {
+                double median = median(peers);
+                double mad = 1.4826 * medianAbsoluteDeviation(peers, median);
+                double excess = history.mean - median;
+                double limit = Math.max(config.zThreshold() * mad, minDelta);
+                double score = excess / Math.max(mad, minDelta / config.zThreshold());
+                update(device, signal, Kind.PEER_OUTLIER, excess >= limit, value, value - excess, score,
+                    timeMillis, raised);
+            }
+        }
+    }
+
+    private void evaluateClock(DeviceState device, double clockMhz, long timeMillis, List<Anomaly> raised) {
+        Ewma baseline = device.clock;
+        if (baseline.count >= config.warmupSamples()) {
+            double drop = 1.0 - clockMhz / baseline.mean;
+            boolean dropped = drop >= config.clockDropRatio();
+            update(device, Signal.CLOCK, Kind.CLOCK_DROP, dropped, clockMhz, baseline.mean, drop, timeMillis, raised);
+            if (dropped) {
+                return; // 저하된 샘플은 기준에 반영하지 않음 (지속적인 스로틀링도 계속 감지)
+            }
+        }
+        baseline.update(clockMhz, config.alpha());
+    }
+
+    private void update(DeviceState device, Signal signal, Kind kind, boolean anomalous, double value,
+                        double expected, double score, long timeMillis, List<Anomaly> raised) {
+        String key = signal + "|" + kind;
+        if (!anomalous) {
+            device.active.remove(key);
+            return;
+        }
+        Anomaly previous = device.active.get(key);
+        long since = previous != null ? previous.detectedAtMillis() : timeMillis;
+        Anomaly anomaly = new Anomaly(device.deviceId, signal, kind, value, expected, score, since);
+        device.active.put(key, anomaly);
+        if (previous == null) {
+            raised.add(anomaly);
+        }
+    }
+
+    private double[] peerResiduals(PeerGroup group, DeviceState self, Signal signal) {
+        double[] residuals = new double[group.members.size()];
+        int count = 0;
+        for (DeviceState peer : group.members) {
+            Ewma history = signal == Signal.TEMPERATURE ? peer.temperature : peer.power;
+            if (peer != self && history.count >= config.warmupSamples()) {
+                residuals[count++] = history.mean;
+            }
+        }
+        return Arrays.copyOf(residuals, count);
+    }
+
+    private void moveToGroup(DeviceState device, String peerGroup) {
+        if (device.group != null) {
+            leaveGroup(device);
+        }
+        device.group = peerGroup;
+        groups.computeIfAbsent(peerGroup, ignored -> new PeerGroup()).members.add(device);
+    }
+
+    private void leaveGroup(DeviceState device) {
+        PeerGroup previous = groups.get(device.group);
+        if (previous != null) {
+            previous.members.remove(device);
+            if (previous.members.isEmpty()) {
+                groups.remove(device.group);
+            }
+        }
+    }
+
+    private DeviceStatus toStatus(DeviceState device) {
+        PeerGroup group = groups.get(device.group);
+        return new DeviceStatus(device.deviceId, device.group, device.samples,
+            device.temperature.count >= config.warmupSamples(),
+            group != null ? group.members.size() : 0,
+            device.temperature.mean, device.power.mean, device.clock.mean,
+            List.copyOf(device.active.values()));
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+
+    private static double medianAbsoluteDeviation(double[] values, double median) {
+        double[] deviations = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            deviations[i] = Math.abs(values[i] - median);
+        }
+        return median(deviations);
+    }
+
+    // Inner class for exponentially weighted mean/variance
+    private static final class Ewma {
+        private double mean;
+        private double variance;
+        private long count;
+
+        void update(double value, double alpha) {
+            if (count++ == 0) {
+                mean = value;
+                return;
+            }
+            double diff = value - mean;
+            double increment = alpha * diff;
+            mean += increment;
+            variance = (1 - alpha) * (variance + diff * increment);
+        }
+
+        double z(double value) {
+            double deviation = Math.sqrt(variance);
+            return deviation > 1e-9 ? (value - mean) / deviation : 0.0;
+        }
+    }
+
+    // Inner class for exponentially weighted linear regression (value ~ utilization)
+    private static final class Regression {
+        private double meanX;
+        private double meanY;
+        private double varianceX;
+        private double covariance;
+        private long count;
+
+        void update(double x, double y, double alpha) {
+            if (count++ == 0) {
+                meanX = x;
+                meanY = y;
+                return;
+            }
+            double dx = x - meanX;
+            double dy = y - meanY;
+            meanX += alpha * dx;
+            meanY += alpha * dy;
+            varianceX = (1 - alpha) * (varianceX + alpha * dx * dx);
+            covariance = (1 - alpha) * (covariance + alpha * dx * dy);
+        }
+
+        double predict(double x) {
+            if (count == 0) {
+                return Double.NaN;
+            }
+            double slope = varianceX > 1.0 ? covariance / varianceX : 0.0; // 사용률 분산이 거의 없으면 평균만 사용
+            return meanY + slope * (x - meanX);
+        }
+    }
+
+    // Inner class for peer group (same node and model) state
+    private static final class PeerGroup {
+        private final Regression temperature = new Regression();
+        private final Regression power = new Regression();
+        private final List<DeviceState> members = new ArrayList<>();
+    }
+
+    // Inner class for per-device state
+    private static final class DeviceState {
+        private final String deviceId;
+        private final Ewma temperature = new Ewma(); // 피어 회귀 대비 잔차
+        private final Ewma power = new Ewma();
+        private final Ewma clock = new Ewma(); // 부하 중 클럭 기준
+        private final Map<String, Anomaly> active = new LinkedHashMap<>();
+        private String group;
+        private long samples;
+
+        DeviceState(String deviceId) {
+            this.deviceId = deviceId;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.k8s.monitor.engine;
+
+import java.util.*;
+
+/**
+ * 슬라이딩 윈도우 상위 K 추적기
+ * 키(장비)별로 window 를 bucketCount 개 시간 버킷으로 나눈 고정 크기 링에 합계/개수/최대값을 누적하고,
+ * 점수(AVG 또는 MAX) 순으로 정렬된 인덱스를 샘플마다 갱신 (갱신 O(log N), 상위 K 조회 O(K))
+ *
+ * 샘플이 끊긴 키는 advance() 에서 만료된 버킷을 비우며 점수를 다시 계산하고, 윈도우에 샘플이 없으면 제거
+ * 동시 접근은 인스턴스 단위 동기화로 보호
+ */
+public class WindowedTopK {
+
+    public enum Ranking {
+        AVG, MAX
+    }
+
+    public record Entry(String key, double score, double avg, double max, double last, long samples,
+                        long lastSeenMillis) {
+    }
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::score).reversed()
+        .thenComparing(Entry::key);
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final Ranking ranking;
+
+    private final Map<String, KeyWindow> windows = new HashMap<>();
+    private final TreeSet<Entry> ranked = new TreeSet<>(ORDER);
+
+    public WindowedTopK(long windowMillis, int bucketCount, Ranking ranking) {
+        if (windowMillis <= 0 || bucketCount <= 0 || windowMillis < bucketCount) {
+            throw new IllegalArgumentException("Invalid top-K window configuration");
+        }
+        this.bucketMillis = windowMillis / bucketCount;
+        this.bucketCount = bucketCount;
+        this.ranking = ranking;
+    }
+
+    /**
+     * 샘플 반영 (윈도우보다 오래된 지연 샘플은 무시)
+     */
+    public synchronized void add(String key, long timeMillis, double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        KeyWindow window = windows.computeIfAbsent(key, ignored -> new KeyWindow());
+        long bucket = Math.floorDiv(timeMillis, bucketMillis);
+        if (bucket <= window.latestBucket - bucketCount) {
+            return;
+        }
+        int slot = (int) Math.floorMod(bucket, (long) bucketCount);
+        if (window.bucketIds[slot] != bucket) {
+            window.bucketIds[slot] = bucket;
+            window.sums[slot] = 0;
+            window.counts[slot] = 0;
+            window.maxes[slot] = Double.NEGATIVE_INFINITY;
+        }
+        window.sums[slot] += value;
+        window.counts[slot]++;
+        window.maxes[slot] = Math.max(window.maxes[slot], value);
+        if (timeMillis >= window.lastSeenMillis) {
+            window.lastSeenMillis = timeMillis;
+            window.last = value;
+        }
+        window.latestBucket = Math.max(window.latestBucket, bucket);
+        rerank(key, window, window.latestBucket);
+    }
+
+    /**
+     * 시간 경과 반영: 모든 키의 만료 버킷을 제외하고 점수 재계산 (윈도우가 빈 키는 제거)
+     */
+    public synchronized void advance(long nowMillis) {
+        long currentBucket = Math.floorDiv(nowMillis, bucketMillis);
+        Iterator<Map.Entry<String, KeyWindow>> iterator = windows.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, KeyWindow> entry = iterator.next();
+            if (!rerank(entry.getKey(), entry.getValue(), Math.max(currentBucket, entry.getValue().latestBucket))) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * 점수 상위 k 개 (내림차순)
+     */
+    public synchronized List<Entry> top(int k) {
+        List<Entry> result = new ArrayList<>(Math.min(k, ranked.size()));
+        for (Entry entry : ranked) {
+            if (result.size() >= k) {
+                break;
+            }
+            result.add(entry);
+        }
+        return result;
+    }
+
+    public synchronized void remove(String key) {
+        KeyWindow window = windows.remove(key);
+        if (window != null && window.entry != null) {
+            ranked.remove(window.entry);
+        }
+    }
+
+    public synchronized int size() {
+        return ranked.size();
+    }
+
+    // Private helper methods
+
+    /**
+     * currentBucket 기준 윈도우 집계로 정렬 인덱스 갱신 (윈도우에 샘플이 없으면 false)
+     */
+    private boolean rerank(String key, KeyWindow window, long currentBucket) {
+        double sum = 0;
+        long count = 0;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int slot = 0; slot < bucketCount; slot++) {
+            if (window.bucketIds[slot] > currentBucket - bucketCount && window.counts[slot] > 0) {
+                sum += window.sums[slot];
+                count += window.counts[slot];
+                max = Math.max(max, window.maxes[slot]);
+            }
+        }
+        if (window.entry != null) {
+            ranked.remove(window.entry);
+            window.entry = null;
+        }
+        if (count == 0) {
+            return false;
+        }
+        double avg = sum / count;
+        window.entry = new Entry(key, ranking == Ranking.AVG ? avg : max, avg, max, window.last, count,
+            window.lastSeenMillis);
+        ranked.add(window.entry);
+        return true;
+    }
+
+    // Inner class for per-key bucket ring
+    private final class KeyWindow {
+        private final long[] bucketIds = new long[bucketCount];
+        private final double[] sums = new double[bucketCount];
+        private final long[] counts = new long[bucketCount];
+        private final double[] maxes = new double[bucketCount];
+        private long latestBucket = Long.MIN_VALUE / 2;
+        private long lastSeenMillis = Long.MIN_VALUE;
+        private double last;
+        private Entry entry;
+
+        private KeyWindow() {
+            Arrays.fill(bucketIds, Long.MIN_VALUE);
+        }
+    }
+}
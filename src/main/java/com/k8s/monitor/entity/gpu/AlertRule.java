@@ -0,0 +1,101 @@
+package com.k8s.monitor.entity.gpu;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알람 규칙 엔티티
+ * 텔레메트리 스트림에 대해 "window 구간 집계값 operator threshold" 조건이 for 기간 이상 지속되면 알람 발생
+ */
+@Entity
+@Table(name = "alert_rules")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertRule implements Persistable<String> {
+    
+    @Id
+    @Column(name = "rule_id", length = 50)
+    private String ruleId;
+    
+    @Column(name = "rule_name", length = 100, nullable = false)
+    private String ruleName;
+    
+    @Column(name = "rule_type", length = 30, nullable = false)
+    private String ruleType; // TEMPERATURE, UTILIZATION, MEMORY, POWER, FAILURE
+    
+    @Column(name = "target_type", length = 20)
+    private String targetType; // NODE, DEVICE, MIG, ALLOCATION
+    
+    @Column(name = "target_filter", length = 200)
+    private String targetFilter; // JSON 필터 (예: {"modelId":"A100_80GB"})
+    
+    @Column(name = "threshold_value", precision = 10, scale = 2)
+    private Double thresholdValue;
+    
+    @Column(name = "threshold_operator", length = 10)
+    private String thresholdOperator; // >, <, >=, <=, =, !=
+    
+    @Column(name = "clear_threshold", precision = 10, scale = 2)
+    private Double clearThreshold; // 해소 임계치 (히스테리시스)
+    
+    @Column(name = "aggregation", length = 10)
+    private String aggregation = "LAST"; // LAST, AVG, MAX, MIN, RATE
+    
+    @Column(name = "window_minutes", precision = 4)
+    private Integer windowMinutes = 0;
+    
+    @Column(name = "for_minutes", precision = 4)
+    private Integer forMinutes = 0;
+    
+    @Column(name = "severity", length = 10)
+    private String severity = "MEDIUM"; // LOW, MEDIUM, HIGH, CRITICAL
+    
+    @Column(name = "evaluation_interval_minutes", precision = 4)
+    private Integer evaluationIntervalMinutes = 5;
+    
+    @Column(name = "notification_channels", length = 200)
+    private String notificationChannels;
+    
+    @Column(name = "enabled", length = 1)
+    private String enabled = "Y"; // Y, N
+    
+    @Column(name = "created_date")
+    private LocalDateTime createdDate;
+    
+    @Column(name = "updated_date")
+    private LocalDateTime updatedDate;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdDate = LocalDateTime.now();
+        updatedDate = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedDate = LocalDateTime.now();
+    }
+    
+    @Override
+    public String getId() {
+        return ruleId;
+    }
+    
+    // 생성일이 없으면 신규 엔티티로 간주 (저장 전 SELECT 생략)
+    @Override
+    public boolean isNew() {
+        return createdDate == null;
+    }
+    
+    public boolean isEnabled() {
+        return "Y".equals(enabled);
+    }
+}
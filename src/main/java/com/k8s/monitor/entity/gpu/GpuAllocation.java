@@ -47,6 +47,9 @@ public class GpuAllocation {
     @Column(name = "allocated_memory_gb", precision = 3)
     private Integer allocatedMemoryGb;
     
+    @Column(name = "compute_share", precision = 3, scale = 2)
+    private Double computeShare; // SHARED_GPU 연산 점유율 (0~1)
+    
     @Column(name = "priority_class", length = 20)
     private String priorityClass = "normal";
     
@@ -60,13 +63,16 @@ public class GpuAllocation {
     private LocalDateTime releaseTime;
     
     @Column(name = "status", length = 20)
-    private String status = "ALLOCATED"; // PENDING, ALLOCATED, RELEASED, FAILED, EXPIRED
+    private String status = "ALLOCATED"; // PENDING, ALLOCATED, RELEASED, FAILED, EXPIRED, PREEMPTED
     
     @Column(name = "cost_per_hour", precision = 8, scale = 4)
-    private Double costPerHour;
+    private Double costPerHour; // 기본 시간당 단가 (시간대 배율은 비용 누적 시 적용)
     
     @Column(name = "total_cost", precision = 10, scale = 2)
-    private Double totalCost;
+    private Double totalCost; // 활성 할당은 누적 비용 체크포인트, 해제 후 최종 비용
+    
+    @Column(name = "cost_accrued_until")
+    private LocalDateTime costAccruedUntil; // 비용 누적 체크포인트 시각
     
     @Column(name = "user_id", length = 50)
     private String userId;
@@ -77,6 +83,12 @@ public class GpuAllocation {
     @Column(name = "project_id", length = 50)
     private String projectId;
     
+    @Column(name = "idempotency_key", length = 100, unique = true)
+    private String idempotencyKey; // 클라이언트 재시도 중복 방지 키
+    
+    @Column(name = "idempotency_fingerprint", length = 64)
+    private String idempotencyFingerprint; // 멱등성 키 최초 요청 본문 해시 (SHA-256)
+    
     @Column(name = "created_date")
     private LocalDateTime createdDate;
     
@@ -0,0 +1,70 @@
+package com.k8s.monitor.entity.gpu;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 GPU 비용 집계(cost cube) 엔티티
+ * (일자, 네임스페이스, 팀, 프로젝트, 워크로드 유형, 리소스 유형, 모델) 조합별 누적 비용
+ * 값이 없는 차원은 NONE("-")으로 저장
+ */
+@Entity
+@Table(name = "gpu_cost_daily",
+    uniqueConstraints = @UniqueConstraint(name = "uk_gpu_cost_daily_cell",
+        columnNames = {"cost_date", "namespace", "team_id", "project_id", "workload_type", "resource_type", "model_id"}),
+    indexes = @Index(name = "idx_gpu_cost_daily_date", columnList = "cost_date"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GpuCostDaily {
+    
+    public static final String NONE = "-";
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "cost_id")
+    private Long id;
+    
+    @Column(name = "cost_date", nullable = false)
+    private LocalDate costDate;
+    
+    @Column(name = "namespace", length = 50, nullable = false)
+    private String namespace;
+    
+    @Column(name = "team_id", length = 50, nullable = false)
+    private String teamId;
+    
+    @Column(name = "project_id", length = 50, nullable = false)
+    private String projectId;
+    
+    @Column(name = "workload_type", length = 30, nullable = false)
+    private String workloadType;
+    
+    @Column(name = "resource_type", length = 20, nullable = false)
+    private String resourceType;
+    
+    @Column(name = "model_id", length = 20, nullable = false)
+    private String modelId;
+    
+    @Column(name = "total_cost", precision = 12, scale = 4)
+    private Double totalCost;
+    
+    @Column(name = "usage_hours", precision = 12, scale = 4)
+    private Double usageHours; // 리소스 점유 시간 합계
+    
+    @Column(name = "updated_date")
+    private LocalDateTime updatedDate;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedDate = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,67 @@
+package com.k8s.monitor.entity.gpu;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간별 GPU 사용량 롤업 엔티티
+ * (정시, 집계 범위) 별 사용률 요약 - 범위는 장비(DEVICE), 모델(MODEL), 클러스터 전체(CLUSTER)
+ */
+@Entity
+@Table(name = "gpu_usage_hourly",
+    uniqueConstraints = @UniqueConstraint(name = "uk_gpu_usage_hourly_scope",
+        columnNames = {"hour_start", "scope_type", "scope_id"}),
+    indexes = @Index(name = "idx_gpu_usage_hourly_hour", columnList = "hour_start"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GpuUsageHourly {
+    
+    public static final String SCOPE_DEVICE = "DEVICE";
+    public static final String SCOPE_MODEL = "MODEL";
+    public static final String SCOPE_CLUSTER = "CLUSTER";
+    public static final String CLUSTER_ID = "cluster";
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "usage_hour_id")
+    private Long id;
+    
+    @Column(name = "hour_start", nullable = false)
+    private LocalDateTime hourStart;
+    
+    @Column(name = "scope_type", length = 10, nullable = false)
+    private String scopeType;
+    
+    @Column(name = "scope_id", length = 50, nullable = false)
+    private String scopeId;
+    
+    @Column(name = "sample_count")
+    private Long sampleCount;
+    
+    @Column(name = "avg_gpu_utilization_pct", precision = 5, scale = 2)
+    private Double avgGpuUtilizationPct;
+    
+    @Column(name = "max_gpu_utilization_pct", precision = 5, scale = 2)
+    private Double maxGpuUtilizationPct;
+    
+    @Column(name = "avg_memory_utilization_pct", precision = 5, scale = 2)
+    private Double avgMemoryUtilizationPct;
+    
+    @Column(name = "avg_temperature_c", precision = 5, scale = 2)
+    private Double avgTemperatureC;
+    
+    @Column(name = "created_date")
+    private LocalDateTime createdDate;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdDate = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,81 @@
+package com.k8s.monitor.entity.gpu;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간별 GPU 사용량 분위수 스케치 엔티티
+ * 롤업 구간(gpu_usage_hourly)별 사용률/메모리/전력 분포 - 병합하여 임의 기간/그룹의 분위수 산출
+ * 롤업 조회(예측 등)에서 스케치를 읽지 않도록 별도 테이블로 분리
+ */
+@Entity
+@Table(name = "gpu_usage_hourly_sketch",
+    indexes = @Index(name = "idx_usage_hourly_sketch_scope", columnList = "scope_type, hour_start"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GpuUsageHourlySketch implements Persistable<Long> {
+    
+    @Id
+    @Column(name = "usage_hour_id")
+    private Long usageHourId;
+    
+    @Column(name = "hour_start", nullable = false)
+    private LocalDateTime hourStart;
+    
+    @Column(name = "scope_type", length = 10, nullable = false)
+    private String scopeType;
+    
+    @Column(name = "scope_id", length = 50, nullable = false)
+    private String scopeId;
+    
+    @Column(name = "relative_accuracy", precision = 6, scale = 4, nullable = false)
+    private Double relativeAccuracy;
+    
+    @Lob
+    @Column(name = "utilization_sketch")
+    private byte[] utilizationSketch;
+    
+    @Lob
+    @Column(name = "memory_sketch")
+    private byte[] memorySketch;
+    
+    @Lob
+    @Column(name = "power_sketch")
+    private byte[] powerSketch;
+    
+    @Column(name = "created_date")
+    private LocalDateTime createdDate;
+    
+    @Transient
+    private boolean persisted;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdDate = LocalDateTime.now();
+    }
+    
+    @PostLoad
+    @PostPersist
+    protected void markPersisted() {
+        persisted = true;
+    }
+    
+    @Override
+    public Long getId() {
+        return usageHourId;
+    }
+    
+    // 저장/조회된 적이 없으면 신규 엔티티로 간주 (저장 전 SELECT 생략, created_date 가 비어 있는 기존 행도 UPDATE)
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,7 +20,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class MigInstance {
+public class MigInstance implements Persistable<String> {
     
     @Id
     @Column(name = "mig_id", length = 50)
@@ -37,7 +38,10 @@ public class MigInstance {
     private Integer instanceId; // GPU 내에서 MIG 인스턴스 ID (0-6)
     
     @Column(name = "mig_uuid", length = 100, unique = true, nullable = false)
-    private String migUuid;
+    private String migUuid; // 생성 시 임시 값, 텔레메트리 매핑 시 드라이버가 부여한 실제 UUID 로 교체
+    
+    @Column(name = "gpu_instance_id", precision = 2)
+    private Integer gpuInstanceId; // 드라이버가 부여한 GPU instance ID (텔레메트리 매핑으로 확인된 배치)
     
     @Column(name = "allocated", length = 1)
     private String allocated = "N"; // Y, N
@@ -61,11 +65,31 @@ public class MigInstance {
     @OneToMany(mappedBy = "migInstance", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<GpuUsageMetrics> usageMetrics;
     
+    @Transient
+    private boolean persisted;
+    
     @PrePersist
     protected void onCreate() {
         createdDate = LocalDateTime.now();
     }
     
+    @PostLoad
+    @PostPersist
+    protected void markPersisted() {
+        persisted = true;
+    }
+    
+    @Override
+    public String getId() {
+        return migId;
+    }
+    
+    // 저장/조회된 적이 없으면 신규 엔티티로 간주 (저장 전 SELECT 생략, created_date 가 비어 있는 기존 행도 UPDATE)
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+    
     public boolean isAllocated() {
         return "Y".equals(allocated);
     }
@@ -0,0 +1,98 @@
+package com.k8s.monitor.entity.gpu;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시스템 알람 엔티티
+ * 규칙 평가 결과 발생(ACTIVE)/해소(RESOLVED) 이력
+ */
+@Entity
+@Table(name = "system_alerts")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SystemAlert implements Persistable<String> {
+    
+    @Id
+    @Column(name = "alert_id", length = 50)
+    private String alertId;
+    
+    @Column(name = "rule_id", length = 50)
+    private String ruleId;
+    
+    @Column(name = "alert_type", length = 30, nullable = false)
+    private String alertType;
+    
+    @Column(name = "severity", length = 10, nullable = false)
+    private String severity;
+    
+    @Column(name = "target_type", length = 20)
+    private String targetType;
+    
+    @Column(name = "target_id", length = 50)
+    private String targetId;
+    
+    @Column(name = "message", length = 500, nullable = false)
+    private String message;
+    
+    @Lob
+    @Column(name = "details")
+    private String details;
+    
+    @Column(name = "metric_value", precision = 10, scale = 2)
+    private Double metricValue;
+    
+    @Column(name = "threshold_value", precision = 10, scale = 2)
+    private Double thresholdValue;
+    
+    @Column(name = "status", length = 20)
+    private String status = "ACTIVE"; // ACTIVE, ACKNOWLEDGED, RESOLVED, SUPPRESSED
+    
+    @Column(name = "created_date")
+    private LocalDateTime createdDate;
+    
+    @Column(name = "acknowledged_date")
+    private LocalDateTime acknowledgedDate;
+    
+    @Column(name = "acknowledged_by", length = 50)
+    private String acknowledgedBy;
+    
+    @Column(name = "resolved_date")
+    private LocalDateTime resolvedDate;
+    
+    @Column(name = "resolved_by", length = 50)
+    private String resolvedBy;
+    
+    // 확인 처리와 규칙 엔진 상태 저장이 서로 덮어쓰지 않도록 낙관적 잠금
+    @Version
+    @Column(name = "row_version")
+    private Long version;
+    
+    @Transient
+    private boolean persisted;
+    
+    @PostLoad
+    @PostPersist
+    protected void markPersisted() {
+        persisted = true;
+    }
+    
+    @Override
+    public String getId() {
+        return alertId;
+    }
+    
+    // 저장/조회된 적이 없으면 신규 엔티티로 간주 (저장 전 SELECT 생략)
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+}
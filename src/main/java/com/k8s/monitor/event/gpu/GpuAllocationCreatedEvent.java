@@ -0,0 +1,13 @@
+package com.k8s.monitor.event.gpu;
+
+import java.time.LocalDateTime;
+
+/**
+ * GPU 할당 생성 이벤트
+ * GPU/MIG 리소스가 새로 할당되었을 때 발행
+ */
+public record GpuAllocationCreatedEvent(String allocationId,
+                                        String resourceType,
+                                        String allocatedResource,
+                                        LocalDateTime plannedReleaseTime) {
+}
@@ -0,0 +1,20 @@
+package com.k8s.monitor.event.gpu;
+
+import java.time.LocalDateTime;
+
+/**
+ * GPU 할당 선점(preemption) 이벤트
+ * 높은 우선순위 요청을 위해 낮은 우선순위 할당이 회수되었을 때 발행
+ */
+public record GpuAllocationPreemptedEvent(String victimAllocationId,
+                                          String victimNamespace,
+                                          String victimPodName,
+                                          String victimPriorityClass,
+                                          String resourceType,
+                                          String allocatedResource,
+                                          String preemptorNamespace,
+                                          String preemptorPodName,
+                                          String preemptorPriorityClass,
+                                          long runtimeLostMinutes,
+                                          LocalDateTime preemptedAt) {
+}
@@ -0,0 +1,9 @@
+package com.k8s.monitor.event.gpu;
+
+/**
+ * GPU 인벤토리 변경 이벤트
+ * 장비 등록/삭제 등으로 장비-모델 구성이 바뀌었을 때 발행
+ */
+public record GpuInventoryChangedEvent(String deviceId,
+                                       String changeType) {
+}
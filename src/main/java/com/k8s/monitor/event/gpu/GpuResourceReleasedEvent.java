@@ -0,0 +1,11 @@
+package com.k8s.monitor.event.gpu;
+
+/**
+ * GPU 리소스 해제 이벤트
+ * 할당 해제, 만료 등으로 GPU/MIG 리소스가 반환되었을 때 발행
+ */
+public record GpuResourceReleasedEvent(String allocationId,
+                                       String resourceType,
+                                       String allocatedResource,
+                                       String status) {
+}
@@ -0,0 +1,12 @@
+package com.k8s.monitor.event.gpu;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * GPU 텔레메트리 수집 이벤트
+ * 메트릭 수집 주기마다 저장된 샘플 전체를 1건으로 발행 (유휴 감지, 이상 탐지 등 스트림 소비자용)
+ */
+public record GpuTelemetryCollectedEvent(LocalDateTime collectedAt,
+                                         List<GpuTelemetrySample> samples) {
+}
@@ -0,0 +1,21 @@
+package com.k8s.monitor.event.gpu;
+
+import java.time.LocalDateTime;
+
+/**
+ * GPU/MIG 텔레메트리 샘플 (수집 주기마다 장비 또는 MIG 인스턴스별 1건)
+ * migId 가 null 이면 물리 GPU 전체 샘플, allocationId 는 리소스를 단독 점유한 활성 할당 (공유 GPU 또는 미할당이면 null)
+ */
+public record GpuTelemetrySample(String deviceId,
+                                 String migId,
+                                 String allocationId,
+                                 LocalDateTime timestamp,
+                                 Double gpuUtilizationPct,
+                                 Double memoryUtilizationPct,
+                                 Long memoryUsedMb,
+                                 Long memoryTotalMb,
+                                 Double temperatureC,
+                                 Double powerDrawW,
+                                 Integer clockGraphicsMhz,
+                                 String collectionSource) {
+}
@@ -0,0 +1,14 @@
+package com.k8s.monitor.event.gpu;
+
+import com.k8s.monitor.entity.gpu.GpuUsageHourly;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 시간별 사용량 롤업 마감 이벤트
+ * 정시가 지나 한 시간 구간의 롤업이 저장되었을 때 발행 (예측 모델 증분 학습용)
+ */
+public record GpuUsageHourClosedEvent(LocalDateTime hourStart,
+                                      List<GpuUsageHourly> rollups) {
+}
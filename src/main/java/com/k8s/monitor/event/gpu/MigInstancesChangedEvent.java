@@ -0,0 +1,9 @@
+package com.k8s.monitor.event.gpu;
+
+/**
+ * MIG 인스턴스 구성 변경 이벤트
+ * MIG 인스턴스 생성/삭제/정리 시 발행 (deviceId 가 null 이면 전체 장비 대상)
+ */
+public record MigInstancesChangedEvent(String deviceId,
+                                       String changeType) {
+}
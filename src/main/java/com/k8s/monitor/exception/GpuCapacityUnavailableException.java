@@ -0,0 +1,15 @@
+package com.k8s.monitor.exception;
+
+/**
+ * GPU 용량 부족 예외
+ * 요청 조건을 만족하는 GPU 장비 또는 MIG 인스턴스가 현재 없을 때 발생
+ * (요청 자체의 오류가 아니므로 대기열에서 재시도 가능)
+ */
+public class GpuCapacityUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public GpuCapacityUnavailableException(String message) {
+        super(message);
+    }
+}
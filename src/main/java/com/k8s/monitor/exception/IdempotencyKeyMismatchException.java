@@ -0,0 +1,14 @@
+package com.k8s.monitor.exception;
+
+/**
+ * 멱등성 키 재사용 예외
+ * 같은 Idempotency-Key 로 최초 요청과 다른 내용의 요청이 들어왔을 때 발생 (422 응답)
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public IdempotencyKeyMismatchException(String idempotencyKey) {
+        super("Idempotency key reused with a different request: " + idempotencyKey);
+    }
+}
@@ -0,0 +1,17 @@
+package com.k8s.monitor.repository.gpu;
+
+import com.k8s.monitor.entity.gpu.AlertRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 알람 규칙 Repository
+ */
+@Repository
+public interface AlertRuleRepository extends JpaRepository<AlertRule, String> {
+    
+    // 활성화 여부별 규칙 조회
+    List<AlertRule> findByEnabled(String enabled);
+}
@@ -10,6 +10,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * GPU 할당 정보 Repository
@@ -23,6 +24,12 @@ public interface GpuAllocationRepository extends JpaRepository<GpuAllocation, St
     // Pod별 할당 조회
     List<GpuAllocation> findByNamespaceAndPodName(String namespace, String podName);
     
+    // 멱등성 키로 할당 조회
+    Optional<GpuAllocation> findByIdempotencyKey(String idempotencyKey);
+    
+    // 리소스별 특정 상태 할당 존재 여부
+    boolean existsByAllocatedResourceAndStatus(String allocatedResource, String status);
+    
     // 상태별 할당 조회
     List<GpuAllocation> findByStatus(String status);
     
@@ -30,6 +37,14 @@ public interface GpuAllocationRepository extends JpaRepository<GpuAllocation, St
     @Query("SELECT a FROM GpuAllocation a WHERE a.status = 'ALLOCATED'")
     List<GpuAllocation> findActiveAllocations();
     
+    // 리소스 유형별 활성 할당 조회
+    @Query("SELECT a FROM GpuAllocation a WHERE a.status = 'ALLOCATED' AND a.resourceType = :resourceType")
+    List<GpuAllocation> findActiveAllocationsByResourceType(@Param("resourceType") String resourceType);
+    
+    // 만료 예정 시각이 지정된 활성 할당 조회
+    @Query("SELECT a FROM GpuAllocation a WHERE a.status = 'ALLOCATED' AND a.plannedReleaseTime IS NOT NULL")
+    List<GpuAllocation> findActiveAllocationsWithPlannedRelease();
+    
     // 만료된 할당 조회
     @Query("SELECT a FROM GpuAllocation a WHERE a.status = 'ALLOCATED' " +
            "AND a.plannedReleaseTime < CURRENT_TIMESTAMP")
@@ -55,6 +70,18 @@ public interface GpuAllocationRepository extends JpaRepository<GpuAllocation, St
     List<GpuAllocation> findByAllocationTimeBetween(@Param("startTime") LocalDateTime startTime, 
                                                     @Param("endTime") LocalDateTime endTime);
     
+    // 기간 [startTime, endTime) 내 할당 수 (수요 추세용)
+    @Query("SELECT COUNT(a) FROM GpuAllocation a WHERE a.allocationTime >= :startTime AND a.allocationTime < :endTime")
+    long countAllocationsBetween(@Param("startTime") LocalDateTime startTime,
+                                 @Param("endTime") LocalDateTime endTime);
+    
+    // 기간 [windowStart, windowEnd) 과 겹치는 할당 조회 (기간 이전에 시작해 걸쳐 있거나 아직 해제되지 않은 할당 포함)
+    @Query("SELECT a FROM GpuAllocation a WHERE a.resourceType = :resourceType " +
+           "AND a.allocationTime < :windowEnd AND (a.releaseTime IS NULL OR a.releaseTime > :windowStart)")
+    List<GpuAllocation> findAllocationsOverlapping(@Param("resourceType") String resourceType,
+                                                   @Param("windowStart") LocalDateTime windowStart,
+                                                   @Param("windowEnd") LocalDateTime windowEnd);
+    
     // 비용 범위별 할당 조회
     @Query("SELECT a FROM GpuAllocation a WHERE a.totalCost BETWEEN :minCost AND :maxCost")
     List<GpuAllocation> findByCostRange(@Param("minCost") Double minCost, 
@@ -85,6 +112,13 @@ public interface GpuAllocationRepository extends JpaRepository<GpuAllocation, St
            "AND a.plannedReleaseTime BETWEEN CURRENT_TIMESTAMP AND :expiryTime")
     List<GpuAllocation> findAllocationsExpiringBefore(@Param("expiryTime") LocalDateTime expiryTime);
     
+    // MIG 전환 후보 (소용량 메모리 요청 전체 GPU 할당) 조회
+    @Query("SELECT a FROM GpuAllocation a WHERE a.resourceType = 'FULL_GPU' " +
+           "AND a.requestedMemoryGb <= :maxMemoryGb AND a.allocationTime BETWEEN :startTime AND :endTime")
+    List<GpuAllocation> findMigRightsizingCandidates(@Param("maxMemoryGb") Integer maxMemoryGb,
+                                                     @Param("startTime") LocalDateTime startTime,
+                                                     @Param("endTime") LocalDateTime endTime);
+    
     // 장기간 사용 중인 할당 조회
     @Query("SELECT a FROM GpuAllocation a WHERE a.status = 'ALLOCATED' " +
            "AND a.allocationTime < :threshold")
@@ -98,9 +132,34 @@ public interface GpuAllocationRepository extends JpaRepository<GpuAllocation, St
            "AND a.plannedReleaseTime < CURRENT_TIMESTAMP")
     int expireOldAllocations();
     
+    // 활성 할당 누적 비용 체크포인트
+    @Modifying
+    @Transactional
+    @Query("UPDATE GpuAllocation a SET a.totalCost = :cost, a.costAccruedUntil = :accruedUntil " +
+           "WHERE a.allocationId = :allocationId AND a.status = 'ALLOCATED'")
+    int updateAccruedCost(@Param("allocationId") String allocationId,
+                          @Param("cost") Double cost,
+                          @Param("accruedUntil") LocalDateTime accruedUntil);
+    
     // 우선순위별 할당 조회
     List<GpuAllocation> findByPriorityClass(String priorityClass);
     
+    // 선점 후보 (전체 GPU): 지정 우선순위 클래스의 활성 할당과 점유 장비, 작은 메모리/최근 할당 순
+    @Query("SELECT a, d FROM GpuAllocation a, GpuDevice d WHERE a.status = 'ALLOCATED' AND a.resourceType = 'FULL_GPU' " +
+           "AND d.deviceId = a.allocatedResource AND d.deviceStatus = 'ACTIVE' " +
+           "AND (LOWER(TRIM(a.priorityClass)) IN :priorityClasses OR (:includeUnset = true AND a.priorityClass IS NULL)) " +
+           "ORDER BY a.allocatedMemoryGb ASC, a.allocationTime DESC")
+    List<Object[]> findDevicePreemptionCandidates(@Param("priorityClasses") List<String> priorityClasses,
+                                                  @Param("includeUnset") boolean includeUnset);
+    
+    // 선점 후보 (MIG): 지정 우선순위 클래스의 활성 할당과 점유 인스턴스, 작은 메모리/최근 할당 순
+    @Query("SELECT a, m FROM GpuAllocation a, MigInstance m WHERE a.status = 'ALLOCATED' AND a.resourceType = 'MIG_INSTANCE' " +
+           "AND m.migId = a.allocatedResource AND m.instanceStatus = 'ACTIVE' " +
+           "AND (LOWER(TRIM(a.priorityClass)) IN :priorityClasses OR (:includeUnset = true AND a.priorityClass IS NULL)) " +
+           "ORDER BY a.allocatedMemoryGb ASC, a.allocationTime DESC")
+    List<Object[]> findMigPreemptionCandidates(@Param("priorityClasses") List<String> priorityClasses,
+                                               @Param("includeUnset") boolean includeUnset);
+    
     // 컨테이너별 할당 조회
     List<GpuAllocation> findByContainerName(String containerName);
     
@@ -0,0 +1,21 @@
+package com.k8s.monitor.repository.gpu;
+
+import com.k8s.monitor.entity.gpu.GpuCostDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 GPU 비용 집계 Repository
+ */
+@Repository
+public interface GpuCostDailyRepository extends JpaRepository<GpuCostDaily, Long>, GpuCostDailyRepositoryCustom {
+    
+    // 일자별 집계 셀 조회
+    List<GpuCostDaily> findByCostDate(LocalDate costDate);
+    
+    // 기간별 집계 셀 조회
+    List<GpuCostDaily> findByCostDateBetween(LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,15 @@
+package com.k8s.monitor.repository.gpu;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 GPU 비용 집계 Repository 확장 (셀 증분 MERGE)
+ */
+public interface GpuCostDailyRepositoryCustom {
+
+    // 셀 증분 반영 (DB 에서 원자적으로 더하고, 없으면 생성)
+    int mergeCellDelta(LocalDate costDate, String namespace, String teamId, String projectId,
+                       String workloadType, String resourceType, String modelId,
+                       double cost, double usageHours, LocalDateTime now);
+}
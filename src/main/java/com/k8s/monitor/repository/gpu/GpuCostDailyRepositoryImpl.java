@@ -0,0 +1,65 @@
+package com.k8s.monitor.repository.gpu;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 GPU 비용 집계 셀 MERGE 구현
+ *
+ * 같은 신규 셀을 두 트랜잭션이 동시에 MERGE 하면 둘 다 NOT MATCHED 로 판단하여 늦은 쪽이
+ * uk_gpu_cost_daily_cell 유니크 위반(ORA-00001)으로 실패하므로, 먼저 생성된 행을 보고 UPDATE 분기로
+ * 들어가도록 한 번 재시도함
+ * JPA 네이티브 쿼리는 예외 시 트랜잭션 전체를 rollback-only 로 만들기 때문에 JDBC 로 실행
+ * (같은 트랜잭션의 커넥션 사용, 실패한 문장만 롤백)
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class GpuCostDailyRepositoryImpl implements GpuCostDailyRepositoryCustom {
+
+    private static final String MERGE_CELL_DELTA = "MERGE INTO gpu_cost_daily c " +
+        "USING (SELECT CAST(:costDate AS DATE) AS cost_date, CAST(:namespace AS VARCHAR(50)) AS namespace, " +
+        "       CAST(:teamId AS VARCHAR(50)) AS team_id, CAST(:projectId AS VARCHAR(50)) AS project_id, " +
+        "       CAST(:workloadType AS VARCHAR(30)) AS workload_type, CAST(:resourceType AS VARCHAR(20)) AS resource_type, " +
+        "       CAST(:modelId AS VARCHAR(20)) AS model_id FROM dual) s " +
+        "ON (c.cost_date = s.cost_date AND c.namespace = s.namespace AND c.team_id = s.team_id " +
+        "    AND c.project_id = s.project_id AND c.workload_type = s.workload_type " +
+        "    AND c.resource_type = s.resource_type AND c.model_id = s.model_id) " +
+        "WHEN MATCHED THEN UPDATE SET c.total_cost = COALESCE(c.total_cost, 0) + :cost, " +
+        "    c.usage_hours = COALESCE(c.usage_hours, 0) + :usageHours, c.updated_date = :now " +
+        "WHEN NOT MATCHED THEN INSERT (cost_date, namespace, team_id, project_id, workload_type, resource_type, model_id, " +
+        "    total_cost, usage_hours, updated_date) " +
+        "VALUES (s.cost_date, s.namespace, s.team_id, s.project_id, s.workload_type, s.resource_type, s.model_id, " +
+        "    :cost, :usageHours, :now)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public int mergeCellDelta(LocalDate costDate, String namespace, String teamId, String projectId,
+                              String workloadType, String resourceType, String modelId,
+                              double cost, double usageHours, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("costDate", costDate)
+            .addValue("namespace", namespace)
+            .addValue("teamId", teamId)
+            .addValue("projectId", projectId)
+            .addValue("workloadType", workloadType)
+            .addValue("resourceType", resourceType)
+            .addValue("modelId", modelId)
+            .addValue("cost", cost)
+            .addValue("usageHours", usageHours)
+            .addValue("now", now);
+        try {
+            return jdbcTemplate.update(MERGE_CELL_DELTA, params);
+        } catch (DataIntegrityViolationException e) {
+            // 동시 MERGE 가 같은 셀을 먼저 생성함 - 재시도는 UPDATE 분기로 처리됨
+            log.debug("Concurrent insert of cost cell {}/{}, retrying merge as update", costDate, namespace);
+            return jdbcTemplate.update(MERGE_CELL_DELTA, params);
+        }
+    }
+}
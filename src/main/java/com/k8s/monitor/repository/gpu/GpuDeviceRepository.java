@@ -28,11 +28,25 @@ public interface GpuDeviceRepository extends JpaRepository<GpuDevice, String> {
     // 상태별 GPU 장비 조회
     List<GpuDevice> findByDeviceStatus(String deviceStatus);
     
-    // 사용 가능한 GPU 장비 조회
+    // 사용 가능한 GPU 장비 조회 (전체 GPU 또는 공유 할당이 없는 장비)
     @Query("SELECT d FROM GpuDevice d WHERE d.deviceStatus = 'ACTIVE' AND d.deviceId NOT IN " +
-           "(SELECT a.allocatedResource FROM GpuAllocation a WHERE a.status = 'ALLOCATED' AND a.resourceType = 'FULL_GPU')")
+           "(SELECT a.allocatedResource FROM GpuAllocation a WHERE a.status = 'ALLOCATED' " +
+           "AND a.resourceType IN ('FULL_GPU', 'SHARED_GPU'))")
     List<GpuDevice> findAvailableDevices();
     
+    // 공유(SHARED_GPU) 배치 가능한 GPU 장비 조회 (전체 GPU 할당이 없는 장비)
+    @Query("SELECT d FROM GpuDevice d WHERE d.deviceStatus = 'ACTIVE' AND d.deviceId NOT IN " +
+           "(SELECT a.allocatedResource FROM GpuAllocation a WHERE a.status = 'ALLOCATED' AND a.resourceType = 'FULL_GPU')")
+    List<GpuDevice> findShareableDevices();
+    
+    // 장비 ID - 모델 ID 매핑 조회
+    @Query("SELECT d.deviceId, d.model.modelId FROM GpuDevice d")
+    List<Object[]> findDeviceModelIds();
+    
+    // 장비 ID - 노드명 매핑 조회
+    @Query("SELECT d.deviceId, d.node.nodeName FROM GpuDevice d")
+    List<Object[]> findDeviceNodeNames();
+    
     // MIG 지원 GPU 장비 조회
     @Query("SELECT d FROM GpuDevice d WHERE d.model.migSupport = 'Y'")
     List<GpuDevice> findMigCapableDevices();
@@ -0,0 +1,36 @@
+package com.k8s.monitor.repository.gpu;
+
+import com.k8s.monitor.entity.gpu.GpuUsageHourly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 시간별 GPU 사용량 롤업 Repository
+ */
+@Repository
+public interface GpuUsageHourlyRepository extends JpaRepository<GpuUsageHourly, Long> {
+    
+    // 기간 내 전체 롤업 (시간 순)
+    List<GpuUsageHourly> findByHourStartGreaterThanEqualOrderByHourStart(LocalDateTime since);
+    
+    // 범위별 롤업 (시간 순)
+    List<GpuUsageHourly> findByScopeTypeAndScopeIdAndHourStartGreaterThanEqualOrderByHourStart(
+            String scopeType, String scopeId, LocalDateTime since);
+    
+    // 마지막 롤업 시각
+    @Query("SELECT MAX(h.hourStart) FROM GpuUsageHourly h")
+    LocalDateTime findLatestHourStart();
+    
+    // 오래된 롤업 삭제
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM GpuUsageHourly h WHERE h.hourStart < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
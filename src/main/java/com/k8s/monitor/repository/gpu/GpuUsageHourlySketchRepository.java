@@ -0,0 +1,32 @@
+package com.k8s.monitor.repository.gpu;
+
+import com.k8s.monitor.entity.gpu.GpuUsageHourlySketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 시간별 GPU 사용량 분위수 스케치 Repository
+ */
+@Repository
+public interface GpuUsageHourlySketchRepository extends JpaRepository<GpuUsageHourlySketch, Long> {
+    
+    // 범위 유형별 기간 내 스케치 [from, to)
+    @Query("SELECT s FROM GpuUsageHourlySketch s WHERE s.scopeType = :scopeType " +
+           "AND s.hourStart >= :from AND s.hourStart < :to")
+    List<GpuUsageHourlySketch> findByScopeTypeAndHourRange(@Param("scopeType") String scopeType,
+                                                           @Param("from") LocalDateTime from,
+                                                           @Param("to") LocalDateTime to);
+    
+    // 오래된 스케치 삭제
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM GpuUsageHourlySketch s WHERE s.hourStart < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
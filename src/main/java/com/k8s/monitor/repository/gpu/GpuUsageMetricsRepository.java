@@ -1,6 +1,7 @@
 package com.k8s.monitor.repository.gpu;
 
 import com.k8s.monitor.entity.gpu.GpuUsageMetrics;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -86,12 +87,12 @@ public interface GpuUsageMetricsRepository extends JpaRepository<GpuUsageMetrics
            "GROUP BY EXTRACT(HOUR FROM m.timestamp) ORDER BY EXTRACT(HOUR FROM m.timestamp)")
     List<Object[]> findHourlyUsageTrend(@Param("since") LocalDateTime since);
     
-    // 상위 사용률 장비 조회
+    // 상위 사용률 장비 조회 (Pageable 로 상위 N 개만 조회, 실시간 상위 목록은 GpuTopKService 사용)
     @Query("SELECT m.device.deviceId, m.device.model.modelName, AVG(m.gpuUtilizationPct) " +
            "FROM GpuUsageMetrics m WHERE m.timestamp >= :since " +
            "GROUP BY m.device.deviceId, m.device.model.modelName " +
            "ORDER BY AVG(m.gpuUtilizationPct) DESC")
-    List<Object[]> findTopUtilizationDevices(@Param("since") LocalDateTime since);
+    List<Object[]> findTopUtilizationDevices(@Param("since") LocalDateTime since, Pageable pageable);
     
     // 오래된 메트릭 데이터 삭제
     @Modifying
@@ -131,15 +132,17 @@ public interface GpuUsageMetricsRepository extends JpaRepository<GpuUsageMetrics
                                                  @Param("maxTemp") Double maxTemp,
                                                  @Param("since") LocalDateTime since);
     
-    // 전력 사용량이 높은 메트릭 조회
+    // 전력 사용량이 높은 메트릭 조회 (Pageable 로 상위 N 건만 조회)
     @Query("SELECT m FROM GpuUsageMetrics m WHERE m.powerDrawW > :powerThreshold " +
            "AND m.timestamp >= :since ORDER BY m.powerDrawW DESC")
     List<GpuUsageMetrics> findHighPowerUsageMetrics(@Param("powerThreshold") Double powerThreshold,
-                                                    @Param("since") LocalDateTime since);
+                                                    @Param("since") LocalDateTime since,
+                                                    Pageable pageable);
     
-    // 메모리 사용률이 높은 메트릭 조회  
+    // 메모리 사용률이 높은 메트릭 조회 (Pageable 로 상위 N 건만 조회)
     @Query("SELECT m FROM GpuUsageMetrics m WHERE m.memoryUtilizationPct > :memoryThreshold " +
            "AND m.timestamp >= :since ORDER BY m.memoryUtilizationPct DESC")
     List<GpuUsageMetrics> findHighMemoryUsageMetrics(@Param("memoryThreshold") Double memoryThreshold,
-                                                     @Param("since") LocalDateTime since);
+                                                     @Param("since") LocalDateTime since,
+                                                     Pageable pageable);
 }
\ No newline at end of file
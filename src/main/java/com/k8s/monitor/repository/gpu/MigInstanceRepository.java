@@ -24,9 +24,41 @@ public interface MigInstanceRepository extends JpaRepository<MigInstance, String
     // 프로필별 MIG 인스턴스 조회
     List<MigInstance> findByProfileProfileId(String profileId);
     
+    // MIG 인스턴스가 속한 장비 ID 조회
+    @Query("SELECT m.device.deviceId FROM MigInstance m WHERE m.migId = :migId")
+    Optional<String> findDeviceIdByMigId(@Param("migId") String migId);
+    
+    // MIG 인스턴스의 장비 ID, 프로필 ID 조회
+    @Query("SELECT m.device.deviceId, m.profile.profileId FROM MigInstance m WHERE m.migId = :migId")
+    List<Object[]> findDeviceAndProfileByMigId(@Param("migId") String migId);
+    
+    // 사용량 카운터용 인스턴스 상태 조회 (migId, deviceId, profileId, allocated)
+    @Query("SELECT m.migId, m.device.deviceId, m.profile.profileId, m.allocated FROM MigInstance m")
+    List<Object[]> findInstanceStates();
+    
+    // 장비별 사용량 카운터용 인스턴스 상태 조회
+    @Query("SELECT m.migId, m.device.deviceId, m.profile.profileId, m.allocated FROM MigInstance m " +
+           "WHERE m.device.deviceId = :deviceId")
+    List<Object[]> findInstanceStatesByDevice(@Param("deviceId") String deviceId);
+    
+    // 장비에 할당된 MIG 인스턴스 존재 여부
+    boolean existsByDeviceDeviceIdAndAllocated(String deviceId, String allocated);
+    
     // 할당 상태별 조회
     List<MigInstance> findByAllocated(String allocated);
     
+    // 유휴 감지 복원용 할당된 인스턴스의 마지막 활동 시각 조회 (migId, deviceId, allocatedDate, lastUsedDate)
+    @Query("SELECT m.migId, m.device.deviceId, m.allocatedDate, m.lastUsedDate FROM MigInstance m " +
+           "WHERE m.allocated = 'Y'")
+    List<Object[]> findAllocatedActivity();
+    
+    // 마지막 활동 시각 갱신 (기존 값보다 최근일 때만)
+    @Modifying
+    @Transactional
+    @Query("UPDATE MigInstance m SET m.lastUsedDate = :lastUsedDate WHERE m.migId = :migId " +
+           "AND (m.lastUsedDate IS NULL OR m.lastUsedDate < :lastUsedDate)")
+    int updateLastUsedDate(@Param("migId") String migId, @Param("lastUsedDate") LocalDateTime lastUsedDate);
+    
     // 사용 가능한 MIG 인스턴스 조회
     @Query("SELECT m FROM MigInstance m WHERE m.allocated = 'N' AND m.instanceStatus = 'ACTIVE'")
     List<MigInstance> findAvailableInstances();
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +16,14 @@ import java.util.Optional;
 @Repository
 public interface MigProfileRepository extends JpaRepository<MigProfile, String> {
     
+    // 전체 프로필 조회 (모델 함께 로딩)
+    @Query("SELECT p FROM MigProfile p JOIN FETCH p.model")
+    List<MigProfile> findAllWithModel();
+    
+    // 프로필 일괄 조회 (모델 함께 로딩)
+    @Query("SELECT p FROM MigProfile p JOIN FETCH p.model WHERE p.profileId IN :profileIds")
+    List<MigProfile> findAllWithModelByProfileIdIn(@Param("profileIds") Collection<String> profileIds);
+    
     // 모델별 MIG 프로필 조회
     List<MigProfile> findByModelModelId(String modelId);
     
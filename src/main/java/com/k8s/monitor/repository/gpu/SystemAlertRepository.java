@@ -0,0 +1,29 @@
+package com.k8s.monitor.repository.gpu;
+
+import com.k8s.monitor.entity.gpu.SystemAlert;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 시스템 알람 Repository
+ */
+@Repository
+public interface SystemAlertRepository extends JpaRepository<SystemAlert, String> {
+    
+    // 상태별 알람 조회 (최신순)
+    List<SystemAlert> findByStatusInOrderByCreatedDateDesc(Collection<String> statuses);
+    
+    // 규칙으로 발생한 미해소 알람 조회 (재시작 시 규칙 상태 복원용)
+    @Query("SELECT a FROM SystemAlert a WHERE a.ruleId IS NOT NULL AND a.status IN ('ACTIVE', 'ACKNOWLEDGED', 'SUPPRESSED')")
+    List<SystemAlert> findOpenRuleAlerts();
+    
+    // 기간 내 발생 알람 조회 (최신순)
+    @Query("SELECT a FROM SystemAlert a WHERE a.createdDate >= :since ORDER BY a.createdDate DESC")
+    List<SystemAlert> findAlertsSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,268 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.entity.gpu.GpuDevice;
+import com.k8s.monitor.entity.gpu.GpuNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DCGM exporter 기반 MIG 텔레메트리 소스
+ * 노드의 dcgm-exporter /metrics (Prometheus 텍스트 형식) 를 조회하여 GPU instance 별 SM 사용률
+ * (DCGM_FI_PROF_GR_ENGINE_ACTIVE) 과 메모리 사용량을 수집 - nvidia-smi XML 이 제공하지 않는 MIG 단위 사용률 소스
+ *
+ * dcgm-exporter 는 MIG UUID 대신 GPU_I_ID 라벨만 제공하므로 MIG 인스턴스는 GPU instance 배치로 매핑됨
+ * 노드 1대의 엔드포인트가 모든 GPU 를 포함하므로 같은 수집 주기 안에서는 노드당 1회만 조회
+ */
+@Component
+@Slf4j
+public class DcgmExporterMigTelemetrySource implements MigTelemetrySource {
+
+    public static final String SOURCE_NAME = "dcgm-exporter";
+
+    // 같은 수집 주기의 GPU 들이 한 번 조회한 결과를 재사용하는 시간
+    private static final Duration SCRAPE_REUSE = Duration.ofSeconds(10);
+
+    private static final String GR_ENGINE_ACTIVE = "DCGM_FI_PROF_GR_ENGINE_ACTIVE";
+    private static final String GPU_UTIL = "DCGM_FI_DEV_GPU_UTIL";
+    private static final String FB_USED = "DCGM_FI_DEV_FB_USED";
+    private static final String FB_FREE = "DCGM_FI_DEV_FB_FREE";
+    private static final String GPU_TEMP = "DCGM_FI_DEV_GPU_TEMP";
+    private static final String POWER_USAGE = "DCGM_FI_DEV_POWER_USAGE";
+    private static final Set<String> FIELDS = Set.of(GR_ENGINE_ACTIVE, GPU_UTIL, FB_USED, FB_FREE, GPU_TEMP, POWER_USAGE);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    // 노드 IP -> 최근 조회 결과
+    private final Map<String, Scrape> scrapes = new ConcurrentHashMap<>();
+
+    @Value("${gpu.management.metrics.dcgm-exporter.url:http://{nodeIp}:9400/metrics}")
+    private String urlTemplate;
+
+    @Value("${gpu.management.metrics.dcgm-exporter.timeout:5s}")
+    private Duration timeout;
+
+    @Override
+    public String getSourceName() {
+        return SOURCE_NAME;
+    }
+
+    @Override
+    public Optional<GpuTelemetry> collect(GpuDevice device) {
+        GpuNode node = device.getNode();
+        if (node == null || node.getNodeIp() == null) {
+            log.debug("No node address for device {}, skipping DCGM query", device.getDeviceId());
+            return Optional.empty();
+        }
+
+        try {
+            List<MetricSample> samples = scrape(node.getNodeIp()).stream()
+                .filter(sample -> belongsTo(sample, device))
+                .toList();
+            return samples.isEmpty() ? Optional.empty() : Optional.of(toTelemetry(samples));
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (Exception e) {
+            log.error("Error querying dcgm-exporter for device {}: {}", device.getDeviceId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // Private helper methods
+
+    private List<MetricSample> scrape(String nodeIp) throws IOException, InterruptedException {
+        Instant now = Instant.now();
+        Scrape cached = scrapes.get(nodeIp);
+        if (cached != null && cached.fetchedAt().plus(SCRAPE_REUSE).isAfter(now)) {
+            return cached.samples();
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(urlTemplate.replace("{nodeIp}", nodeIp)))
+            .timeout(timeout)
+            .GET()
+            .build();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        List<MetricSample> samples;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            if (response.statusCode() != 200) {
+                throw new IOException("HTTP " + response.statusCode());
+            }
+            samples = parseExposition(reader);
+        }
+
+        scrapes.put(nodeIp, new Scrape(now, samples));
+        return samples;
+    }
+
+    /**
+     * GPU UUID 가 등록되어 있으면 UUID 라벨로, 아니면 GPU 인덱스 라벨로 장비 식별
+     */
+    private boolean belongsTo(MetricSample sample, GpuDevice device) {
+        if (device.getGpuUuid() != null) {
+            return device.getGpuUuid().equals(sample.labels().get("UUID"));
+        }
+        return String.valueOf(device.getDeviceIndex()).equals(sample.labels().get("gpu"));
+    }
+
+    private GpuTelemetry toTelemetry(List<MetricSample> samples) {
+        Map<String, Double> gpuValues = new HashMap<>();
+        Map<Integer, Map<String, Double>> migValues = new TreeMap<>();
+        for (MetricSample sample : samples) {
+            Integer gpuInstanceId = parseInstanceId(sample.labels().get("GPU_I_ID"));
+            if (gpuInstanceId != null) {
+                migValues.computeIfAbsent(gpuInstanceId, id -> new HashMap<>()).put(sample.name(), sample.value());
+            }
+            // MIG 모드에서는 온도/전력도 GPU instance 라벨과 함께 노출되므로 첫 값을 물리 GPU 값으로 사용
+            if (gpuInstanceId == null || GPU_TEMP.equals(sample.name()) || POWER_USAGE.equals(sample.name())) {
+                gpuValues.putIfAbsent(sample.name(), sample.value());
+            }
+        }
+
+        List<MigTelemetry> migDevices = new ArrayList<>(migValues.size());
+        long migUsedMb = 0;
+        long migTotalMb = 0;
+        for (Map.Entry<Integer, Map<String, Double>> entry : migValues.entrySet()) {
+            Map<String, Double> values = entry.getValue();
+            Long usedMb = toLong(values.get(FB_USED));
+            Long totalMb = usedMb != null && values.get(FB_FREE) != null ? usedMb + toLong(values.get(FB_FREE)) : null;
+            Double activeRatio = values.get(GR_ENGINE_ACTIVE);
+            migDevices.add(new MigTelemetry(null, entry.getKey(), null,
+                activeRatio != null ? activeRatio * 100 : null, usedMb, totalMb));
+            migUsedMb += usedMb != null ? usedMb : 0;
+            migTotalMb += totalMb != null ? totalMb : 0;
+        }
+
+        Long usedMb = toLong(gpuValues.get(FB_USED));
+        Long totalMb = usedMb != null && gpuValues.get(FB_FREE) != null ? usedMb + toLong(gpuValues.get(FB_FREE)) : null;
+        if (usedMb == null && migTotalMb > 0) {
+            // MIG 모드에서는 물리 GPU 메모리 값이 없으므로 GPU instance 합계 사용
+            usedMb = migUsedMb;
+            totalMb = migTotalMb;
+        }
+        Double memoryUtilization = usedMb != null && totalMb != null && totalMb > 0 ? (double) usedMb / totalMb * 100 : null;
+
+        return new GpuTelemetry(gpuValues.get(GPU_UTIL), memoryUtilization, usedMb, totalMb,
+            gpuValues.get(GPU_TEMP), gpuValues.get(POWER_USAGE), List.copyOf(migDevices));
+    }
+
+    /**
+     * Prometheus 텍스트 형식 파싱 (필요한 DCGM 필드만 추출, 주석/타임스탬프 무시)
+     */
+    static List<MetricSample> parseExposition(BufferedReader reader) throws IOException {
+        List<MetricSample> samples = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int nameEnd = 0;
+            while (nameEnd < line.length() && line.charAt(nameEnd) != '{' && line.charAt(nameEnd) != ' ') {
+                nameEnd++;
+            }
+            String name = line.substring(0, nameEnd);
+            if (!FIELDS.contains(name)) {
+                continue;
+            }
+
+            Map<String, String> labels = new HashMap<>();
+            int pos = nameEnd;
+            if (pos < line.length() && line.charAt(pos) == '{') {
+                pos = parseLabels(line, pos + 1, labels);
+                if (pos < 0) {
+                    continue;
+                }
+            }
+
+            String[] rest = line.substring(pos).trim().split("\\s+");
+            try {
+                double value = Double.parseDouble(rest[0]);
+                if (!Double.isNaN(value)) {
+                    samples.add(new MetricSample(name, labels, value));
+                }
+            } catch (NumberFormatException e) {
+                // 값이 숫자가 아닌 줄은 무시
+            }
+        }
+        return samples;
+    }
+
+    /**
+     * name="value",... 라벨 목록 파싱, 닫는 중괄호 다음 위치 반환 (형식 오류 시 -1)
+     */
+    private static int parseLabels(String line, int pos, Map<String, String> labels) {
+        while (pos < line.length()) {
+            char c = line.charAt(pos);
+            if (c == '}') {
+                return pos + 1;
+            }
+            if (c == ',' || c == ' ') {
+                pos++;
+                continue;
+            }
+            int eq = line.indexOf('=', pos);
+            if (eq < 0 || eq + 1 >= line.length() || line.charAt(eq + 1) != '"') {
+                return -1;
+            }
+            String key = line.substring(pos, eq).trim();
+            StringBuilder value = new StringBuilder();
+            pos = eq + 2;
+            while (pos < line.length() && line.charAt(pos) != '"') {
+                char v = line.charAt(pos);
+                if (v == '\\' && pos + 1 < line.length()) {
+                    char escaped = line.charAt(++pos);
+                    value.append(escaped == 'n' ? '\n' : escaped);
+                } else {
+                    value.append(v);
+                }
+                pos++;
+            }
+            if (pos >= line.length()) {
+                return -1;
+            }
+            labels.put(key, value.toString());
+            pos++;
+        }
+        return -1;
+    }
+
+    private static Integer parseInstanceId(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Long toLong(Double value) {
+        return value != null ? Math.round(value) : null;
+    }
+
+    record MetricSample(String name, Map<String, String> labels, double value) {
+    }
+
+    private record Scrape(Instant fetchedAt, List<MetricSample> samples) {
+    }
+}
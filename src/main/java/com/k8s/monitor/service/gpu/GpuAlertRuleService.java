@@ -0,0 +1,884 @@
+package com.k8s.monitor.service.gpu;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.k8s.monitor.dto.gpu.GpuAlertGroup;
+import com.k8s.monitor.dto.gpu.GpuAlertInfo;
+import com.k8s.monitor.dto.gpu.GpuAlertRuleInfo;
+import com.k8s.monitor.engine.FlapDetector;
+import com.k8s.monitor.engine.SlidingWindowRule;
+import com.k8s.monitor.entity.gpu.AlertRule;
+import com.k8s.monitor.entity.gpu.SystemAlert;
+import com.k8s.monitor.event.gpu.GpuTelemetryCollectedEvent;
+import com.k8s.monitor.event.gpu.GpuTelemetrySample;
+import com.k8s.monitor.repository.gpu.AlertRuleRepository;
+import com.k8s.monitor.repository.gpu.SystemAlertRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * GPU 알람 규칙 엔진 서비스
+ * alert_rules 의 규칙을 적재하여 수집 주기마다 발행되는 텔레메트리 샘플을 슬라이딩 윈도우로 평가하고 (DB 조회 없음),
+ * 발생/해소 전이를 system_alerts 에 기록
+ *
+ * (규칙, 대상)별 미해소 알람은 1건만 유지하고, 짧은 시간에 발생/해소가 반복되는 대상은 플래핑으로 보아
+ * SUPPRESSED 1건으로 묶어 두었다가 잦아들면 현재 상태(ACTIVE 또는 RESOLVED)로 정리
+ * 미해소 알람 조회/집계는 메모리 상태만 사용 (미해소 알람 수에 비례)
+ *
+ * 전이는 이벤트 리스너에서 대기열에 쌓고 짧은 주기로 일괄 저장 (커밋 이후 리스너에서는 저장이 반영되지 않음)
+ * 저장이 롤백되면 꺼낸 전이를 대기열에 되돌려 다음 주기에 재시도
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GpuAlertRuleService {
+
+    public static final String ENGINE_USER = "rule-engine";
+    public static final List<String> SEVERITIES = List.of("CRITICAL", "HIGH", "MEDIUM", "LOW");
+    private static final List<String> OPEN_STATUSES = List.of("ACTIVE", "ACKNOWLEDGED", "SUPPRESSED");
+    private static final Set<String> FILTER_KEYS = Set.of("deviceId", "migId", "modelId");
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+    private static final String UNKNOWN = "unknown";
+
+    private final AlertRuleRepository ruleRepository;
+    private final SystemAlertRepository alertRepository;
+    private final GpuModelCatalog modelCatalog;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${gpu.management.alerts.enabled:true}")
+    private boolean enabled;
+
+    @Value("${gpu.management.alerts.temperature-threshold:85.0}")
+    private double temperatureThreshold;
+
+    @Value("${gpu.management.alerts.utilization-threshold:90.0}")
+    private double utilizationThreshold;
+
+    @Value("${gpu.management.alerts.memory-threshold:95.0}")
+    private double memoryThreshold;
+
+    @Value("${gpu.management.alerts.power-threshold:400.0}")
+    private double powerThreshold;
+
+    @Value("${gpu.management.alerts.rules.stale-series-minutes:10}")
+    private long staleSeriesMinutes;
+
+    @Value("${gpu.management.alerts.rules.hysteresis-pct:5.0}")
+    private double hysteresisPct;
+
+    @Value("${gpu.management.alerts.flap.window-minutes:30}")
+    private long flapWindowMinutes;
+
+    @Value("${gpu.management.alerts.flap.start-changes:6}")
+    private int flapStartChanges;
+
+    @Value("${gpu.management.alerts.flap.stop-changes:2}")
+    private int flapStopChanges;
+
+    private volatile List<CompiledRule> rules = List.of();
+    private volatile Map<String, String> loadErrors = Map.of();
+    // ruleId|targetId -> 미해소 알람 (상태 변경은 stateLock 으로 보호)
+    private final Map<String, OpenAlert> openAlerts = new ConcurrentHashMap<>();
+    private final Deque<AlertChange> pendingChanges = new ConcurrentLinkedDeque<>();
+    private final Object stateLock = new Object();
+    private FlapDetector flapDetector;
+
+    @PostConstruct
+    void registerMetrics() {
+        flapDetector = new FlapDetector(flapWindowMinutes * MILLIS_PER_MINUTE, flapStartChanges, flapStopChanges);
+        for (String severity : SEVERITIES) {
+            Gauge.builder("gpu.alerts.open", openAlerts,
+                    alerts -> alerts.values().stream().filter(open -> open.severity.equals(severity)).count())
+                .description("Open GPU alert conditions (distinct rule and target)")
+                .tag("severity", severity)
+                .register(meterRegistry);
+        }
+        Gauge.builder("gpu.alerts.flapping", flapDetector, FlapDetector::flappingCount)
+            .description("GPU alert conditions suppressed as flapping")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            log.info("GPU alert rule engine disabled");
+            return;
+        }
+        try {
+            seedDefaultRules();
+            reloadRules();
+            restoreOpenAlerts();
+        } catch (Exception e) {
+            log.error("Error initializing GPU alert rule engine: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 텔레메트리 샘플 평가 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTelemetryCollected(GpuTelemetryCollectedEvent event) {
+        List<CompiledRule> current = rules;
+        if (current.isEmpty()) {
+            return;
+        }
+        Map<String, String> deviceModels = modelCatalog.getDeviceModelIds();
+
+        for (GpuTelemetrySample sample : event.samples()) {
+            long time = toMillis(sample.timestamp() != null ? sample.timestamp() : event.collectedAt());
+            for (CompiledRule rule : current) {
+                String target = targetOf(rule, sample, deviceModels);
+                Double value = target != null ? rule.metric().apply(sample) : null;
+                if (value == null) {
+                    continue;
+                }
+                rule.evaluator().observe(target, time, value)
+                    .ifPresent(transition -> onTransition(rule, transition, sample.deviceId()));
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 발생/상태 변경 저장
+     */
+    @Scheduled(fixedRate = 5000) // 5초마다 실행
+    @Transactional
+    public void flushAlertChanges() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        List<AlertChange> drained = new ArrayList<>();
+        AlertChange polled;
+        while ((polled = pendingChanges.pollFirst()) != null) {
+            drained.add(polled);
+        }
+        requeueOnRollback(drained);
+
+        Map<String, SystemAlert> created = new LinkedHashMap<>();
+        int updated = 0;
+        for (AlertChange change : drained) {
+            if (change.fired() != null) {
+                created.put(change.alertId(), change.fired());
+                continue;
+            }
+            SystemAlert alert = created.containsKey(change.alertId())
+                ? created.get(change.alertId())
+                : alertRepository.findById(change.alertId()).orElse(null);
+            if (alert == null || !OPEN_STATUSES.contains(alert.getStatus())) {
+                continue;
+            }
+            // 확인(ACKNOWLEDGED)된 알람은 해소될 때까지 상태 유지
+            if ("RESOLVED".equals(change.status()) || !"ACKNOWLEDGED".equals(alert.getStatus())) {
+                alert.setStatus(change.status());
+            }
+            if ("RESOLVED".equals(change.status())) {
+                alert.setResolvedDate(change.at());
+                alert.setResolvedBy(ENGINE_USER);
+            }
+            if (change.value() != null) {
+                alert.setMetricValue(change.value());
+            }
+            updated++;
+        }
+
+        alertRepository.saveAll(created.values());
+        log.debug("Flushed GPU alert changes: {} fired, {} updated", created.size(), updated);
+    }
+
+    /**
+     * 샘플이 끊긴 시계열 정리 (장비 제거, 할당 해제 등) 및 잦아든 플래핑 정리
+     */
+    @Scheduled(fixedRate = 60000) // 1분마다 실행
+    public void expireStaleSeries() {
+        long now = System.currentTimeMillis();
+        for (CompiledRule rule : rules) {
+            rule.evaluator().expireIdle(now, staleSeriesMinutes * MILLIS_PER_MINUTE)
+                .forEach(transition -> onTransition(rule, transition, null));
+        }
+        synchronized (stateLock) {
+            for (String key : flapDetector.settle(now)) {
+                OpenAlert open = openAlerts.get(key);
+                if (open != null) {
+                    reconcile(key, open, false, toDateTime(now));
+                }
+            }
+        }
+    }
+
+    /**
+     * DB 에서 변경된 규칙 반영
+     */
+    @Scheduled(fixedRate = 300000, initialDelay = 300000) // 5분마다 실행
+    public void scheduledReload() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reloadRules();
+        } catch (Exception e) {
+            log.error("Error reloading GPU alert rules: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * alert_rules 재적재 (사양이 바뀌지 않은 규칙은 윈도우/상태 유지, 삭제/비활성화된 규칙의 알람은 해소)
+     */
+    public synchronized List<GpuAlertRuleInfo> reloadRules() {
+        Map<String, CompiledRule> previous = rules.stream()
+            .collect(Collectors.toMap(rule -> rule.rule().getRuleId(), Function.identity()));
+        List<CompiledRule> compiled = new ArrayList<>();
+        Map<String, String> errors = new HashMap<>();
+
+        for (AlertRule rule : ruleRepository.findByEnabled("Y")) {
+            CompiledRule old = previous.remove(rule.getRuleId());
+            try {
+                CompiledRule next = compile(rule);
+                if (old != null && old.sameDefinition(next)) {
+                    compiled.add(new CompiledRule(rule, old.evaluator(), old.metric(), old.filter()));
+                } else {
+                    if (old != null) {
+                        resolveAll(old);
+                    }
+                    compiled.add(next);
+                }
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping alert rule {}: {}", rule.getRuleId(), e.getMessage());
+                errors.put(rule.getRuleId(), e.getMessage());
+                if (old != null) {
+                    resolveAll(old);
+                }
+            }
+        }
+        previous.values().forEach(this::resolveAll);
+
+        rules = List.copyOf(compiled);
+        loadErrors = Map.copyOf(errors);
+        log.info("Loaded {} GPU alert rules ({} skipped)", compiled.size(), errors.size());
+        return getRules();
+    }
+
+    /**
+     * 규칙 목록 (실시간 평가 상태 포함)
+     */
+    public List<GpuAlertRuleInfo> getRules() {
+        Map<String, CompiledRule> loaded = rules.stream()
+            .collect(Collectors.toMap(rule -> rule.rule().getRuleId(), Function.identity()));
+        return ruleRepository.findAll().stream()
+            .sorted(Comparator.comparing(AlertRule::getRuleId))
+            .map(rule -> toRuleInfo(rule, loaded.get(rule.getRuleId())))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 미해소 알람 ((규칙, 대상)별 1건, 심각도 높은 순 - 엔진 메모리 상태 기준, DB 조회 없음)
+     */
+    public List<GpuAlertInfo> getOpenAlerts() {
+        return openAlerts.values().stream()
+            .sorted(OPEN_ALERT_ORDER)
+            .map(this::toAlertInfo)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 규칙 유형별 미해소 알람 (TEMPERATURE, UTILIZATION, MEMORY, POWER)
+     */
+    public List<GpuAlertInfo> getOpenAlerts(String ruleType) {
+        return openAlerts.values().stream()
+            .filter(open -> ruleType.equals(open.ruleType))
+            .sorted(OPEN_ALERT_ORDER)
+            .map(this::toAlertInfo)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 심각도별 미해소 알람 수 (서로 다른 (규칙, 대상) 조건 수)
+     */
+    public Map<String, Long> countOpenAlertsBySeverity() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        SEVERITIES.forEach(severity -> counts.put(severity, 0L));
+        openAlerts.values().forEach(open -> counts.merge(open.severity, 1L, Long::sum));
+        return counts;
+    }
+
+    /**
+     * 노드/모델별 미해소 알람 그룹 (가장 높은 심각도, 알람 수 순)
+     */
+    public List<GpuAlertGroup> getAlertGroups() {
+        Map<String, List<OpenAlert>> grouped = new HashMap<>();
+        for (OpenAlert open : openAlerts.values()) {
+            grouped.computeIfAbsent(open.nodeName + "/" + open.modelId, key -> new ArrayList<>()).add(open);
+        }
+        return grouped.entrySet().stream()
+            .map(entry -> toGroup(entry.getKey(), entry.getValue()))
+            .sorted(Comparator.comparingInt((GpuAlertGroup group) -> severityRank(group.getHighestSeverity()))
+                .thenComparing(GpuAlertGroup::getOpenAlerts).reversed()
+                .thenComparing(GpuAlertGroup::getGroupKey))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 저장된 알람 조회
+     */
+    public List<GpuAlertInfo> getAlerts(List<String> statuses) {
+        return alertRepository.findByStatusInOrderByCreatedDateDesc(statuses).stream()
+            .map(this::toAlertInfo)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 알람 확인 처리 (해소는 규칙 엔진이 수행)
+     */
+    @Transactional
+    public GpuAlertInfo acknowledgeAlert(String alertId, String acknowledgedBy) {
+        SystemAlert alert = alertRepository.findById(alertId)
+            .orElseThrow(() -> new RuntimeException("Alert not found: " + alertId));
+        if (!"ACTIVE".equals(alert.getStatus()) && !"SUPPRESSED".equals(alert.getStatus())) {
+            throw new RuntimeException("Alert is not active: " + alertId + " (" + alert.getStatus() + ")");
+        }
+        alert.setStatus("ACKNOWLEDGED");
+        alert.setAcknowledgedDate(LocalDateTime.now());
+        alert.setAcknowledgedBy(acknowledgedBy);
+        // 동시에 저장된 규칙 엔진 상태 변경이 있으면 여기서 낙관적 잠금 충돌로 실패
+        SystemAlert saved = alertRepository.saveAndFlush(alert);
+
+        synchronized (stateLock) {
+            OpenAlert open = openAlerts.get(alertKey(alert.getRuleId(), alert.getTargetId()));
+            if (open != null && open.alertId.equals(alertId)) {
+                open.status = "ACKNOWLEDGED";
+            }
+        }
+        return toAlertInfo(saved);
+    }
+
+    // Private helper methods
+
+    /**
+     * 저장이 롤백되면 (DB 오류, 확인 처리와의 낙관적 잠금 충돌) 꺼낸 변경을 원래 순서대로 대기열 앞에 되돌림
+     * 다음 저장 주기에 알람을 다시 읽어 재적용
+     */
+    private void requeueOnRollback(List<AlertChange> drained) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    for (int i = drained.size() - 1; i >= 0; i--) {
+                        AlertChange change = drained.get(i);
+                        if (change.fired() != null) {
+                            // 롤백된 INSERT 는 다시 신규 엔티티로 저장
+                            change.fired().setPersisted(false);
+                            change.fired().setVersion(null);
+                        }
+                        pendingChanges.addFirst(change);
+                    }
+                    log.warn("GPU alert flush rolled back, re-queued {} changes", drained.size());
+                }
+            }
+        });
+    }
+
+    /**
+     * 평가기 전이 반영 - 발생/해소 모두 플래핑 판정에 기록한 뒤 미해소 알람 상태를 맞춤
+     */
+    private void onTransition(CompiledRule rule, SlidingWindowRule.Transition transition, String deviceId) {
+        if (!transition.fired() && !transition.resolved()) {
+            return;
+        }
+        String key = alertKey(rule.rule().getRuleId(), transition.series());
+        LocalDateTime at = toDateTime(transition.atMillis());
+
+        synchronized (stateLock) {
+            boolean flapping = flapDetector.recordChange(key, transition.atMillis());
+            OpenAlert open = openAlerts.get(key);
+            if (open == null) {
+                if (transition.fired()) {
+                    open = new OpenAlert(newAlertId(), rule, transition.series(), deviceId,
+                        toDateTime(transition.activeSinceMillis()));
+                    open.value = transition.value();
+                    open.status = flapping ? "SUPPRESSED" : "ACTIVE";
+                    openAlerts.put(key, open);
+                    pendingChanges.add(AlertChange.fired(open.alertId, buildAlert(open, rule, at)));
+                    log.info("GPU alert firing: {} on {} (value {})", open.ruleId, open.targetId,
+                            String.format("%.2f", transition.value()));
+                }
+                return;
+            }
+            open.firing = transition.fired();
+            open.value = transition.value();
+            reconcile(key, open, flapping, at);
+        }
+    }
+
+    /**
+     * 미해소 알람 상태 정리 (stateLock 보유 상태에서 호출)
+     * 플래핑 중이면 SUPPRESSED 로 유지, 아니면 발생 중이면 ACTIVE (확인된 알람은 유지), 해소되었으면 RESOLVED
+     */
+    private void reconcile(String key, OpenAlert open, boolean flapping, LocalDateTime at) {
+        if (flapping) {
+            if ("ACTIVE".equals(open.status)) {
+                open.status = "SUPPRESSED";
+                pendingChanges.add(AlertChange.status(open.alertId, "SUPPRESSED", open.value(), at));
+                log.info("GPU alert flapping, suppressing: {} on {}", open.ruleId, open.targetId);
+            }
+            return;
+        }
+        if (!open.firing) {
+            openAlerts.remove(key);
+            pendingChanges.add(AlertChange.status(open.alertId, "RESOLVED", open.value(), at));
+            log.info("GPU alert resolved: {} on {}", open.ruleId, open.targetId);
+        } else if ("SUPPRESSED".equals(open.status)) {
+            open.status = "ACTIVE";
+            pendingChanges.add(AlertChange.status(open.alertId, "ACTIVE", open.value(), at));
+        }
+    }
+
+    private void resolveAll(CompiledRule rule) {
+        String prefix = rule.rule().getRuleId() + "|";
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (stateLock) {
+            openAlerts.entrySet().removeIf(entry -> {
+                if (!entry.getKey().startsWith(prefix)) {
+                    return false;
+                }
+                pendingChanges.add(AlertChange.status(entry.getValue().alertId, "RESOLVED", null, now));
+                flapDetector.remove(entry.getKey());
+                return true;
+            });
+        }
+    }
+
+    /**
+     * 재시작 전 미해소 알람을 규칙 상태로 복원 (규칙이 없어졌거나 중복이면 해소, 억제 중이던 알람은 ACTIVE 로 복원)
+     */
+    private void restoreOpenAlerts() {
+        Map<String, CompiledRule> loaded = rules.stream()
+            .collect(Collectors.toMap(rule -> rule.rule().getRuleId(), Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
+        int restored = 0;
+
+        synchronized (stateLock) {
+            for (SystemAlert alert : alertRepository.findOpenRuleAlerts()) {
+                CompiledRule rule = loaded.get(alert.getRuleId());
+                String key = alertKey(alert.getRuleId(), alert.getTargetId());
+                if (rule == null || alert.getTargetId() == null || openAlerts.containsKey(key)) {
+                    pendingChanges.add(AlertChange.status(alert.getAlertId(), "RESOLVED", null, now));
+                    continue;
+                }
+                LocalDateTime since = alert.getCreatedDate() != null ? alert.getCreatedDate() : now;
+                rule.evaluator().restoreFiring(alert.getTargetId(), toMillis(since), toMillis(now));
+
+                String deviceId = "DEVICE".equals(rule.targetType()) ? alert.getTargetId() : detailText(alert, "deviceId");
+                OpenAlert open = new OpenAlert(alert.getAlertId(), rule, alert.getTargetId(), deviceId, since);
+                open.value = alert.getMetricValue() != null ? alert.getMetricValue() : Double.NaN;
+                if ("SUPPRESSED".equals(alert.getStatus())) {
+                    pendingChanges.add(AlertChange.status(open.alertId, "ACTIVE", null, now));
+                } else {
+                    open.status = alert.getStatus();
+                }
+                openAlerts.put(key, open);
+                restored++;
+            }
+        }
+        if (restored > 0) {
+            log.info("Restored {} open GPU alerts into rule engine", restored);
+        }
+    }
+
+    /**
+     * 규칙이 하나도 없으면 기존 고정 임계치(gpu.management.alerts.*)로 기본 규칙 생성
+     */
+    private void seedDefaultRules() {
+        if (ruleRepository.count() > 0) {
+            return;
+        }
+        List<AlertRule> defaults = List.of(
+            defaultRule("GPU_TEMP_HIGH", "GPU 온도 높음", "TEMPERATURE", "DEVICE", "AVG", 2, 1, ">=", temperatureThreshold, "HIGH"),
+            defaultRule("GPU_TEMP_CRITICAL", "GPU 온도 위험", "TEMPERATURE", "DEVICE", "LAST", 0, 0, ">=", temperatureThreshold + 5, "CRITICAL"),
+            defaultRule("GPU_TEMP_RISING", "GPU 온도 급상승", "TEMPERATURE", "DEVICE", "RATE", 5, 0, ">=", 3.0, "MEDIUM"),
+            defaultRule("GPU_UTILIZATION_SATURATED", "GPU 사용률 포화", "UTILIZATION", "DEVICE", "AVG", 10, 10, ">=", utilizationThreshold, "LOW"),
+            defaultRule("GPU_MEMORY_HIGH", "GPU 메모리 부족", "MEMORY", "DEVICE", "AVG", 5, 5, ">=", memoryThreshold, "HIGH"),
+            defaultRule("MIG_MEMORY_HIGH", "MIG 메모리 부족", "MEMORY", "MIG", "AVG", 5, 5, ">=", memoryThreshold, "MEDIUM"),
+            defaultRule("GPU_POWER_HIGH", "GPU 전력 초과", "POWER", "DEVICE", "AVG", 5, 5, ">=", powerThreshold, "MEDIUM")
+        );
+        ruleRepository.saveAll(defaults);
+        log.info("Created {} default GPU alert rules", defaults.size());
+    }
+
+    private AlertRule defaultRule(String ruleId, String ruleName, String ruleType, String targetType,
+                                  String aggregation, int windowMinutes, int forMinutes,
+                                  String operator, double threshold, String severity) {
+        return AlertRule.builder()
+            .ruleId(ruleId)
+            .ruleName(ruleName)
+            .ruleType(ruleType)
+            .targetType(targetType)
+            .aggregation(aggregation)
+            .windowMinutes(windowMinutes)
+            .forMinutes(forMinutes)
+            .thresholdOperator(operator)
+            .thresholdValue(threshold)
+            .severity(severity)
+            .evaluationIntervalMinutes(1)
+            .enabled("Y")
+            .build();
+    }
+
+    private CompiledRule compile(AlertRule rule) {
+        if (rule.getThresholdValue() == null || rule.getThresholdOperator() == null) {
+            throw new IllegalArgumentException("threshold value and operator are required");
+        }
+        Function<GpuTelemetrySample, Double> metric = switch (rule.getRuleType()) {
+            case "TEMPERATURE" -> GpuTelemetrySample::temperatureC;
+            case "UTILIZATION" -> GpuTelemetrySample::gpuUtilizationPct;
+            case "MEMORY" -> GpuTelemetrySample::memoryUtilizationPct;
+            case "POWER" -> GpuTelemetrySample::powerDrawW;
+            default -> throw new IllegalArgumentException("unsupported rule type " + rule.getRuleType());
+        };
+        String targetType = rule.getTargetType() != null ? rule.getTargetType() : "DEVICE";
+        if (!List.of("DEVICE", "MIG", "ALLOCATION").contains(targetType)) {
+            throw new IllegalArgumentException("unsupported target type " + targetType);
+        }
+
+        SlidingWindowRule.Aggregation aggregation = SlidingWindowRule.Aggregation.valueOf(
+            rule.getAggregation() != null ? rule.getAggregation().toUpperCase() : "LAST");
+        SlidingWindowRule.Operator operator = SlidingWindowRule.Operator.fromSymbol(rule.getThresholdOperator());
+        SlidingWindowRule.Spec spec = new SlidingWindowRule.Spec(
+            aggregation,
+            operator,
+            rule.getThresholdValue(),
+            clearThresholdOf(rule, operator),
+            Optional.ofNullable(rule.getWindowMinutes()).orElse(0) * MILLIS_PER_MINUTE,
+            Optional.ofNullable(rule.getForMinutes()).orElse(0) * MILLIS_PER_MINUTE);
+
+        return new CompiledRule(rule, new SlidingWindowRule(spec), metric, parseFilter(rule.getTargetFilter()));
+    }
+
+    /**
+     * 해소 임계치 (규칙에 없으면 임계치에서 hysteresis-pct 만큼 완화, EQ/NE 는 임계치 그대로)
+     */
+    private double clearThresholdOf(AlertRule rule, SlidingWindowRule.Operator operator) {
+        if (rule.getClearThreshold() != null) {
+            return rule.getClearThreshold();
+        }
+        double threshold = rule.getThresholdValue();
+        double band = Math.abs(threshold) * hysteresisPct / 100.0;
+        return switch (operator) {
+            case GT, GTE -> threshold - band;
+            case LT, LTE -> threshold + band;
+            case EQ, NE -> threshold;
+        };
+    }
+
+    private Map<String, String> parseFilter(String targetFilter) {
+        if (targetFilter == null || targetFilter.isBlank()) {
+            return Map.of();
+        }
+        try {
+            Map<String, String> filter = objectMapper.readValue(targetFilter, new TypeReference<Map<String, String>>() {});
+            for (String key : filter.keySet()) {
+                if (!FILTER_KEYS.contains(key)) {
+                    throw new IllegalArgumentException("unsupported target filter key " + key);
+                }
+            }
+            return Map.copyOf(filter);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("invalid target filter " + targetFilter);
+        }
+    }
+
+    /**
+     * 규칙 대상 유형에 따른 샘플의 시계열 키 (대상이 아니거나 필터에 맞지 않으면 null)
+     */
+    private String targetOf(CompiledRule rule, GpuTelemetrySample sample, Map<String, String> deviceModels) {
+        String target = switch (rule.targetType()) {
+            case "MIG" -> sample.migId();
+            case "ALLOCATION" -> sample.allocationId();
+            default -> sample.migId() == null ? sample.deviceId() : null;
+        };
+        if (target == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> condition : rule.filter().entrySet()) {
+            String actual = switch (condition.getKey()) {
+                case "deviceId" -> sample.deviceId();
+                case "migId" -> sample.migId();
+                default -> deviceModels.get(sample.deviceId());
+            };
+            if (!condition.getValue().equals(actual)) {
+                return null;
+            }
+        }
+        return target;
+    }
+
+    private SystemAlert buildAlert(OpenAlert open, CompiledRule rule, LocalDateTime at) {
+        AlertRule definition = rule.rule();
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("expression", open.expression);
+        details.put("clearThreshold", rule.evaluator().getSpec().clearThreshold());
+        details.put("deviceId", open.deviceId);
+        details.put("nodeName", open.nodeName);
+        details.put("modelId", open.modelId);
+        details.put("activeSince", open.since.toString());
+
+        return SystemAlert.builder()
+            .alertId(open.alertId)
+            .ruleId(open.ruleId)
+            .alertType(open.ruleType)
+            .severity(open.severity)
+            .targetType(open.targetType)
+            .targetId(open.targetId)
+            .message(String.format("%s: %s %s (current %.2f)", definition.getRuleName(), open.targetId,
+                open.expression, open.value))
+            .details(writeJson(details))
+            .metricValue(open.value)
+            .thresholdValue(definition.getThresholdValue())
+            .status(open.status)
+            .createdDate(at)
+            .build();
+    }
+
+    private String writeJson(Map<String, Object> value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private String detailText(SystemAlert alert, String field) {
+        if (alert.getDetails() == null) {
+            return null;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(alert.getDetails()).get(field);
+            return node != null && !node.isNull() ? node.asText() : null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static String expressionOf(AlertRule rule) {
+        int window = Optional.ofNullable(rule.getWindowMinutes()).orElse(0);
+        int forMinutes = Optional.ofNullable(rule.getForMinutes()).orElse(0);
+        String aggregation = Optional.ofNullable(rule.getAggregation()).orElse("LAST").toLowerCase();
+        return (window > 0 ? aggregation + "(" + window + "m)" : "last()") + " "
+            + rule.getThresholdOperator() + " " + rule.getThresholdValue()
+            + (forMinutes > 0 ? " for " + forMinutes + "m" : "");
+    }
+
+    private static String newAlertId() {
+        return "ALERT-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+
+    private static int severityRank(String severity) {
+        return switch (severity) {
+            case "CRITICAL" -> 3;
+            case "HIGH" -> 2;
+            case "MEDIUM" -> 1;
+            default -> 0;
+        };
+    }
+
+    private static final Comparator<OpenAlert> OPEN_ALERT_ORDER =
+        Comparator.comparingInt((OpenAlert open) -> severityRank(open.severity)).reversed()
+            .thenComparing(open -> open.since);
+
+    private GpuAlertGroup toGroup(String groupKey, List<OpenAlert> alerts) {
+        alerts.sort(OPEN_ALERT_ORDER);
+        OpenAlert first = alerts.get(0);
+        return GpuAlertGroup.builder()
+            .groupKey(groupKey)
+            .nodeName(first.nodeName)
+            .modelId(first.modelId)
+            .highestSeverity(first.severity)
+            .openAlerts(alerts.size())
+            .suppressedAlerts((int) alerts.stream().filter(open -> "SUPPRESSED".equals(open.status)).count())
+            .affectedTargets((int) alerts.stream().map(open -> open.targetId).distinct().count())
+            .ruleIds(alerts.stream().map(open -> open.ruleId).distinct().sorted().collect(Collectors.toList()))
+            .firstTriggeredAt(alerts.stream().map(open -> open.since).min(Comparator.naturalOrder()).orElse(null))
+            .alerts(alerts.stream().map(this::toAlertInfo).collect(Collectors.toList()))
+            .build();
+    }
+
+    private GpuAlertRuleInfo toRuleInfo(AlertRule rule, CompiledRule compiled) {
+        List<SlidingWindowRule.ActiveSeries> active = compiled != null ? compiled.evaluator().getActiveSeries() : List.of();
+        long firing = active.stream().filter(series -> series.state() == SlidingWindowRule.State.FIRING).count();
+
+        return GpuAlertRuleInfo.builder()
+            .ruleId(rule.getRuleId())
+            .ruleName(rule.getRuleName())
+            .ruleType(rule.getRuleType())
+            .targetType(rule.getTargetType())
+            .targetFilter(rule.getTargetFilter())
+            .expression(expressionOf(rule))
+            .aggregation(rule.getAggregation())
+            .windowMinutes(rule.getWindowMinutes())
+            .forMinutes(rule.getForMinutes())
+            .thresholdOperator(rule.getThresholdOperator())
+            .thresholdValue(rule.getThresholdValue())
+            .clearThreshold(compiled != null ? compiled.evaluator().getSpec().clearThreshold() : rule.getClearThreshold())
+            .severity(rule.getSeverity())
+            .enabled(rule.isEnabled())
+            .loaded(compiled != null)
+            .loadError(loadErrors.get(rule.getRuleId()))
+            .trackedSeries(compiled != null ? compiled.evaluator().size() : 0)
+            .pendingSeries((int) (active.size() - firing))
+            .firingSeries((int) firing)
+            .updatedDate(rule.getUpdatedDate())
+            .build();
+    }
+
+    private GpuAlertInfo toAlertInfo(OpenAlert open) {
+        return GpuAlertInfo.builder()
+            .alertId(open.alertId)
+            .ruleId(open.ruleId)
+            .alertType(open.ruleType)
+            .severity(open.severity)
+            .status(open.status)
+            .targetType(open.targetType)
+            .targetId(open.targetId)
+            .nodeName(open.nodeName)
+            .modelId(open.modelId)
+            .message(open.ruleName)
+            .description(open.expression)
+            .threshold(open.threshold)
+            .currentValue(open.value())
+            .triggeredAt(open.since)
+            .build();
+    }
+
+    private GpuAlertInfo toAlertInfo(SystemAlert alert) {
+        return GpuAlertInfo.builder()
+            .alertId(alert.getAlertId())
+            .ruleId(alert.getRuleId())
+            .alertType(alert.getAlertType())
+            .severity(alert.getSeverity())
+            .status(alert.getStatus())
+            .targetType(alert.getTargetType())
+            .targetId(alert.getTargetId())
+            .nodeName(detailText(alert, "nodeName"))
+            .modelId(detailText(alert, "modelId"))
+            .message(alert.getMessage())
+            .description(alert.getDetails())
+            .threshold(alert.getThresholdValue())
+            .currentValue(alert.getMetricValue())
+            .triggeredAt(alert.getCreatedDate())
+            .acknowledgedAt(alert.getAcknowledgedDate())
+            .acknowledgedBy(alert.getAcknowledgedBy())
+            .resolvedAt(alert.getResolvedDate())
+            .resolvedBy(alert.getResolvedBy())
+            .build();
+    }
+
+    private static String alertKey(String ruleId, String targetId) {
+        return ruleId + "|" + targetId;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    /**
+     * 적재된 규칙 (정의 + 평가기)
+     */
+    private record CompiledRule(AlertRule rule, SlidingWindowRule evaluator,
+                                Function<GpuTelemetrySample, Double> metric, Map<String, String> filter) {
+
+        String targetType() {
+            return rule.getTargetType() != null ? rule.getTargetType() : "DEVICE";
+        }
+
+        boolean sameDefinition(CompiledRule other) {
+            return evaluator.getSpec().equals(other.evaluator.getSpec())
+                && Objects.equals(rule.getRuleType(), other.rule.getRuleType())
+                && targetType().equals(other.targetType())
+                && filter.equals(other.filter);
+        }
+    }
+
+    /**
+     * 저장 대기 중인 변경 (fired 가 있으면 신규 발생, 없으면 status 로 상태 변경)
+     */
+    private record AlertChange(String alertId, SystemAlert fired, String status, Double value, LocalDateTime at) {
+
+        static AlertChange fired(String alertId, SystemAlert alert) {
+            return new AlertChange(alertId, alert, null, null, null);
+        }
+
+        static AlertChange status(String alertId, String status, Double value, LocalDateTime at) {
+            return new AlertChange(alertId, null, status, value, at);
+        }
+    }
+
+    // Inner class for an open (rule, target) alert
+    private final class OpenAlert {
+        private final String alertId;
+        private final String ruleId;
+        private final String ruleName;
+        private final String ruleType;
+        private final String severity;
+        private final String targetType;
+        private final String targetId;
+        private final String deviceId;
+        private final String nodeName;
+        private final String modelId;
+        private final String expression;
+        private final Double threshold;
+        private final LocalDateTime since;
+        private volatile double value = Double.NaN;
+        private volatile boolean firing = true;
+        private volatile String status = "ACTIVE"; // ACTIVE, ACKNOWLEDGED, SUPPRESSED
+
+        OpenAlert(String alertId, CompiledRule rule, String targetId, String deviceId, LocalDateTime since) {
+            AlertRule definition = rule.rule();
+            this.alertId = alertId;
+            this.ruleId = definition.getRuleId();
+            this.ruleName = definition.getRuleName();
+            this.ruleType = definition.getRuleType();
+            this.severity = definition.getSeverity() != null ? definition.getSeverity() : "MEDIUM";
+            this.targetType = rule.targetType();
+            this.targetId = targetId;
+            this.deviceId = deviceId;
+            this.nodeName = deviceId != null ? modelCatalog.getDeviceNodeNames().getOrDefault(deviceId, UNKNOWN) : UNKNOWN;
+            this.modelId = deviceId != null ? modelCatalog.getDeviceModelIds().getOrDefault(deviceId, UNKNOWN) : UNKNOWN;
+            this.expression = expressionOf(definition);
+            this.threshold = definition.getThresholdValue();
+            this.since = since;
+        }
+
+        Double value() {
+            return Double.isNaN(value) ? null : value;
+        }
+    }
+}
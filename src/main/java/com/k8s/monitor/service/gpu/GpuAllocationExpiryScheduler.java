@@ -0,0 +1,95 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.engine.HierarchicalTimingWheel;
+import com.k8s.monitor.entity.gpu.GpuAllocation;
+import com.k8s.monitor.event.gpu.GpuAllocationCreatedEvent;
+import com.k8s.monitor.event.gpu.GpuResourceReleasedEvent;
+import com.k8s.monitor.repository.gpu.GpuAllocationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * GPU 할당 만료 스케줄러
+ * plannedReleaseTime 기준 계층형 타이밍 휠로 만료 시점에 해당 할당만 해제
+ * 시작 시 활성 할당을 적재하고, 이후에는 할당 생성/해제 이벤트로 갱신
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GpuAllocationExpiryScheduler {
+
+    private static final long TICK_MILLIS = 1000L;
+
+    private final GpuAllocationRepository allocationRepository;
+    private final GpuAllocationService allocationService;
+
+    // 1초 x 64슬롯 x 4레벨 (약 194일), 그 이후는 overflow 로 보관
+    private final HierarchicalTimingWheel<String> wheel =
+        new HierarchicalTimingWheel<>(TICK_MILLIS, 6, 4, System.currentTimeMillis());
+
+    @Value("${gpu.management.allocation.auto-expire:true}")
+    private boolean autoExpire;
+
+    /**
+     * 시작 시 만료 예정 활성 할당 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadActiveAllocations() {
+        if (!autoExpire) {
+            return;
+        }
+        List<GpuAllocation> allocations = allocationRepository.findActiveAllocationsWithPlannedRelease();
+        allocations.forEach(allocation ->
+            wheel.schedule(allocation.getAllocationId(), toEpochMillis(allocation.getPlannedReleaseTime())));
+        log.info("Loaded {} active allocations into expiry wheel", allocations.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAllocationCreated(GpuAllocationCreatedEvent event) {
+        if (autoExpire && event.plannedReleaseTime() != null) {
+            wheel.schedule(event.allocationId(), toEpochMillis(event.plannedReleaseTime()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResourceReleased(GpuResourceReleasedEvent event) {
+        wheel.cancel(event.allocationId());
+    }
+
+    /**
+     * 타이밍 휠 진행 및 만료 할당 해제
+     */
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    public void tick() {
+        if (!autoExpire) {
+            return;
+        }
+        for (String allocationId : wheel.advance(System.currentTimeMillis())) {
+            try {
+                if (allocationService.expireAllocation(allocationId)) {
+                    log.info("Allocation expired: {}", allocationId);
+                }
+            } catch (Exception e) {
+                log.error("Error expiring allocation {}: {}", allocationId, e.getMessage(), e);
+            }
+        }
+    }
+
+    public int getScheduledCount() {
+        return wheel.size();
+    }
+
+    private long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,151 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.dto.gpu.GpuAllocationInfo;
+import com.k8s.monitor.dto.gpu.GpuAllocationRequest;
+import com.k8s.monitor.exception.IdempotencyKeyMismatchException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GPU 할당 멱등성 서비스
+ * 같은 Idempotency-Key 로 재시도된 요청은 배치를 다시 수행하지 않고 최초 할당 결과를 반환
+ * 동시에 들어온 중복 요청은 진행 중인 첫 요청의 결과를 함께 대기하며, 실패 결과는 보관하지 않음
+ * 키는 보관 기간(idempotency-ttl-hours) 동안만 유효하며 (메모리/DB 모두), 같은 키로 본문이 다른 요청은
+ * IdempotencyKeyMismatchException 으로 거부
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GpuAllocationIdempotencyService {
+
+    private final GpuAllocationService allocationService;
+
+    // 멱등성 키 -> 진행 중이거나 완료된 할당 결과
+    private final Map<String, KeyEntry> entries = new ConcurrentHashMap<>();
+
+    @Value("${gpu.management.allocation.idempotency-ttl-hours:24}")
+    private long ttlHours;
+
+    /**
+     * 멱등성 키 기반 GPU 리소스 할당
+     */
+    public GpuAllocationInfo allocate(String idempotencyKey, GpuAllocationRequest request) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return allocationService.allocateGpuResource(request);
+        }
+
+        String fingerprint = fingerprintOf(request);
+        KeyEntry mine = new KeyEntry(fingerprint);
+        KeyEntry existing = entries.compute(idempotencyKey,
+            (key, current) -> current == null || current.isExpired(ttl()) ? mine : current);
+
+        if (existing != mine) {
+            if (!existing.fingerprint.equals(fingerprint)) {
+                throw new IdempotencyKeyMismatchException(idempotencyKey);
+            }
+            log.info("Replaying allocation for idempotency key: {}", idempotencyKey);
+            return await(existing);
+        }
+
+        try {
+            GpuAllocationInfo allocation = findPersisted(idempotencyKey, fingerprint)
+                .orElseGet(() -> allocateOnce(idempotencyKey, fingerprint, request));
+            mine.result.complete(allocation);
+            return allocation;
+        } catch (RuntimeException e) {
+            // 실패는 보관하지 않아 다음 재시도에서 다시 배치
+            entries.remove(idempotencyKey, mine);
+            mine.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 만료된 멱등성 키 정리
+     */
+    @Scheduled(fixedRate = 600000) // 10분마다 실행
+    public void purgeExpiredKeys() {
+        Duration ttl = ttl();
+        entries.values().removeIf(entry -> entry.result.isDone() && entry.isExpired(ttl));
+    }
+
+    // Private helper methods
+
+    private GpuAllocationInfo allocateOnce(String idempotencyKey, String fingerprint, GpuAllocationRequest request) {
+        try {
+            return allocationService.allocateGpuResource(request, idempotencyKey, fingerprint);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 키로 먼저 커밋한 경우
+            Optional<GpuAllocationInfo> persisted = findPersisted(idempotencyKey, fingerprint);
+            if (persisted.isPresent()) {
+                return persisted.get();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 보관 기간 내에 저장된 같은 키의 할당 (재시작 후 또는 다른 인스턴스가 처리한 요청)
+     */
+    private Optional<GpuAllocationInfo> findPersisted(String idempotencyKey, String fingerprint) {
+        return allocationService.findByIdempotencyKey(idempotencyKey, fingerprint, LocalDateTime.now().minus(ttl()));
+    }
+
+    /**
+     * 요청 본문 해시 (SHA-256, 요청 DTO 의 모든 필드 기준)
+     */
+    private static String fingerprintOf(GpuAllocationRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(request.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private GpuAllocationInfo await(KeyEntry entry) {
+        try {
+            return entry.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Duration ttl() {
+        return Duration.ofHours(ttlHours);
+    }
+
+    // Inner class for key entry
+    private static class KeyEntry {
+        private final long createdAt = System.currentTimeMillis();
+        private final String fingerprint;
+        private final CompletableFuture<GpuAllocationInfo> result = new CompletableFuture<>();
+
+        KeyEntry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        boolean isExpired(Duration ttl) {
+            return System.currentTimeMillis() - createdAt > ttl.toMillis();
+        }
+    }
+}
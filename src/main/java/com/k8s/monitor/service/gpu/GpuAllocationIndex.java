@@ -0,0 +1,119 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.entity.gpu.GpuAllocation;
+import com.k8s.monitor.event.gpu.GpuAllocationCreatedEvent;
+import com.k8s.monitor.event.gpu.GpuResourceReleasedEvent;
+import com.k8s.monitor.repository.gpu.GpuAllocationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 활성 할당 인덱스
+ * 리소스(장비 ID 또는 MIG ID) -> 활성 할당 조회를 메모리 맵으로 제공 (메트릭 태깅, 유휴 감지 등)
+ * 할당 생성/해제 이벤트(커밋 이후)로 갱신
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GpuAllocationIndex {
+
+    private final GpuAllocationRepository allocationRepository;
+
+    // allocationId -> 할당 요약
+    private final Map<String, AllocationRef> byAllocationId = new ConcurrentHashMap<>();
+    // resource -> 활성 할당 (SHARED_GPU 장비는 여러 건)
+    private final Map<String, List<AllocationRef>> byResource = new ConcurrentHashMap<>();
+
+    /**
+     * 활성 할당 요약 (SHARED_GPU 가 아니면 computeShare 는 1.0, costPerHour 는 시간대 할증 적용 전 기본 단가)
+     */
+    public record AllocationRef(String allocationId,
+                                String namespace,
+                                String teamId,
+                                String resourceType,
+                                String allocatedResource,
+                                double computeShare,
+                                double costPerHour) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        for (GpuAllocation allocation : allocationRepository.findActiveAllocations()) {
+            add(allocation);
+        }
+        log.info("Allocation index loaded with {} active allocations", byAllocationId.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAllocationCreated(GpuAllocationCreatedEvent event) {
+        allocationRepository.findById(event.allocationId())
+            .filter(GpuAllocation::isActive)
+            .ifPresent(this::add);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResourceReleased(GpuResourceReleasedEvent event) {
+        AllocationRef removed = byAllocationId.remove(event.allocationId());
+        if (removed != null) {
+            byResource.computeIfPresent(removed.allocatedResource(), (resource, refs) -> {
+                List<AllocationRef> remaining = new ArrayList<>(refs);
+                remaining.removeIf(ref -> ref.allocationId().equals(removed.allocationId()));
+                return remaining.isEmpty() ? null : List.copyOf(remaining);
+            });
+        }
+    }
+
+    /**
+     * 리소스의 활성 할당 목록
+     */
+    public List<AllocationRef> getAllocations(String resource) {
+        return byResource.getOrDefault(resource, List.of());
+    }
+
+    /**
+     * 리소스를 단독 점유한 활성 할당 (SHARED_GPU 할당이거나 할당이 없으면 empty - 공유 테넌트가 1건뿐이어도 단독 점유가 아님)
+     */
+    public Optional<AllocationRef> getExclusiveAllocation(String resource) {
+        List<AllocationRef> refs = getAllocations(resource);
+        if (refs.size() != 1 || "SHARED_GPU".equals(refs.get(0).resourceType())) {
+            return Optional.empty();
+        }
+        return Optional.of(refs.get(0));
+    }
+
+    public Optional<AllocationRef> getAllocation(String allocationId) {
+        return Optional.ofNullable(byAllocationId.get(allocationId));
+    }
+
+    public int size() {
+        return byAllocationId.size();
+    }
+
+    // Private helper methods
+
+    private void add(GpuAllocation allocation) {
+        AllocationRef ref = new AllocationRef(
+            allocation.getAllocationId(),
+            allocation.getNamespace(),
+            allocation.getTeamId(),
+            allocation.getResourceType(),
+            allocation.getAllocatedResource(),
+            allocation.getComputeShare() != null ? allocation.getComputeShare() : 1.0,
+            allocation.getCostPerHour() != null ? allocation.getCostPerHour() : 0.0
+        );
+        byAllocationId.put(ref.allocationId(), ref);
+        byResource.compute(ref.allocatedResource(), (resource, refs) -> {
+            List<AllocationRef> updated = refs != null ? new ArrayList<>(refs) : new ArrayList<>();
+            updated.removeIf(existing -> existing.allocationId().equals(ref.allocationId()));
+            updated.add(ref);
+            return List.copyOf(updated);
+        });
+    }
+}
@@ -0,0 +1,397 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.dto.gpu.GpuAllocationInfo;
+import com.k8s.monitor.dto.gpu.GpuAllocationRequest;
+import com.k8s.monitor.dto.gpu.GpuAllocationTicket;
+import com.k8s.monitor.engine.GpuPlacementRules;
+import com.k8s.monitor.event.gpu.GpuInventoryChangedEvent;
+import com.k8s.monitor.event.gpu.GpuResourceReleasedEvent;
+import com.k8s.monitor.event.gpu.MigInstancesChangedEvent;
+import com.k8s.monitor.exception.GpuCapacityUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * GPU 할당 대기열 서비스
+ * 즉시 배치할 수 없는 요청을 priorityClass 순(클래스 내 FIFO)으로 보관하고,
+ * 리소스가 반환될 때마다 스케줄러를 깨워 배치 및 백필(backfill)을 수행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GpuAllocationQueueService {
+
+    private static final Duration FINISHED_TICKET_RETENTION = Duration.ofHours(1);
+
+    private final GpuAllocationService allocationService;
+
+    // 우선순위 순위(내림차순) -> 클래스 내 FIFO 대기열
+    private final NavigableMap<Integer, Deque<PendingRequest>> pendingByPriority = new TreeMap<>(Comparator.reverseOrder());
+    private final Map<String, PendingRequest> tickets = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition wakeUp = lock.newCondition();
+    private boolean signalled;
+    private volatile boolean running;
+    private Thread schedulerThread;
+
+    @PostConstruct
+    void start() {
+        running = true;
+        schedulerThread = new Thread(this::schedulerLoop, "gpu-allocation-queue");
+        schedulerThread.setDaemon(true);
+        schedulerThread.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        signal();
+        if (schedulerThread != null) {
+            schedulerThread.interrupt();
+        }
+    }
+
+    /**
+     * 할당 요청을 대기열에 등록하고 티켓 반환
+     */
+    public GpuAllocationTicket submit(GpuAllocationRequest request) {
+        GpuPlacementRules.validateComputeShare(request.getComputeShare());
+        PendingRequest pending = new PendingRequest(
+            "TICKET-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase(),
+            request
+        );
+
+        lock.lock();
+        try {
+            pendingByPriority.computeIfAbsent(pending.rank, rank -> new ArrayDeque<>()).addLast(pending);
+            tickets.put(pending.ticketId, pending);
+        } finally {
+            lock.unlock();
+        }
+
+        log.info("Queued GPU allocation request {} for pod: {}/{} (priority: {})",
+                pending.ticketId, request.getNamespace(), request.getPodName(), pending.priorityClass);
+        signal();
+        return toTicket(pending);
+    }
+
+    /**
+     * 티켓 상태 조회
+     */
+    public Optional<GpuAllocationTicket> getTicket(String ticketId) {
+        PendingRequest pending = tickets.get(ticketId);
+        return pending != null ? Optional.of(toTicket(pending)) : Optional.empty();
+    }
+
+    /**
+     * 티켓 완료 대기 (long-poll / subscribe 용, 이미 정리된 티켓이면 empty)
+     */
+    public Optional<CompletableFuture<GpuAllocationTicket>> awaitTicket(String ticketId) {
+        PendingRequest pending = tickets.get(ticketId);
+        if (pending == null) {
+            return Optional.empty();
+        }
+        return Optional.of(pending.result.handle((allocation, error) -> toTicket(pending)));
+    }
+
+    /**
+     * 대기 중인 티켓 취소
+     */
+    public boolean cancel(String ticketId) {
+        PendingRequest pending = tickets.get(ticketId);
+        return pending != null && completeIfQueued(pending, "CANCELLED", null, "Cancelled by client");
+    }
+
+    /**
+     * 대기 중인 요청 목록 조회 (스케줄링 순서)
+     */
+    public List<GpuAllocationTicket> getPendingTickets() {
+        lock.lock();
+        try {
+            return pendingByPriority.values().stream()
+                .flatMap(Collection::stream)
+                .map(this::toTicket)
+                .collect(Collectors.toList());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기 중인 요청 스냅샷 (MIG 재구성 계획 등 수요 분석용)
+     */
+    public List<GpuAllocationRequest> getPendingRequests() {
+        lock.lock();
+        try {
+            return pendingByPriority.values().stream()
+                .flatMap(Collection::stream)
+                .map(pending -> pending.request)
+                .collect(Collectors.toList());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 리소스 반환 시 스케줄러 깨우기 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResourceReleased(GpuResourceReleasedEvent event) {
+        log.debug("GPU resource returned ({} {}), waking allocation queue", event.status(), event.allocatedResource());
+        signal();
+    }
+
+    /**
+     * 장비 등록/삭제 시 스케줄러 깨우기 (새 장비로 대기 요청 배치 가능)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(GpuInventoryChangedEvent event) {
+        log.debug("GPU inventory changed ({} {}), waking allocation queue", event.changeType(), event.deviceId());
+        signal();
+    }
+
+    /**
+     * MIG 인스턴스 생성/삭제 시 스케줄러 깨우기 (새 MIG 인스턴스로 대기 요청 배치 가능)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMigInstancesChanged(MigInstancesChangedEvent event) {
+        log.debug("MIG instances changed ({} {}), waking allocation queue", event.changeType(), event.deviceId());
+        signal();
+    }
+
+    /**
+     * 완료된 티켓 정리 (1시간 보관)
+     */
+    @Scheduled(fixedRate = 600000) // 10분마다 실행
+    public void purgeFinishedTickets() {
+        LocalDateTime threshold = LocalDateTime.now().minus(FINISHED_TICKET_RETENTION);
+        tickets.values().removeIf(pending -> pending.completedAt != null && pending.completedAt.isBefore(threshold));
+    }
+
+    public void signal() {
+        lock.lock();
+        try {
+            signalled = true;
+            wakeUp.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Private helper methods
+
+    private void schedulerLoop() {
+        while (running) {
+            lock.lock();
+            try {
+                while (!signalled && running) {
+                    wakeUp.await();
+                }
+                signalled = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                runSchedulingPass();
+            } catch (Exception e) {
+                log.error("Error during allocation queue scheduling pass: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 스케줄링 1회 수행
+     * 높은 우선순위부터 클래스 내 FIFO로 배치하며, 선두 요청이 막히면 그보다 작은 요청만 백필
+     */
+    private void runSchedulingPass() {
+        List<PendingRequest> blockedHeads = new ArrayList<>();
+        Set<Integer> blockedRanks = new HashSet<>();
+
+        for (PendingRequest candidate : snapshotInOrder()) {
+            if (!"QUEUED".equals(candidate.status)) {
+                continue;
+            }
+
+            // 앞선 선두 요청이 막혀 있으면 그보다 작은 요청만 빈 자리를 채울 수 있음
+            boolean fitsInGap = blockedHeads.stream()
+                .allMatch(blocked -> isSmallerThan(candidate.request, blocked.request));
+
+            boolean placed = fitsInGap && tryPlace(candidate);
+            if (!placed && "QUEUED".equals(candidate.status) && blockedRanks.add(candidate.rank)) {
+                blockedHeads.add(candidate);
+            }
+        }
+    }
+
+    private List<PendingRequest> snapshotInOrder() {
+        lock.lock();
+        try {
+            return pendingByPriority.values().stream()
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean tryPlace(PendingRequest pending) {
+        try {
+            GpuAllocationInfo allocation = allocationService.allocateGpuResource(pending.request);
+            if (!completeIfQueued(pending, "ALLOCATED", allocation, null)) {
+                // 배치 도중 취소된 경우 즉시 반환 (티켓 상태 확인과 전이는 cancel 과 같은 잠금 안에서 수행)
+                allocationService.releaseGpuResource(allocation.getAllocationId());
+                return false;
+            }
+            log.info("Queued request {} allocated: {} (waited {}s)", pending.ticketId,
+                    allocation.getAllocatedResource(), pending.waitSeconds());
+            return true;
+        } catch (GpuCapacityUnavailableException e) {
+            return false;
+        } catch (RuntimeException e) {
+            if (completeIfQueued(pending, "FAILED", null, e.getMessage())) {
+                log.warn("Queued request {} failed: {}", pending.ticketId, e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 티켓이 아직 QUEUED 이면 대기열에서 제거하고 상태 전이 (이미 취소/완료되었으면 false)
+     */
+    private boolean completeIfQueued(PendingRequest pending, String status, GpuAllocationInfo allocation,
+                                     String failureReason) {
+        lock.lock();
+        try {
+            if (!"QUEUED".equals(pending.status)) {
+                return false;
+            }
+            removeFromQueue(pending);
+            pending.markCompleted(status, allocation, failureReason);
+        } finally {
+            lock.unlock();
+        }
+        // 대기 중인 구독자 콜백은 잠금 밖에서 실행
+        pending.result.complete(allocation);
+        return true;
+    }
+
+    private void removeFromQueue(PendingRequest pending) {
+        lock.lock();
+        try {
+            Deque<PendingRequest> queue = pendingByPriority.get(pending.rank);
+            if (queue != null) {
+                queue.remove(pending);
+                if (queue.isEmpty()) {
+                    pendingByPriority.remove(pending.rank);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 백필 가능 여부: MIG/공유 GPU 요청은 전체 GPU 요청보다 작고, 같은 유형은 요구 메모리로 비교
+     */
+    private boolean isSmallerThan(GpuAllocationRequest candidate, GpuAllocationRequest blocked) {
+        boolean candidateFractional = isFractional(candidate);
+        boolean blockedFractional = isFractional(blocked);
+
+        if (candidateFractional != blockedFractional) {
+            return candidateFractional;
+        }
+        return candidate.getRequiredMemoryGb() != null && blocked.getRequiredMemoryGb() != null
+            && candidate.getRequiredMemoryGb() < blocked.getRequiredMemoryGb();
+    }
+
+    private boolean isFractional(GpuAllocationRequest request) {
+        return Boolean.TRUE.equals(request.getUseMig()) || Boolean.TRUE.equals(request.getAllowSharedGpu());
+    }
+
+    private GpuAllocationTicket toTicket(PendingRequest pending) {
+        return GpuAllocationTicket.builder()
+            .ticketId(pending.ticketId)
+            .status(pending.status)
+            .priorityClass(pending.priorityClass)
+            .queuePosition("QUEUED".equals(pending.status) ? queuePositionOf(pending) : null)
+            .namespace(pending.request.getNamespace())
+            .podName(pending.request.getPodName())
+            .submittedAt(pending.submittedAt)
+            .completedAt(pending.completedAt)
+            .waitSeconds(pending.waitSeconds())
+            .allocation(pending.allocation)
+            .failureReason(pending.failureReason)
+            .build();
+    }
+
+    private Integer queuePositionOf(PendingRequest target) {
+        lock.lock();
+        try {
+            int position = 0;
+            for (Deque<PendingRequest> queue : pendingByPriority.values()) {
+                for (PendingRequest pending : queue) {
+                    if (pending == target) {
+                        return position;
+                    }
+                    position++;
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Inner class for queued request
+    private static class PendingRequest {
+        private final String ticketId;
+        private final GpuAllocationRequest request;
+        private final String priorityClass;
+        private final int rank;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final CompletableFuture<GpuAllocationInfo> result = new CompletableFuture<>();
+
+        private volatile String status = "QUEUED";
+        private volatile LocalDateTime completedAt;
+        private volatile GpuAllocationInfo allocation;
+        private volatile String failureReason;
+
+        PendingRequest(String ticketId, GpuAllocationRequest request) {
+            this.ticketId = ticketId;
+            this.request = request;
+            this.priorityClass = GpuPriorityClasses.normalize(request.getPriorityClass());
+            this.rank = GpuPriorityClasses.rank(request.getPriorityClass());
+        }
+
+        void markCompleted(String status, GpuAllocationInfo allocation, String failureReason) {
+            this.allocation = allocation;
+            this.failureReason = failureReason;
+            this.completedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        long waitSeconds() {
+            LocalDateTime end = completedAt != null ? completedAt : LocalDateTime.now();
+            return Duration.between(submittedAt, end).getSeconds();
+        }
+    }
+}
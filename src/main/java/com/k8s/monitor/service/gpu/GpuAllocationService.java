@@ -1,14 +1,23 @@
 package com.k8s.monitor.service.gpu;
 
 import com.k8s.monitor.dto.gpu.*;
+import com.k8s.monitor.engine.GpuPlacementRules;
 import com.k8s.monitor.entity.gpu.*;
+import com.k8s.monitor.event.gpu.GpuAllocationCreatedEvent;
+import com.k8s.monitor.event.gpu.GpuAllocationPreemptedEvent;
+import com.k8s.monitor.event.gpu.GpuResourceReleasedEvent;
+import com.k8s.monitor.exception.GpuCapacityUnavailableException;
+import com.k8s.monitor.exception.IdempotencyKeyMismatchException;
 import com.k8s.monitor.repository.gpu.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -25,24 +34,55 @@ public class GpuAllocationService {
     private final GpuAllocationRepository allocationRepository;
     private final GpuDeviceRepository gpuDeviceRepository;
     private final MigInstanceRepository migInstanceRepository;
+    private final GpuUsageMetricsRepository metricsRepository;
     private final GpuCostAnalysisService costAnalysisService;
+    private final GpuCostAccrualService costAccrualService;
+    private final GpuModelCatalog modelCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${gpu.management.allocation.preemption.enabled:false}")
+    private boolean preemptionEnabled;
+
+    @Value("${gpu.management.sharing.max-sharing-ratio:4}")
+    private int maxSharingRatio;
+
+    @Value("${gpu.management.sharing.memory-headroom-gb:1}")
+    private int sharingMemoryHeadroomGb;
+
+    @Value("${gpu.management.sharing.metrics-max-age-seconds:300}")
+    private long sharingMetricsMaxAgeSeconds;
 
     /**
      * GPU 리소스 할당
      */
     @Transactional
     public GpuAllocationInfo allocateGpuResource(GpuAllocationRequest request) {
+        return allocateGpuResource(request, null, null);
+    }
+
+    /**
+     * GPU 리소스 할당 (클라이언트 멱등성 키 기록)
+     */
+    @Transactional
+    public GpuAllocationInfo allocateGpuResource(GpuAllocationRequest request, String idempotencyKey,
+                                                 String idempotencyFingerprint) {
         log.info("Allocating GPU resource for pod: {}/{}", request.getNamespace(), request.getPodName());
+        GpuPlacementRules.validateComputeShare(request.getComputeShare());
         
         // 할당할 리소스 찾기
         String allocatedResource;
         String resourceType;
+        Double computeShare = null;
+        Double costShare = 1.0;
         
         if (Boolean.TRUE.equals(request.getUseMig())) {
             // MIG 인스턴스 할당
             MigInstance migInstance = findSuitableMigInstance(request);
             if (migInstance == null) {
-                throw new RuntimeException("No suitable MIG instance available for allocation");
+                migInstance = preemptForMigInstance(request);
+            }
+            if (migInstance == null) {
+                throw new GpuCapacityUnavailableException("No suitable MIG instance available for allocation");
             }
             
             allocatedResource = migInstance.getMigId();
@@ -53,11 +93,29 @@ public class GpuAllocationService {
             migInstance.setAllocatedDate(LocalDateTime.now());
             migInstanceRepository.save(migInstance);
             
+        } else if (Boolean.TRUE.equals(request.getAllowSharedGpu())) {
+            // 공유 GPU (타임슬라이싱) 할당 - 기존 공유 장비에 best-fit, 없으면 빈 장비를 공유 장비로 개방
+            if (request.getRequiredMemoryGb() == null) {
+                throw new IllegalArgumentException("requiredMemoryGb is required for shared GPU allocation");
+            }
+            SharedPlacement placement = findSuitableSharedDevice(request);
+            if (placement == null) {
+                throw new GpuCapacityUnavailableException("No GPU device with enough shared capacity available for allocation");
+            }
+            
+            allocatedResource = placement.device().getDeviceId();
+            resourceType = "SHARED_GPU";
+            computeShare = placement.computeShare();
+            costShare = placement.costShare();
+            
         } else {
             // 전체 GPU 할당
             GpuDevice device = findSuitableGpuDevice(request);
             if (device == null) {
-                throw new RuntimeException("No suitable GPU device available for allocation");
+                device = preemptForDevice(request);
+            }
+            if (device == null) {
+                throw new GpuCapacityUnavailableException("No suitable GPU device available for allocation");
             }
             
             allocatedResource = device.getDeviceId();
@@ -65,7 +123,7 @@ public class GpuAllocationService {
         }
         
         // 비용 계산
-        Double costPerHour = costAnalysisService.calculateCostPerHour(resourceType, allocatedResource);
+        Double costPerHour = costAnalysisService.calculateCostPerHour(resourceType, allocatedResource, costShare);
         
         // 할당 정보 생성
         GpuAllocation allocation = GpuAllocation.builder()
@@ -77,7 +135,9 @@ public class GpuAllocationService {
             .resourceType(resourceType)
             .allocatedResource(allocatedResource)
             .requestedMemoryGb(request.getRequiredMemoryGb())
-            .allocatedMemoryGb(getAllocatedMemoryGb(resourceType, allocatedResource))
+            .allocatedMemoryGb("SHARED_GPU".equals(resourceType) 
+                ? request.getRequiredMemoryGb() : getAllocatedMemoryGb(resourceType, allocatedResource))
+            .computeShare(computeShare)
             .priorityClass(request.getPriorityClass())
             .allocationTime(LocalDateTime.now())
             .plannedReleaseTime(request.getPlannedReleaseTime())
@@ -86,10 +146,19 @@ public class GpuAllocationService {
             .userId(request.getUserId())
             .teamId(request.getTeamId())
             .projectId(request.getProjectId())
+            .idempotencyKey(idempotencyKey)
+            .idempotencyFingerprint(idempotencyFingerprint)
             .build();
         
         allocation = allocationRepository.save(allocation);
         
+        eventPublisher.publishEvent(new GpuAllocationCreatedEvent(
+            allocation.getAllocationId(),
+            allocation.getResourceType(),
+            allocation.getAllocatedResource(),
+            allocation.getPlannedReleaseTime()
+        ));
+        
         log.info("GPU resource allocated: {} -> {}", allocatedResource, allocation.getAllocationId());
         return convertToAllocationDto(allocation);
     }
@@ -106,27 +175,35 @@ public class GpuAllocationService {
             throw new RuntimeException("Allocation is not in allocated status: " + allocation.getStatus());
         }
         
-        // 사용 시간 계산 및 비용 업데이트
-        LocalDateTime releaseTime = LocalDateTime.now();
-        long usageHours = java.time.Duration.between(allocation.getAllocationTime(), releaseTime).toHours();
-        Double totalCost = allocation.getCostPerHour() * Math.max(1, usageHours); // 최소 1시간 과금
-        
-        allocation.setReleaseTime(releaseTime);
-        allocation.setStatus("RELEASED");
-        allocation.setTotalCost(totalCost);
-        allocationRepository.save(allocation);
-        
-        // 리소스 해제
-        if ("MIG_INSTANCE".equals(allocation.getResourceType())) {
-            MigInstance migInstance = migInstanceRepository.findById(allocation.getAllocatedResource())
-                .orElseThrow(() -> new RuntimeException("MIG instance not found: " + allocation.getAllocatedResource()));
-            migInstance.setAllocated("N");
-            migInstance.setLastUsedDate(releaseTime);
-            migInstanceRepository.save(migInstance);
+        releaseAllocation(allocation, "RELEASED");
+    }
+
+    /**
+     * 멱등성 키로 보관 기간 내 기존 할당 조회
+     * 보관 기간(notBefore 이전 생성)이 지난 키는 기존 할당에서 떼어 내어 새 요청이 재사용할 수 있게 하고,
+     * 최초 요청과 본문 해시가 다르면 IdempotencyKeyMismatchException (해시가 없는 이전 행은 비교하지 않음)
+     */
+    @Transactional
+    public Optional<GpuAllocationInfo> findByIdempotencyKey(String idempotencyKey, String fingerprint,
+                                                            LocalDateTime notBefore) {
+        Optional<GpuAllocation> found = allocationRepository.findByIdempotencyKey(idempotencyKey);
+        if (found.isEmpty()) {
+            return Optional.empty();
         }
         
-        log.info("GPU resource released: {} (used {} hours, cost: ${})", 
-                allocation.getAllocatedResource(), usageHours, totalCost);
+        GpuAllocation allocation = found.get();
+        if (allocation.getCreatedDate() != null && allocation.getCreatedDate().isBefore(notBefore)) {
+            log.info("Idempotency key {} expired on allocation {}, releasing key for reuse",
+                    idempotencyKey, allocation.getAllocationId());
+            allocation.setIdempotencyKey(null);
+            allocation.setIdempotencyFingerprint(null);
+            allocationRepository.saveAndFlush(allocation);
+            return Optional.empty();
+        }
+        if (allocation.getIdempotencyFingerprint() != null && !allocation.getIdempotencyFingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyMismatchException(idempotencyKey);
+        }
+        return Optional.of(convertToAllocationDto(allocation));
     }
 
     /**
@@ -211,51 +288,178 @@ public class GpuAllocationService {
     }
 
     /**
-     * 만료된 할당 자동 해제 (스케줄러)
+     * 할당 만료 처리 (만료 타이밍 휠에서 호출)
+     * 이미 해제되었거나 만료 시각이 아직 도래하지 않은 경우 false 반환
      */
-    @Scheduled(fixedRate = 300000) // 5분마다 실행
     @Transactional
-    public void autoExpireAllocations() {
-        int expiredCount = allocationRepository.expireOldAllocations();
-        if (expiredCount > 0) {
-            log.info("Auto-expired {} allocations", expiredCount);
-            
-            // 만료된 할당의 MIG 인스턴스 해제
-            List<GpuAllocation> expiredAllocations = allocationRepository.findByStatus("EXPIRED");
-            for (GpuAllocation allocation : expiredAllocations) {
-                if ("MIG_INSTANCE".equals(allocation.getResourceType())) {
-                    migInstanceRepository.findById(allocation.getAllocatedResource())
-                        .ifPresent(migInstance -> {
-                            migInstance.setAllocated("N");
-                            migInstance.setLastUsedDate(LocalDateTime.now());
-                            migInstanceRepository.save(migInstance);
-                        });
-                }
-            }
+    public boolean expireAllocation(String allocationId) {
+        Optional<GpuAllocation> found = allocationRepository.findById(allocationId);
+        if (found.isEmpty() || !"ALLOCATED".equals(found.get().getStatus())) {
+            return false;
+        }
+        
+        GpuAllocation allocation = found.get();
+        if (allocation.getPlannedReleaseTime() == null || 
+            allocation.getPlannedReleaseTime().isAfter(LocalDateTime.now())) {
+            return false;
+        }
+        
+        releaseAllocation(allocation, "EXPIRED");
+        return true;
+    }
+
+    /**
+     * 유휴 MIG 인스턴스 회수 (유휴 감지기에서 호출)
+     * 판정 이후 할당이 바뀌었거나 이미 해제된 경우 false 반환
+     */
+    @Transactional
+    public boolean reclaimMigInstance(String migId, String allocationId) {
+        Optional<GpuAllocation> found = allocationRepository.findById(allocationId);
+        if (found.isEmpty() || !"ALLOCATED".equals(found.get().getStatus())
+                || !migId.equals(found.get().getAllocatedResource())) {
+            return false;
+        }
+        
+        releaseAllocation(found.get(), "RELEASED");
+        return true;
+    }
+
+    /**
+     * 만료된 할당 일괄 해제 (안전망)
+     * 정상적으로는 만료 타이밍 휠이 만료 시점에 개별 해제하므로 누락분만 처리
+     */
+    @Scheduled(fixedRate = 3600000) // 1시간마다 실행
+    @Transactional
+    public int autoExpireAllocations() {
+        List<GpuAllocation> expiredAllocations = allocationRepository.findExpiredAllocations();
+        for (GpuAllocation allocation : expiredAllocations) {
+            releaseAllocation(allocation, "EXPIRED");
         }
+        
+        if (!expiredAllocations.isEmpty()) {
+            log.info("Auto-expired {} allocations missed by expiry scheduler", expiredAllocations.size());
+        }
+        return expiredAllocations.size();
     }
 
     // Private helper methods
     
+    /**
+     * 할당 해제 공통 처리 (일반 해제 / 선점)
+     */
+    private void releaseAllocation(GpuAllocation allocation, String status) {
+        // 사용 시간 계산 및 비용 업데이트 (누적 비용 + 마지막 누적 이후 사용분)
+        LocalDateTime releaseTime = LocalDateTime.now();
+        long usageMinutes = Duration.between(allocation.getAllocationTime(), releaseTime).toMinutes();
+        Double totalCost = costAccrualService.settle(allocation, releaseTime);
+        
+        allocation.setReleaseTime(releaseTime);
+        allocation.setStatus(status);
+        allocation.setTotalCost(totalCost);
+        allocation.setCostAccruedUntil(releaseTime);
+        allocationRepository.save(allocation);
+        
+        // 리소스 해제
+        if ("MIG_INSTANCE".equals(allocation.getResourceType())) {
+            MigInstance migInstance = migInstanceRepository.findById(allocation.getAllocatedResource())
+                .orElseThrow(() -> new RuntimeException("MIG instance not found: " + allocation.getAllocatedResource()));
+            migInstance.setAllocated("N");
+            migInstance.setLastUsedDate(releaseTime);
+            migInstanceRepository.save(migInstance);
+        }
+        
+        publishReleased(allocation);
+        
+        log.info("GPU resource {}: {} (used {} minutes, cost: ${})", 
+                status.toLowerCase(), allocation.getAllocatedResource(), usageMinutes, String.format("%.4f", totalCost));
+    }
+
+    /**
+     * 전체 GPU 요청을 위한 선점: 요청을 만족하는 장비를 점유한 하위 우선순위 할당 중 손실이 가장 작은 1건
+     * (가장 작은 리소스, 가장 짧은 실행 시간 순)을 PREEMPTED 상태로 해제하고 비워진 장비 반환 (없으면 null)
+     * 후보 장비가 요청에 맞는지 먼저 확인하므로 해제 후 배치에 실패하는 경우가 없음
+     */
+    private GpuDevice preemptForDevice(GpuAllocationRequest request) {
+        if (!preemptionAllowed(request)) {
+            return null;
+        }
+        int requestRank = GpuPriorityClasses.rank(request.getPriorityClass());
+        for (Object[] row : allocationRepository.findDevicePreemptionCandidates(
+                GpuPriorityClasses.lowerThan(requestRank), defaultIsLowerThan(requestRank))) {
+            GpuDevice device = (GpuDevice) row[1];
+            if (matchesDeviceRequest(device, request)) {
+                preempt((GpuAllocation) row[0], request);
+                return device;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * MIG 요청을 위한 선점 (선택 기준은 전체 GPU 와 동일), 비워진 인스턴스 반환 (없으면 null)
+     */
+    private MigInstance preemptForMigInstance(GpuAllocationRequest request) {
+        if (!preemptionAllowed(request)) {
+            return null;
+        }
+        int requestRank = GpuPriorityClasses.rank(request.getPriorityClass());
+        for (Object[] row : allocationRepository.findMigPreemptionCandidates(
+                GpuPriorityClasses.lowerThan(requestRank), defaultIsLowerThan(requestRank))) {
+            MigInstance instance = (MigInstance) row[1];
+            if (matchesMigRequest(instance, request)) {
+                preempt((GpuAllocation) row[0], request);
+                return instance;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 선점은 전역 설정과 요청의 allowPreemption 이 모두 켜져 있을 때만 허용 (기본 비활성)
+     */
+    private boolean preemptionAllowed(GpuAllocationRequest request) {
+        return preemptionEnabled && Boolean.TRUE.equals(request.getAllowPreemption())
+            && !GpuPriorityClasses.lowerThan(GpuPriorityClasses.rank(request.getPriorityClass())).isEmpty();
+    }
+
+    private boolean defaultIsLowerThan(int rank) {
+        return GpuPriorityClasses.rank(GpuPriorityClasses.DEFAULT) < rank;
+    }
+
+    private void preempt(GpuAllocation preempted, GpuAllocationRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        long runtimeLostMinutes = Duration.between(preempted.getAllocationTime(), now).toMinutes();
+        releaseAllocation(preempted, "PREEMPTED");
+        
+        eventPublisher.publishEvent(new GpuAllocationPreemptedEvent(
+            preempted.getAllocationId(),
+            preempted.getNamespace(),
+            preempted.getPodName(),
+            GpuPriorityClasses.normalize(preempted.getPriorityClass()),
+            preempted.getResourceType(),
+            preempted.getAllocatedResource(),
+            request.getNamespace(),
+            request.getPodName(),
+            GpuPriorityClasses.normalize(request.getPriorityClass()),
+            runtimeLostMinutes,
+            now
+        ));
+    }
+    
+    private void publishReleased(GpuAllocation allocation) {
+        eventPublisher.publishEvent(new GpuResourceReleasedEvent(
+            allocation.getAllocationId(),
+            allocation.getResourceType(),
+            allocation.getAllocatedResource(),
+            allocation.getStatus()
+        ));
+    }
+    
     private MigInstance findSuitableMigInstance(GpuAllocationRequest request) {
         List<MigInstance> availableInstances = migInstanceRepository.findAvailableInstances();
         
         return availableInstances.stream()
-            .filter(instance -> {
-                // 메모리 요구사항 확인
-                if (request.getRequiredMemoryGb() != null && 
-                    instance.getProfile().getMemoryGb() < request.getRequiredMemoryGb()) {
-                    return false;
-                }
-                
-                // 선호 모델 확인
-                if (request.getPreferredModelId() != null && 
-                    !request.getPreferredModelId().equals(instance.getDevice().getModel().getModelId())) {
-                    return false;
-                }
-                
-                return true;
-            })
+            .filter(instance -> matchesMigRequest(instance, request))
             .findFirst()
             .orElse(null);
     }
@@ -264,39 +468,121 @@ public class GpuAllocationService {
         List<GpuDevice> availableDevices = gpuDeviceRepository.findAvailableDevices();
         
         return availableDevices.stream()
-            .filter(device -> {
-                // 메모리 요구사항 확인
-                if (request.getRequiredMemoryGb() != null && 
-                    device.getModel().getMemoryGb() < request.getRequiredMemoryGb()) {
-                    return false;
-                }
-                
-                // 선호 모델 확인
-                if (request.getPreferredModelId() != null && 
-                    !request.getPreferredModelId().equals(device.getModel().getModelId())) {
-                    return false;
-                }
-                
-                // 선호 아키텍처 확인
-                if (request.getPreferredArchitecture() != null && 
-                    !request.getPreferredArchitecture().equals(device.getModel().getArchitecture())) {
-                    return false;
-                }
-                
-                return true;
-            })
+            .filter(device -> matchesDeviceRequest(device, request))
             .findFirst()
             .orElse(null);
     }
 
+    /**
+     * 공유 GPU 배치 장비 선택
+     * 장비별 공유 수(maxSharingRatio), 선언 메모리/연산 점유율 합계, 최신 메트릭의 실제 여유 메모리를 모두 만족하는
+     * 장비 중 이미 공유 중인 장비에 best-fit 으로 배치하고, 없으면 빈 장비를 새 공유 장비로 개방
+     * (용량 시뮬레이터와 같은 GpuPlacementRules 순서 사용)
+     */
+    private SharedPlacement findSuitableSharedDevice(GpuAllocationRequest request) {
+        Map<String, List<GpuAllocation>> tenantsByDevice = allocationRepository
+            .findActiveAllocationsByResourceType("SHARED_GPU").stream()
+            .collect(Collectors.groupingBy(GpuAllocation::getAllocatedResource));
+        
+        int sharingRatio = request.getMaxSharingRatio() != null 
+            ? Math.min(request.getMaxSharingRatio(), maxSharingRatio) : maxSharingRatio;
+        int requiredMemoryGb = request.getRequiredMemoryGb();
+        
+        SharedPlacement best = null;
+        for (GpuDevice device : gpuDeviceRepository.findShareableDevices()) {
+            Optional<GpuModelCatalog.CatalogModel> model = catalogModelOf(device);
+            if (model.isEmpty() || !matchesModelRequest(model.get(), request)) {
+                continue;
+            }
+            
+            List<GpuAllocation> tenants = tenantsByDevice.getOrDefault(device.getDeviceId(), List.of());
+            int deviceMemoryGb = model.get().memoryGb();
+            double memoryShare = (double) requiredMemoryGb / deviceMemoryGb;
+            double computeShare = GpuPlacementRules.sharedComputeShare(request.getComputeShare(), requiredMemoryGb, deviceMemoryGb);
+            
+            int declaredMemoryGb = tenants.stream()
+                .mapToInt(tenant -> Optional.ofNullable(tenant.getAllocatedMemoryGb()).orElse(0))
+                .sum();
+            double declaredCompute = tenants.stream()
+                .mapToDouble(tenant -> Optional.ofNullable(tenant.getComputeShare()).orElse(0.0))
+                .sum();
+            
+            if (!GpuPlacementRules.sharedFits(deviceMemoryGb, tenants.size(), sharingRatio,
+                    declaredMemoryGb, declaredCompute, requiredMemoryGb, computeShare)) {
+                continue;
+            }
+            if (!hasLiveMemoryHeadroom(device.getDeviceId(), requiredMemoryGb)) {
+                continue;
+            }
+            
+            if (best == null || GpuPlacementRules.sharedPreferred(tenants.size(), declaredMemoryGb,
+                    best.tenants(), best.declaredMemoryGb())) {
+                best = new SharedPlacement(device, computeShare, Math.max(computeShare, memoryShare),
+                    tenants.size(), declaredMemoryGb);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 최신 메트릭 기준 실제 여유 메모리 확인 (최근 메트릭이 없으면 선언값만으로 판단)
+     */
+    private boolean hasLiveMemoryHeadroom(String deviceId, int requiredMemoryGb) {
+        LocalDateTime now = LocalDateTime.now();
+        return metricsRepository.findByDeviceAndTimeRange(deviceId, now.minusSeconds(sharingMetricsMaxAgeSeconds), now)
+            .stream()
+            .filter(metrics -> metrics.getMigInstance() == null)
+            .filter(metrics -> metrics.getMemoryTotalMb() != null && metrics.getMemoryUsedMb() != null)
+            .findFirst()
+            .map(metrics -> (metrics.getMemoryTotalMb() - metrics.getMemoryUsedMb()) / 1024.0 
+                >= requiredMemoryGb + sharingMemoryHeadroomGb)
+            .orElse(true);
+    }
+
+    private boolean matchesMigRequest(MigInstance instance, GpuAllocationRequest request) {
+        int profileMemoryGb = modelCatalog.getProfile(instance.getProfile().getProfileId())
+            .map(GpuModelCatalog.CatalogProfile::memoryGb)
+            .orElse(0);
+        String deviceModelId = request.getPreferredModelId() != null
+            ? modelCatalog.getDeviceModel(instance.getDevice().getDeviceId())
+                .map(GpuModelCatalog.CatalogModel::modelId)
+                .orElse(null)
+            : null;
+        return GpuPlacementRules.migMatches(profileMemoryGb, deviceModelId,
+                request.getRequiredMemoryGb(), request.getPreferredModelId());
+    }
+
+    private boolean matchesDeviceRequest(GpuDevice device, GpuAllocationRequest request) {
+        return catalogModelOf(device)
+            .filter(model -> matchesModelRequest(model, request))
+            .isPresent();
+    }
+
+    private boolean matchesModelRequest(GpuModelCatalog.CatalogModel model, GpuAllocationRequest request) {
+        return GpuPlacementRules.deviceMatches(model.memoryGb(), model.modelId(), model.architecture(),
+                request.getRequiredMemoryGb(), request.getPreferredModelId(), request.getPreferredArchitecture());
+    }
+
+    /**
+     * 카탈로그의 장비 모델 (다음 카탈로그 갱신 전에 추가된 장비는 empty - 배치 후보에서 제외)
+     */
+    private Optional<GpuModelCatalog.CatalogModel> catalogModelOf(GpuDevice device) {
+        Optional<GpuModelCatalog.CatalogModel> model = modelCatalog.getDeviceModel(device.getDeviceId());
+        if (model.isEmpty()) {
+            log.debug("Skipping device {} not yet in GPU model catalog", device.getDeviceId());
+        }
+        return model;
+    }
+
     private Integer getAllocatedMemoryGb(String resourceType, String resourceId) {
         if ("MIG_INSTANCE".equals(resourceType)) {
             return migInstanceRepository.findById(resourceId)
-                .map(instance -> instance.getProfile().getMemoryGb())
+                .flatMap(instance -> modelCatalog.getProfile(instance.getProfile().getProfileId()))
+                .map(GpuModelCatalog.CatalogProfile::memoryGb)
                 .orElse(0);
         } else {
-            return gpuDeviceRepository.findById(resourceId)
-                .map(device -> device.getModel().getMemoryGb())
+            return modelCatalog.getDeviceModel(resourceId)
+                .map(GpuModelCatalog.CatalogModel::memoryGb)
                 .orElse(0);
         }
     }
@@ -312,19 +598,26 @@ public class GpuAllocationService {
             .allocatedResource(allocation.getAllocatedResource())
             .requestedMemoryGb(allocation.getRequestedMemoryGb())
             .allocatedMemoryGb(allocation.getAllocatedMemoryGb())
+            .computeShare(allocation.getComputeShare())
             .priorityClass(allocation.getPriorityClass())
             .allocationTime(allocation.getAllocationTime())
             .plannedReleaseTime(allocation.getPlannedReleaseTime())
             .releaseTime(allocation.getReleaseTime())
             .status(allocation.getStatus())
             .costPerHour(allocation.getCostPerHour())
-            .totalCost(allocation.getTotalCost())
+            .totalCost(allocation.isActive()
+                ? costAccrualService.getAccruedCost(allocation.getAllocationId()).orElse(allocation.getTotalCost())
+                : allocation.getTotalCost())
             .userId(allocation.getUserId())
             .teamId(allocation.getTeamId())
             .projectId(allocation.getProjectId())
             .build();
     }
 
+    private record SharedPlacement(GpuDevice device, double computeShare, double costShare, int tenants,
+                                   int declaredMemoryGb) {
+    }
+
     private String generateAllocationId() {
         return "ALLOC-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
     }
@@ -0,0 +1,187 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.dto.gpu.GpuAnomalyInfo;
+import com.k8s.monitor.dto.gpu.GpuDeviceAnomalyStatus;
+import com.k8s.monitor.engine.TelemetryAnomalyDetector;
+import com.k8s.monitor.event.gpu.GpuInventoryChangedEvent;
+import com.k8s.monitor.event.gpu.GpuTelemetryCollectedEvent;
+import com.k8s.monitor.event.gpu.GpuTelemetrySample;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * GPU 텔레메트리 이상 감지 서비스
+ * 수집 주기마다 발행되는 물리 GPU 샘플을 온라인 감지기에 반영 (DB 조회 없음, 장비별 고정 크기 상태)
+ * 고정 임계치로는 잡히지 않는, 같은 부하에서 피어보다 뜨겁거나 전력을 더 쓰는 장비와 클럭 저하를 감지
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GpuAnomalyDetectionService {
+
+    private static final String UNKNOWN = "unknown";
+
+    private final GpuModelCatalog modelCatalog;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${gpu.management.anomaly.enabled:true}")
+    private boolean enabled;
+
+    @Value("${gpu.management.anomaly.alpha:0.1}")
+    private double alpha;
+
+    @Value("${gpu.management.anomaly.z-threshold:3.0}")
+    private double zThreshold;
+
+    @Value("${gpu.management.anomaly.warmup-samples:20}")
+    private int warmupSamples;
+
+    @Value("${gpu.management.anomaly.min-peers:3}")
+    private int minPeers;
+
+    @Value("${gpu.management.anomaly.min-temperature-delta:5.0}")
+    private double minTemperatureDelta;
+
+    @Value("${gpu.management.anomaly.min-power-delta:30.0}")
+    private double minPowerDelta;
+
+    @Value("${gpu.management.anomaly.clock-drop-ratio:0.15}")
+    private double clockDropRatio;
+
+    @Value("${gpu.management.anomaly.busy-utilization:50.0}")
+    private double busyUtilization;
+
+    private TelemetryAnomalyDetector detector;
+
+    @PostConstruct
+    void createDetector() {
+        detector = new TelemetryAnomalyDetector(new TelemetryAnomalyDetector.Config(
+            alpha, zThreshold, warmupSamples, minPeers, minTemperatureDelta, minPowerDelta,
+            clockDropRatio, busyUtilization));
+        Gauge.builder("gpu.anomalies.active", detector, TelemetryAnomalyDetector::activeAnomalyCount)
+            .description("Active GPU telemetry anomalies")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 텔레메트리 샘플 반영 (커밋 이후, 물리 GPU 샘플만)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTelemetryCollected(GpuTelemetryCollectedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Map<String, String> deviceModels = modelCatalog.getDeviceModelIds();
+        Map<String, String> deviceNodes = modelCatalog.getDeviceNodeNames();
+
+        for (GpuTelemetrySample sample : event.samples()) {
+            if (sample.migId() != null || sample.deviceId() == null || sample.gpuUtilizationPct() == null) {
+                continue;
+            }
+            String peerGroup = deviceNodes.getOrDefault(sample.deviceId(), UNKNOWN) + "/"
+                + deviceModels.getOrDefault(sample.deviceId(), UNKNOWN);
+            LocalDateTime timestamp = sample.timestamp() != null ? sample.timestamp() : event.collectedAt();
+
+            detector.observe(sample.deviceId(), peerGroup, toMillis(timestamp), sample.gpuUtilizationPct(),
+                    sample.temperatureC(), sample.powerDrawW(), sample.clockGraphicsMhz())
+                .forEach(anomaly -> log.warn("GPU anomaly detected on {}: {}", anomaly.deviceId(), describe(anomaly)));
+        }
+    }
+
+    /**
+     * 삭제된 장비 상태 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(GpuInventoryChangedEvent event) {
+        if ("DELETED".equals(event.changeType())) {
+            detector.remove(event.deviceId());
+        }
+    }
+
+    /**
+     * 장비 이상 감지 상태 (샘플이 없으면 empty)
+     */
+    public Optional<GpuDeviceAnomalyStatus> getDeviceStatus(String deviceId) {
+        return detector.getStatus(deviceId).map(this::toStatus);
+    }
+
+    /**
+     * 이상이 감지된 장비 목록 (이상 수 많은 순)
+     */
+    public List<GpuDeviceAnomalyStatus> getAnomalousDevices() {
+        return detector.getAnomalousDevices().stream()
+            .map(this::toStatus)
+            .sorted(Comparator.comparing((GpuDeviceAnomalyStatus status) -> status.getAnomalies().size()).reversed()
+                .thenComparing(GpuDeviceAnomalyStatus::getDeviceId))
+            .collect(Collectors.toList());
+    }
+
+    // Private helper methods
+
+    private GpuDeviceAnomalyStatus toStatus(TelemetryAnomalyDetector.DeviceStatus status) {
+        String state = !status.warmedUp() ? "LEARNING" : status.anomalies().isEmpty() ? "NORMAL" : "ANOMALOUS";
+        return GpuDeviceAnomalyStatus.builder()
+            .deviceId(status.deviceId())
+            .peerGroup(status.peerGroup())
+            .peerCount(status.peers())
+            .samples(status.samples())
+            .status(state)
+            .temperatureResidualC(round(status.temperatureResidual()))
+            .powerResidualW(round(status.powerResidual()))
+            .clockBaselineMhz(round(status.clockBaseline()))
+            .anomalies(status.anomalies().stream().map(this::toAnomalyInfo).collect(Collectors.toList()))
+            .build();
+    }
+
+    private GpuAnomalyInfo toAnomalyInfo(TelemetryAnomalyDetector.Anomaly anomaly) {
+        return GpuAnomalyInfo.builder()
+            .deviceId(anomaly.deviceId())
+            .signal(anomaly.signal().name())
+            .kind(anomaly.kind().name())
+            .value(round(anomaly.value()))
+            .expected(round(anomaly.expected()))
+            .score(round(anomaly.score()))
+            .description(describe(anomaly))
+            .detectedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(anomaly.detectedAtMillis()), ZoneId.systemDefault()))
+            .build();
+    }
+
+    private String describe(TelemetryAnomalyDetector.Anomaly anomaly) {
+        String unit = switch (anomaly.signal()) {
+            case TEMPERATURE -> "°C";
+            case POWER -> "W";
+            case CLOCK -> "MHz";
+        };
+        return switch (anomaly.kind()) {
+            case PEER_OUTLIER -> String.format("%s %.1f%s, 같은 부하의 피어 대비 %.1f%s 높음",
+                anomaly.signal(), anomaly.value(), unit, anomaly.value() - anomaly.expected(), unit);
+            case SUDDEN_SHIFT -> String.format("%s %.1f%s, 평소 대비 급상승 (z=%.1f)",
+                anomaly.signal(), anomaly.value(), unit, anomaly.score());
+            case CLOCK_DROP -> String.format("부하 중 클럭 %.0f%s, 기준 %.0f%s 대비 %.0f%% 저하",
+                anomaly.value(), unit, anomaly.expected(), unit, anomaly.score() * 100);
+        };
+    }
+
+    private static Double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
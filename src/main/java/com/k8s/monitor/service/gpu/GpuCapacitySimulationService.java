@@ -0,0 +1,311 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.dto.gpu.GpuCapacitySimulationResult;
+import com.k8s.monitor.engine.CapacitySimulator;
+import com.k8s.monitor.entity.gpu.GpuAllocation;
+import com.k8s.monitor.entity.gpu.GpuDevice;
+import com.k8s.monitor.entity.gpu.MigInstance;
+import com.k8s.monitor.repository.gpu.GpuAllocationRepository;
+import com.k8s.monitor.repository.gpu.GpuDeviceRepository;
+import com.k8s.monitor.repository.gpu.MigInstanceRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * GPU 용량 시뮬레이션 서비스
+ * 최근 할당 이력과 현재 장비/MIG 구성으로 CapacitySimulator 입력을 구성하여 대기/거절/고갈 시점을 추정
+ * 기본 조건(배율 1, 설정된 연간 증가율)의 결과와 증설 필요 수량은 백그라운드에서 주기적으로 계산하여 보관
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GpuCapacitySimulationService {
+
+    private final GpuDeviceRepository gpuDeviceRepository;
+    private final MigInstanceRepository migInstanceRepository;
+    private final GpuAllocationRepository allocationRepository;
+    private final GpuModelCatalog modelCatalog;
+
+    @Value("${gpu.management.capacity.simulation.history-days:30}")
+    private int historyDays;
+
+    @Value("${gpu.management.capacity.simulation.horizon-days:365}")
+    private int horizonDays;
+
+    @Value("${gpu.management.capacity.simulation.runs:200}")
+    private int defaultRuns;
+
+    @Value("${gpu.management.capacity.simulation.annual-growth:0.0}")
+    private double defaultAnnualGrowth;
+
+    @Value("${gpu.management.capacity.simulation.max-wait-minutes:240}")
+    private long defaultMaxWaitMinutes;
+
+    @Value("${gpu.management.capacity.simulation.exhaustion-rejection-rate:0.05}")
+    private double exhaustionRejectionRate;
+
+    @Value("${gpu.management.capacity.simulation.target-rejection-rate:0.01}")
+    private double targetRejectionRate;
+
+    @Value("${gpu.management.capacity.simulation.max-additional-gpus:1024}")
+    private int maxAdditionalGpus;
+
+    @Value("${gpu.management.capacity.simulation.parallelism:0}")
+    private int parallelism;
+
+    @Value("${gpu.management.sharing.max-sharing-ratio:4}")
+    private int maxSharingRatio;
+
+    private ForkJoinPool simulationPool;
+    private volatile GpuCapacitySimulationResult baseline;
+
+    @PostConstruct
+    void start() {
+        simulationPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void stop() {
+        simulationPool.shutdownNow();
+    }
+
+    /**
+     * 시뮬레이션 조건
+     */
+    public record SimulationRequest(int horizonDays, double demandScale, double annualGrowth,
+                                    long maxWaitMinutes, int runs) {
+    }
+
+    public SimulationRequest defaultRequest() {
+        return new SimulationRequest(horizonDays, 1.0, defaultAnnualGrowth, defaultMaxWaitMinutes, defaultRuns);
+    }
+
+    /**
+     * 지정 조건으로 시뮬레이션 실행
+     */
+    public GpuCapacitySimulationResult simulate(SimulationRequest request) {
+        Inputs inputs = loadInputs();
+        CapacitySimulator.Result result = new CapacitySimulator(inputs.devices(), inputs.history(), inputs.active())
+            .simulate(settings(request, request.runs()), simulationPool);
+        return toDto(request, inputs, result);
+    }
+
+    /**
+     * 최근 기본 조건 시뮬레이션 결과 (아직 계산 전이면 empty)
+     */
+    public Optional<GpuCapacitySimulationResult> getBaseline() {
+        return Optional.ofNullable(baseline);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        simulationPool.execute(this::refreshBaseline);
+    }
+
+    @Scheduled(fixedRate = 3600000, initialDelay = 3600000) // 1시간마다 실행
+    public void scheduledRefresh() {
+        refreshBaseline();
+    }
+
+    // Private helper methods
+
+    /**
+     * 기본 조건 시뮬레이션과 증설 수량 탐색
+     * 거절 확률이 목표치를 넘으면 가장 많이 보유한 전체 GPU 모델을 늘려가며(목표 달성까지 2배씩 확장 후 이분 탐색)
+     * 최소 증설 수량 산출 - 상한(max-additional-gpus)까지 늘려도 미달이면 상한과 초과 플래그로 보고
+     */
+    private void refreshBaseline() {
+        try {
+            SimulationRequest request = defaultRequest();
+            Inputs inputs = loadInputs();
+            if (inputs.devices().isEmpty()) {
+                return;
+            }
+            CapacitySimulator.Result result = new CapacitySimulator(inputs.devices(), inputs.history(), inputs.active())
+                .simulate(settings(request, request.runs()), simulationPool);
+            GpuCapacitySimulationResult dto = toDto(request, inputs, result);
+
+            Optional<CapacitySimulator.Device> template = expansionTemplate(inputs.devices());
+            Expansion expansion = new Expansion(0, false);
+            if (result.rejectionProbability() > targetRejectionRate && template.isPresent()) {
+                expansion = findAdditionalGpus(request, inputs, template.get());
+            }
+            int additional = expansion.additional();
+            dto.setAdditionalGpusNeeded(additional);
+            dto.setAdditionalGpusExceedsLimit(expansion.exceedsLimit());
+            dto.setExpansionModelId(template.map(CapacitySimulator.Device::modelId).orElse(null));
+
+            baseline = dto;
+            log.info("Capacity simulation refreshed: rejection {}%, exhaustion ETA {}, additional GPUs {} ({} ms)",
+                    String.format("%.2f", result.rejectionProbability() * 100), dto.getExhaustionEta(),
+                    additional, result.elapsedMillis());
+        } catch (Exception e) {
+            log.error("Error running capacity simulation: {}", e.getMessage(), e);
+        }
+    }
+
+    private Expansion findAdditionalGpus(SimulationRequest request, Inputs inputs, CapacitySimulator.Device template) {
+        int searchRuns = Math.max(20, request.runs() / 4);
+        int limit = Math.max(1, maxAdditionalGpus);
+
+        int low = 0;
+        int high = 1;
+        while (rejectionWith(request, inputs, template, high, searchRuns) > targetRejectionRate) {
+            if (high >= limit) {
+                return new Expansion(limit, true); // 상한까지 늘려도 목표 거절률 미달
+            }
+            low = high;
+            high = Math.min(high * 2, limit);
+        }
+        while (high - low > 1) {
+            int mid = (low + high) / 2;
+            if (rejectionWith(request, inputs, template, mid, searchRuns) > targetRejectionRate) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return new Expansion(high, false);
+    }
+
+    private double rejectionWith(SimulationRequest request, Inputs inputs, CapacitySimulator.Device template,
+                                 int additional, int runs) {
+        List<CapacitySimulator.Device> expanded = new ArrayList<>(inputs.devices());
+        for (int i = 0; i < additional; i++) {
+            expanded.add(new CapacitySimulator.Device("SIM-" + i, template.modelId(), template.architecture(),
+                    template.memoryGb(), false, List.of()));
+        }
+        return new CapacitySimulator(expanded, inputs.history(), inputs.active())
+            .simulate(settings(request, runs), simulationPool)
+            .rejectionProbability();
+    }
+
+    /**
+     * 증설 기준 장비: 가장 많이 보유한 MIG 비활성 모델
+     */
+    private Optional<CapacitySimulator.Device> expansionTemplate(List<CapacitySimulator.Device> devices) {
+        return devices.stream()
+            .filter(device -> !device.migEnabled())
+            .collect(Collectors.groupingBy(CapacitySimulator.Device::modelId, Collectors.toList()))
+            .values().stream()
+            .max(Comparator.comparingInt(List::size))
+            .map(group -> group.get(0));
+    }
+
+    private CapacitySimulator.Settings settings(SimulationRequest request, int runs) {
+        return new CapacitySimulator.Settings(request.horizonDays(), historyDays * 1440L,
+                request.demandScale(), request.annualGrowth(), request.maxWaitMinutes(),
+                maxSharingRatio, exhaustionRejectionRate, runs, 42L);
+    }
+
+    private record Inputs(List<CapacitySimulator.Device> devices,
+                          List<CapacitySimulator.Job> history,
+                          List<CapacitySimulator.Job> active) {
+    }
+
+    // 증설 수량 (exceedsLimit 이면 상한까지 늘려도 목표 거절률 미달)
+    private record Expansion(int additional, boolean exceedsLimit) {
+    }
+
+    private Inputs loadInputs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime historyStart = now.minusDays(historyDays);
+
+        Map<String, List<MigInstance>> instancesByDevice = migInstanceRepository.findActiveInstances().stream()
+            .collect(Collectors.groupingBy(instance -> instance.getDevice().getDeviceId()));
+
+        List<CapacitySimulator.Device> devices = new ArrayList<>();
+        for (GpuDevice device : gpuDeviceRepository.findAll()) {
+            boolean migEnabled = "MIG_ENABLED".equals(device.getDeviceStatus());
+            if (!migEnabled && !"ACTIVE".equals(device.getDeviceStatus())) {
+                continue;
+            }
+            Optional<GpuModelCatalog.CatalogModel> model = modelCatalog.getDeviceModel(device.getDeviceId());
+            if (model.isEmpty()) {
+                continue;
+            }
+            List<Integer> profileMemory = migEnabled
+                ? instancesByDevice.getOrDefault(device.getDeviceId(), List.of()).stream()
+                    .map(instance -> modelCatalog.getProfile(instance.getProfile().getProfileId())
+                        .map(GpuModelCatalog.CatalogProfile::memoryGb)
+                        .orElse(0))
+                    .toList()
+                : List.of();
+            devices.add(new CapacitySimulator.Device(device.getDeviceId(), model.get().modelId(),
+                    model.get().architecture(), Optional.ofNullable(model.get().memoryGb()).orElse(0),
+                    migEnabled, profileMemory));
+        }
+
+        Function<GpuAllocation, CapacitySimulator.Job> toHistoryJob = allocation -> toJob(allocation,
+            Duration.between(historyStart, allocation.getAllocationTime()).toMinutes(),
+            Duration.between(allocation.getAllocationTime(),
+                allocation.getReleaseTime() != null ? allocation.getReleaseTime() : now).toMinutes());
+        List<CapacitySimulator.Job> history = allocationRepository.findByAllocationTimeBetween(historyStart, now).stream()
+            .filter(allocation -> allocation.getResourceType() != null)
+            .map(toHistoryJob)
+            .collect(Collectors.toList());
+
+        // 현재 활성 할당은 계획 해제 시각까지, 없으면 이력에서 재표본한 시간만큼 점유
+        List<CapacitySimulator.Job> active = allocationRepository.findActiveAllocations().stream()
+            .filter(allocation -> allocation.getResourceType() != null)
+            .map(allocation -> toJob(allocation, 0,
+                allocation.getPlannedReleaseTime() != null && allocation.getPlannedReleaseTime().isAfter(now)
+                    ? Duration.between(now, allocation.getPlannedReleaseTime()).toMinutes() : 0))
+            .collect(Collectors.toList());
+
+        return new Inputs(devices, history, active);
+    }
+
+    private CapacitySimulator.Job toJob(GpuAllocation allocation, long offsetMinutes, long durationMinutes) {
+        CapacitySimulator.ResourceKind kind = switch (allocation.getResourceType()) {
+            case "MIG_INSTANCE" -> CapacitySimulator.ResourceKind.MIG_INSTANCE;
+            case "SHARED_GPU" -> CapacitySimulator.ResourceKind.SHARED_GPU;
+            default -> CapacitySimulator.ResourceKind.FULL_GPU;
+        };
+        Integer requiredMemoryGb = kind == CapacitySimulator.ResourceKind.SHARED_GPU
+            ? Optional.ofNullable(allocation.getAllocatedMemoryGb()).orElse(allocation.getRequestedMemoryGb())
+            : allocation.getRequestedMemoryGb();
+        return new CapacitySimulator.Job(Math.max(0, offsetMinutes), durationMinutes, kind,
+                requiredMemoryGb, allocation.getComputeShare(), null, null,
+                GpuPriorityClasses.rank(allocation.getPriorityClass()));
+    }
+
+    private GpuCapacitySimulationResult toDto(SimulationRequest request, Inputs inputs, CapacitySimulator.Result result) {
+        LocalDate today = LocalDate.now();
+        return GpuCapacitySimulationResult.builder()
+            .horizonDays(request.horizonDays())
+            .historyDays(historyDays)
+            .demandScale(request.demandScale())
+            .annualGrowth(request.annualGrowth())
+            .maxWaitMinutes(request.maxWaitMinutes())
+            .runs(result.runs())
+            .simulatedDevices(inputs.devices().size())
+            .historicalAllocations(inputs.history().size())
+            .meanArrivalsPerRun(result.meanArrivalsPerRun())
+            .rejectionProbability(result.rejectionProbability())
+            .queueingProbability(result.queueingProbability())
+            .meanWaitMinutes(result.meanWaitMinutes())
+            .p95WaitMinutes(result.p95WaitMinutes())
+            .exhaustionProbability(result.exhaustionProbability())
+            .exhaustionEta(result.medianExhaustionDay() != null ? today.plusDays(result.medianExhaustionDay()) : null)
+            .pessimisticExhaustionEta(result.p10ExhaustionDay() != null ? today.plusDays(result.p10ExhaustionDay()) : null)
+            .elapsedMillis(result.elapsedMillis())
+            .simulatedAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,367 @@
+package com.k8s.monitor.service.gpu;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.k8s.monitor.dto.gpu.GpuAlertInfo;
+import com.k8s.monitor.dto.gpu.GpuAllocationInfo;
+import com.k8s.monitor.dto.gpu.GpuClusterOverview;
+import com.k8s.monitor.dto.gpu.GpuDeviceStatistics;
+import com.k8s.monitor.entity.gpu.GpuUsageHourly;
+import com.k8s.monitor.repository.gpu.GpuUsageHourlyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * GPU 클러스터 개요 스냅샷 서비스
+ * 개요의 각 섹션(장비/할당/사용률/비용/알람/동향)을 백그라운드에서 정해진 주기로 따로 갱신하고,
+ * 조립한 개요를 불변 스냅샷으로 AtomicReference 에 게시 (요청 경로에서는 DB 를 조회하지 않음)
+ *
+ * 섹션 갱신이 실패하면 이전 값을 유지하며, 내용이 바뀌지 않으면 스냅샷(ETag, lastUpdated)도 유지
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GpuClusterOverviewService {
+
+    private static final int TREND_HOURS = 24;
+
+    private final GpuDeviceService gpuDeviceService;
+    private final GpuAllocationService allocationService;
+    private final GpuMetricsCollectionService metricsService;
+    private final GpuCostAccrualService costAccrualService;
+    private final GpuAlertRuleService alertRuleService;
+    private final GpuUsageHourlyRepository hourlyRepository;
+    private final GpuUsageRollupService rollupService;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<DeviceSection> deviceSection = new AtomicReference<>(DeviceSection.EMPTY);
+    private final AtomicReference<AllocationSection> allocationSection = new AtomicReference<>(AllocationSection.EMPTY);
+    private final AtomicReference<UtilizationSection> utilizationSection = new AtomicReference<>(UtilizationSection.EMPTY);
+    private final AtomicReference<CostSection> costSection = new AtomicReference<>(CostSection.EMPTY);
+    private final AtomicReference<AlertSection> alertSection = new AtomicReference<>(AlertSection.EMPTY);
+    private final AtomicReference<TrendSection> trendSection = new AtomicReference<>(TrendSection.EMPTY);
+
+    private final AtomicReference<OverviewSnapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * 게시된 개요 스냅샷 (공유 객체이므로 수정 금지)
+     */
+    public record OverviewSnapshot(GpuClusterOverview overview, String etag) {
+    }
+
+    /**
+     * 현재 스냅샷 (첫 갱신 전에는 빈 개요)
+     */
+    public OverviewSnapshot getSnapshot() {
+        OverviewSnapshot current = snapshot.get();
+        if (current == null) {
+            publish();
+            current = snapshot.get();
+        }
+        return current;
+    }
+
+    /**
+     * 사용률/할당/비용/알람 섹션 갱신 (비용/알람은 인메모리 집계)
+     */
+    @Scheduled(fixedRate = 30000) // 30초마다 실행
+    public void refreshLiveSections() {
+        refresh("utilization", utilizationSection, this::buildUtilizationSection);
+        refresh("allocations", allocationSection, this::buildAllocationSection);
+        refresh("cost", costSection, this::buildCostSection);
+        refresh("alerts", alertSection, this::buildAlertSection);
+        publish();
+    }
+
+    /**
+     * 장비 분포/용량 섹션 갱신
+     */
+    @Scheduled(fixedRate = 60000) // 1분마다 실행
+    public void refreshDeviceSection() {
+        refresh("devices", deviceSection, this::buildDeviceSection);
+        publish();
+    }
+
+    /**
+     * 24시간 동향 섹션 갱신 (클러스터 시간별 롤업 기준)
+     */
+    @Scheduled(fixedRate = 300000) // 5분마다 실행
+    public void refreshTrendSection() {
+        refresh("trends", trendSection, this::buildTrendSection);
+        publish();
+    }
+
+    // Private helper methods
+
+    private <T> void refresh(String name, AtomicReference<T> section, Supplier<T> builder) {
+        try {
+            section.set(builder.get());
+        } catch (Exception e) {
+            log.warn("Failed to refresh cluster overview section {}: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 섹션을 조립하여 게시 (내용이 같으면 기존 스냅샷 유지)
+     */
+    private synchronized void publish() {
+        DeviceSection devices = deviceSection.get();
+        AllocationSection allocations = allocationSection.get();
+        UtilizationSection utilization = utilizationSection.get();
+        CostSection cost = costSection.get();
+        AlertSection alerts = alertSection.get();
+        TrendSection trends = trendSection.get();
+
+        OverviewSnapshot current = snapshot.get();
+        String etag = etag(List.of(devices, allocations, utilization, cost, alerts, trends));
+        if (current != null && current.etag().equals(etag)) {
+            return;
+        }
+
+        GpuClusterOverview overview = GpuClusterOverview.builder()
+            // 기본 통계
+            .totalNodes(devices.totalNodes())
+            .totalGpuDevices(devices.totalGpuDevices())
+            .totalMigInstances(0) // MIG 통계는 별도 서비스에서 조회 필요
+            .activeAllocations(allocations.activeAllocations())
+
+            // 분포 정보
+            .devicesByModel(devices.devicesByModel())
+            .devicesByArchitecture(devices.devicesByArchitecture())
+            .devicesByGeneration(devices.devicesByGeneration())
+
+            // 사용률 정보
+            .overallGpuUtilization(utilization.gpuUtilization())
+            .overallMemoryUtilization(utilization.memoryUtilization())
+            .overallTemperature(utilization.temperature())
+            .overallPowerConsumption(utilization.powerConsumption())
+
+            // 할당 정보
+            .allocationsByWorkloadType(allocations.byWorkloadType())
+            .allocationsByNamespace(allocations.byNamespace())
+            .allocationsByTeam(allocations.byTeam())
+
+            // 비용 정보
+            .totalHourlyCost(cost.hourlyCost())
+            .totalMonthlyCost(cost.monthlyCost())
+            .costByWorkloadType(cost.workloadCost())
+
+            // 용량 정보
+            .totalMemoryCapacityGb(devices.totalMemoryCapacityGb())
+            .availableMemoryCapacityGb(devices.availableMemoryCapacityGb())
+            .memoryUtilizationPercent(devices.memoryUtilizationPercent())
+
+            // 알람 정보
+            .totalAlerts(alerts.total())
+            .criticalAlerts(alerts.critical())
+            .warningAlerts(alerts.warning())
+            .topAlerts(alerts.topAlerts())
+
+            // 성능 동향
+            .utilizationTrend24h(trends.utilization())
+            .temperatureTrend24h(trends.temperature())
+
+            .lastUpdated(LocalDateTime.now())
+            .build();
+        snapshot.set(new OverviewSnapshot(overview, etag));
+    }
+
+    private String etag(Object content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(content));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (Exception e) {
+            return "\"" + Integer.toHexString(content.hashCode()) + "\"";
+        }
+    }
+
+    private DeviceSection buildDeviceSection() {
+        GpuDeviceStatistics deviceStats = gpuDeviceService.getGpuDeviceStatistics();
+        Map<String, Integer> devicesByModel = deviceStats.getDevicesByModel() != null ? deviceStats.getDevicesByModel() : Map.of();
+        int totalDevices = deviceStats.getTotalDevices() != null ? deviceStats.getTotalDevices() : 0;
+        int activeDevices = deviceStats.getActiveDevices() != null ? deviceStats.getActiveDevices() : 0;
+
+        // 용량 정보 (GPU당 평균 24GB 가정)
+        int totalMemory = totalDevices * 24;
+        int availableMemory = activeDevices * 24;
+        double memoryUtilizationPercent = totalMemory > 0 ? ((double) (totalMemory - availableMemory) / totalMemory) * 100.0 : 0.0;
+
+        return new DeviceSection(
+            deviceStats.getDevicesByNode() != null ? deviceStats.getDevicesByNode().size() : 0,
+            totalDevices,
+            immutable(devicesByModel),
+            countBy(devicesByModel, this::extractArchitecture),
+            countBy(devicesByModel, this::extractGeneration),
+            totalMemory,
+            availableMemory,
+            memoryUtilizationPercent);
+    }
+
+    private AllocationSection buildAllocationSection() {
+        List<GpuAllocationInfo> allocations = allocationService.getActiveAllocations();
+        return new AllocationSection(
+            allocations.size(),
+            countAllocations(allocations, GpuAllocationInfo::getWorkloadType),
+            countAllocations(allocations, GpuAllocationInfo::getNamespace),
+            countAllocations(allocations, GpuAllocationInfo::getTeamId));
+    }
+
+    @SuppressWarnings("unchecked")
+    private UtilizationSection buildUtilizationSection() {
+        Map<String, Object> stats = metricsService.getGpuUsageStatistics(1); // 최근 1시간
+        Map<String, Object> deviceStats = (Map<String, Object>) stats.get("deviceStatistics");
+        if (deviceStats == null || deviceStats.isEmpty()) {
+            return UtilizationSection.EMPTY;
+        }
+
+        double totalGpuUtil = 0.0, totalMemoryUtil = 0.0, totalTemp = 0.0, totalPower = 0.0;
+        int count = 0;
+        for (Object deviceData : deviceStats.values()) {
+            if (deviceData instanceof Map) {
+                Map<String, Object> data = (Map<String, Object>) deviceData;
+                totalGpuUtil += getDoubleValue(data, "avgGpuUtilization");
+                totalMemoryUtil += getDoubleValue(data, "avgMemoryUtilization");
+                totalTemp += getDoubleValue(data, "avgTemperature");
+                count++;
+            }
+        }
+        if (count == 0) {
+            return UtilizationSection.EMPTY;
+        }
+        return new UtilizationSection(totalGpuUtil / count, totalMemoryUtil / count, totalTemp / count, totalPower / count);
+    }
+
+    private CostSection buildCostSection() {
+        // 비용 누적 스냅샷 (1분 단위 갱신)
+        GpuCostAccrualService.CostSnapshot cost = costAccrualService.getSnapshot();
+        return new CostSection(cost.hourlyCost(), cost.hourlyCost() * 24 * 30, cost.accruedCost());
+    }
+
+    private AlertSection buildAlertSection() {
+        // 규칙 엔진의 미해소 알람 ((규칙, 대상)별 1건) 기준
+        Map<String, Long> bySeverity = alertRuleService.countOpenAlertsBySeverity();
+        List<GpuAlertInfo> alerts = alertRuleService.getOpenAlerts();
+        int total = alerts.size();
+        int critical = bySeverity.getOrDefault("CRITICAL", 0L).intValue();
+        List<String> topAlerts = alerts.stream()
+            .limit(5)
+            .map(alert -> alert.getTargetId() + ": " + alert.getRuleId() + " (" + alert.getSeverity() + ")")
+            .toList();
+        return new AlertSection(total, critical, total - critical, topAlerts);
+    }
+
+    /**
+     * 최근 24시간 클러스터 시간별 평균 (저장된 롤업 + 진행 중 구간), 키는 hour_HH
+     */
+    private TrendSection buildTrendSection() {
+        LocalDateTime since = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(TREND_HOURS - 1);
+        Map<LocalDateTime, GpuUsageHourly> byHour = new TreeMap<>();
+        hourlyRepository.findByScopeTypeAndScopeIdAndHourStartGreaterThanEqualOrderByHourStart(
+                GpuUsageHourly.SCOPE_CLUSTER, GpuUsageHourly.CLUSTER_ID, since)
+            .forEach(rollup -> byHour.put(rollup.getHourStart(), rollup));
+        rollupService.getUnflushedRollups(GpuUsageHourly.SCOPE_CLUSTER).stream()
+            .filter(rollup -> !rollup.getHourStart().isBefore(since))
+            .forEach(rollup -> byHour.putIfAbsent(rollup.getHourStart(), rollup));
+
+        Map<String, Double> utilization = new LinkedHashMap<>();
+        Map<String, Double> temperature = new LinkedHashMap<>();
+        byHour.forEach((hourStart, rollup) -> {
+            String key = String.format("hour_%02d", hourStart.getHour());
+            if (rollup.getAvgGpuUtilizationPct() != null) {
+                utilization.put(key, round(rollup.getAvgGpuUtilizationPct()));
+            }
+            if (rollup.getAvgTemperatureC() != null) {
+                temperature.put(key, round(rollup.getAvgTemperatureC()));
+            }
+        });
+        return new TrendSection(Collections.unmodifiableMap(utilization), Collections.unmodifiableMap(temperature));
+    }
+
+    private Map<String, Integer> countBy(Map<String, Integer> devicesByModel, Function<String, String> classifier) {
+        Map<String, Integer> result = new TreeMap<>();
+        devicesByModel.forEach((model, count) -> result.merge(classifier.apply(model), count, Integer::sum));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private Map<String, Integer> countAllocations(List<GpuAllocationInfo> allocations,
+                                                  Function<GpuAllocationInfo, String> classifier) {
+        return Collections.unmodifiableMap(allocations.stream()
+            .collect(Collectors.toMap(
+                allocation -> Optional.ofNullable(classifier.apply(allocation)).orElse("Unknown"),
+                allocation -> 1, Integer::sum, TreeMap::new)));
+    }
+
+    private String extractArchitecture(String modelName) {
+        if (modelName.contains("RTX40") || modelName.contains("RTX 40")) return "Ada Lovelace";
+        if (modelName.contains("RTX30") || modelName.contains("RTX 30")) return "Ampere";
+        if (modelName.contains("RTX20") || modelName.contains("RTX 20")) return "Turing";
+        if (modelName.contains("GTX10") || modelName.contains("GTX 10")) return "Pascal";
+        if (modelName.contains("A100") || modelName.contains("H100")) return "Hopper";
+        if (modelName.contains("V100")) return "Volta";
+        return "Unknown";
+    }
+
+    private String extractGeneration(String modelName) {
+        if (modelName.contains("RTX40") || modelName.contains("H100")) return "Latest";
+        if (modelName.contains("RTX30") || modelName.contains("A100")) return "Current";
+        if (modelName.contains("RTX20") || modelName.contains("V100")) return "Previous";
+        if (modelName.contains("GTX10") || modelName.contains("GTX16")) return "Legacy";
+        return "Unknown";
+    }
+
+    private double getDoubleValue(Map<String, Object> map, String key) {
+        Object value = map.get(key);
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        return 0.0;
+    }
+
+    private static Map<String, Integer> immutable(Map<String, Integer> map) {
+        return Collections.unmodifiableMap(new TreeMap<>(map));
+    }
+
+    private static Double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    // Section records (불변, 섹션별 독립 갱신)
+
+    private record DeviceSection(int totalNodes, int totalGpuDevices, Map<String, Integer> devicesByModel,
+                                 Map<String, Integer> devicesByArchitecture, Map<String, Integer> devicesByGeneration,
+                                 int totalMemoryCapacityGb, int availableMemoryCapacityGb, double memoryUtilizationPercent) {
+        static final DeviceSection EMPTY = new DeviceSection(0, 0, Map.of(), Map.of(), Map.of(), 0, 0, 0.0);
+    }
+
+    private record AllocationSection(int activeAllocations, Map<String, Integer> byWorkloadType,
+                                     Map<String, Integer> byNamespace, Map<String, Integer> byTeam) {
+        static final AllocationSection EMPTY = new AllocationSection(0, Map.of(), Map.of(), Map.of());
+    }
+
+    private record UtilizationSection(double gpuUtilization, double memoryUtilization, double temperature,
+                                      double powerConsumption) {
+        static final UtilizationSection EMPTY = new UtilizationSection(0.0, 0.0, 0.0, 0.0);
+    }
+
+    private record CostSection(double hourlyCost, double monthlyCost, double workloadCost) {
+        static final CostSection EMPTY = new CostSection(0.0, 0.0, 0.0);
+    }
+
+    private record AlertSection(int total, int critical, int warning, List<String> topAlerts) {
+        static final AlertSection EMPTY = new AlertSection(0, 0, 0, List.of());
+    }
+
+    private record TrendSection(Map<String, Double> utilization, Map<String, Double> temperature) {
+        static final TrendSection EMPTY = new TrendSection(Map.of(), Map.of());
+    }
+}
@@ -0,0 +1,361 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.entity.gpu.GpuAllocation;
+import com.k8s.monitor.entity.gpu.GpuCostDaily;
+import com.k8s.monitor.event.gpu.GpuAllocationCreatedEvent;
+import com.k8s.monitor.event.gpu.GpuResourceReleasedEvent;
+import com.k8s.monitor.repository.gpu.GpuAllocationRepository;
+import com.k8s.monitor.repository.gpu.MigInstanceRepository;
+import com.k8s.monitor.service.gpu.GpuCostCubeService.CellKey;
+import com.k8s.monitor.service.gpu.GpuCostCubeService.CellValue;
+import com.k8s.monitor.service.gpu.GpuCostCubeService.CostDimensions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GPU 비용 누적(accrual) 서비스
+ * 활성 할당별 비용을 1분 단위로 누적하고 네임스페이스/팀/프로젝트/워크로드 유형별 합계를 메모리 스냅샷으로 제공
+ * 누적값은 주기적으로 할당 행(total_cost, cost_accrued_until)과 일별 비용 큐브에 같은 트랜잭션으로 체크포인트하여
+ * 재시작 시 체크포인트 이후분만 다시 누적
+ *
+ * 체크포인트/해제 시 꺼낸 누적분은 트랜잭션이 커밋되지 않으면 되돌려 놓음 (다음 체크포인트에서 재시도)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GpuCostAccrualService {
+
+    private static final double MILLIS_PER_HOUR = 3_600_000.0;
+
+    private final GpuAllocationRepository allocationRepository;
+    private final MigInstanceRepository migInstanceRepository;
+    private final GpuModelCatalog modelCatalog;
+    private final GpuCostCubeService costCubeService;
+    private final GpuRateTable rateTable;
+
+    // allocationId -> 누적 상태
+    private final Map<String, Accrual> accruals = new ConcurrentHashMap<>();
+
+    private volatile CostSnapshot snapshot = CostSnapshot.empty();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        for (GpuAllocation allocation : allocationRepository.findActiveAllocations()) {
+            track(allocation);
+        }
+        accrue();
+        log.info("Cost accrual tracking {} active allocations", accruals.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAllocationCreated(GpuAllocationCreatedEvent event) {
+        allocationRepository.findById(event.allocationId())
+            .filter(GpuAllocation::isActive)
+            .ifPresent(this::track);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResourceReleased(GpuResourceReleasedEvent event) {
+        accruals.remove(event.allocationId());
+    }
+
+    /**
+     * 1분 단위 누적 및 스냅샷 갱신
+     */
+    @Scheduled(fixedRate = 60000) // 1분마다 실행
+    public synchronized void accrue() {
+        LocalDateTime now = LocalDateTime.now();
+        GpuRateTable.PricingTiers tiers = rateTable.getPricingTiers();
+        for (Accrual accrual : accruals.values()) {
+            accrual.accrueUntil(now, tiers);
+        }
+        snapshot = buildSnapshot(now, tiers);
+    }
+
+    /**
+     * 누적 비용 체크포인트 저장 (할당 행 + 비용 큐브)
+     */
+    @Scheduled(fixedRate = 300000) // 5분마다 실행
+    @Transactional
+    public synchronized void checkpoint() {
+        Map<CellKey, CellValue> deltas = new HashMap<>();
+        Map<Accrual, Map<LocalDate, CellValue>> drained = new HashMap<>();
+        int updated = 0;
+        for (Accrual accrual : accruals.values()) {
+            Accrual.Checkpoint checkpoint = accrual.checkpoint(deltas);
+            if (checkpoint != null) {
+                drained.put(accrual, checkpoint.drained());
+                updated += allocationRepository.updateAccruedCost(accrual.allocationId, checkpoint.cost(), checkpoint.until());
+            }
+        }
+        afterRollback(() -> drained.forEach((accrual, days) -> accrual.restore(days, false)));
+        costCubeService.applyDeltas(deltas);
+        log.debug("Checkpointed accrued cost for {} allocations ({} cube cells)", updated, deltas.size());
+    }
+
+    /**
+     * 해제 시점까지의 정확한 비용 확정 (시간 단위 절사 없음)
+     * 마지막 체크포인트 이후 비용은 호출한 해제 트랜잭션 안에서 비용 큐브에 반영
+     */
+    public double settle(GpuAllocation allocation, LocalDateTime releaseTime) {
+        Map<CellKey, CellValue> deltas = new HashMap<>();
+        GpuRateTable.PricingTiers tiers = rateTable.getPricingTiers();
+        double finalCost;
+
+        Accrual accrual = accruals.get(allocation.getAllocationId());
+        if (accrual != null) {
+            Map<LocalDate, CellValue> drained = new HashMap<>();
+            finalCost = accrual.settle(releaseTime, tiers, deltas, drained);
+            // 해제가 롤백되면 누적을 재개하고 꺼낸 누적분을 되돌림
+            afterRollback(() -> accrual.restore(drained, true));
+        } else {
+            // 추적 중이지 않은 할당은 체크포인트(없으면 할당 시각)부터 현재 단가로 계산
+            Accrual untracked = newAccrual(allocation);
+            finalCost = untracked.settle(releaseTime, tiers, deltas, new HashMap<>());
+        }
+
+        costCubeService.applyDeltas(deltas);
+        return finalCost;
+    }
+
+    /**
+     * 활성 할당의 현재까지 누적 비용 (최근 누적 시점 기준)
+     */
+    public Optional<Double> getAccruedCost(String allocationId) {
+        Accrual accrual = accruals.get(allocationId);
+        return accrual != null ? Optional.of(accrual.accruedCost()) : Optional.empty();
+    }
+
+    /**
+     * 아직 비용 큐브에 반영되지 않은 누적분 (큐브 조회 결과와 합산하면 분 단위 최신 값)
+     */
+    public Map<CellKey, CellValue> getPendingCells(LocalDate startDate, LocalDate endDate) {
+        Map<CellKey, CellValue> pending = new HashMap<>();
+        for (Accrual accrual : accruals.values()) {
+            accrual.collectPending(pending, startDate, endDate);
+        }
+        return pending;
+    }
+
+    /**
+     * 현재 비용 스냅샷 (1분 단위 갱신)
+     */
+    public CostSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    // Private helper methods
+
+    /**
+     * 현재 트랜잭션이 커밋되지 않고 끝나면 실행 (트랜잭션 밖이면 등록하지 않음)
+     */
+    private void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private void track(GpuAllocation allocation) {
+        accruals.put(allocation.getAllocationId(), newAccrual(allocation));
+    }
+
+    private Accrual newAccrual(GpuAllocation allocation) {
+        double costPerHour = allocation.getCostPerHour() != null ? allocation.getCostPerHour() : 0.0;
+        // 체크포인트가 있으면 이어서 누적, 없으면 할당 시각부터 누적
+        boolean checkpointed = allocation.getCostAccruedUntil() != null && allocation.getTotalCost() != null;
+        double accrued = checkpointed ? allocation.getTotalCost() : 0.0;
+        LocalDateTime accruedUntil = checkpointed ? allocation.getCostAccruedUntil() : allocation.getAllocationTime();
+
+        return new Accrual(
+            allocation.getAllocationId(),
+            new CostDimensions(
+                allocation.getNamespace(),
+                allocation.getTeamId(),
+                allocation.getProjectId(),
+                allocation.getWorkloadType(),
+                allocation.getResourceType(),
+                resolveModelId(allocation)
+            ),
+            costPerHour,
+            accrued,
+            accruedUntil != null ? accruedUntil : LocalDateTime.now()
+        );
+    }
+
+    private String resolveModelId(GpuAllocation allocation) {
+        String deviceId = "MIG_INSTANCE".equals(allocation.getResourceType())
+            ? migInstanceRepository.findDeviceIdByMigId(allocation.getAllocatedResource()).orElse(null)
+            : allocation.getAllocatedResource();
+        if (deviceId == null) {
+            return null;
+        }
+        return modelCatalog.getDeviceModel(deviceId)
+            .map(GpuModelCatalog.CatalogModel::modelId)
+            .orElse(null);
+    }
+
+    private CostSnapshot buildSnapshot(LocalDateTime now, GpuRateTable.PricingTiers tiers) {
+        double hourlyCost = 0.0;
+        double accruedCost = 0.0;
+        Map<String, Double> byNamespace = new HashMap<>();
+        Map<String, Double> byTeam = new HashMap<>();
+        Map<String, Double> byProject = new HashMap<>();
+        Map<String, Double> byWorkloadType = new HashMap<>();
+
+        for (Accrual accrual : accruals.values()) {
+            double cost = accrual.accruedCost();
+            CostDimensions dimensions = accrual.dimensions;
+            hourlyCost += accrual.costPerHour * tiers.multiplierAt(now);
+            accruedCost += cost;
+            mergeKnown(byNamespace, dimensions.namespace(), cost);
+            mergeKnown(byTeam, dimensions.teamId(), cost);
+            mergeKnown(byProject, dimensions.projectId(), cost);
+            mergeKnown(byWorkloadType, dimensions.workloadType(), cost);
+        }
+
+        return new CostSnapshot(accruals.size(), hourlyCost, accruedCost,
+            Map.copyOf(byNamespace), Map.copyOf(byTeam), Map.copyOf(byProject), Map.copyOf(byWorkloadType), now);
+    }
+
+    private static void mergeKnown(Map<String, Double> target, String key, double cost) {
+        if (!GpuCostDaily.NONE.equals(key)) {
+            target.merge(key, cost, Double::sum);
+        }
+    }
+
+    private static double hoursBetween(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            return 0.0;
+        }
+        return Duration.between(from, to).toMillis() / MILLIS_PER_HOUR;
+    }
+
+    /**
+     * 활성 할당 비용 스냅샷
+     *
+     * @param hourlyCost  현재 시간당 비용 합계 (burn rate, 현재 시간대 배율 적용)
+     * @param accruedCost 활성 할당의 현재까지 누적 비용 합계
+     */
+    public record CostSnapshot(int activeAllocations,
+                               double hourlyCost,
+                               double accruedCost,
+                               Map<String, Double> accruedByNamespace,
+                               Map<String, Double> accruedByTeam,
+                               Map<String, Double> accruedByProject,
+                               Map<String, Double> accruedByWorkloadType,
+                               LocalDateTime asOf) {
+
+        static CostSnapshot empty() {
+            return new CostSnapshot(0, 0.0, 0.0, Map.of(), Map.of(), Map.of(), Map.of(), LocalDateTime.now());
+        }
+    }
+
+    // Inner class for per-allocation accrual
+    private static class Accrual {
+        private final String allocationId;
+        private final CostDimensions dimensions;
+        private final double costPerHour;
+
+        private double accrued;
+        private LocalDateTime accruedUntil;
+        private boolean settled;
+        // 체크포인트 이후 일자별 누적분 (비용 큐브 미반영)
+        private final Map<LocalDate, CellValue> unflushed = new HashMap<>();
+
+        private record Checkpoint(double cost, LocalDateTime until, Map<LocalDate, CellValue> drained) {
+        }
+
+        Accrual(String allocationId, CostDimensions dimensions, double costPerHour,
+                double accrued, LocalDateTime accruedUntil) {
+            this.allocationId = allocationId;
+            this.dimensions = dimensions;
+            this.costPerHour = costPerHour;
+            this.accrued = accrued;
+            this.accruedUntil = accruedUntil;
+        }
+
+        synchronized void accrueUntil(LocalDateTime now, GpuRateTable.PricingTiers tiers) {
+            if (settled || !now.isAfter(accruedUntil)) {
+                return;
+            }
+            // 자정 및 시간대 요금 경계를 넘는 구간은 나누어 누적
+            LocalDateTime from = accruedUntil;
+            while (from.isBefore(now)) {
+                LocalDateTime boundary = tiers.nextBoundary(from);
+                LocalDateTime to = boundary.isBefore(now) ? boundary : now;
+                double hours = hoursBetween(from, to);
+                double cost = costPerHour * tiers.multiplierAt(from) * hours;
+                accrued += cost;
+                unflushed.merge(from.toLocalDate(), new CellValue(cost, hours), CellValue::plus);
+                from = to;
+            }
+            accruedUntil = now;
+        }
+
+        synchronized double settle(LocalDateTime releaseTime, GpuRateTable.PricingTiers tiers,
+                                   Map<CellKey, CellValue> deltas, Map<LocalDate, CellValue> drained) {
+            accrueUntil(releaseTime, tiers);
+            drained.putAll(drain(deltas));
+            settled = true;
+            return accrued;
+        }
+
+        synchronized double accruedCost() {
+            return accrued;
+        }
+
+        synchronized Checkpoint checkpoint(Map<CellKey, CellValue> deltas) {
+            if (settled) {
+                return null;
+            }
+            return new Checkpoint(accrued, accruedUntil, drain(deltas));
+        }
+
+        /**
+         * 커밋되지 않은 체크포인트/해제에서 꺼낸 누적분 복구
+         */
+        synchronized void restore(Map<LocalDate, CellValue> drained, boolean unsettle) {
+            drained.forEach((day, value) -> unflushed.merge(day, value, CellValue::plus));
+            if (unsettle) {
+                settled = false;
+            }
+        }
+
+        synchronized void collectPending(Map<CellKey, CellValue> target, LocalDate startDate, LocalDate endDate) {
+            unflushed.forEach((day, value) -> {
+                if (!day.isBefore(startDate) && !day.isAfter(endDate)) {
+                    target.merge(new CellKey(day, dimensions), value, CellValue::plus);
+                }
+            });
+        }
+
+        private Map<LocalDate, CellValue> drain(Map<CellKey, CellValue> deltas) {
+            Map<LocalDate, CellValue> drained = new HashMap<>(unflushed);
+            unflushed.forEach((day, value) -> deltas.merge(new CellKey(day, dimensions), value, CellValue::plus));
+            unflushed.clear();
+            return drained;
+        }
+    }
+}
@@ -3,14 +3,17 @@ package com.k8s.monitor.service.gpu;
 import com.k8s.monitor.dto.gpu.*;
 import com.k8s.monitor.entity.gpu.*;
 import com.k8s.monitor.repository.gpu.*;
+import com.k8s.monitor.service.gpu.GpuCostCubeService.CellKey;
+import com.k8s.monitor.service.gpu.GpuCostCubeService.CellValue;
+import com.k8s.monitor.service.gpu.GpuCostCubeService.Dimension;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * GPU 비용 분석 서비스
@@ -23,69 +26,55 @@ public class GpuCostAnalysisService {
     
     private final GpuAllocationRepository allocationRepository;
     private final GpuDeviceRepository gpuDeviceRepository;
-    private final MigInstanceRepository migInstanceRepository;
+    private final GpuRateTable rateTable;
+    private final GpuCostAccrualService costAccrualService;
+    private final GpuCostCubeService costCubeService;
+    private final GpuCostEfficiencyService costEfficiencyService;
+    
+    private static final double HOURS_PER_MONTH = 720.0;
+    private static final double MIN_MEASURED_HOURS = 1.0;
+    private static final double MIN_IDLE_FRACTION = 0.5;
     
     @Value("${gpu.management.cost.currency:USD}")
     private String currency;
-    
-    @Value("#{${gpu.management.cost.default-rates}}")
-    private Map<String, Double> defaultRates;
 
     /**
      * 시간당 비용 계산
      */
     public Double calculateCostPerHour(String resourceType, String resourceId) {
-        if ("MIG_INSTANCE".equals(resourceType)) {
-            return calculateMigInstanceCostPerHour(resourceId);
-        } else {
-            return calculateGpuDeviceCostPerHour(resourceId);
-        }
+        return calculateCostPerHour(resourceType, resourceId, 1.0);
+    }
+
+    /**
+     * 시간당 비용 계산 (SHARED_GPU 는 점유율로 비례 배분)
+     * 요금표 조회만 수행하며, 시간대별 배율은 비용 누적 시 적용
+     */
+    public Double calculateCostPerHour(String resourceType, String resourceId, Double share) {
+        return rateTable.getCostPerHour(resourceType, resourceId, share);
     }
 
     /**
      * GPU 비용 분석 생성
+     * 일별 비용 큐브(확정분)와 비용 누적 서비스의 미반영분을 합산하여 기간 내 발생 비용을 집계
      */
     public GpuCostAnalysis generateCostAnalysis(int days) {
-        LocalDateTime startDate = LocalDateTime.now().minusDays(days);
-        LocalDateTime endDate = LocalDateTime.now();
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(days - 1L);
         
-        List<GpuAllocation> allocations = allocationRepository.findByAllocationTimeBetween(startDate, endDate);
+        Map<CellKey, CellValue> cells = costCubeService.query(startDate, endDate);
+        costAccrualService.getPendingCells(startDate, endDate)
+            .forEach((key, value) -> cells.merge(key, value, CellValue::plus));
         
         // 기간별 비용 계산
-        Double totalCost = allocations.stream()
-            .filter(allocation -> allocation.getTotalCost() != null)
-            .mapToDouble(GpuAllocation::getTotalCost)
-            .sum();
+        Double totalCost = GpuCostCubeService.totalCost(cells);
         
         Double dailyCost = totalCost / days;
         Double weeklyCost = dailyCost * 7;
         Double monthlyCost = dailyCost * 30;
         Double quarterlyCost = monthlyCost * 3;
         
-        // 분류별 비용 분석
-        Map<String, Double> costByNamespace = allocations.stream()
-            .filter(allocation -> allocation.getTotalCost() != null)
-            .collect(Collectors.groupingBy(
-                GpuAllocation::getNamespace,
-                Collectors.summingDouble(GpuAllocation::getTotalCost)
-            ));
-        
-        Map<String, Double> costByTeam = allocations.stream()
-            .filter(allocation -> allocation.getTeamId() != null && allocation.getTotalCost() != null)
-            .collect(Collectors.groupingBy(
-                GpuAllocation::getTeamId,
-                Collectors.summingDouble(GpuAllocation::getTotalCost)
-            ));
-        
-        Map<String, Double> costByWorkloadType = allocations.stream()
-            .filter(allocation -> allocation.getWorkloadType() != null && allocation.getTotalCost() != null)
-            .collect(Collectors.groupingBy(
-                GpuAllocation::getWorkloadType,
-                Collectors.summingDouble(GpuAllocation::getTotalCost)
-            ));
-        
         // 최적화 제안 생성
-        List<CostOptimizationSuggestion> suggestions = generateOptimizationSuggestions(allocations);
+        List<CostOptimizationSuggestion> suggestions = generateOptimizationSuggestions(days);
         Double potentialSavings = suggestions.stream()
             .mapToDouble(CostOptimizationSuggestion::getPotentialSavings)
             .sum();
@@ -95,9 +84,11 @@ public class GpuCostAnalysisService {
             .weeklyCost(weeklyCost)
             .monthlyCost(monthlyCost)
             .quarterlyCost(quarterlyCost)
-            .costByNamespace(costByNamespace)
-            .costByTeam(costByTeam)
-            .costByWorkloadType(costByWorkloadType)
+            .costByNamespace(GpuCostCubeService.sumBy(cells, Dimension.NAMESPACE))
+            .costByTeam(GpuCostCubeService.sumBy(cells, Dimension.TEAM))
+            .costByProject(GpuCostCubeService.sumBy(cells, Dimension.PROJECT))
+            .costByWorkloadType(GpuCostCubeService.sumBy(cells, Dimension.WORKLOAD_TYPE))
+            .costByGpuModel(GpuCostCubeService.sumBy(cells, Dimension.MODEL))
             .optimizationSuggestions(suggestions)
             .potentialMonthlySavings(potentialSavings)
             .analysisDate(LocalDateTime.now())
@@ -106,16 +97,19 @@ public class GpuCostAnalysisService {
     }
 
     /**
-     * 최적화 제안 생성
+     * 최적화 제안 생성 (최근 days 일 기준)
      */
-    public List<CostOptimizationSuggestion> generateOptimizationSuggestions(List<GpuAllocation> allocations) {
+    public List<CostOptimizationSuggestion> generateOptimizationSuggestions(int days) {
+        LocalDateTime now = LocalDateTime.now();
         List<CostOptimizationSuggestion> suggestions = new ArrayList<>();
         
         // MIG 사용 권장
-        suggestions.addAll(generateMigUsageSuggestions(allocations));
+        suggestions.addAll(generateMigUsageSuggestions(
+            allocationRepository.findMigRightsizingCandidates(20, now.minusDays(days), now)));
         
         // 장기간 사용 중인 할당 최적화
-        suggestions.addAll(generateLongRunningOptimizations(allocations));
+        suggestions.addAll(generateLongRunningOptimizations(
+            allocationRepository.findLongRunningAllocations(now.minusDays(7))));
         
         // 유휴 시간 최적화
         suggestions.addAll(generateIdleTimeOptimizations());
@@ -125,40 +119,15 @@ public class GpuCostAnalysisService {
 
     // Private helper methods
     
-    private Double calculateMigInstanceCostPerHour(String migId) {
-        return migInstanceRepository.findById(migId)
-            .map(instance -> {
-                String modelId = instance.getDevice().getModel().getModelId();
-                Double baseCost = defaultRates.getOrDefault(modelId, 1.0);
-                Double migDiscount = 0.7; // MIG 30% 할인
-                Double performanceRatio = instance.getProfile().getPerformanceRatio();
-                
-                return baseCost * performanceRatio * migDiscount;
-            })
-            .orElse(0.0);
-    }
-
-    private Double calculateGpuDeviceCostPerHour(String deviceId) {
-        return gpuDeviceRepository.findById(deviceId)
-            .map(device -> {
-                String modelId = device.getModel().getModelId();
-                return defaultRates.getOrDefault(modelId, 1.0);
-            })
-            .orElse(0.0);
-    }
-
-    private List<CostOptimizationSuggestion> generateMigUsageSuggestions(List<GpuAllocation> allocations) {
+    /**
+     * @param fullGpuAllocations 메모리 요구사항 20GB 이하 전체 GPU 할당 (MIG 로 대체 가능)
+     */
+    private List<CostOptimizationSuggestion> generateMigUsageSuggestions(List<GpuAllocation> fullGpuAllocations) {
         List<CostOptimizationSuggestion> suggestions = new ArrayList<>();
         
-        // 전체 GPU 할당 중 MIG로 대체 가능한 것들 찾기
-        List<GpuAllocation> fullGpuAllocations = allocations.stream()
-            .filter(allocation -> "FULL_GPU".equals(allocation.getResourceType()))
-            .filter(allocation -> allocation.getRequestedMemoryGb() != null && allocation.getRequestedMemoryGb() <= 20)
-            .collect(Collectors.toList());
-        
         if (!fullGpuAllocations.isEmpty()) {
             double potentialSavings = fullGpuAllocations.stream()
-                .mapToDouble(allocation -> (allocation.getTotalCost() != null ? allocation.getTotalCost() : 0) * 0.3)
+                .mapToDouble(allocation -> effectiveCost(allocation) * 0.3)
                 .sum();
             
             suggestions.add(CostOptimizationSuggestion.builder()
@@ -178,15 +147,12 @@ public class GpuCostAnalysisService {
         return suggestions;
     }
 
-    private List<CostOptimizationSuggestion> generateLongRunningOptimizations(List<GpuAllocation> allocations) {
+    /**
+     * @param longRunningAllocations 7일 이상 지속 중인 활성 할당
+     */
+    private List<CostOptimizationSuggestion> generateLongRunningOptimizations(List<GpuAllocation> longRunningAllocations) {
         List<CostOptimizationSuggestion> suggestions = new ArrayList<>();
         
-        LocalDateTime threshold = LocalDateTime.now().minusDays(7);
-        List<GpuAllocation> longRunningAllocations = allocations.stream()
-            .filter(allocation -> "ALLOCATED".equals(allocation.getStatus()))
-            .filter(allocation -> allocation.getAllocationTime().isBefore(threshold))
-            .collect(Collectors.toList());
-        
         if (!longRunningAllocations.isEmpty()) {
             double totalCost = longRunningAllocations.stream()
                 .mapToDouble(allocation -> allocation.getCostPerHour() != null ? allocation.getCostPerHour() * 24 * 30 : 0)
@@ -209,14 +175,59 @@ public class GpuCostAnalysisService {
         return suggestions;
     }
 
+    /**
+     * 활성 할당은 누적 비용, 해제된 할당은 확정 비용
+     */
+    private double effectiveCost(GpuAllocation allocation) {
+        Double cost = allocation.isActive()
+            ? costAccrualService.getAccruedCost(allocation.getAllocationId()).orElse(allocation.getTotalCost())
+            : allocation.getTotalCost();
+        return cost != null ? cost : 0.0;
+    }
+
+    /**
+     * 유휴 시간 최적화 제안
+     * 할당된 리소스는 실측 유휴 GPU-시간 비율로, 미할당 장비는 가용 장비 수로 판단
+     */
     private List<CostOptimizationSuggestion> generateIdleTimeOptimizations() {
         List<CostOptimizationSuggestion> suggestions = new ArrayList<>();
         
+        // 할당되었으나 실측 사용률이 낮은 리소스
+        List<GpuCostEfficiencyInfo> idleAllocations = costEfficiencyService.getActiveEfficiency().stream()
+            .filter(info -> info.getMeasuredHours() >= MIN_MEASURED_HOURS)
+            .filter(info -> info.getIdleFraction() != null && info.getIdleFraction() >= MIN_IDLE_FRACTION)
+            .toList();
+        if (!idleAllocations.isEmpty()) {
+            double currentCost = idleAllocations.stream()
+                .mapToDouble(info -> info.getCostPerHour() * HOURS_PER_MONTH)
+                .sum();
+            double idleCost = idleAllocations.stream()
+                .mapToDouble(info -> info.getCostPerHour() * info.getIdleFraction() * HOURS_PER_MONTH)
+                .sum();
+            double idleGpuHours = idleAllocations.stream()
+                .mapToDouble(GpuCostEfficiencyInfo::getIdleGpuHours)
+                .sum();
+            
+            suggestions.add(CostOptimizationSuggestion.builder()
+                .suggestionType("TERMINATION")
+                .title("유휴 할당 회수")
+                .description(String.format("할당 시간의 %.0f%% 이상 사용률이 낮은 할당이 있습니다 (실측 유휴 %.1f GPU-시간).",
+                        MIN_IDLE_FRACTION * 100, idleGpuHours))
+                .targetResource(idleAllocations.size() + " idle allocations")
+                .currentMonthlyCost(currentCost)
+                .optimizedMonthlyCost(currentCost - idleCost)
+                .potentialSavings(idleCost)
+                .priority(idleCost > currentCost * 0.5 ? "HIGH" : "MEDIUM")
+                .implementation("유휴 할당 해제 또는 MIG/공유 GPU 로 전환")
+                .impact("실측 유휴 비율만큼 비용 절감")
+                .build());
+        }
+        
         // 유휴 GPU 장비 확인
         List<GpuDevice> availableDevices = gpuDeviceRepository.findAvailableDevices();
         if (availableDevices.size() > 2) { // 2개 이상의 유휴 GPU가 있을 때
             double idleCost = availableDevices.stream()
-                .mapToDouble(device -> defaultRates.getOrDefault(device.getModel().getModelId(), 1.0) * 24 * 30)
+                .mapToDouble(device -> rateTable.getDeviceRate(device.getDeviceId()) * 24 * 30)
                 .sum();
             
             suggestions.add(CostOptimizationSuggestion.builder()
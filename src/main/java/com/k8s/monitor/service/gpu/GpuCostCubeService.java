@@ -0,0 +1,160 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.entity.gpu.GpuCostDaily;
+import com.k8s.monitor.repository.gpu.GpuCostDailyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * GPU 비용 큐브 서비스
+ * 일별 x 비용 차원 조합 셀에 비용을 누적하고, 임의 기간/차원 집계를 셀 합산으로 제공
+ * 셀 갱신은 비용 누적 체크포인트 및 할당 해제 트랜잭션에서 수행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GpuCostCubeService {
+
+    private static final Comparator<CellKey> CELL_ORDER = Comparator.comparing(CellKey::day)
+        .thenComparing(key -> key.dimensions().namespace())
+        .thenComparing(key -> key.dimensions().teamId())
+        .thenComparing(key -> key.dimensions().projectId())
+        .thenComparing(key -> key.dimensions().workloadType())
+        .thenComparing(key -> key.dimensions().resourceType())
+        .thenComparing(key -> key.dimensions().modelId());
+
+    private final GpuCostDailyRepository costDailyRepository;
+
+    /**
+     * 비용 차원 (일자 제외)
+     */
+    public record CostDimensions(String namespace,
+                                 String teamId,
+                                 String projectId,
+                                 String workloadType,
+                                 String resourceType,
+                                 String modelId) {
+
+        public CostDimensions {
+            namespace = orNone(namespace);
+            teamId = orNone(teamId);
+            projectId = orNone(projectId);
+            workloadType = orNone(workloadType);
+            resourceType = orNone(resourceType);
+            modelId = orNone(modelId);
+        }
+    }
+
+    /**
+     * 큐브 셀 키
+     */
+    public record CellKey(LocalDate day, CostDimensions dimensions) {
+    }
+
+    /**
+     * 큐브 셀 값 (비용, 리소스 점유 시간)
+     */
+    public record CellValue(double cost, double usageHours) {
+
+        public CellValue plus(CellValue other) {
+            return new CellValue(cost + other.cost, usageHours + other.usageHours);
+        }
+    }
+
+    /**
+     * 집계 차원
+     */
+    public enum Dimension {
+        DAY(key -> key.day().toString()),
+        NAMESPACE(key -> key.dimensions().namespace()),
+        TEAM(key -> key.dimensions().teamId()),
+        PROJECT(key -> key.dimensions().projectId()),
+        WORKLOAD_TYPE(key -> key.dimensions().workloadType()),
+        RESOURCE_TYPE(key -> key.dimensions().resourceType()),
+        MODEL(key -> key.dimensions().modelId());
+
+        private final Function<CellKey, String> extractor;
+
+        Dimension(Function<CellKey, String> extractor) {
+            this.extractor = extractor;
+        }
+
+        public String valueOf(CellKey key) {
+            return extractor.apply(key);
+        }
+    }
+
+    /**
+     * 셀 증분 반영 (없는 셀은 생성)
+     * 셀마다 MERGE 로 DB 에서 원자적으로 더하므로 체크포인트와 할당 해제가 같은 셀을 동시에 갱신해도 증분이 유실되지 않음
+     * 셀 순서를 고정하여 동시 트랜잭션 간 잠금 순서를 맞춤
+     */
+    @Transactional
+    public void applyDeltas(Map<CellKey, CellValue> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Map.Entry<CellKey, CellValue>> ordered = new ArrayList<>(deltas.entrySet());
+        ordered.sort(Map.Entry.comparingByKey(CELL_ORDER));
+        for (Map.Entry<CellKey, CellValue> entry : ordered) {
+            LocalDate day = entry.getKey().day();
+            CostDimensions dimensions = entry.getKey().dimensions();
+            CellValue delta = entry.getValue();
+            costDailyRepository.mergeCellDelta(day, dimensions.namespace(), dimensions.teamId(), dimensions.projectId(),
+                dimensions.workloadType(), dimensions.resourceType(), dimensions.modelId(),
+                delta.cost(), delta.usageHours(), now);
+        }
+        log.debug("Applied {} cost cube cell updates", ordered.size());
+    }
+
+    /**
+     * 기간 내 셀 조회 (확정분)
+     */
+    @Transactional(readOnly = true)
+    public Map<CellKey, CellValue> query(LocalDate startDate, LocalDate endDate) {
+        Map<CellKey, CellValue> cells = new HashMap<>();
+        for (GpuCostDaily cell : costDailyRepository.findByCostDateBetween(startDate, endDate)) {
+            cells.merge(new CellKey(cell.getCostDate(), dimensionsOf(cell)),
+                new CellValue(cell.getTotalCost(), cell.getUsageHours()), CellValue::plus);
+        }
+        return cells;
+    }
+
+    /**
+     * 셀 합산으로 차원별 비용 집계 (값이 없는 차원은 제외)
+     */
+    public static Map<String, Double> sumBy(Map<CellKey, CellValue> cells, Dimension dimension) {
+        Map<String, Double> result = new TreeMap<>();
+        cells.forEach((key, value) -> {
+            String group = dimension.valueOf(key);
+            if (!GpuCostDaily.NONE.equals(group)) {
+                result.merge(group, value.cost(), Double::sum);
+            }
+        });
+        return result;
+    }
+
+    public static double totalCost(Map<CellKey, CellValue> cells) {
+        return cells.values().stream().mapToDouble(CellValue::cost).sum();
+    }
+
+    // Private helper methods
+
+    private CostDimensions dimensionsOf(GpuCostDaily cell) {
+        return new CostDimensions(cell.getNamespace(), cell.getTeamId(), cell.getProjectId(),
+            cell.getWorkloadType(), cell.getResourceType(), cell.getModelId());
+    }
+
+    private static String orNone(String value) {
+        return value == null || value.isBlank() ? GpuCostDaily.NONE : value;
+    }
+}
@@ -0,0 +1,190 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.dto.gpu.GpuCostEfficiencyInfo;
+import com.k8s.monitor.event.gpu.GpuResourceReleasedEvent;
+import com.k8s.monitor.event.gpu.GpuTelemetryCollectedEvent;
+import com.k8s.monitor.event.gpu.GpuTelemetrySample;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * GPU 비용 효율 서비스
+ * 텔레메트리 스트림을 할당별로 누적하여 활용 GPU-시간당 실효 비용과 실측 유휴 GPU-시간을 계산
+ *
+ * 샘플 사이 구간은 뒤 샘플의 사용률로 집계하며, 수집 중단 등으로 간격이 벌어지면 최대 간격까지만 인정
+ * 공유 GPU 는 장비 전체 사용률을 computeShare 비율로 나누어 귀속
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GpuCostEfficiencyService {
+
+    private static final double SECONDS_PER_HOUR = 3600.0;
+
+    private final GpuAllocationIndex allocationIndex;
+    private final GpuRateTable rateTable;
+
+    @Value("${gpu.management.cost.efficiency.idle-threshold-pct:5.0}")
+    private double idleThresholdPct;
+
+    @Value("${gpu.management.cost.efficiency.max-sample-gap-seconds:300}")
+    private long maxSampleGapSeconds;
+
+    @Value("${gpu.management.cost.efficiency.released-retention:500}")
+    private int releasedRetention;
+
+    // allocationId -> 측정 누적
+    private final Map<String, AllocationEfficiency> active = new ConcurrentHashMap<>();
+    // 최근 해제된 할당의 최종 집계 (최신순)
+    private final Deque<GpuCostEfficiencyInfo> released = new ConcurrentLinkedDeque<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTelemetryCollected(GpuTelemetryCollectedEvent event) {
+        GpuRateTable.PricingTiers tiers = rateTable.getPricingTiers();
+        for (GpuTelemetrySample sample : event.samples()) {
+            if (sample.gpuUtilizationPct() == null) {
+                continue;
+            }
+            String resource = sample.migId() != null ? sample.migId() : sample.deviceId();
+            for (GpuAllocationIndex.AllocationRef ref : allocationIndex.getAllocations(resource)) {
+                // 해제 이벤트와 경합해 이미 해제된 할당의 누적을 다시 만들지 않도록 인덱스에 남아 있을 때만 생성
+                AllocationEfficiency efficiency = active.compute(ref.allocationId(), (id, existing) ->
+                    existing != null || allocationIndex.getAllocation(id).isEmpty() ? existing : new AllocationEfficiency(ref));
+                if (efficiency != null) {
+                    efficiency.add(sample, tiers.multiplierAt(sample.timestamp()));
+                }
+            }
+        }
+    }
+
+    /**
+     * 해제 이벤트 처리 순서에 따라 남은 해제된 할당의 누적 정리
+     */
+    @Scheduled(fixedRate = 300000) // 5분마다 실행
+    public void pruneReleased() {
+        active.keySet().removeIf(allocationId -> allocationIndex.getAllocation(allocationId).isEmpty());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResourceReleased(GpuResourceReleasedEvent event) {
+        AllocationEfficiency efficiency = active.remove(event.allocationId());
+        if (efficiency == null) {
+            return;
+        }
+        released.addFirst(efficiency.toInfo("RELEASED"));
+        while (released.size() > releasedRetention) {
+            released.pollLast();
+        }
+    }
+
+    /**
+     * 할당별 비용 효율 조회 (유휴 비용 내림차순)
+     *
+     * @param namespace       네임스페이스 필터 (null 이면 전체)
+     * @param includeReleased 최근 해제된 할당 포함 여부
+     */
+    public List<GpuCostEfficiencyInfo> getEfficiency(String namespace, boolean includeReleased) {
+        Stream<GpuCostEfficiencyInfo> infos = getActiveEfficiency().stream();
+        if (includeReleased) {
+            infos = Stream.concat(infos, released.stream());
+        }
+        return infos
+            .filter(info -> namespace == null || namespace.equals(info.getNamespace()))
+            .sorted(Comparator.comparing(GpuCostEfficiencyInfo::getIdleCost).reversed())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 활성 할당의 비용 효율
+     */
+    public List<GpuCostEfficiencyInfo> getActiveEfficiency() {
+        return active.values().stream()
+            .map(efficiency -> efficiency.toInfo("ACTIVE"))
+            .collect(Collectors.toList());
+    }
+
+    // Inner class for per-allocation accumulation
+    private class AllocationEfficiency {
+        private final GpuAllocationIndex.AllocationRef ref;
+        private LocalDateTime firstSampleAt;
+        private LocalDateTime lastSampleAt;
+        private long sampleCount;
+        private double measuredSeconds;
+        private double allocatedGpuSeconds;
+        private double utilizedGpuSeconds;
+        private double idleGpuSeconds;
+        private double measuredCost;
+        private double idleCost;
+
+        AllocationEfficiency(GpuAllocationIndex.AllocationRef ref) {
+            this.ref = ref;
+        }
+
+        synchronized void add(GpuTelemetrySample sample, double rateMultiplier) {
+            LocalDateTime timestamp = sample.timestamp();
+            sampleCount++;
+            if (lastSampleAt == null) {
+                firstSampleAt = timestamp;
+                lastSampleAt = timestamp;
+                return;
+            }
+            if (!timestamp.isAfter(lastSampleAt)) {
+                return;
+            }
+
+            double seconds = Math.min(Duration.between(lastSampleAt, timestamp).toMillis() / 1000.0, maxSampleGapSeconds);
+            lastSampleAt = timestamp;
+
+            double utilization = Math.min(Math.max(sample.gpuUtilizationPct(), 0.0), 100.0);
+            double gpuSeconds = seconds * ref.computeShare();
+            double cost = ref.costPerHour() * rateMultiplier * seconds / SECONDS_PER_HOUR;
+
+            measuredSeconds += seconds;
+            allocatedGpuSeconds += gpuSeconds;
+            utilizedGpuSeconds += gpuSeconds * utilization / 100.0;
+            measuredCost += cost;
+            if (utilization < idleThresholdPct) {
+                idleGpuSeconds += gpuSeconds;
+                idleCost += cost;
+            }
+        }
+
+        synchronized GpuCostEfficiencyInfo toInfo(String status) {
+            double utilizedHours = utilizedGpuSeconds / SECONDS_PER_HOUR;
+            return GpuCostEfficiencyInfo.builder()
+                .allocationId(ref.allocationId())
+                .namespace(ref.namespace())
+                .teamId(ref.teamId())
+                .resourceType(ref.resourceType())
+                .allocatedResource(ref.allocatedResource())
+                .status(status)
+                .computeShare(ref.computeShare())
+                .costPerHour(ref.costPerHour())
+                .firstSampleAt(firstSampleAt)
+                .lastSampleAt(lastSampleAt)
+                .sampleCount(sampleCount)
+                .measuredHours(measuredSeconds / SECONDS_PER_HOUR)
+                .allocatedGpuHours(allocatedGpuSeconds / SECONDS_PER_HOUR)
+                .utilizedGpuHours(utilizedHours)
+                .idleGpuHours(idleGpuSeconds / SECONDS_PER_HOUR)
+                .avgUtilizationPct(allocatedGpuSeconds > 0 ? utilizedGpuSeconds / allocatedGpuSeconds * 100 : null)
+                .idleFraction(allocatedGpuSeconds > 0 ? idleGpuSeconds / allocatedGpuSeconds : null)
+                .measuredCost(measuredCost)
+                .idleCost(idleCost)
+                .costPerUtilizedGpuHour(utilizedHours > 0 ? measuredCost / utilizedHours : null)
+                .build();
+        }
+    }
+}
@@ -2,9 +2,11 @@ package com.k8s.monitor.service.gpu;
 
 import com.k8s.monitor.dto.gpu.*;
 import com.k8s.monitor.entity.gpu.*;
+import com.k8s.monitor.event.gpu.GpuInventoryChangedEvent;
 import com.k8s.monitor.repository.gpu.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class GpuDeviceService {
     private final GpuModelRepository gpuModelRepository;
     private final GpuNodeRepository gpuNodeRepository;
     private final GpuUsageMetricsRepository metricsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모든 GPU 장비 조회
@@ -122,6 +125,7 @@ public class GpuDeviceService {
         
         // 노드의 GPU 개수 업데이트
         updateNodeGpuCount(node.getNodeId());
+        eventPublisher.publishEvent(new GpuInventoryChangedEvent(device.getDeviceId(), "REGISTERED"));
         
         log.info("GPU device registered: {}", device.getDeviceId());
         return convertToDto(device);
@@ -225,6 +229,7 @@ public class GpuDeviceService {
         
         gpuDeviceRepository.delete(device);
         updateNodeGpuCount(device.getNode().getNodeId());
+        eventPublisher.publishEvent(new GpuInventoryChangedEvent(deviceId, "DELETED"));
         
         log.info("GPU device deleted: {}", deviceId);
     }
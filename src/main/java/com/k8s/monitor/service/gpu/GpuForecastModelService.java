@@ -0,0 +1,413 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.dto.gpu.GpuUtilizationForecast;
+import com.k8s.monitor.engine.HoltWintersForecaster;
+import com.k8s.monitor.entity.gpu.GpuUsageHourly;
+import com.k8s.monitor.event.gpu.GpuUsageHourClosedEvent;
+import com.k8s.monitor.repository.gpu.GpuAllocationRepository;
+import com.k8s.monitor.repository.gpu.GpuUsageHourlyRepository;
+import com.k8s.monitor.repository.gpu.GpuUsageMetricsRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * GPU 사용률 예측 모델 서비스
+ * 장비/모델/클러스터별 Holt-Winters(일 24h, 주 168h 계절성) 모델을 시간별 롤업으로 유지
+ *
+ * 학습과 갱신은 모두 백그라운드에서 수행:
+ * - 기동 시와 매일 1회, 범위별로 평활 계수 후보를 ForkJoin 풀에서 병렬 탐색하여 재적합
+ * - 시간 구간이 마감될 때마다 범위별 모델을 병렬로 증분 갱신
+ * 갱신 직후 범위별 예측(cache-hours 구간)을 미리 계산하여 마지막 반영 시각(버전)과 함께 캐시하며,
+ * 조회는 캐시된 예측을 잘라서 반환 (캐시 구간을 넘는 요청만 즉시 계산)
+ *
+ * 비용 추세(비용 큐브 일별 합계), 수요 추세(최근/이전 7일 할당 수), 현재 평균 사용률도 같은 갱신 시점에
+ * 스냅샷으로 계산하여 예측 조회 경로에서는 DB 를 읽지 않음
+ *
+ * 모델 변경 작업은 단일 조정 스레드에서 순서대로 실행되어 시간 순서가 보장됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GpuForecastModelService {
+
+    public static final String METHOD = "HOLT_WINTERS";
+
+    private static final double INTERVAL_LEVEL = 0.95;
+    private static final double INTERVAL_Z = 1.96;
+
+    // 비용/수요 추세 산출 기간 (최근 7일 vs 이전 7일)
+    private static final int TREND_DAYS = 14;
+
+    private final GpuUsageHourlyRepository hourlyRepository;
+    private final GpuUsageMetricsRepository metricsRepository;
+    private final GpuAllocationRepository allocationRepository;
+    private final GpuCostCubeService costCubeService;
+
+    @Value("${gpu.management.forecast.history-days:28}")
+    private int historyDays;
+
+    @Value("${gpu.management.forecast.cache-hours:720}")
+    private int cacheHours;
+
+    @Value("${gpu.management.forecast.parallelism:0}")
+    private int parallelism;
+
+    @Value("${gpu.management.forecast.damping:0.98}")
+    private double damping;
+
+    // "scopeType:scopeId" -> 모델
+    private final Map<String, ScopeModel> models = new ConcurrentHashMap<>();
+
+    private ForkJoinPool fitPool;
+    private ExecutorService coordinator;
+    private volatile LocalDateTime lastRefitAt;
+    private volatile TrendSnapshot trendSnapshot;
+
+    @PostConstruct
+    void start() {
+        fitPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gpu-forecast-coordinator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        coordinator.shutdownNow();
+        fitPool.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        coordinator.execute(this::refitAll);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHourClosed(GpuUsageHourClosedEvent event) {
+        coordinator.execute(() -> ingest(event.rollups()));
+    }
+
+    /**
+     * 보관된 롤업 전체로 범위별 모델 재적합 (평활 계수 재선택)
+     */
+    @Scheduled(cron = "0 0 4 * * *") // 매일 04:00 실행
+    public void scheduledRefit() {
+        coordinator.execute(this::refitAll);
+    }
+
+    /**
+     * 범위별 사용률 예측 (모델이 아직 초기화되지 않았으면 empty)
+     */
+    public Optional<GpuUtilizationForecast> forecast(String scopeType, String scopeId, int hours) {
+        ScopeModel model = models.get(key(scopeType, scopeId));
+        return model != null ? model.forecast(scopeType, scopeId, hours) : Optional.empty();
+    }
+
+    /**
+     * 모델이 있는 범위 ID 목록
+     */
+    public List<String> getScopeIds(String scopeType) {
+        String prefix = scopeType + ":";
+        return models.keySet().stream()
+            .filter(key -> key.startsWith(prefix))
+            .map(key -> key.substring(prefix.length()))
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    public LocalDateTime getLastRefitAt() {
+        return lastRefitAt;
+    }
+
+    /**
+     * 최근 백그라운드 갱신 시점의 비용/수요 추세 스냅샷 (첫 갱신 전에는 empty)
+     */
+    public Optional<TrendSnapshot> getTrendSnapshot() {
+        return Optional.ofNullable(trendSnapshot);
+    }
+
+    /**
+     * 비용/수요 추세 스냅샷
+     *
+     * @param costSlopePerDay      완료된 일별 비용 합계의 선형 회귀 기울기
+     * @param latestDailyCost      가장 최근 완료일 비용
+     * @param recentAllocations    최근 7일 할당 수
+     * @param previousAllocations  그 이전 7일 할당 수
+     * @param currentUtilizationPct 최근 24시간 장비 평균 사용률 (예측 모델이 없을 때 사용)
+     */
+    public record TrendSnapshot(double costSlopePerDay,
+                                double latestDailyCost,
+                                long recentAllocations,
+                                long previousAllocations,
+                                double currentUtilizationPct,
+                                LocalDateTime computedAt) {
+    }
+
+    // Private helper methods
+
+    private void refitAll() {
+        try {
+            long started = System.currentTimeMillis();
+            List<GpuUsageHourly> history = hourlyRepository.findByHourStartGreaterThanEqualOrderByHourStart(
+                LocalDateTime.now().minusDays(historyDays));
+            Map<String, List<GpuUsageHourly>> byScope = history.stream()
+                .filter(rollup -> rollup.getAvgGpuUtilizationPct() != null)
+                .collect(Collectors.groupingBy(rollup -> key(rollup.getScopeType(), rollup.getScopeId()),
+                    LinkedHashMap::new, Collectors.toList()));
+
+            List<HoltWintersForecaster.Parameters> candidates = parameterCandidates();
+            List<Callable<Void>> tasks = new ArrayList<>(byScope.size());
+            byScope.forEach((key, rollups) -> tasks.add(() -> {
+                long[] indices = new long[rollups.size()];
+                double[] values = new double[rollups.size()];
+                for (int i = 0; i < rollups.size(); i++) {
+                    indices[i] = hourIndex(rollups.get(i).getHourStart());
+                    values[i] = rollups.get(i).getAvgGpuUtilizationPct();
+                }
+                ScopeModel model = models.computeIfAbsent(key, k -> new ScopeModel());
+                model.replace(HoltWintersForecaster.fitBest(indices, values, candidates));
+                model.refreshCache(key, cacheHours);
+                return null;
+            }));
+            runAll(tasks);
+
+            lastRefitAt = LocalDateTime.now();
+            log.info("Forecast models refitted for {} scopes from {} hourly rollups in {} ms",
+                    byScope.size(), history.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("Error refitting forecast models: {}", e.getMessage(), e);
+        }
+        refreshTrends();
+    }
+
+    private void ingest(List<GpuUsageHourly> rollups) {
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>(rollups.size());
+            for (GpuUsageHourly rollup : rollups) {
+                if (rollup.getAvgGpuUtilizationPct() == null) {
+                    continue;
+                }
+                String key = key(rollup.getScopeType(), rollup.getScopeId());
+                tasks.add(() -> {
+                    ScopeModel model = models.computeIfAbsent(key,
+                        k -> new ScopeModel(new HoltWintersForecaster(parameterCandidates().get(0))));
+                    if (model.observe(rollup.getHourStart(), rollup.getAvgGpuUtilizationPct())) {
+                        model.refreshCache(key, cacheHours);
+                    }
+                    return null;
+                });
+            }
+            runAll(tasks);
+        } catch (Exception e) {
+            log.error("Error updating forecast models: {}", e.getMessage(), e);
+        }
+        refreshTrends();
+    }
+
+    /**
+     * 비용/수요 추세 스냅샷 재계산 (조정 스레드에서 모델 갱신 직후 실행)
+     */
+    private void refreshTrends() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDate today = now.toLocalDate();
+
+            // 완료된 날짜만 사용 (진행 중인 오늘은 합계가 작아 추세를 왜곡)
+            Map<LocalDate, Double> dailyCost = new TreeMap<>();
+            costCubeService.query(today.minusDays(TREND_DAYS), today.minusDays(1))
+                .forEach((cell, value) -> dailyCost.merge(cell.day(), value.cost(), Double::sum));
+            List<Double> costs = new ArrayList<>(dailyCost.values());
+
+            LocalDateTime midPoint = now.minusDays(TREND_DAYS / 2);
+            long recent = allocationRepository.countAllocationsBetween(midPoint, now);
+            long previous = allocationRepository.countAllocationsBetween(now.minusDays(TREND_DAYS), midPoint);
+
+            double utilization = metricsRepository.findUsageStatsByDevice(now.minusHours(24)).stream()
+                .mapToDouble(row -> row[2] instanceof Number ? ((Number) row[2]).doubleValue() : 0.0)
+                .average()
+                .orElse(0.0);
+
+            trendSnapshot = new TrendSnapshot(slopeOf(costs), costs.isEmpty() ? 0.0 : costs.get(costs.size() - 1),
+                recent, previous, utilization, now);
+        } catch (Exception e) {
+            log.warn("Error refreshing forecast trends: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 등간격 값의 선형 회귀 기울기 (값이 2개 미만이면 0)
+     */
+    private static double slopeOf(List<Double> values) {
+        int n = values.size();
+        if (n < 2) {
+            return 0.0;
+        }
+        double sumX = n * (n - 1) / 2.0;
+        double sumY = 0.0;
+        double sumXY = 0.0;
+        double sumX2 = 0.0;
+        for (int i = 0; i < n; i++) {
+            sumY += values.get(i);
+            sumXY += i * values.get(i);
+            sumX2 += (double) i * i;
+        }
+        return (n * sumXY - sumX * sumY) / (n * sumX2 - sumX * sumX);
+    }
+
+    private void runAll(List<Callable<Void>> tasks) throws InterruptedException {
+        for (Future<Void> future : fitPool.invokeAll(tasks)) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                log.warn("Forecast model task failed: {}", e.getCause().getMessage());
+            }
+        }
+    }
+
+    /**
+     * 평활 계수 후보 (첫 항목은 재적합 전 신규 범위의 기본값)
+     */
+    private List<HoltWintersForecaster.Parameters> parameterCandidates() {
+        HoltWintersForecaster.Parameters defaults = HoltWintersForecaster.Parameters.hourlyDefaults();
+        List<HoltWintersForecaster.Parameters> candidates = new ArrayList<>();
+        candidates.add(new HoltWintersForecaster.Parameters(defaults.alpha(), defaults.beta(), defaults.gamma(),
+                defaults.delta(), damping, defaults.dailyPeriod(), defaults.weeklyPeriod()));
+        for (double alpha : new double[]{0.1, 0.2, 0.4}) {
+            for (double beta : new double[]{0.005, 0.02}) {
+                for (double gamma : new double[]{0.05, 0.15, 0.3}) {
+                    for (double delta : new double[]{0.05, 0.1, 0.2}) {
+                        candidates.add(new HoltWintersForecaster.Parameters(alpha, beta, gamma, delta, damping,
+                                defaults.dailyPeriod(), defaults.weeklyPeriod()));
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static String key(String scopeType, String scopeId) {
+        return scopeType + ":" + scopeId;
+    }
+
+    private static long hourIndex(LocalDateTime hour) {
+        return hour.toEpochSecond(ZoneOffset.UTC) / 3600;
+    }
+
+    private static LocalDateTime hourOf(long index) {
+        return LocalDateTime.ofEpochSecond(index * 3600, 0, ZoneOffset.UTC);
+    }
+
+    private static double clampPct(double value) {
+        return Math.min(100.0, Math.max(0.0, value));
+    }
+
+    /**
+     * 캐시된 예측 (version = 마지막 반영 시간 인덱스)
+     */
+    private record CachedForecast(long version, GpuUtilizationForecast forecast) {
+    }
+
+    // Inner class for per-scope model and its cached forecast
+    private static class ScopeModel {
+        private HoltWintersForecaster forecaster;
+        private volatile CachedForecast cached;
+
+        ScopeModel() {
+        }
+
+        ScopeModel(HoltWintersForecaster forecaster) {
+            this.forecaster = forecaster;
+        }
+
+        synchronized void replace(HoltWintersForecaster fitted) {
+            forecaster = fitted;
+        }
+
+        synchronized boolean observe(LocalDateTime hourStart, double utilization) {
+            return forecaster != null && forecaster.update(hourIndex(hourStart), utilization);
+        }
+
+        void refreshCache(String key, int hours) {
+            String scopeType = key.substring(0, key.indexOf(':'));
+            String scopeId = key.substring(key.indexOf(':') + 1);
+            synchronized (this) {
+                if (forecaster == null || !forecaster.isReady()) {
+                    return;
+                }
+                cached = new CachedForecast(forecaster.getLastIndex(), compute(scopeType, scopeId, hours));
+            }
+        }
+
+        Optional<GpuUtilizationForecast> forecast(String scopeType, String scopeId, int hours) {
+            CachedForecast current = cached;
+            if (current != null && hours <= current.forecast().getPoints().size()) {
+                return Optional.of(slice(current.forecast(), hours));
+            }
+            synchronized (this) {
+                if (forecaster == null || !forecaster.isReady()) {
+                    return Optional.empty();
+                }
+                return Optional.of(compute(scopeType, scopeId, hours));
+            }
+        }
+
+        private GpuUtilizationForecast compute(String scopeType, String scopeId, int hours) {
+            long lastIndex = forecaster.getLastIndex();
+            List<GpuUtilizationForecast.ForecastPoint> points = forecaster.forecast(hours, INTERVAL_Z).stream()
+                .map(point -> GpuUtilizationForecast.ForecastPoint.builder()
+                    .hour(hourOf(lastIndex + point.step()))
+                    .predicted(clampPct(point.mean()))
+                    .lower(clampPct(point.lower()))
+                    .upper(clampPct(point.upper()))
+                    .build())
+                .collect(Collectors.toList());
+
+            double[] season = forecaster.getDailySeason();
+            Map<String, Double> dailyProfile = new TreeMap<>();
+            for (int hour = 0; hour < season.length; hour++) {
+                dailyProfile.put(String.format("hour_%02d", hour), clampPct(forecaster.getLevel() + season[hour]));
+            }
+
+            return GpuUtilizationForecast.builder()
+                .scopeType(scopeType)
+                .scopeId(scopeId)
+                .method(METHOD)
+                .lastObservedHour(hourOf(lastIndex))
+                .observations(forecaster.getObservationCount())
+                .level(forecaster.getLevel())
+                .trendPerDay(forecaster.getTrend() * 24)
+                .residualStdDev(forecaster.getResidualStdDev())
+                .intervalLevel(INTERVAL_LEVEL)
+                .dailyProfile(dailyProfile)
+                .points(points)
+                .build();
+        }
+
+        /**
+         * 캐시된 예측은 공유되므로 요청 구간만큼 복사하여 반환
+         */
+        private static GpuUtilizationForecast slice(GpuUtilizationForecast source, int hours) {
+            return source.toBuilder()
+                .dailyProfile(new TreeMap<>(source.getDailyProfile()))
+                .points(new ArrayList<>(source.getPoints().subList(0, hours)))
+                .build();
+        }
+    }
+}
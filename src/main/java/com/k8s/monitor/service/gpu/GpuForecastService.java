@@ -1,8 +1,10 @@
 package com.k8s.monitor.service.gpu;
 
+import com.k8s.monitor.dto.gpu.GpuCapacitySimulationResult;
 import com.k8s.monitor.dto.gpu.GpuForecastAnalysis;
-import com.k8s.monitor.entity.gpu.GpuAllocation; // 수정된 import
-import com.k8s.monitor.repository.gpu.*;
+import com.k8s.monitor.dto.gpu.GpuUtilizationForecast;
+import com.k8s.monitor.entity.gpu.GpuUsageHourly;
+import com.k8s.monitor.repository.gpu.GpuDeviceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,9 +22,11 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GpuForecastService {
     
-    private final GpuUsageMetricsRepository metricsRepository;
-    private final GpuAllocationRepository allocationRepository;
     private final GpuDeviceRepository gpuDeviceRepository;
+    private final GpuCostAccrualService costAccrualService;
+    private final GpuForecastModelService forecastModelService;
+    private final GpuModelCatalog modelCatalog;
+    private final GpuCapacitySimulationService capacitySimulationService;
 
     /**
      * GPU 사용량 예측 분석
@@ -36,39 +40,41 @@ public class GpuForecastService {
         }
         
         try {
-            // 과거 데이터 수집 (예측 기간의 2배)
-            LocalDateTime historicalStart = LocalDateTime.now().minusHours(forecastHours * 2);
-            LocalDateTime now = LocalDateTime.now();
+            // 클러스터 사용률 예측 (시간별 롤업 기반 Holt-Winters, 30일 구간까지 한 번에 산출)
+            Optional<GpuUtilizationForecast> clusterForecast = forecastModelService.forecast(
+                GpuUsageHourly.SCOPE_CLUSTER, GpuUsageHourly.CLUSTER_ID, Math.max(forecastHours, 24 * 30));
             
-            // 시간별 사용률 트렌드 분석
-            List<Object[]> hourlyTrend = metricsRepository.findHourlyUsageTrend(historicalStart);
-            Map<String, Double> utilizationTrend = analyzeUtilizationTrend(hourlyTrend);
-            
-            // 비용 트렌드 분석
-            List<GpuAllocation> recentAllocations = allocationRepository.findByAllocationTimeBetween(historicalStart, now);
-            Map<String, Double> costTrend = analyzeCostTrend(recentAllocations);
+            // 비용/수요 추세와 현재 사용률은 모델 갱신 시 계산된 스냅샷 사용 (조회 경로에서 DB 미조회)
+            Optional<GpuForecastModelService.TrendSnapshot> trends = forecastModelService.getTrendSnapshot();
+            double fallbackUtilization = clusterForecast.isPresent() ? 0.0
+                : trends.map(GpuForecastModelService.TrendSnapshot::currentUtilizationPct).orElse(0.0);
             
             // 용량 분석
             CapacityAnalysis capacity = analyzeCapacity();
             
             return GpuForecastAnalysis.builder()
-                .utilizationForecast24h(generateUtilizationForecast(24))
-                .utilizationForecast7d(generateUtilizationForecast(24 * 7))
-                .utilizationForecast30d(generateUtilizationForecast(24 * 30))
+                .utilizationForecast24h(sampleForecast(clusterForecast, 24, fallbackUtilization))
+                .utilizationForecast7d(sampleForecast(clusterForecast, 24 * 7, fallbackUtilization))
+                .utilizationForecast30d(sampleForecast(clusterForecast, 24 * 30, fallbackUtilization))
+                .clusterForecast(clusterForecast.map(forecast -> truncate(forecast, forecastHours)).orElse(null))
+                .modelUtilizationForecast(forecastByModel(forecastHours))
                 .costForecast24h(generateCostForecast(24))
                 .costForecast7d(generateCostForecast(24 * 7))
                 .costForecast30d(generateCostForecast(24 * 30))
                 .capacityExhaustionEta(capacity.getExhaustionEta())
                 .additionalGpusNeeded(capacity.getAdditionalGpusNeeded())
                 .recommendedGpuModels(capacity.getRecommendedModels())
-                .utilizationTrend(determineTrend(utilizationTrend))
-                .costTrend(determineTrend(costTrend))
-                .demandTrend(analyzeDemandTrend(recentAllocations))
+                .utilizationTrend(clusterForecast.map(forecast -> describeUtilizationTrend(forecast.getTrendPerDay()))
+                    .orElse("STABLE"))
+                .costTrend(trends.map(snapshot -> describeCostTrend(snapshot.costSlopePerDay())).orElse("STABLE"))
+                .demandTrend(trends.map(this::describeDemandTrend).orElse("STABLE"))
+                .seasonalPatterns(clusterForecast.map(GpuUtilizationForecast::getDailyProfile).orElse(null))
+                .peakUsagePeriods(clusterForecast.map(this::findPeakPeriods).orElse(List.of()))
                 .scalingRecommendations(generateScalingRecommendations(capacity))
                 .optimizationRecommendations(generateOptimizationRecommendations())
                 .forecastDate(LocalDateTime.now())
-                .forecastMethod("LINEAR_REGRESSION")
-                .confidence(calculateConfidence(hourlyTrend, recentAllocations))
+                .forecastMethod(clusterForecast.isPresent() ? GpuForecastModelService.METHOD : "CURRENT_LEVEL")
+                .confidence(calculateConfidence(clusterForecast, trends))
                 .build();
                 
         } catch (Exception e) {
@@ -87,18 +93,17 @@ public class GpuForecastService {
             // 현재 상태 기반 간단한 예측
             long totalGpus = gpuDeviceRepository.count();
             long availableGpus = gpuDeviceRepository.findAvailableDevices().size();
-            List<GpuAllocation> activeAllocations = allocationRepository.findActiveAllocations();
             
             double currentUtilizationRate = totalGpus > 0 ? 
                 (double) (totalGpus - availableGpus) / totalGpus * 100 : 0.0;
             
             return GpuForecastAnalysis.builder()
-                .utilizationForecast24h(generateSimpleUtilizationForecast(currentUtilizationRate, 24))
-                .utilizationForecast7d(generateSimpleUtilizationForecast(currentUtilizationRate, 24 * 7))
-                .utilizationForecast30d(generateSimpleUtilizationForecast(currentUtilizationRate, 24 * 30))
-                .costForecast24h(calculateSimpleCostForecast(activeAllocations, 24))
-                .costForecast7d(calculateSimpleCostForecast(activeAllocations, 24 * 7))
-                .costForecast30d(calculateSimpleCostForecast(activeAllocations, 24 * 30))
+                .utilizationForecast24h(sampleForecast(Optional.empty(), 24, currentUtilizationRate))
+                .utilizationForecast7d(sampleForecast(Optional.empty(), 24 * 7, currentUtilizationRate))
+                .utilizationForecast30d(sampleForecast(Optional.empty(), 24 * 30, currentUtilizationRate))
+                .costForecast24h(calculateSimpleCostForecast(24))
+                .costForecast7d(calculateSimpleCostForecast(24 * 7))
+                .costForecast30d(calculateSimpleCostForecast(24 * 30))
                 .utilizationTrend(currentUtilizationRate > 80 ? "INCREASING" : 
                                 currentUtilizationRate < 20 ? "DECREASING" : "STABLE")
                 .costTrend("STABLE")
@@ -116,111 +121,39 @@ public class GpuForecastService {
         }
     }
 
-    // Private helper methods
-
-    private Map<String, Double> analyzeUtilizationTrend(List<Object[]> hourlyTrend) {
-        Map<String, Double> trend = new HashMap<>();
-        
-        if (hourlyTrend == null || hourlyTrend.size() < 2) {
-            trend.put("slope", 0.0);
-            trend.put("current", 50.0);
-            return trend;
-        }
-        
-        try {
-            List<Double> utilizationValues = hourlyTrend.stream()
-                .map(row -> {
-                    Object gpuUtil = row[1];
-                    return gpuUtil instanceof Number ? ((Number) gpuUtil).doubleValue() : 0.0;
-                })
-                .collect(Collectors.toList());
-            
-            // 선형 회귀를 사용한 트렌드 계산
-            double slope = calculateLinearRegressionSlope(utilizationValues);
-            double current = utilizationValues.get(utilizationValues.size() - 1);
-            
-            trend.put("slope", slope);
-            trend.put("current", current);
-            
-        } catch (Exception e) {
-            log.warn("Error analyzing utilization trend: {}", e.getMessage());
-            trend.put("slope", 0.0);
-            trend.put("current", 50.0);
-        }
-        
-        return trend;
+    /**
+     * 장비/모델/클러스터별 사용률 예측 (해당 범위의 모델이 아직 준비되지 않았으면 empty)
+     */
+    public Optional<GpuUtilizationForecast> getUtilizationForecast(String scopeType, String scopeId, int hours) {
+        return forecastModelService.forecast(scopeType, scopeId, hours);
     }
 
-    private Map<String, Double> analyzeCostTrend(List<GpuAllocation> allocations) {
-        Map<String, Double> trend = new HashMap<>();
-        
-        if (allocations == null || allocations.isEmpty()) {
-            trend.put("slope", 0.0);
-            trend.put("current", 0.0);
-            return trend;
-        }
-        
-        try {
-            // 일별 비용 계산
-            Map<String, Double> dailyCosts = allocations.stream()
-                .filter(allocation -> allocation.getTotalCost() != null)
-                .collect(Collectors.groupingBy(
-                    allocation -> allocation.getAllocationTime().toLocalDate().toString(),
-                    Collectors.summingDouble(GpuAllocation::getTotalCost)
-                ));
-            
-            if (dailyCosts.size() >= 2) {
-                List<Double> costValues = new ArrayList<>(dailyCosts.values());
-                double slope = calculateLinearRegressionSlope(costValues);
-                double current = costValues.get(costValues.size() - 1);
-                
-                trend.put("slope", slope);
-                trend.put("current", current);
-            } else {
-                double totalCost = allocations.stream()
-                    .filter(allocation -> allocation.getTotalCost() != null)
-                    .mapToDouble(GpuAllocation::getTotalCost)
-                    .sum();
-                
-                trend.put("slope", 0.0);
-                trend.put("current", totalCost);
-            }
-            
-        } catch (Exception e) {
-            log.warn("Error analyzing cost trend: {}", e.getMessage());
-            trend.put("slope", 0.0);
-            trend.put("current", 0.0);
-        }
-        
-        return trend;
-    }
+    // Private helper methods
 
+    /**
+     * 용량 분석 (과거 할당 이력 재생 시뮬레이션의 기본 결과 사용)
+     */
     private CapacityAnalysis analyzeCapacity() {
         try {
-            long totalGpus = gpuDeviceRepository.count();
-            long availableGpus = gpuDeviceRepository.findAvailableDevices().size();
-            long activeAllocations = allocationRepository.findActiveAllocations().size();
-            
-            double utilizationRate = totalGpus > 0 ? (double) (totalGpus - availableGpus) / totalGpus : 0;
-            
-            // 용량 고갈 예상 시점 계산
-            LocalDateTime exhaustionEta = null;
-            int additionalGpusNeeded = 0;
-            
-            if (utilizationRate > 0.8) { // 80% 이상 사용 중
-                // 간단한 선형 예측 (주당 5% 증가 가정)
-                double remainingCapacity = 1.0 - utilizationRate;
-                int weeksToExhaustion = (int) (remainingCapacity / 0.05);
-                exhaustionEta = LocalDateTime.now().plusWeeks(weeksToExhaustion);
-                additionalGpusNeeded = (int) (totalGpus * 0.2); // 20% 추가 권장
+            long totalGpus = modelCatalog.getDeviceModelIds().size();
+            Optional<GpuCapacitySimulationResult> simulation = capacitySimulationService.getBaseline();
+            if (simulation.isEmpty()) {
+                return new CapacityAnalysis(null, 0, false, determineRecommendedModels(totalGpus));
             }
             
-            return new CapacityAnalysis(exhaustionEta, additionalGpusNeeded, 
-                determineRecommendedModels(totalGpus));
+            GpuCapacitySimulationResult result = simulation.get();
+            LocalDateTime exhaustionEta = result.getExhaustionEta() != null
+                ? result.getExhaustionEta().atStartOfDay() : null;
+            String recommendedModels = result.getExpansionModelId() != null
+                ? result.getExpansionModelId() : determineRecommendedModels(totalGpus);
+            
+            return new CapacityAnalysis(exhaustionEta,
+                Optional.ofNullable(result.getAdditionalGpusNeeded()).orElse(0),
+                Boolean.TRUE.equals(result.getAdditionalGpusExceedsLimit()), recommendedModels);
                 
         } catch (Exception e) {
             log.warn("Error analyzing capacity: {}", e.getMessage());
-            return new CapacityAnalysis(null, 0, "RTX4090,A100_80GB");
+            return new CapacityAnalysis(null, 0, false, "RTX4090,A100_80GB");
         }
     }
 
@@ -234,126 +167,95 @@ public class GpuForecastService {
         }
     }
 
-    private Map<String, Double> generateUtilizationForecast(int hours) {
-        Map<String, Double> forecast = new HashMap<>();
+    /**
+     * 예측 구간을 24개 지점으로 표본화 (모델이 없으면 현재 수준 유지)
+     */
+    private Map<String, Double> sampleForecast(Optional<GpuUtilizationForecast> forecast, int hours, double fallback) {
+        Map<String, Double> sampled = new LinkedHashMap<>();
+        List<GpuUtilizationForecast.ForecastPoint> points = forecast.map(GpuUtilizationForecast::getPoints).orElse(List.of());
         
-        try {
-            // 현재 사용률 기반으로 예측
-            LocalDateTime since = LocalDateTime.now().minusHours(Math.min(hours, 24));
-            List<Object[]> currentStats = metricsRepository.findUsageStatsByDevice(since);
-            
-            double avgCurrentUtilization = currentStats.stream()
-                .mapToDouble(row -> {
-                    Object util = row[2];
-                    return util instanceof Number ? ((Number) util).doubleValue() : 0.0;
-                })
-                .average()
-                .orElse(50.0);
-            
-            // 시간대별 변동 패턴 적용
-            for (int i = 1; i <= Math.min(hours, 168); i += Math.max(1, hours / 24)) {
-                double projectedUtilization = avgCurrentUtilization * getTimeBasedMultiplier(i);
-                projectedUtilization = Math.min(100.0, Math.max(0.0, projectedUtilization));
-                forecast.put("hour_" + i, projectedUtilization);
-            }
-            
-        } catch (Exception e) {
-            log.warn("Error generating utilization forecast: {}", e.getMessage());
-            // 기본 예측값 생성
-            for (int i = 1; i <= Math.min(hours, 24); i++) {
-                forecast.put("hour_" + i, 50.0 + (Math.random() - 0.5) * 20);
-            }
+        for (int i = 1; i <= hours; i += Math.max(1, hours / 24)) {
+            sampled.put("hour_" + i, i <= points.size() ? points.get(i - 1).getPredicted() : fallback);
         }
         
-        return forecast;
+        return sampled;
     }
 
-    private Map<String, Double> generateSimpleUtilizationForecast(double currentRate, int hours) {
-        Map<String, Double> forecast = new HashMap<>();
-        
-        // 현재 사용률 기반 간단한 예측
-        for (int i = 1; i <= Math.min(hours, 24); i++) {
-            double variation = (Math.random() - 0.5) * 10; // ±5% 변동
-            double predicted = Math.min(100.0, Math.max(0.0, currentRate + variation));
-            forecast.put("hour_" + i, predicted);
+    /**
+     * 모델별 사용률 예측 (캐시된 모델별 예측을 표본화)
+     */
+    private Map<String, Map<String, Double>> forecastByModel(int hours) {
+        Map<String, Map<String, Double>> byModel = new TreeMap<>();
+        for (String modelId : forecastModelService.getScopeIds(GpuUsageHourly.SCOPE_MODEL)) {
+            forecastModelService.forecast(GpuUsageHourly.SCOPE_MODEL, modelId, hours)
+                .ifPresent(forecast -> byModel.put(modelId, sampleForecast(Optional.of(forecast), hours, 0.0)));
         }
-        
-        return forecast;
+        return byModel;
     }
 
-    private Double generateCostForecast(int hours) {
-        try {
-            // 현재 시간당 비용 계산
-            List<GpuAllocation> activeAllocations = allocationRepository.findActiveAllocations();
-            double currentHourlyCost = activeAllocations.stream()
-                .filter(allocation -> allocation.getCostPerHour() != null)
-                .mapToDouble(GpuAllocation::getCostPerHour)
-                .sum();
-            
-            // 성장률 적용 (월 3% 성장 가정)
-            double growthRate = Math.pow(1.03, hours / (24.0 * 30.0));
-            
-            return currentHourlyCost * hours * growthRate;
-            
-        } catch (Exception e) {
-            log.warn("Error generating cost forecast: {}", e.getMessage());
-            return 0.0;
+    private GpuUtilizationForecast truncate(GpuUtilizationForecast forecast, int hours) {
+        if (forecast.getPoints().size() > hours) {
+            forecast.setPoints(new ArrayList<>(forecast.getPoints().subList(0, hours)));
         }
+        return forecast;
     }
 
-    private Double calculateSimpleCostForecast(List<GpuAllocation> activeAllocations, int hours) {
-        try {
-            double currentHourlyCost = activeAllocations.stream()
-                .filter(allocation -> allocation.getCostPerHour() != null)
-                .mapToDouble(GpuAllocation::getCostPerHour)
-                .sum();
-            
-            return currentHourlyCost * hours;
-            
-        } catch (Exception e) {
-            log.warn("Error calculating simple cost forecast: {}", e.getMessage());
-            return 0.0;
-        }
+    /**
+     * 일 계절 프로필 상위 3개 시간대
+     */
+    private List<String> findPeakPeriods(GpuUtilizationForecast forecast) {
+        return forecast.getDailyProfile().entrySet().stream()
+            .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+            .limit(3)
+            .map(entry -> {
+                int hour = Integer.parseInt(entry.getKey().substring("hour_".length()));
+                return String.format("%02d:00-%02d:00", hour, (hour + 1) % 24);
+            })
+            .collect(Collectors.toList());
     }
 
-    private String determineTrend(Map<String, Double> trendData) {
-        if (trendData == null || trendData.isEmpty()) {
-            return "STABLE";
-        }
+    /**
+     * 일 단위 추세(%p/일)로 사용률 트렌드 판정
+     */
+    private String describeUtilizationTrend(double trendPerDay) {
+        if (trendPerDay > 0.5) return "INCREASING";
+        if (trendPerDay < -0.5) return "DECREASING";
+        return "STABLE";
+    }
+
+    private Double generateCostForecast(int hours) {
+        // 현재 시간당 비용 (비용 누적 스냅샷)
+        double currentHourlyCost = costAccrualService.getSnapshot().hourlyCost();
         
-        Double slope = trendData.get("slope");
-        if (slope == null) return "STABLE";
+        // 성장률 적용 (월 3% 성장 가정)
+        double growthRate = Math.pow(1.03, hours / (24.0 * 30.0));
         
-        if (slope > 0.1) return "INCREASING";
-        if (slope < -0.1) return "DECREASING";
+        return currentHourlyCost * hours * growthRate;
+    }
+
+    private Double calculateSimpleCostForecast(int hours) {
+        return costAccrualService.getSnapshot().hourlyCost() * hours;
+    }
+
+    /**
+     * 완료된 일별 비용의 기울기로 비용 트렌드 판정
+     */
+    private String describeCostTrend(double slopePerDay) {
+        if (slopePerDay > 0.1) return "INCREASING";
+        if (slopePerDay < -0.1) return "DECREASING";
         return "STABLE";
     }
 
-    private String analyzeDemandTrend(List<GpuAllocation> allocations) {
-        if (allocations == null || allocations.size() < 7) {
-            return "STABLE";
-        }
-        
-        try {
-            // 최근 7일과 이전 7일 비교
-            LocalDateTime midPoint = LocalDateTime.now().minusDays(7);
-            
-            long recentAllocations = allocations.stream()
-                .filter(allocation -> allocation.getAllocationTime().isAfter(midPoint))
-                .count();
-            
-            long previousAllocations = allocations.stream()
-                .filter(allocation -> allocation.getAllocationTime().isBefore(midPoint))
-                .count();
-            
-            if (recentAllocations > previousAllocations * 1.2) return "INCREASING";
-            if (recentAllocations < previousAllocations * 0.8) return "DECREASING";
-            return "STABLE";
-            
-        } catch (Exception e) {
-            log.warn("Error analyzing demand trend: {}", e.getMessage());
+    /**
+     * 최근 7일과 이전 7일 할당 수 비교로 수요 트렌드 판정
+     */
+    private String describeDemandTrend(GpuForecastModelService.TrendSnapshot trends) {
+        if (trends.recentAllocations() + trends.previousAllocations() < 7) {
             return "STABLE";
         }
+        if (trends.recentAllocations() > trends.previousAllocations() * 1.2) return "INCREASING";
+        if (trends.recentAllocations() < trends.previousAllocations() * 0.8) return "DECREASING";
+        return "STABLE";
     }
 
     private List<String> generateScalingRecommendations(CapacityAnalysis capacity) {
@@ -361,7 +263,8 @@ public class GpuForecastService {
         
         try {
             if (capacity.getAdditionalGpusNeeded() > 0) {
-                recommendations.add("추가 GPU 장비 " + capacity.getAdditionalGpusNeeded() + "개 확보 권장");
+                recommendations.add("추가 GPU 장비 " + capacity.getAdditionalGpusNeeded()
+                    + (capacity.isExceedsLimit() ? "개 이상 확보 권장 (탐색 상한까지 증설해도 목표 거절률 미달)" : "개 확보 권장"));
                 recommendations.add("고성능 모델(" + capacity.getRecommendedModels() + ") 도입 검토");
             }
             
@@ -414,60 +317,29 @@ public class GpuForecastService {
         );
     }
 
-    private double calculateConfidence(List<Object[]> hourlyTrend, List<GpuAllocation> allocations) {
-        try {
-            double confidence = 0.5; // 기본 신뢰도
-            
-            // 데이터 양에 따른 신뢰도 조정
-            if (hourlyTrend != null && hourlyTrend.size() > 48) {
-                confidence += 0.2;
+    private double calculateConfidence(Optional<GpuUtilizationForecast> forecast,
+                                       Optional<GpuForecastModelService.TrendSnapshot> trends) {
+        double confidence = 0.4; // 기본 신뢰도
+        
+        // 학습 데이터 양과 1-step 오차에 따른 신뢰도 조정
+        if (forecast.isPresent()) {
+            GpuUtilizationForecast model = forecast.get();
+            if (model.getObservations() >= 24 * 7) {
+                confidence += 0.2; // 주 계절성 1주기 이상
             }
-            
-            if (allocations != null && allocations.size() > 100) {
-                confidence += 0.2;
+            if (model.getObservations() >= 24 * 14) {
+                confidence += 0.1;
             }
-            
-            return Math.min(1.0, confidence);
-            
-        } catch (Exception e) {
-            return 0.5;
-        }
-    }
-
-    private double calculateLinearRegressionSlope(List<Double> values) {
-        if (values == null || values.size() < 2) return 0.0;
-        
-        try {
-            int n = values.size();
-            double sumX = n * (n - 1) / 2.0; // 0, 1, 2, ... n-1의 합
-            double sumY = values.stream().mapToDouble(Double::doubleValue).sum();
-            double sumXY = 0.0;
-            double sumX2 = 0.0;
-            
-            for (int i = 0; i < n; i++) {
-                sumXY += i * values.get(i);
-                sumX2 += i * i;
+            if (model.getResidualStdDev() < 10.0) {
+                confidence += 0.1;
             }
-            
-            return (n * sumXY - sumX * sumY) / (n * sumX2 - sumX * sumX);
-            
-        } catch (Exception e) {
-            log.warn("Error calculating linear regression slope: {}", e.getMessage());
-            return 0.0;
         }
-    }
-
-    private double getTimeBasedMultiplier(int hour) {
-        // 시간대별 사용률 변동 패턴 (업무시간 vs 휴무시간)
-        int hourOfDay = hour % 24;
         
-        if (hourOfDay >= 9 && hourOfDay <= 18) {
-            return 1.2; // 업무시간 20% 증가
-        } else if (hourOfDay >= 22 || hourOfDay <= 6) {
-            return 0.7; // 심야시간 30% 감소
-        } else {
-            return 1.0; // 기본
+        if (trends.filter(snapshot -> snapshot.recentAllocations() + snapshot.previousAllocations() > 100).isPresent()) {
+            confidence += 0.1;
         }
+        
+        return Math.min(1.0, confidence);
     }
 
     // 기본값 생성 메서드
@@ -494,16 +366,20 @@ public class GpuForecastService {
     private static class CapacityAnalysis {
         private final LocalDateTime exhaustionEta;
         private final int additionalGpusNeeded;
+        private final boolean exceedsLimit;
         private final String recommendedModels;
 
-        public CapacityAnalysis(LocalDateTime exhaustionEta, int additionalGpusNeeded, String recommendedModels) {
+        public CapacityAnalysis(LocalDateTime exhaustionEta, int additionalGpusNeeded, boolean exceedsLimit,
+                                String recommendedModels) {
             this.exhaustionEta = exhaustionEta;
             this.additionalGpusNeeded = additionalGpusNeeded;
+            this.exceedsLimit = exceedsLimit;
             this.recommendedModels = recommendedModels;
         }
 
         public LocalDateTime getExhaustionEta() { return exhaustionEta; }
         public int getAdditionalGpusNeeded() { return additionalGpusNeeded; }
+        public boolean isExceedsLimit() { return exceedsLimit; }
         public String getRecommendedModels() { return recommendedModels; }
     }
 }
\ No newline at end of file
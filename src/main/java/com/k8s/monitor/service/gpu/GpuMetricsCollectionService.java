@@ -1,9 +1,15 @@
 package com.k8s.monitor.service.gpu;
 
+import com.k8s.monitor.dto.gpu.GpuAlertInfo;
+import com.k8s.monitor.engine.MigLayoutPlanner;
 import com.k8s.monitor.entity.gpu.*;
+import com.k8s.monitor.event.gpu.GpuTelemetryCollectedEvent;
+import com.k8s.monitor.event.gpu.GpuTelemetrySample;
 import com.k8s.monitor.repository.gpu.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +18,7 @@ import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * GPU 메트릭 수집 서비스 (최종 수정 버전)
@@ -25,6 +32,14 @@ public class GpuMetricsCollectionService {
     private final GpuUsageMetricsRepository metricsRepository;
     private final GpuDeviceRepository gpuDeviceRepository;
     private final MigInstanceRepository migInstanceRepository;
+    private final GpuAllocationRepository allocationRepository;
+    private final GpuAllocationIndex allocationIndex;
+    private final List<MigTelemetrySource> migTelemetrySources;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GpuAlertRuleService alertRuleService;
+
+    @Value("${gpu.management.metrics.mig-source:" + NvidiaSmiMigTelemetrySource.SOURCE_NAME + "}")
+    private String migSourceName;
 
     /**
      * GPU 메트릭 수집 (스케줄러)
@@ -70,21 +85,30 @@ public class GpuMetricsCollectionService {
     private void performMetricsCollection() {
         List<GpuDevice> activeDevices = gpuDeviceRepository.findByDeviceStatus("ACTIVE");
         List<GpuDevice> migEnabledDevices = gpuDeviceRepository.findByDeviceStatus("MIG_ENABLED");
+        List<GpuUsageMetrics> collected = new ArrayList<>();
         
         // 일반 GPU 메트릭 수집
         for (GpuDevice device : activeDevices) {
-            collectDeviceMetrics(device);
+            collectDeviceMetrics(device, collected);
         }
         
-        // MIG 인스턴스 메트릭 수집
-        for (GpuDevice device : migEnabledDevices) {
-            List<MigInstance> instances = migInstanceRepository.findByDeviceDeviceId(device.getDeviceId());
-            for (MigInstance instance : instances) {
-                if ("ACTIVE".equals(instance.getInstanceStatus())) {
-                    collectMigInstanceMetrics(instance);
-                }
+        // MIG 인스턴스 메트릭 수집 (GPU 1장당 1회 조회)
+        if (!migEnabledDevices.isEmpty()) {
+            Map<String, List<MigInstance>> instancesByDevice = migInstanceRepository.findActiveInstances().stream()
+                .collect(Collectors.groupingBy(instance -> instance.getDevice().getDeviceId()));
+            MigTelemetrySource source = resolveMigTelemetrySource();
+
+            for (GpuDevice device : migEnabledDevices) {
+                // 인스턴스가 없어도 물리 GPU 샘플(온도/전력)은 수집
+                collectMigDeviceMetrics(source, device,
+                    instancesByDevice.getOrDefault(device.getDeviceId(), List.of()), collected);
             }
         }
+
+        if (!collected.isEmpty()) {
+            eventPublisher.publishEvent(new GpuTelemetryCollectedEvent(LocalDateTime.now(),
+                collected.stream().map(this::toSample).collect(Collectors.toList())));
+        }
     }
 
     /**
@@ -120,14 +144,17 @@ public class GpuMetricsCollectionService {
     }
 
     /**
-     * 과열 알람 조회
+     * 과열 알람 조회 (규칙 엔진의 미해소 온도 알람, 대상별 가장 높은 심각도 1건)
      */
     public List<Map<String, Object>> getOverheatingAlerts() {
-        LocalDateTime since = LocalDateTime.now().minusHours(1);
-        
         try {
-            List<GpuUsageMetrics> overheatingMetrics = metricsRepository.findOverheatingMetrics(85.0, since);
-            return convertOverheatingMetrics(overheatingMetrics);
+            Map<String, GpuAlertInfo> byTarget = new LinkedHashMap<>();
+            for (GpuAlertInfo alert : alertRuleService.getOpenAlerts("TEMPERATURE")) {
+                byTarget.putIfAbsent(alert.getTargetId(), alert); // 심각도 높은 순으로 정렬되어 있음
+            }
+            return byTarget.values().stream()
+                .map(this::toOverheatingAlert)
+                .collect(Collectors.toList());
             
         } catch (Exception e) {
             log.error("Error getting overheating alerts: {}", e.getMessage(), e);
@@ -242,13 +269,14 @@ public class GpuMetricsCollectionService {
 
     // Private helper methods
     
-    private void collectDeviceMetrics(GpuDevice device) {
+    private void collectDeviceMetrics(GpuDevice device, List<GpuUsageMetrics> collected) {
         try {
             Map<String, Object> metrics = executeNvidiaSmi(device.getDeviceIndex());
             
             if (metrics != null && !metrics.isEmpty()) {
                 GpuUsageMetrics metricsEntity = GpuUsageMetrics.builder()
                     .device(device)
+                    .allocation(activeAllocationOf(device.getDeviceId()))
                     .timestamp(LocalDateTime.now())
                     .gpuUtilizationPct(getDoubleValue(metrics, "utilization.gpu"))
                     .memoryUsedMb(getLongValue(metrics, "memory.used"))
@@ -263,6 +291,7 @@ public class GpuMetricsCollectionService {
                     .build();
                 
                 metricsRepository.save(metricsEntity);
+                collected.add(metricsEntity);
                 
                 // GPU 장비의 현재 상태 업데이트
                 device.setCurrentTempC(metricsEntity.getTemperatureC());
@@ -275,33 +304,242 @@ public class GpuMetricsCollectionService {
         }
     }
 
-    private void collectMigInstanceMetrics(MigInstance instance) {
+    /**
+     * GPU 1장의 MIG 인스턴스 메트릭 수집
+     * 텔레메트리는 migUuid, 저장된 GPU instance ID 순으로 매핑하고, 둘 다 맞지 않는 인스턴스는
+     * 프로필 메모리 크기가 맞는 미매핑 GPU instance 에 배치 순서대로 연결하여 실제 UUID/GI ID 를 저장
+     * 같은 조회 결과로 물리 GPU 샘플(migInstance 없음)도 1건 기록하여 장비 단위 온도/전력 알람, 이상 탐지,
+     * 상위 K, 스트림 대상에 포함
+     */
+    private void collectMigDeviceMetrics(MigTelemetrySource source, GpuDevice device, List<MigInstance> instances,
+                                         List<GpuUsageMetrics> collected) {
         try {
-            Map<String, Object> metrics = executeNvidiaSmiForMig(
-                instance.getDevice().getDeviceIndex(), 
-                instance.getInstanceId()
-            );
-            
-            if (metrics != null && !metrics.isEmpty()) {
-                GpuUsageMetrics metricsEntity = GpuUsageMetrics.builder()
-                    .device(instance.getDevice())
+            Optional<MigTelemetrySource.GpuTelemetry> telemetry = source.collect(device);
+            if (telemetry.isEmpty()) {
+                return;
+            }
+            MigTelemetrySource.GpuTelemetry gpu = telemetry.get();
+            List<MigMatch> matched = matchMigTelemetry(device, instances, gpu);
+
+            LocalDateTime timestamp = LocalDateTime.now();
+            List<GpuUsageMetrics> metricsEntities = new ArrayList<>(instances.size() + 1);
+            metricsEntities.add(GpuUsageMetrics.builder()
+                .device(device)
+                .timestamp(timestamp)
+                .gpuUtilizationPct(physicalUtilizationOf(gpu, matched))
+                .memoryUsedMb(gpu.memoryUsedMb())
+                .memoryTotalMb(gpu.memoryTotalMb())
+                .memoryUtilizationPct(gpu.memoryUtilizationPct() != null
+                    ? gpu.memoryUtilizationPct() : percentOf(gpu.memoryUsedMb(), gpu.memoryTotalMb()))
+                .temperatureC(gpu.temperatureC())
+                .powerDrawW(gpu.powerDrawW())
+                .collectionSource(source.getSourceName())
+                .build());
+            for (MigMatch match : matched) {
+                MigInstance instance = match.instance();
+                MigTelemetrySource.MigTelemetry mig = match.telemetry();
+                metricsEntities.add(GpuUsageMetrics.builder()
+                    .device(device)
                     .migInstance(instance)
-                    .timestamp(LocalDateTime.now())
-                    .gpuUtilizationPct(getDoubleValue(metrics, "utilization.gpu"))
-                    .memoryUsedMb(getLongValue(metrics, "memory.used"))
-                    .memoryTotalMb(getLongValue(metrics, "memory.total"))
-                    .memoryUtilizationPct(getDoubleValue(metrics, "utilization.memory"))
-                    .temperatureC(getDoubleValue(metrics, "temperature.gpu"))
-                    .powerDrawW(getDoubleValue(metrics, "power.draw"))
-                    .collectionSource("nvidia-smi-mig")
-                    .build();
-                
-                metricsRepository.save(metricsEntity);
+                    .allocation(activeAllocationOf(instance.getMigId()))
+                    .timestamp(timestamp)
+                    .gpuUtilizationPct(mig.gpuUtilizationPct())
+                    .memoryUsedMb(mig.memoryUsedMb())
+                    .memoryTotalMb(mig.memoryTotalMb())
+                    .memoryUtilizationPct(percentOf(mig.memoryUsedMb(), mig.memoryTotalMb()))
+                    .temperatureC(gpu.temperatureC())
+                    .collectionSource(source.getSourceName())
+                    .build());
             }
-            
+            metricsRepository.saveAll(metricsEntities);
+            collected.addAll(metricsEntities);
+
+            // 같은 조회 결과로 물리 GPU 상태도 갱신
+            device.setCurrentTempC(gpu.temperatureC());
+            device.setCurrentPowerW(gpu.powerDrawW());
+            gpuDeviceRepository.save(device);
+
         } catch (Exception e) {
-            log.warn("Failed to collect metrics for MIG instance {}: {}", instance.getMigId(), e.getMessage());
+            log.warn("Failed to collect MIG metrics for device {}: {}", device.getDeviceId(), e.getMessage());
+        }
+    }
+
+    /**
+     * MIG 인스턴스와 텔레메트리 매핑 (UUID -> 저장된 GI ID -> 프로필 메모리가 맞는 미매핑 GI 순)
+     * 배치로 새로 연결된 인스턴스는 드라이버의 실제 UUID/GI ID 로 갱신하여 다음 수집부터 UUID 로 매핑
+     */
+    private List<MigMatch> matchMigTelemetry(GpuDevice device, List<MigInstance> instances,
+                                             MigTelemetrySource.GpuTelemetry gpu) {
+        Map<String, MigTelemetrySource.MigTelemetry> byUuid = new HashMap<>();
+        // GI 1개에 compute instance 가 여러 개면 첫 항목만 사용 (메모리는 GI 단위 값)
+        Map<Integer, MigTelemetrySource.MigTelemetry> byGpuInstance = new TreeMap<>();
+        for (MigTelemetrySource.MigTelemetry mig : gpu.migDevices()) {
+            if (mig.migUuid() != null) {
+                byUuid.put(mig.migUuid(), mig);
+            }
+            if (mig.gpuInstanceId() != null) {
+                byGpuInstance.putIfAbsent(mig.gpuInstanceId(), mig);
+            }
+        }
+
+        List<MigMatch> matched = new ArrayList<>(instances.size());
+        Set<Integer> claimed = new HashSet<>();
+        List<MigInstance> byPlacement = new ArrayList<>();
+        for (MigInstance instance : instances) {
+            MigTelemetrySource.MigTelemetry mig = byUuid.get(instance.getMigUuid());
+            if (mig == null) {
+                byPlacement.add(instance);
+                continue;
+            }
+            if (mig.gpuInstanceId() != null) {
+                claimed.add(mig.gpuInstanceId());
+            }
+            matched.add(new MigMatch(instance, mig));
+        }
+
+        // UUID 매핑이 끝난 뒤 저장된 GI ID 로 매핑 (UUID 로 확인된 배치가 우선)
+        List<MigInstance> unmatched = new ArrayList<>();
+        for (MigInstance instance : byPlacement) {
+            Integer gpuInstanceId = instance.getGpuInstanceId();
+            MigTelemetrySource.MigTelemetry mig = gpuInstanceId != null ? byGpuInstance.get(gpuInstanceId) : null;
+            if (mig == null || !claimed.add(gpuInstanceId)) {
+                unmatched.add(instance);
+                continue;
+            }
+            matched.add(new MigMatch(instance, mig));
+        }
+
+        if (!unmatched.isEmpty()) {
+            unmatched.sort(Comparator.comparing(MigInstance::getInstanceId));
+            for (MigInstance instance : unmatched) {
+                MigTelemetrySource.MigTelemetry mig = byGpuInstance.values().stream()
+                    .filter(candidate -> !claimed.contains(candidate.gpuInstanceId()))
+                    .filter(candidate -> fitsProfile(candidate, instance.getProfile()))
+                    .findFirst()
+                    .orElse(null);
+                if (mig == null) {
+                    log.debug("No MIG telemetry for instance {} on device {}", instance.getMigId(), device.getDeviceId());
+                    continue;
+                }
+                claimed.add(mig.gpuInstanceId());
+                matched.add(new MigMatch(instance, mig));
+                log.info("Mapped MIG instance {} to GPU instance {} on device {} (uuid {})",
+                        instance.getMigId(), mig.gpuInstanceId(), device.getDeviceId(), mig.migUuid());
+            }
         }
+
+        // 새로 연결되었거나 UUID/GI ID 가 바뀐 인스턴스의 배치 저장
+        List<MigInstance> relocated = new ArrayList<>();
+        for (MigMatch match : matched) {
+            MigInstance instance = match.instance();
+            String migUuid = match.telemetry().migUuid();
+            Integer gpuInstanceId = match.telemetry().gpuInstanceId();
+            boolean changed = false;
+            if (migUuid != null && !migUuid.equals(instance.getMigUuid()) && isUnclaimedMigUuid(migUuid, instance)) {
+                instance.setMigUuid(migUuid);
+                changed = true;
+            }
+            if (gpuInstanceId != null && !gpuInstanceId.equals(instance.getGpuInstanceId())) {
+                instance.setGpuInstanceId(gpuInstanceId);
+                changed = true;
+            }
+            if (changed) {
+                relocated.add(instance);
+            }
+        }
+        if (!relocated.isEmpty()) {
+            migInstanceRepository.saveAll(relocated);
+        }
+        return matched;
+    }
+
+    /**
+     * 물리 GPU 사용률 (MIG 모드에서 소스가 GPU 값을 주지 않으면 GPU instance 사용률을 compute slice 비율로 합산)
+     * 매핑되지 않은 GPU instance 가 있거나 사용률이 없는 인스턴스가 있으면 null
+     */
+    private Double physicalUtilizationOf(MigTelemetrySource.GpuTelemetry gpu, List<MigMatch> matched) {
+        if (gpu.gpuUtilizationPct() != null) {
+            return gpu.gpuUtilizationPct();
+        }
+        long telemetryInstances = gpu.migDevices().stream()
+            .map(MigTelemetrySource.MigTelemetry::gpuInstanceId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .count();
+        if (matched.isEmpty() || matched.size() != telemetryInstances) {
+            return null;
+        }
+        double weighted = 0;
+        for (MigMatch match : matched) {
+            Integer computeSlices = match.instance().getProfile().getComputeSlices();
+            if (match.telemetry().gpuUtilizationPct() == null || computeSlices == null) {
+                return null;
+            }
+            weighted += match.telemetry().gpuUtilizationPct() * computeSlices;
+        }
+        return weighted / MigLayoutPlanner.DEFAULT_COMPUTE_SLICES;
+    }
+
+    /**
+     * 실제 UUID 가 다른 인스턴스 행에 남아 있는지 확인
+     * mig_uuid 유니크 위반은 수집 트랜잭션 전체를 롤백시켜 이번 주기의 샘플이 유휴 감지기 등에 전달되지 않으므로 미리 차단
+     */
+    private boolean isUnclaimedMigUuid(String migUuid, MigInstance instance) {
+        Optional<MigInstance> holder = migInstanceRepository.findByMigUuid(migUuid);
+        if (holder.isPresent() && !holder.get().getMigId().equals(instance.getMigId())) {
+            log.warn("MIG UUID {} is still recorded on instance {}, keeping placement-only mapping for {}",
+                    migUuid, holder.get().getMigId(), instance.getMigId());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 텔레메트리의 GI 메모리 크기가 프로필과 맞는지 확인 (드라이버가 보고하는 값은 프로필 표기보다 약간 작음)
+     */
+    private boolean fitsProfile(MigTelemetrySource.MigTelemetry mig, MigProfile profile) {
+        if (mig.memoryTotalMb() == null || profile == null || profile.getMemoryGb() == null) {
+            return true;
+        }
+        double profileMb = profile.getMemoryGb() * 1024.0;
+        return mig.memoryTotalMb() >= profileMb * 0.85 && mig.memoryTotalMb() <= profileMb * 1.05;
+    }
+
+    private GpuTelemetrySample toSample(GpuUsageMetrics metrics) {
+        return new GpuTelemetrySample(
+            metrics.getDevice().getDeviceId(),
+            metrics.getMigInstance() != null ? metrics.getMigInstance().getMigId() : null,
+            metrics.getAllocation() != null ? metrics.getAllocation().getAllocationId() : null,
+            metrics.getTimestamp(),
+            metrics.getGpuUtilizationPct(),
+            metrics.getMemoryUtilizationPct(),
+            metrics.getMemoryUsedMb(),
+            metrics.getMemoryTotalMb(),
+            metrics.getTemperatureC(),
+            metrics.getPowerDrawW(),
+            metrics.getClockGraphicsMhz(),
+            metrics.getCollectionSource()
+        );
+    }
+
+    /**
+     * 리소스를 단독 점유한 활성 할당 참조 (공유 GPU 는 여러 할당이 겹치므로 태깅하지 않음)
+     */
+    private GpuAllocation activeAllocationOf(String resource) {
+        return allocationIndex.getExclusiveAllocation(resource)
+            .map(ref -> allocationRepository.getReferenceById(ref.allocationId()))
+            .orElse(null);
+    }
+
+    private MigTelemetrySource resolveMigTelemetrySource() {
+        return migTelemetrySources.stream()
+            .filter(source -> source.getSourceName().equals(migSourceName))
+            .findFirst()
+            .orElseThrow(() -> new RuntimeException("Unknown MIG telemetry source: " + migSourceName));
+    }
+
+    private Double percentOf(Long used, Long total) {
+        return used != null && total != null && total > 0 ? (double) used / total * 100 : null;
     }
 
     private Map<String, Object> executeNvidiaSmi(Integer deviceIndex) {
@@ -328,30 +566,6 @@ public class GpuMetricsCollectionService {
         return null;
     }
 
-    private Map<String, Object> executeNvidiaSmiForMig(Integer deviceIndex, Integer migInstanceId) {
-        try {
-            ProcessBuilder pb = new ProcessBuilder(
-                "nvidia-smi",
-                "--query-gpu=utilization.gpu,utilization.memory,memory.used,memory.total",
-                "--format=csv,noheader,nounits",
-                "--id=" + deviceIndex + ":" + migInstanceId
-            );
-            
-            Process process = pb.start();
-            BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-            String line = reader.readLine();
-            
-            if (line != null) {
-                return parseMigNvidiaSmiOutput(line);
-            }
-            
-        } catch (Exception e) {
-            log.error("Error executing nvidia-smi for MIG instance {}:{}: {}", deviceIndex, migInstanceId, e.getMessage());
-        }
-        
-        return null;
-    }
-
     private Map<String, Object> parseNvidiaSmiOutput(String line) {
         String[] values = line.split(",");
         Map<String, Object> metrics = new HashMap<>();
@@ -371,20 +585,6 @@ public class GpuMetricsCollectionService {
         return metrics;
     }
 
-    private Map<String, Object> parseMigNvidiaSmiOutput(String line) {
-        String[] values = line.split(",");
-        Map<String, Object> metrics = new HashMap<>();
-        
-        if (values.length >= 4) {
-            metrics.put("utilization.gpu", parseDouble(values[0].trim()));
-            metrics.put("utilization.memory", parseDouble(values[1].trim()));
-            metrics.put("memory.used", parseLong(values[2].trim()));
-            metrics.put("memory.total", parseLong(values[3].trim()));
-        }
-        
-        return metrics;
-    }
-
     // 통계 변환 메서드들
 
     private Map<String, Object> convertDeviceStats(List<Object[]> usageStatsByDevice) {
@@ -493,36 +693,22 @@ public class GpuMetricsCollectionService {
         return trendData;
     }
 
-    private List<Map<String, Object>> convertOverheatingMetrics(List<GpuUsageMetrics> overheatingMetrics) {
-        List<Map<String, Object>> alerts = new ArrayList<>();
-        
-        try {
-            for (GpuUsageMetrics metric : overheatingMetrics) {
-                Map<String, Object> alert = new HashMap<>();
-                alert.put("deviceId", metric.getDevice() != null ? metric.getDevice().getDeviceId() : "unknown");
-                alert.put("migId", metric.getMigInstance() != null ? metric.getMigInstance().getMigId() : null);
-                alert.put("temperature", metric.getTemperatureC());
-                alert.put("timestamp", metric.getTimestamp());
-                alert.put("severity", getTemperatureSeverity(metric.getTemperatureC()));
-                
-                alerts.add(alert);
-            }
-        } catch (Exception e) {
-            log.warn("Error converting overheating metrics: {}", e.getMessage());
-        }
-        
-        return alerts;
+    private Map<String, Object> toOverheatingAlert(GpuAlertInfo alert) {
+        Map<String, Object> overheating = new HashMap<>();
+        overheating.put("deviceId", "MIG".equals(alert.getTargetType()) ? null : alert.getTargetId());
+        overheating.put("migId", "MIG".equals(alert.getTargetType()) ? alert.getTargetId() : null);
+        overheating.put("temperature", alert.getCurrentValue());
+        overheating.put("timestamp", alert.getTriggeredAt());
+        overheating.put("severity", "CRITICAL".equals(alert.getSeverity()) ? "CRITICAL" : "WARNING");
+        overheating.put("status", alert.getStatus());
+        overheating.put("ruleId", alert.getRuleId());
+        overheating.put("nodeName", alert.getNodeName());
+        overheating.put("modelId", alert.getModelId());
+        return overheating;
     }
 
     // 유틸리티 메서드들
 
-    private String getTemperatureSeverity(Double temperature) {
-        if (temperature == null) return "UNKNOWN";
-        if (temperature >= 90) return "CRITICAL";
-        if (temperature >= 85) return "WARNING";
-        return "NORMAL";
-    }
-
     private Map<String, Object> createEmptyStatistics(int hours) {
         return Map.of(
             "timeRange", hours + " hours",
@@ -600,4 +786,8 @@ public class GpuMetricsCollectionService {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    // MIG 인스턴스와 매핑된 텔레메트리
+    private record MigMatch(MigInstance instance, MigTelemetrySource.MigTelemetry telemetry) {
+    }
+}
@@ -0,0 +1,408 @@
+package com.k8s.monitor.service.gpu;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.k8s.monitor.event.gpu.GpuInventoryChangedEvent;
+import com.k8s.monitor.event.gpu.GpuTelemetryCollectedEvent;
+import com.k8s.monitor.event.gpu.GpuTelemetrySample;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * GPU 실시간 메트릭 스트림 서비스 (SSE)
+ * 수집 주기마다 단일 발행자가 장비별 변경분(delta)을 한 번만 계산/직렬화하고, 구독자에게는 필터에 맞는 항목만 골라 전달
+ * (구독자 수와 무관하게 계산 비용이 일정하며 DB 를 조회하지 않음)
+ *
+ * 구독자별 전송 대기열은 queue-capacity 로 제한되며, 가득 차면 가장 오래된 프레임을 버리고
+ * 다음 전송 시 변경분 대신 전체 상태(snapshot)를 보내 클라이언트 상태를 다시 맞춤
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GpuMetricsStreamService {
+
+    private static final String UNKNOWN = "unknown";
+
+    private final GpuModelCatalog modelCatalog;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${gpu.management.metrics.stream.max-clients:200}")
+    private int maxClients;
+
+    @Value("${gpu.management.metrics.stream.queue-capacity:16}")
+    private int queueCapacity;
+
+    @Value("${gpu.management.metrics.stream.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${gpu.management.metrics.stream.timeout-minutes:30}")
+    private long timeoutMinutes;
+
+    @Value("${gpu.management.metrics.stream.min-change:0.5}")
+    private double minChange;
+
+    // 발행자 상태 (this 로 동기화)
+    private final Map<String, DeviceState> devices = new LinkedHashMap<>();
+    private final Set<String> removedDevices = new LinkedHashSet<>();
+    private long sequence;
+    private long fullStateSequence = -1;
+    private List<DeviceFrame> fullState = List.of();
+
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final AtomicLong droppedFrames = new AtomicLong();
+    private ExecutorService sender;
+
+    /**
+     * 구독 필터 (비어 있는 항목은 전체 허용)
+     */
+    public record Filter(Set<String> deviceIds, Set<String> nodeNames, Set<String> modelIds) {
+
+        boolean matches(DeviceFrame frame) {
+            return (deviceIds.isEmpty() || deviceIds.contains(frame.deviceId()))
+                && (nodeNames.isEmpty() || nodeNames.contains(frame.nodeName()))
+                && (modelIds.isEmpty() || modelIds.contains(frame.modelId()));
+        }
+    }
+
+    private record DeviceFrame(String deviceId, String nodeName, String modelId, String json) {
+    }
+
+    private record Frame(String name, String data) {
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(Math.max(1, senderThreads), runnable -> {
+            Thread thread = new Thread(runnable, "gpu-metrics-stream-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("gpu.metrics.stream.clients", clients, Set::size)
+            .description("Connected GPU metrics stream clients")
+            .register(meterRegistry);
+        Gauge.builder("gpu.metrics.stream.dropped", droppedFrames, AtomicLong::get)
+            .description("GPU metrics stream frames dropped for slow clients")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        clients.forEach(Client::close);
+        sender.shutdownNow();
+    }
+
+    /**
+     * 스트림 구독 (연결 직후 필터에 맞는 전체 상태를 snapshot 이벤트로 전송)
+     */
+    public SseEmitter subscribe(Filter filter) {
+        if (clients.size() >= maxClients) {
+            throw new IllegalStateException("Too many metrics stream clients (max " + maxClients + ")");
+        }
+        Client client = new Client(new SseEmitter(timeoutMinutes * 60_000L), filter);
+        client.emitter.onCompletion(client::close);
+        client.emitter.onTimeout(client::close);
+        client.emitter.onError(error -> client.close());
+        clients.add(client);
+        client.requestResync();
+        log.debug("Metrics stream client subscribed ({} connected)", clients.size());
+        return client.emitter;
+    }
+
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    /**
+     * 수집 주기 완료 시 변경분 발행 (커밋 이후, 물리 GPU 샘플만)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTelemetryCollected(GpuTelemetryCollectedEvent event) {
+        String header;
+        List<DeviceFrame> deltas;
+        List<String> removed;
+        // 구독자가 없어도 상태는 갱신 (첫 구독 시 snapshot 이 최신이 되도록)
+        synchronized (this) {
+            deltas = computeDeltas(event);
+            removed = new ArrayList<>(removedDevices);
+            removedDevices.clear();
+            header = "{\"type\":\"delta\",\"sequence\":" + sequence + ",\"collectedAt\":\"" + event.collectedAt() + "\"";
+        }
+        for (Client client : clients) {
+            List<DeviceFrame> matched = deltas.stream().filter(client.filter::matches).toList();
+            List<String> matchedRemoved = removed.stream()
+                .filter(deviceId -> client.filter.deviceIds().isEmpty() || client.filter.deviceIds().contains(deviceId))
+                .toList();
+            if (!matched.isEmpty() || !matchedRemoved.isEmpty()) {
+                client.offer(new Frame("delta", frameJson(header, matched, matchedRemoved)));
+            }
+        }
+    }
+
+    /**
+     * 삭제된 장비는 다음 프레임의 removed 목록으로 전달
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onInventoryChanged(GpuInventoryChangedEvent event) {
+        if ("DELETED".equals(event.changeType()) && devices.remove(event.deviceId()) != null) {
+            removedDevices.add(event.deviceId());
+            fullStateSequence = -1;
+        }
+    }
+
+    /**
+     * 유휴 연결 유지 및 끊어진 연결 정리 (대기열이 빈 구독자에게만 전송)
+     */
+    @Scheduled(fixedRate = 15000) // 15초마다 실행
+    public void sendHeartbeats() {
+        clients.forEach(client -> client.offerHeartbeat(new Frame(null, "keepalive")));
+    }
+
+    // Private helper methods
+
+    private synchronized List<DeviceFrame> computeDeltas(GpuTelemetryCollectedEvent event) {
+        Map<String, String> deviceModels = modelCatalog.getDeviceModelIds();
+        Map<String, String> deviceNodes = modelCatalog.getDeviceNodeNames();
+        sequence++;
+
+        List<DeviceFrame> deltas = new ArrayList<>();
+        for (GpuTelemetrySample sample : event.samples()) {
+            if (sample.migId() != null || sample.deviceId() == null) {
+                continue;
+            }
+            String nodeName = deviceNodes.getOrDefault(sample.deviceId(), UNKNOWN);
+            String modelId = deviceModels.getOrDefault(sample.deviceId(), UNKNOWN);
+            DeviceState state = devices.computeIfAbsent(sample.deviceId(), DeviceState::new);
+
+            Map<String, Object> delta = new LinkedHashMap<>();
+            delta.put("deviceId", sample.deviceId());
+            if (!nodeName.equals(state.nodeName) || !modelId.equals(state.modelId)) {
+                state.nodeName = nodeName;
+                state.modelId = modelId;
+                delta.put("nodeName", nodeName);
+                delta.put("modelId", modelId);
+            }
+            state.gpuUtil = track(delta, "gpuUtil", state.gpuUtil, sample.gpuUtilizationPct());
+            state.memUtil = track(delta, "memUtil", state.memUtil, sample.memoryUtilizationPct());
+            state.memUsedMb = track(delta, "memUsedMb", state.memUsedMb, sample.memoryUsedMb() != null ? sample.memoryUsedMb().doubleValue() : null);
+            state.tempC = track(delta, "tempC", state.tempC, sample.temperatureC());
+            state.powerW = track(delta, "powerW", state.powerW, sample.powerDrawW());
+            state.clockMhz = track(delta, "clockMhz", state.clockMhz, sample.clockGraphicsMhz() != null ? sample.clockGraphicsMhz().doubleValue() : null);
+            if (delta.size() > 1) {
+                deltas.add(new DeviceFrame(sample.deviceId(), nodeName, modelId, toJson(delta)));
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 직전 발행값 대비 min-change 이상 바뀐 경우에만 delta 에 포함하고 새 발행값 반환
+     */
+    private Double track(Map<String, Object> delta, String field, Double published, Double value) {
+        if (value == null) {
+            return published;
+        }
+        double rounded = Math.round(value * 10.0) / 10.0;
+        if (published == null || Math.abs(rounded - published) >= minChange) {
+            delta.put(field, rounded);
+            return rounded;
+        }
+        return published;
+    }
+
+    /**
+     * 현재 전체 상태 (발행 순번이 같으면 캐시 재사용)
+     */
+    private synchronized Frame snapshotFrame(Filter filter) {
+        if (fullStateSequence != sequence) {
+            fullState = devices.values().stream()
+                .map(state -> new DeviceFrame(state.deviceId, state.nodeName, state.modelId, toJson(state.toMap())))
+                .toList();
+            fullStateSequence = sequence;
+        }
+        String header = "{\"type\":\"snapshot\",\"sequence\":" + sequence;
+        return new Frame("snapshot", frameJson(header,
+            fullState.stream().filter(filter::matches).toList(), List.of()));
+    }
+
+    private String frameJson(String header, List<DeviceFrame> frames, List<String> removed) {
+        StringBuilder json = new StringBuilder(header.length() + frames.size() * 96);
+        json.append(header).append(",\"devices\":[")
+            .append(frames.stream().map(DeviceFrame::json).collect(Collectors.joining(",")))
+            .append(']');
+        if (!removed.isEmpty()) {
+            json.append(",\"removed\":").append(toJson(removed));
+        }
+        return json.append('}').toString();
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize metrics stream frame", e);
+        }
+    }
+
+    // Inner class for last published per-device values
+    private static final class DeviceState {
+        private final String deviceId;
+        private String nodeName;
+        private String modelId;
+        private Double gpuUtil;
+        private Double memUtil;
+        private Double memUsedMb;
+        private Double tempC;
+        private Double powerW;
+        private Double clockMhz;
+
+        private DeviceState(String deviceId) {
+            this.deviceId = deviceId;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("deviceId", deviceId);
+            map.put("nodeName", nodeName);
+            map.put("modelId", modelId);
+            map.put("gpuUtil", gpuUtil);
+            map.put("memUtil", memUtil);
+            map.put("memUsedMb", memUsedMb);
+            map.put("tempC", tempC);
+            map.put("powerW", powerW);
+            map.put("clockMhz", clockMhz);
+            return map;
+        }
+    }
+
+    // Inner class for per-client bounded send queue (drop-oldest)
+    private final class Client {
+        private final SseEmitter emitter;
+        private final Filter filter;
+        private final ArrayDeque<Frame> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean resync;
+        private boolean closed;
+
+        private Client(SseEmitter emitter, Filter filter) {
+            this.emitter = emitter;
+            this.filter = filter;
+        }
+
+        void offer(Frame frame) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (queue.size() >= queueCapacity) {
+                    queue.pollFirst();
+                    droppedFrames.incrementAndGet();
+                    resync = true;
+                }
+                queue.addLast(frame);
+            }
+            scheduleDrain();
+        }
+
+        void offerHeartbeat(Frame frame) {
+            synchronized (this) {
+                if (closed || draining || !queue.isEmpty()) {
+                    return;
+                }
+                queue.addLast(frame);
+            }
+            scheduleDrain();
+        }
+
+        void requestResync() {
+            synchronized (this) {
+                resync = true;
+            }
+            scheduleDrain();
+        }
+
+        void close() {
+            synchronized (this) {
+                closed = true;
+                queue.clear();
+            }
+            if (clients.remove(this)) {
+                emitter.complete();
+                log.debug("Metrics stream client disconnected ({} connected)", clients.size());
+            }
+        }
+
+        private void scheduleDrain() {
+            synchronized (this) {
+                if (draining || closed) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RuntimeException e) {
+                close();
+            }
+        }
+
+        /**
+         * 대기열 전송 (구독자당 한 스레드만 실행, 누락이 있었으면 대기열 대신 snapshot 전송)
+         */
+        private void drain() {
+            while (true) {
+                Frame frame;
+                boolean sendSnapshot;
+                synchronized (this) {
+                    if (closed || (!resync && queue.isEmpty())) {
+                        draining = false;
+                        return;
+                    }
+                    sendSnapshot = resync;
+                    if (resync) {
+                        resync = false;
+                        queue.clear();
+                    }
+                    frame = sendSnapshot ? null : queue.pollFirst();
+                }
+                try {
+                    send(sendSnapshot ? snapshotFrame(filter) : frame);
+                } catch (Exception e) {
+                    log.debug("Metrics stream send failed: {}", e.getMessage());
+                    synchronized (this) {
+                        draining = false;
+                    }
+                    close();
+                    return;
+                }
+            }
+        }
+
+        private void send(Frame frame) throws Exception {
+            if (frame.name() == null) {
+                emitter.send(SseEmitter.event().comment(frame.data()));
+            } else {
+                emitter.send(SseEmitter.event().name(frame.name()).data(frame.data(), MediaType.APPLICATION_JSON));
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.entity.gpu.GpuModel;
+import com.k8s.monitor.entity.gpu.MigProfile;
+import com.k8s.monitor.event.gpu.GpuInventoryChangedEvent;
+import com.k8s.monitor.repository.gpu.GpuDeviceRepository;
+import com.k8s.monitor.repository.gpu.GpuModelRepository;
+import com.k8s.monitor.repository.gpu.MigProfileRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * GPU 모델 / MIG 프로필 카탈로그
+ * 정적 참조 데이터(모델, 프로필)와 장비-모델/노드 매핑을 불변 스냅샷으로 메모리에 보관하여
+ * DTO 변환, 비용 계산 등에서 Hibernate 프록시 탐색(N+1 조회) 없이 조회
+ * 시작 시 적재하고, 인벤토리 변경 이벤트와 주기적 갱신으로 교체
+ * 조회 경로(할당 등)에서는 DB 를 읽지 않고 항상 마지막 스냅샷을 반환 (미등록 장비는 백그라운드 재적재만 요청)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GpuModelCatalog {
+
+    private final GpuModelRepository gpuModelRepository;
+    private final MigProfileRepository migProfileRepository;
+    private final GpuDeviceRepository gpuDeviceRepository;
+
+    private static final long MISS_REFRESH_INTERVAL_MS = 5000L;
+
+    private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
+    private volatile Snapshot snapshot;
+    private volatile long lastRefreshMillis;
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+    private ExecutorService refresher;
+
+    /**
+     * 카탈로그 모델 정보
+     */
+    public record CatalogModel(String modelId, String modelName, String architecture, Integer memoryGb,
+                               boolean migSupport, Integer maxMigInstances) {
+    }
+
+    /**
+     * 카탈로그 MIG 프로필 정보
+     */
+    public record CatalogProfile(String profileId, String modelId, String profileName, Integer computeSlices,
+                                 Integer memorySlices, Integer memoryGb, Integer maxInstancesPerGpu,
+                                 Double performanceRatio, String useCase, String description) {
+    }
+
+    private record Snapshot(Map<String, CatalogModel> models,
+                            Map<String, CatalogProfile> profiles,
+                            Map<String, List<CatalogProfile>> profilesByModel,
+                            Map<String, String> deviceModels,
+                            Map<String, String> deviceNodes) {
+    }
+
+    @PostConstruct
+    void start() {
+        refresher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gpu-catalog-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        refresher.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(GpuInventoryChangedEvent event) {
+        log.debug("GPU inventory changed ({} {}), refreshing catalog", event.changeType(), event.deviceId());
+        refresh();
+    }
+
+    /**
+     * 카탈로그 주기적 갱신 (DB 직접 변경 반영)
+     */
+    @Scheduled(fixedRate = 600000) // 10분마다 실행
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * 스냅샷 재적재
+     */
+    public synchronized void refresh() {
+        Map<String, CatalogModel> models = gpuModelRepository.findAll().stream()
+            .map(this::toCatalogModel)
+            .collect(Collectors.toUnmodifiableMap(CatalogModel::modelId, model -> model));
+
+        Map<String, CatalogProfile> profiles = migProfileRepository.findAllWithModel().stream()
+            .map(this::toCatalogProfile)
+            .collect(Collectors.toUnmodifiableMap(CatalogProfile::profileId, profile -> profile));
+
+        Map<String, List<CatalogProfile>> profilesByModel = profiles.values().stream()
+            .sorted(Comparator.comparing(CatalogProfile::computeSlices).thenComparing(CatalogProfile::profileId))
+            .collect(Collectors.groupingBy(CatalogProfile::modelId, Collectors.toUnmodifiableList()));
+
+        Map<String, String> deviceModels = gpuDeviceRepository.findDeviceModelIds().stream()
+            .collect(Collectors.toUnmodifiableMap(row -> (String) row[0], row -> (String) row[1]));
+
+        Map<String, String> deviceNodes = gpuDeviceRepository.findDeviceNodeNames().stream()
+            .filter(row -> row[1] != null)
+            .collect(Collectors.toUnmodifiableMap(row -> (String) row[0], row -> (String) row[1]));
+
+        snapshot = new Snapshot(models, profiles, Map.copyOf(profilesByModel), deviceModels, deviceNodes);
+        lastRefreshMillis = System.currentTimeMillis();
+        log.info("GPU catalog loaded: {} models, {} MIG profiles, {} devices",
+                models.size(), profiles.size(), deviceModels.size());
+    }
+
+    public Optional<CatalogModel> getModel(String modelId) {
+        return Optional.ofNullable(current().models().get(modelId));
+    }
+
+    public Optional<CatalogProfile> getProfile(String profileId) {
+        return Optional.ofNullable(current().profiles().get(profileId));
+    }
+
+    public List<CatalogProfile> getProfilesByModel(String modelId) {
+        return current().profilesByModel().getOrDefault(modelId, List.of());
+    }
+
+    public Map<String, List<CatalogProfile>> getProfilesByModel() {
+        return current().profilesByModel();
+    }
+
+    /**
+     * 장비의 모델 조회 (카탈로그에 없는 신규 장비는 백그라운드 재적재를 요청하고 현재 스냅샷 기준으로 반환)
+     */
+    public Optional<CatalogModel> getDeviceModel(String deviceId) {
+        String modelId = current().deviceModels().get(deviceId);
+        if (modelId == null && System.currentTimeMillis() - lastRefreshMillis > MISS_REFRESH_INTERVAL_MS) {
+            requestRefresh();
+        }
+        return modelId != null ? getModel(modelId) : Optional.empty();
+    }
+
+    /**
+     * 전체 장비-모델 매핑 (장비 ID -> 모델 ID)
+     */
+    public Map<String, String> getDeviceModelIds() {
+        return current().deviceModels();
+    }
+
+    /**
+     * 전체 장비-노드 매핑 (장비 ID -> 노드명)
+     */
+    public Map<String, String> getDeviceNodeNames() {
+        return current().deviceNodes();
+    }
+
+    // Private helper methods
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            requestRefresh();
+            return EMPTY;
+        }
+        return current;
+    }
+
+    /**
+     * 백그라운드 재적재 요청 (이미 대기 중이면 합침)
+     */
+    private void requestRefresh() {
+        if (!refreshQueued.compareAndSet(false, true)) {
+            return;
+        }
+        refresher.execute(() -> {
+            refreshQueued.set(false);
+            try {
+                refresh();
+            } catch (Exception e) {
+                log.warn("Failed to refresh GPU catalog: {}", e.getMessage());
+            }
+        });
+    }
+
+    private CatalogModel toCatalogModel(GpuModel model) {
+        return new CatalogModel(model.getModelId(), model.getModelName(), model.getArchitecture(),
+            model.getMemoryGb(), model.supportsMig(), model.getMaxMigInstances());
+    }
+
+    private CatalogProfile toCatalogProfile(MigProfile profile) {
+        return new CatalogProfile(profile.getProfileId(), profile.getModel().getModelId(), profile.getProfileName(),
+            profile.getComputeSlices(), profile.getMemorySlices(), profile.getMemoryGb(),
+            profile.getMaxInstancesPerGpu(), profile.getPerformanceRatio(), profile.getUseCase(),
+            profile.getDescription());
+    }
+}
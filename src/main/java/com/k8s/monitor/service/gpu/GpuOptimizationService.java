@@ -1,5 +1,6 @@
 package com.k8s.monitor.service.gpu;
 
+import com.k8s.monitor.dto.gpu.MigIdleInstanceInfo;
 import com.k8s.monitor.entity.gpu.*;
 import com.k8s.monitor.repository.gpu.*;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +9,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -20,36 +22,28 @@ import java.util.*;
 @Slf4j
 public class GpuOptimizationService {
     
+    // 정리 대상 최소 유휴 기간
+    private static final Duration UNUSED_MIG_THRESHOLD = Duration.ofDays(7);
+    
     private final GpuDeviceRepository gpuDeviceRepository;
     private final MigInstanceRepository migInstanceRepository;
     private final GpuAllocationRepository allocationRepository;
     private final GpuUsageMetricsRepository metricsRepository;
+    private final GpuAllocationService allocationService;
+    private final MigIdleDetector idleDetector;
 
     /**
      * 사용되지 않는 MIG 인스턴스 정리 (스케줄러)
+     * 텔레메트리 기반 유휴 판정을 받은 인스턴스 중 7일 이상 유휴인 것만 회수
      */
     @Scheduled(cron = "0 0 3 * * *") // 매일 새벽 3시 실행
-    @Transactional
     public void cleanupUnusedMigInstances() {
         log.info("Starting unused MIG instances cleanup");
         
-        LocalDateTime threshold = LocalDateTime.now().minusDays(7);
-        List<MigInstance> unusedInstances = migInstanceRepository.findUnusedInstances(threshold);
-        
-        int cleanedCount = 0;
-        for (MigInstance instance : unusedInstances) {
-            if ("Y".equals(instance.getAllocated()) && 
-                (instance.getLastUsedDate() == null || instance.getLastUsedDate().isBefore(threshold))) {
-                
-                instance.setAllocated("N");
-                instance.setInstanceStatus("INACTIVE");
-                migInstanceRepository.save(instance);
-                cleanedCount++;
-            }
-        }
+        List<MigIdleInstanceInfo> reclaimed = idleDetector.reclaimIdleInstances(UNUSED_MIG_THRESHOLD);
         
-        if (cleanedCount > 0) {
-            log.info("Cleaned up {} unused MIG instances", cleanedCount);
+        if (!reclaimed.isEmpty()) {
+            log.info("Cleaned up {} unused MIG instances", reclaimed.size());
         }
     }
 
@@ -132,7 +126,7 @@ public class GpuOptimizationService {
         
         try {
             // 1. 만료된 할당 정리
-            int expiredAllocations = allocationRepository.expireOldAllocations();
+            int expiredAllocations = allocationService.autoExpireAllocations();
             results.put("expiredAllocations", expiredAllocations);
             
             // 2. 미사용 MIG 인스턴스 정리
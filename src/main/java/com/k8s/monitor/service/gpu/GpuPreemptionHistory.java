@@ -0,0 +1,51 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.event.gpu.GpuAllocationPreemptedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * GPU 선점 이력 기록
+ * 커밋된 선점 결정만 최근 순으로 보관 (최대 500건)
+ */
+@Component
+@Slf4j
+public class GpuPreemptionHistory {
+
+    private static final int MAX_EVENTS = 500;
+
+    private final Deque<GpuAllocationPreemptedEvent> events = new ConcurrentLinkedDeque<>();
+
+    @TransactionalEventListener
+    public void onPreempted(GpuAllocationPreemptedEvent event) {
+        log.warn("Preempted allocation {} ({}/{}, priority: {}) on {} for {}/{} (priority: {}), runtime lost: {} min",
+                event.victimAllocationId(), event.victimNamespace(), event.victimPodName(), event.victimPriorityClass(),
+                event.allocatedResource(), event.preemptorNamespace(), event.preemptorPodName(),
+                event.preemptorPriorityClass(), event.runtimeLostMinutes());
+
+        events.addFirst(event);
+        while (events.size() > MAX_EVENTS) {
+            events.pollLast();
+        }
+    }
+
+    /**
+     * 최근 선점 이벤트 조회
+     */
+    public List<GpuAllocationPreemptedEvent> getRecentEvents(int limit) {
+        List<GpuAllocationPreemptedEvent> result = new ArrayList<>();
+        for (GpuAllocationPreemptedEvent event : events) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(event);
+        }
+        return result;
+    }
+}
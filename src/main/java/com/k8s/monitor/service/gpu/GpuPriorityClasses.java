@@ -0,0 +1,51 @@
+package com.k8s.monitor.service.gpu;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * GPU 할당 우선순위 클래스 정의
+ * priorityClass 문자열을 비교 가능한 순위 값으로 변환
+ */
+public final class GpuPriorityClasses {
+
+    public static final String DEFAULT = "normal";
+
+    private static final Map<String, Integer> RANKS = Map.of(
+        "critical", 4,
+        "high", 3,
+        "normal", 2,
+        "low", 1,
+        "batch", 0,
+        "preemptible", 0
+    );
+
+    private GpuPriorityClasses() {
+    }
+
+    /**
+     * 우선순위 순위 조회 (값이 클수록 높은 우선순위, 알 수 없는 값은 normal로 취급)
+     */
+    public static int rank(String priorityClass) {
+        if (priorityClass == null) {
+            return RANKS.get(DEFAULT);
+        }
+        return RANKS.getOrDefault(priorityClass.trim().toLowerCase(Locale.ROOT), RANKS.get(DEFAULT));
+    }
+
+    /**
+     * 지정 순위보다 낮은 우선순위 클래스 이름 목록
+     */
+    public static List<String> lowerThan(int rank) {
+        return RANKS.entrySet().stream()
+            .filter(entry -> entry.getValue() < rank)
+            .map(Map.Entry::getKey)
+            .sorted()
+            .toList();
+    }
+
+    public static String normalize(String priorityClass) {
+        return priorityClass != null ? priorityClass.trim().toLowerCase(Locale.ROOT) : DEFAULT;
+    }
+}
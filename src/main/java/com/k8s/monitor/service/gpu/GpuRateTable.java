@@ -0,0 +1,226 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.event.gpu.GpuInventoryChangedEvent;
+import com.k8s.monitor.event.gpu.MigInstancesChangedEvent;
+import com.k8s.monitor.repository.gpu.MigInstanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GPU 요금표
+ * 장비/MIG 인스턴스별 기본 시간당 단가를 미리 계산해 두어 할당 경로의 비용 계산을 맵 조회로 처리
+ * (모델 기본 단가 x MIG 프로필 성능 비율 x MIG 할인율)
+ * 시간대별 요금(peak/off-peak 배율)은 비용 누적 시 구간별로 적용
+ *
+ * 시작 시 적재하고, 인벤토리/MIG 구성 변경 이벤트와 주기적 갱신으로 교체하며
+ * 요금표에 없는 신규 리소스는 조회 시 계산하여 채움
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GpuRateTable {
+
+    private static final double FALLBACK_RATE = 1.0;
+
+    private final GpuModelCatalog modelCatalog;
+    private final MigInstanceRepository migInstanceRepository;
+
+    @Value("#{${gpu.management.cost.default-rates}}")
+    private Map<String, Double> defaultRates;
+
+    @Value("${gpu.management.cost.mig-discount:0.7}")
+    private double migDiscount;
+
+    @Value("${gpu.management.cost.time-of-day.enabled:false}")
+    private boolean timeOfDayEnabled;
+
+    @Value("${gpu.management.cost.time-of-day.peak-start-hour:9}")
+    private int peakStartHour;
+
+    @Value("${gpu.management.cost.time-of-day.peak-end-hour:18}")
+    private int peakEndHour;
+
+    @Value("${gpu.management.cost.time-of-day.peak-weekdays-only:true}")
+    private boolean peakWeekdaysOnly;
+
+    @Value("${gpu.management.cost.time-of-day.peak-multiplier:1.0}")
+    private double peakMultiplier;
+
+    @Value("${gpu.management.cost.time-of-day.off-peak-multiplier:1.0}")
+    private double offPeakMultiplier;
+
+    private volatile Map<String, Double> deviceRates = new ConcurrentHashMap<>();
+    private volatile Map<String, Double> migRates = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(GpuInventoryChangedEvent event) {
+        refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMigInstancesChanged(MigInstancesChangedEvent event) {
+        refresh();
+    }
+
+    /**
+     * 요금표 주기적 갱신 (DB 직접 변경 반영)
+     */
+    @Scheduled(fixedRate = 600000) // 10분마다 실행
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * 요금표 재계산
+     */
+    public synchronized void refresh() {
+        Map<String, Double> devices = new ConcurrentHashMap<>();
+        modelCatalog.getDeviceModelIds().forEach((deviceId, modelId) -> devices.put(deviceId, modelRate(modelId)));
+
+        Map<String, Double> migs = new ConcurrentHashMap<>();
+        for (Object[] row : migInstanceRepository.findInstanceStates()) {
+            String migId = (String) row[0];
+            String deviceId = (String) row[1];
+            String profileId = (String) row[2];
+            migs.put(migId, migRate(devices.get(deviceId), profileId));
+        }
+
+        deviceRates = devices;
+        migRates = migs;
+        log.debug("GPU rate table refreshed: {} devices, {} MIG instances", devices.size(), migs.size());
+    }
+
+    /**
+     * 시간당 기본 단가 (SHARED_GPU 는 점유율로 비례 배분, 시간대 배율 미적용)
+     */
+    public double getCostPerHour(String resourceType, String resourceId, Double share) {
+        if ("MIG_INSTANCE".equals(resourceType)) {
+            return getMigRate(resourceId);
+        } else if ("SHARED_GPU".equals(resourceType)) {
+            double ratio = share != null ? Math.min(1.0, Math.max(0.0, share)) : 1.0;
+            return getDeviceRate(resourceId) * ratio;
+        } else {
+            return getDeviceRate(resourceId);
+        }
+    }
+
+    /**
+     * 장비 시간당 기본 단가 (알 수 없는 장비는 0)
+     */
+    public double getDeviceRate(String deviceId) {
+        Double rate = deviceRates.get(deviceId);
+        if (rate != null) {
+            return rate;
+        }
+        return modelCatalog.getDeviceModel(deviceId)
+            .map(model -> {
+                double computed = modelRate(model.modelId());
+                deviceRates.put(deviceId, computed);
+                return computed;
+            })
+            .orElse(0.0);
+    }
+
+    /**
+     * MIG 인스턴스 시간당 기본 단가 (알 수 없는 인스턴스는 0)
+     */
+    public double getMigRate(String migId) {
+        Double rate = migRates.get(migId);
+        if (rate != null) {
+            return rate;
+        }
+        // 요금표 갱신 전에 생성된 인스턴스
+        return migInstanceRepository.findDeviceAndProfileByMigId(migId).stream()
+            .findFirst()
+            .map(row -> {
+                double computed = migRate(getDeviceRate((String) row[0]), (String) row[1]);
+                migRates.put(migId, computed);
+                return computed;
+            })
+            .orElse(0.0);
+    }
+
+    /**
+     * 현재 시간대 요금 배율
+     */
+    public PricingTiers getPricingTiers() {
+        return new PricingTiers(timeOfDayEnabled, peakStartHour, peakEndHour, peakWeekdaysOnly,
+                peakMultiplier, offPeakMultiplier);
+    }
+
+    // Private helper methods
+
+    private double modelRate(String modelId) {
+        return modelId != null ? defaultRates.getOrDefault(modelId, FALLBACK_RATE) : FALLBACK_RATE;
+    }
+
+    private double migRate(Double deviceRate, String profileId) {
+        double baseRate = deviceRate != null ? deviceRate : FALLBACK_RATE;
+        double performanceRatio = modelCatalog.getProfile(profileId)
+            .map(GpuModelCatalog.CatalogProfile::performanceRatio)
+            .orElse(1.0);
+        return baseRate * performanceRatio * migDiscount;
+    }
+
+    /**
+     * 시간대별 요금 배율 (peak: [peakStartHour, peakEndHour), 그 외 off-peak)
+     */
+    public record PricingTiers(boolean enabled,
+                               int peakStartHour,
+                               int peakEndHour,
+                               boolean peakWeekdaysOnly,
+                               double peakMultiplier,
+                               double offPeakMultiplier) {
+
+        public double multiplierAt(LocalDateTime time) {
+            if (!enabled) {
+                return 1.0;
+            }
+            return isPeak(time) ? peakMultiplier : offPeakMultiplier;
+        }
+
+        /**
+         * time 이후 배율이 바뀔 수 있는 다음 시각 (비활성 시 다음 날 0시)
+         */
+        public LocalDateTime nextBoundary(LocalDateTime time) {
+            LocalDateTime nextDay = time.toLocalDate().plusDays(1).atStartOfDay();
+            if (!enabled) {
+                return nextDay;
+            }
+            LocalDateTime peakStart = time.toLocalDate().atStartOfDay().plusHours(peakStartHour);
+            LocalDateTime peakEnd = time.toLocalDate().atStartOfDay().plusHours(peakEndHour);
+            if (time.isBefore(peakStart)) {
+                return peakStart;
+            }
+            if (time.isBefore(peakEnd) && peakEnd.isBefore(nextDay)) {
+                return peakEnd;
+            }
+            return nextDay;
+        }
+
+        private boolean isPeak(LocalDateTime time) {
+            if (peakWeekdaysOnly && (time.getDayOfWeek() == DayOfWeek.SATURDAY
+                    || time.getDayOfWeek() == DayOfWeek.SUNDAY)) {
+                return false;
+            }
+            int hour = time.getHour();
+            return hour >= peakStartHour && hour < peakEndHour;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.dto.gpu.GpuTopKEntry;
+import com.k8s.monitor.engine.WindowedTopK;
+import com.k8s.monitor.event.gpu.GpuInventoryChangedEvent;
+import com.k8s.monitor.event.gpu.GpuTelemetryCollectedEvent;
+import com.k8s.monitor.event.gpu.GpuTelemetrySample;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 상위 K GPU 서비스 (가장 바쁜/뜨거운/전력을 많이 쓰는 장비)
+ * 수집 주기마다 발행되는 물리 GPU 샘플로 지표 x 윈도우별 정렬 인덱스를 갱신하며, 조회 시 DB 를 사용하지 않음
+ * 사용률은 윈도우 평균, 온도/전력은 윈도우 최대값으로 순위를 매김
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GpuTopKService {
+
+    public static final List<String> METRICS = List.of("GPU_UTILIZATION", "MEMORY_UTILIZATION", "TEMPERATURE", "POWER");
+
+    private static final String UNKNOWN = "unknown";
+
+    private final GpuModelCatalog modelCatalog;
+
+    @Value("${gpu.management.metrics.top-k.windows-minutes:5,60}")
+    private int[] windowsMinutes;
+
+    @Value("${gpu.management.metrics.top-k.bucket-count:12}")
+    private int bucketCount;
+
+    @Value("${gpu.management.metrics.top-k.max-limit:100}")
+    private int maxLimit;
+
+    // metric -> window label -> tracker
+    private final Map<String, Map<String, WindowedTopK>> trackers = new LinkedHashMap<>();
+
+    @PostConstruct
+    void createTrackers() {
+        for (String metric : METRICS) {
+            WindowedTopK.Ranking ranking = metric.endsWith("UTILIZATION") ? WindowedTopK.Ranking.AVG : WindowedTopK.Ranking.MAX;
+            Map<String, WindowedTopK> byWindow = new LinkedHashMap<>();
+            for (int minutes : windowsMinutes) {
+                byWindow.put(windowLabel(minutes), new WindowedTopK(minutes * 60_000L, bucketCount, ranking));
+            }
+            trackers.put(metric, byWindow);
+        }
+        log.info("GPU top-K trackers created for windows {}", trackers.get(METRICS.get(0)).keySet());
+    }
+
+    /**
+     * 텔레메트리 샘플 반영 (커밋 이후, 물리 GPU 샘플만) 후 만료 버킷 정리
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTelemetryCollected(GpuTelemetryCollectedEvent event) {
+        for (GpuTelemetrySample sample : event.samples()) {
+            if (sample.migId() != null || sample.deviceId() == null) {
+                continue;
+            }
+            long time = toMillis(sample.timestamp() != null ? sample.timestamp() : event.collectedAt());
+            record("GPU_UTILIZATION", sample, time, GpuTelemetrySample::gpuUtilizationPct);
+            record("MEMORY_UTILIZATION", sample, time, GpuTelemetrySample::memoryUtilizationPct);
+            record("TEMPERATURE", sample, time, GpuTelemetrySample::temperatureC);
+            record("POWER", sample, time, GpuTelemetrySample::powerDrawW);
+        }
+        long now = toMillis(event.collectedAt());
+        trackers.values().forEach(byWindow -> byWindow.values().forEach(tracker -> tracker.advance(now)));
+    }
+
+    /**
+     * 삭제된 장비 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(GpuInventoryChangedEvent event) {
+        if ("DELETED".equals(event.changeType())) {
+            trackers.values().forEach(byWindow -> byWindow.values().forEach(tracker -> tracker.remove(event.deviceId())));
+        }
+    }
+
+    /**
+     * 지표/윈도우별 상위 장비 (metric: GPU_UTILIZATION, MEMORY_UTILIZATION, TEMPERATURE, POWER / window: 예 5m, 1h)
+     */
+    public List<GpuTopKEntry> getTop(String metric, String window, int limit) {
+        Map<String, WindowedTopK> byWindow = trackers.get(metric.toUpperCase());
+        if (byWindow == null) {
+            throw new IllegalArgumentException("Unsupported metric: " + metric);
+        }
+        WindowedTopK tracker = byWindow.get(window);
+        if (tracker == null) {
+            throw new IllegalArgumentException("Unsupported window: " + window + " (available: " + byWindow.keySet() + ")");
+        }
+        if (limit <= 0 || limit > maxLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxLimit);
+        }
+
+        Map<String, String> deviceModels = modelCatalog.getDeviceModelIds();
+        Map<String, String> deviceNodes = modelCatalog.getDeviceNodeNames();
+        List<GpuTopKEntry> result = new ArrayList<>();
+        for (WindowedTopK.Entry entry : tracker.top(limit)) {
+            result.add(GpuTopKEntry.builder()
+                .rank(result.size() + 1)
+                .deviceId(entry.key())
+                .nodeName(deviceNodes.getOrDefault(entry.key(), UNKNOWN))
+                .modelId(deviceModels.getOrDefault(entry.key(), UNKNOWN))
+                .metric(metric.toUpperCase())
+                .window(window)
+                .ranking(metric.toUpperCase().endsWith("UTILIZATION") ? "AVG" : "MAX")
+                .score(round(entry.score()))
+                .avgValue(round(entry.avg()))
+                .maxValue(round(entry.max()))
+                .lastValue(round(entry.last()))
+                .samples(entry.samples())
+                .lastSeen(LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.lastSeenMillis()), ZoneId.systemDefault()))
+                .build());
+        }
+        return result;
+    }
+
+    public Set<String> getWindows() {
+        return trackers.get(METRICS.get(0)).keySet();
+    }
+
+    // Private helper methods
+
+    private void record(String metric, GpuTelemetrySample sample, long time, Function<GpuTelemetrySample, Double> value) {
+        Double v = value.apply(sample);
+        if (v != null) {
+            trackers.get(metric).values().forEach(tracker -> tracker.add(sample.deviceId(), time, v));
+        }
+    }
+
+    private static String windowLabel(int minutes) {
+        return minutes % 60 == 0 ? (minutes / 60) + "h" : minutes + "m";
+    }
+
+    private static Double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
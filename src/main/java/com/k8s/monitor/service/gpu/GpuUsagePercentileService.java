@@ -0,0 +1,164 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.dto.gpu.GpuUsagePercentiles;
+import com.k8s.monitor.engine.QuantileSketch;
+import com.k8s.monitor.entity.gpu.GpuUsageHourly;
+import com.k8s.monitor.entity.gpu.GpuUsageHourlySketch;
+import com.k8s.monitor.repository.gpu.GpuUsageHourlySketchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * GPU 사용량 분위수 서비스
+ * 시간별 롤업 스케치(저장분 + 아직 저장되지 않은 진행 중 구간)를 그룹별로 병합하여 p50/p95/p99 등을 산출
+ * 원시 메트릭을 조회하지 않으며, 비용은 (구간 수 x 그룹 내 범위 수) 스케치 병합에 비례
+ *
+ * NODE 그룹은 장비 스케치를 장비-노드 매핑으로 병합 (노드 단위 롤업은 저장하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GpuUsagePercentileService {
+
+    public static final List<String> GROUP_BY = List.of("DEVICE", "NODE", "MODEL", "CLUSTER");
+    public static final List<Double> DEFAULT_QUANTILES = List.of(0.5, 0.95, 0.99);
+
+    private static final String UNKNOWN = "unknown";
+
+    private final GpuUsageHourlySketchRepository sketchRepository;
+    private final GpuUsageRollupService rollupService;
+    private final GpuModelCatalog modelCatalog;
+
+    @Value("${gpu.management.metrics.percentiles.relative-accuracy:" + QuantileSketch.DEFAULT_RELATIVE_ACCURACY + "}")
+    private double sketchAccuracy;
+
+    /**
+     * 그룹별 분위수 (기간은 정시 단위로 확장: from 내림, to 올림)
+     */
+    @Transactional(readOnly = true)
+    public List<GpuUsagePercentiles> getPercentiles(String groupBy, LocalDateTime from, LocalDateTime to,
+                                                    List<Double> quantiles) {
+        String group = groupBy.toUpperCase();
+        if (!GROUP_BY.contains(group)) {
+            throw new IllegalArgumentException("Unsupported groupBy: " + groupBy);
+        }
+        for (double q : quantiles) {
+            if (q < 0 || q > 1) {
+                throw new IllegalArgumentException("Quantile must be between 0 and 1: " + q);
+            }
+        }
+        LocalDateTime fromHour = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime toHour = to.truncatedTo(ChronoUnit.HOURS).equals(to) ? to : to.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        String scopeType = switch (group) {
+            case "DEVICE", "NODE" -> GpuUsageHourly.SCOPE_DEVICE;
+            case "MODEL" -> GpuUsageHourly.SCOPE_MODEL;
+            default -> GpuUsageHourly.SCOPE_CLUSTER;
+        };
+        Map<String, String> deviceNodes = "NODE".equals(group) ? modelCatalog.getDeviceNodeNames() : Map.of();
+
+        Map<String, Merged> merged = new TreeMap<>();
+        int skipped = 0;
+        for (GpuUsageHourlySketch row : sketchRepository.findByScopeTypeAndHourRange(scopeType, fromHour, toHour)) {
+            if (!sameAccuracy(row.getRelativeAccuracy())) {
+                skipped++;
+                continue;
+            }
+            merged.computeIfAbsent(groupOf(group, row.getScopeId(), deviceNodes), key -> new Merged())
+                .add(row.getHourStart(), decode(row.getUtilizationSketch()), decode(row.getMemorySketch()),
+                    decode(row.getPowerSketch()));
+        }
+        for (GpuUsageRollupService.ScopeSketches open : rollupService.getUnflushedSketches(scopeType, fromHour, toHour)) {
+            merged.computeIfAbsent(groupOf(group, open.scopeId(), deviceNodes), key -> new Merged())
+                .add(open.hourStart(), open.utilization(), open.memory(), open.power());
+        }
+        if (skipped > 0) {
+            log.warn("Skipped {} usage sketches with relative accuracy other than {}", skipped, sketchAccuracy);
+        }
+
+        return merged.entrySet().stream()
+            .map(entry -> toPercentiles(group, entry.getKey(), fromHour, toHour, entry.getValue(), quantiles))
+            .collect(Collectors.toList());
+    }
+
+    // Private helper methods
+
+    private String groupOf(String group, String scopeId, Map<String, String> deviceNodes) {
+        return "NODE".equals(group) ? deviceNodes.getOrDefault(scopeId, UNKNOWN) : scopeId;
+    }
+
+    private boolean sameAccuracy(Double relativeAccuracy) {
+        return relativeAccuracy != null && Math.abs(relativeAccuracy - sketchAccuracy) < 1e-9;
+    }
+
+    private QuantileSketch decode(byte[] bytes) {
+        return bytes != null ? QuantileSketch.fromBytes(bytes) : null;
+    }
+
+    private GpuUsagePercentiles toPercentiles(String group, String groupId, LocalDateTime from, LocalDateTime to,
+                                              Merged merged, List<Double> quantiles) {
+        return GpuUsagePercentiles.builder()
+            .groupBy(group)
+            .groupId(groupId)
+            .from(from)
+            .to(to)
+            .hourBuckets(merged.hours.size())
+            .sampleCount(merged.utilization.getCount())
+            .relativeAccuracy(sketchAccuracy)
+            .gpuUtilizationPct(quantiles(merged.utilization, quantiles))
+            .memoryUtilizationPct(quantiles(merged.memory, quantiles))
+            .powerDrawW(quantiles(merged.power, quantiles))
+            .avgGpuUtilizationPct(round(merged.utilization.getMean()))
+            .maxGpuUtilizationPct(round(merged.utilization.getMax()))
+            .build();
+    }
+
+    private Map<String, Double> quantiles(QuantileSketch sketch, List<Double> quantiles) {
+        if (sketch.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (double q : quantiles) {
+            values.put(label(q), round(sketch.quantile(q)));
+        }
+        return values;
+    }
+
+    private static String label(double q) {
+        return "p" + BigDecimal.valueOf(q * 100).stripTrailingZeros().toPlainString();
+    }
+
+    private static Double round(double value) {
+        return Double.isNaN(value) ? null : Math.round(value * 100.0) / 100.0;
+    }
+
+    // Inner class for per-group merged sketches
+    private class Merged {
+        private final QuantileSketch utilization = new QuantileSketch(sketchAccuracy, QuantileSketch.DEFAULT_MAX_BINS);
+        private final QuantileSketch memory = new QuantileSketch(sketchAccuracy, QuantileSketch.DEFAULT_MAX_BINS);
+        private final QuantileSketch power = new QuantileSketch(sketchAccuracy, QuantileSketch.DEFAULT_MAX_BINS);
+        private final Set<LocalDateTime> hours = new HashSet<>();
+
+        void add(LocalDateTime hourStart, QuantileSketch utilizationSketch, QuantileSketch memorySketch,
+                 QuantileSketch powerSketch) {
+            hours.add(hourStart);
+            if (utilizationSketch != null) {
+                utilization.merge(utilizationSketch);
+            }
+            if (memorySketch != null) {
+                memory.merge(memorySketch);
+            }
+            if (powerSketch != null) {
+                power.merge(powerSketch);
+            }
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.engine.QuantileSketch;
+import com.k8s.monitor.entity.gpu.GpuUsageHourly;
+import com.k8s.monitor.entity.gpu.GpuUsageHourlySketch;
+import com.k8s.monitor.event.gpu.GpuTelemetryCollectedEvent;
+import com.k8s.monitor.event.gpu.GpuTelemetrySample;
+import com.k8s.monitor.event.gpu.GpuUsageHourClosedEvent;
+import com.k8s.monitor.repository.gpu.GpuUsageHourlyRepository;
+import com.k8s.monitor.repository.gpu.GpuUsageHourlySketchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * GPU 사용량 시간별 롤업 서비스
+ * 텔레메트리 스트림을 현재 시간 구간의 장비/모델/클러스터별 누적값으로 합산하고,
+ * 정시가 지나면 구간을 마감하여 저장 후 마감 이벤트 발행
+ * 구간별로 사용률/메모리/전력 분위수 스케치를 함께 누적하여 별도 테이블에 저장 (병합하여 임의 기간 분위수 산출)
+ *
+ * 이미 마감된 구간에 늦게 도착한 샘플은 버림
+ * 마감된 구간은 저장이 커밋될 때까지 메모리에 유지 (저장 실패 시 유실 없이 재시도)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GpuUsageRollupService {
+
+    private final GpuUsageHourlyRepository hourlyRepository;
+    private final GpuUsageHourlySketchRepository sketchRepository;
+    private final GpuModelCatalog modelCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${gpu.management.forecast.rollup-retention-days:90}")
+    private int retentionDays;
+
+    @Value("${gpu.management.metrics.percentiles.relative-accuracy:" + QuantileSketch.DEFAULT_RELATIVE_ACCURACY + "}")
+    private double sketchAccuracy;
+
+    @Value("${gpu.management.metrics.percentiles.max-bins:" + QuantileSketch.DEFAULT_MAX_BINS + "}")
+    private int sketchMaxBins;
+
+    private LocalDateTime openHour;
+    private Map<ScopeKey, Accumulator> openAccumulators = new HashMap<>();
+    // 마감되었으나 아직 저장되지 않은 구간
+    private final Map<LocalDateTime, Map<ScopeKey, Accumulator>> closedHours = new TreeMap<>();
+
+    private record ScopeKey(String scopeType, String scopeId) {
+    }
+
+    /**
+     * 아직 저장되지 않은 구간의 범위별 스케치 (복사본)
+     */
+    public record ScopeSketches(LocalDateTime hourStart, String scopeId, long sampleCount,
+                                QuantileSketch utilization, QuantileSketch memory, QuantileSketch power) {
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTelemetryCollected(GpuTelemetryCollectedEvent event) {
+        Map<String, String> deviceModels = modelCatalog.getDeviceModelIds();
+        for (GpuTelemetrySample sample : event.samples()) {
+            // MIG 활성 GPU 는 물리 GPU 샘플만 장비 값으로 집계 (MIG 샘플과 중복 집계 방지)
+            if (sample.migId() != null || sample.gpuUtilizationPct() == null) {
+                continue;
+            }
+            LocalDateTime hour = sample.timestamp().truncatedTo(ChronoUnit.HOURS);
+            if (openHour == null || hour.isAfter(openHour)) {
+                rollOver(hour);
+            } else if (hour.isBefore(openHour)) {
+                continue;
+            }
+
+            accumulate(new ScopeKey(GpuUsageHourly.SCOPE_DEVICE, sample.deviceId()), sample);
+            String modelId = deviceModels.get(sample.deviceId());
+            if (modelId != null) {
+                accumulate(new ScopeKey(GpuUsageHourly.SCOPE_MODEL, modelId), sample);
+            }
+            accumulate(new ScopeKey(GpuUsageHourly.SCOPE_CLUSTER, GpuUsageHourly.CLUSTER_ID), sample);
+        }
+    }
+
+    /**
+     * 지난 시간 구간 마감 및 저장
+     * 시간별 롤업과 스케치를 한 트랜잭션으로 저장하고, 커밋된 뒤에만 마감 대기 구간에서 제거 (실패 시 다음 주기에 재시도)
+     */
+    @Scheduled(fixedRate = 60000) // 1분마다 실행
+    @Transactional
+    public void flushClosedHours() {
+        Map<LocalDateTime, Map<ScopeKey, Accumulator>> toFlush;
+        synchronized (this) {
+            LocalDateTime currentHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+            if (openHour != null && openHour.isBefore(currentHour)) {
+                rollOver(currentHour);
+            }
+            if (closedHours.isEmpty()) {
+                return;
+            }
+            toFlush = new TreeMap<>(closedHours);
+        }
+        afterCompletion(toFlush.keySet());
+
+        toFlush.forEach((hourStart, accumulators) -> {
+            List<Map.Entry<ScopeKey, Accumulator>> entries = new ArrayList<>(accumulators.entrySet());
+            List<GpuUsageHourly> rollups = hourlyRepository.saveAll(entries.stream()
+                .map(entry -> entry.getValue().toRollup(hourStart, entry.getKey()))
+                .toList());
+            List<GpuUsageHourlySketch> sketches = new ArrayList<>(rollups.size());
+            for (int i = 0; i < rollups.size(); i++) {
+                sketches.add(entries.get(i).getValue().toSketch(rollups.get(i), sketchAccuracy));
+            }
+            sketchRepository.saveAll(sketches);
+            log.debug("Closed usage rollup for {} ({} scopes)", hourStart, rollups.size());
+            eventPublisher.publishEvent(new GpuUsageHourClosedEvent(hourStart, rollups));
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 롤업 삭제
+     */
+    @Scheduled(cron = "0 30 3 * * *") // 매일 03:30 실행
+    public void purgeOldRollups() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        sketchRepository.deleteOlderThan(cutoff);
+        int deleted = hourlyRepository.deleteOlderThan(cutoff);
+        if (deleted > 0) {
+            log.info("Deleted {} usage rollups older than {} days", deleted, retentionDays);
+        }
+    }
+
+    /**
+     * 기간 [from, to) 에 걸친 미저장(진행 중/마감 대기) 구간의 범위별 스케치
+     */
+    public synchronized List<ScopeSketches> getUnflushedSketches(String scopeType, LocalDateTime from, LocalDateTime to) {
+        List<ScopeSketches> result = new ArrayList<>();
+        closedHours.forEach((hourStart, accumulators) -> collectSketches(hourStart, accumulators, scopeType, from, to, result));
+        if (openHour != null) {
+            collectSketches(openHour, openAccumulators, scopeType, from, to, result);
+        }
+        return result;
+    }
+
+    /**
+     * 아직 저장되지 않은 구간의 범위별 롤업 (저장되지 않은 엔티티, 시간 순)
+     */
+    public synchronized List<GpuUsageHourly> getUnflushedRollups(String scopeType) {
+        List<GpuUsageHourly> result = new ArrayList<>();
+        closedHours.forEach((hourStart, accumulators) -> collectRollups(hourStart, accumulators, scopeType, result));
+        if (openHour != null) {
+            collectRollups(openHour, openAccumulators, scopeType, result);
+        }
+        return result;
+    }
+
+    // Private helper methods
+
+    private void collectRollups(LocalDateTime hourStart, Map<ScopeKey, Accumulator> accumulators, String scopeType,
+                                List<GpuUsageHourly> result) {
+        accumulators.forEach((key, accumulator) -> {
+            if (key.scopeType().equals(scopeType)) {
+                result.add(accumulator.toRollup(hourStart, key));
+            }
+        });
+    }
+
+    private void collectSketches(LocalDateTime hourStart, Map<ScopeKey, Accumulator> accumulators, String scopeType,
+                                 LocalDateTime from, LocalDateTime to, List<ScopeSketches> result) {
+        if (hourStart.isBefore(from) || !hourStart.isBefore(to)) {
+            return;
+        }
+        accumulators.forEach((key, accumulator) -> {
+            if (key.scopeType().equals(scopeType)) {
+                result.add(accumulator.snapshot(hourStart, key.scopeId()));
+            }
+        });
+    }
+
+    /**
+     * 저장이 커밋되면 마감 대기 구간에서 제거, 롤백되면 남겨 두어 다음 주기에 다시 저장
+     */
+    private void afterCompletion(Set<LocalDateTime> hours) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            removeClosedHours(hours);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    removeClosedHours(hours);
+                } else {
+                    log.warn("Failed to store usage rollups for {} hours, retrying next flush", hours.size());
+                }
+            }
+        });
+    }
+
+    private synchronized void removeClosedHours(Set<LocalDateTime> hours) {
+        closedHours.keySet().removeAll(hours);
+    }
+
+    private void rollOver(LocalDateTime nextHour) {
+        if (openHour != null && !openAccumulators.isEmpty()) {
+            closedHours.put(openHour, openAccumulators);
+        }
+        openHour = nextHour;
+        openAccumulators = new HashMap<>();
+    }
+
+    private void accumulate(ScopeKey key, GpuTelemetrySample sample) {
+        openAccumulators.computeIfAbsent(key, k -> new Accumulator(sketchAccuracy, sketchMaxBins)).add(sample);
+    }
+
+    // Inner class for per-scope hourly accumulation
+    private static class Accumulator {
+        private final QuantileSketch utilizationSketch;
+        private final QuantileSketch memorySketch;
+        private final QuantileSketch powerSketch;
+        private long count;
+        private double utilizationSum;
+        private double utilizationMax;
+        private double memorySum;
+        private long memoryCount;
+        private double temperatureSum;
+        private long temperatureCount;
+
+        Accumulator(double sketchAccuracy, int sketchMaxBins) {
+            utilizationSketch = new QuantileSketch(sketchAccuracy, sketchMaxBins);
+            memorySketch = new QuantileSketch(sketchAccuracy, sketchMaxBins);
+            powerSketch = new QuantileSketch(sketchAccuracy, sketchMaxBins);
+        }
+
+        void add(GpuTelemetrySample sample) {
+            count++;
+            utilizationSum += sample.gpuUtilizationPct();
+            utilizationMax = Math.max(utilizationMax, sample.gpuUtilizationPct());
+            utilizationSketch.add(sample.gpuUtilizationPct());
+            if (sample.memoryUtilizationPct() != null) {
+                memorySum += sample.memoryUtilizationPct();
+                memoryCount++;
+                memorySketch.add(sample.memoryUtilizationPct());
+            }
+            if (sample.powerDrawW() != null) {
+                powerSketch.add(sample.powerDrawW());
+            }
+            if (sample.temperatureC() != null) {
+                temperatureSum += sample.temperatureC();
+                temperatureCount++;
+            }
+        }
+
+        GpuUsageHourly toRollup(LocalDateTime hourStart, ScopeKey key) {
+            return GpuUsageHourly.builder()
+                .hourStart(hourStart)
+                .scopeType(key.scopeType())
+                .scopeId(key.scopeId())
+                .sampleCount(count)
+                .avgGpuUtilizationPct(utilizationSum / count)
+                .maxGpuUtilizationPct(utilizationMax)
+                .avgMemoryUtilizationPct(memoryCount > 0 ? memorySum / memoryCount : null)
+                .avgTemperatureC(temperatureCount > 0 ? temperatureSum / temperatureCount : null)
+                .build();
+        }
+
+        GpuUsageHourlySketch toSketch(GpuUsageHourly rollup, double sketchAccuracy) {
+            return GpuUsageHourlySketch.builder()
+                .usageHourId(rollup.getId())
+                .hourStart(rollup.getHourStart())
+                .scopeType(rollup.getScopeType())
+                .scopeId(rollup.getScopeId())
+                .relativeAccuracy(sketchAccuracy)
+                .utilizationSketch(utilizationSketch.toBytes())
+                .memorySketch(memorySketch.toBytes())
+                .powerSketch(powerSketch.toBytes())
+                .build();
+        }
+
+        ScopeSketches snapshot(LocalDateTime hourStart, String scopeId) {
+            return new ScopeSketches(hourStart, scopeId, count, copy(utilizationSketch), copy(memorySketch),
+                copy(powerSketch));
+        }
+
+        private static QuantileSketch copy(QuantileSketch sketch) {
+            return QuantileSketch.merged(List.of(sketch));
+        }
+    }
+}
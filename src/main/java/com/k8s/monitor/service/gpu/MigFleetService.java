@@ -0,0 +1,143 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.dto.gpu.MigFleetOperationResult;
+import com.k8s.monitor.dto.gpu.MigFleetRequest;
+import com.k8s.monitor.dto.gpu.MigReconfigurationPlan;
+import com.k8s.monitor.entity.gpu.MigProfile;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * MIG 플릿 관리 서비스
+ * 여러 장비의 MIG 레이아웃을 한 번에 적용/초기화
+ * 프로필은 요청당 한 번만 로딩하고, 장비별 재구성은 병렬로 각자의 트랜잭션에서 수행
+ */
+@Service
+@Slf4j
+public class MigFleetService {
+
+    private final MigManagementService migManagementService;
+    private final MigLayoutPlanningService layoutPlanningService;
+    private final ExecutorService executor;
+
+    public MigFleetService(MigManagementService migManagementService,
+                           MigLayoutPlanningService layoutPlanningService,
+                           @Value("${gpu.management.mig.fleet.parallelism:4}") int parallelism) {
+        this.migManagementService = migManagementService;
+        this.layoutPlanningService = layoutPlanningService;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "mig-fleet-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 플릿 MIG 레이아웃 일괄 적용
+     */
+    public MigFleetOperationResult apply(MigFleetRequest request) {
+        long startTime = System.currentTimeMillis();
+
+        Map<String, List<String>> layouts = Optional.ofNullable(request.getLayouts()).orElse(Map.of());
+        List<String> resetDeviceIds = Optional.ofNullable(request.getResetDeviceIds()).orElse(List.of());
+
+        Map<String, MigProfile> profiles = layouts.isEmpty() ? Map.of() : migManagementService.loadProfiles(
+            layouts.values().stream().flatMap(List::stream).collect(Collectors.toSet()));
+
+        List<CompletableFuture<MigFleetOperationResult.DeviceResult>> futures = new ArrayList<>();
+        layouts.forEach((deviceId, profileIds) -> futures.add(CompletableFuture.supplyAsync(
+            () -> applyDevice(deviceId, profileIds, profiles), executor)));
+        resetDeviceIds.forEach(deviceId -> futures.add(CompletableFuture.supplyAsync(
+            () -> resetDevice(deviceId), executor)));
+
+        List<MigFleetOperationResult.DeviceResult> results = futures.stream()
+            .map(CompletableFuture::join)
+            .sorted(Comparator.comparing(MigFleetOperationResult.DeviceResult::getDeviceId))
+            .collect(Collectors.toList());
+
+        int succeeded = (int) results.stream().filter(result -> "SUCCESS".equals(result.getStatus())).count();
+        int createdInstances = results.stream()
+            .filter(result -> "SUCCESS".equals(result.getStatus()) && "APPLY".equals(result.getOperation()))
+            .mapToInt(MigFleetOperationResult.DeviceResult::getInstanceCount)
+            .sum();
+        int reset = (int) results.stream()
+            .filter(result -> "SUCCESS".equals(result.getStatus()) && "RESET".equals(result.getOperation()))
+            .count();
+        long durationMs = System.currentTimeMillis() - startTime;
+
+        log.info("MIG fleet operation completed: {}/{} devices succeeded, {} instances created, {} devices reset ({} ms)",
+                succeeded, results.size(), createdInstances, reset, durationMs);
+
+        return MigFleetOperationResult.builder()
+            .totalDevices(results.size())
+            .succeededDevices(succeeded)
+            .failedDevices(results.size() - succeeded)
+            .createdInstances(createdInstances)
+            .resetDevices(reset)
+            .deviceResults(results)
+            .durationMs(durationMs)
+            .completedAt(LocalDateTime.now())
+            .build();
+    }
+
+    /**
+     * 현재 MIG 재구성 계획을 생성하여 적용
+     */
+    public MigFleetOperationResult applyPlan() {
+        MigReconfigurationPlan plan = layoutPlanningService.buildPlan();
+        Map<String, List<String>> layouts = plan.getDeviceLayouts().stream()
+            .collect(Collectors.toMap(MigReconfigurationPlan.DeviceLayout::getDeviceId,
+                MigReconfigurationPlan.DeviceLayout::getProfileIds));
+        return apply(MigFleetRequest.builder().layouts(layouts).build());
+    }
+
+    // Private helper methods
+
+    private MigFleetOperationResult.DeviceResult applyDevice(String deviceId, List<String> profileIds,
+                                                             Map<String, MigProfile> profiles) {
+        try {
+            int created = migManagementService.createMigInstances(deviceId, profileIds, profiles).size();
+            return deviceResult(deviceId, "APPLY", "SUCCESS", created, null);
+        } catch (Exception e) {
+            log.warn("Failed to apply MIG layout to device {}: {}", deviceId, e.getMessage());
+            return deviceResult(deviceId, "APPLY", "FAILED", 0, e.getMessage());
+        }
+    }
+
+    private MigFleetOperationResult.DeviceResult resetDevice(String deviceId) {
+        try {
+            migManagementService.deleteMigInstances(deviceId);
+            return deviceResult(deviceId, "RESET", "SUCCESS", 0, null);
+        } catch (Exception e) {
+            log.warn("Failed to reset MIG instances on device {}: {}", deviceId, e.getMessage());
+            return deviceResult(deviceId, "RESET", "FAILED", 0, e.getMessage());
+        }
+    }
+
+    private MigFleetOperationResult.DeviceResult deviceResult(String deviceId, String operation, String status,
+                                                              int instanceCount, String error) {
+        return MigFleetOperationResult.DeviceResult.builder()
+            .deviceId(deviceId)
+            .operation(operation)
+            .status(status)
+            .instanceCount(instanceCount)
+            .error(error)
+            .build();
+    }
+}
@@ -0,0 +1,284 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.dto.gpu.MigIdleInstanceInfo;
+import com.k8s.monitor.event.gpu.GpuAllocationCreatedEvent;
+import com.k8s.monitor.event.gpu.GpuResourceReleasedEvent;
+import com.k8s.monitor.event.gpu.GpuTelemetryCollectedEvent;
+import com.k8s.monitor.event.gpu.GpuTelemetrySample;
+import com.k8s.monitor.repository.gpu.MigInstanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MIG 인스턴스 유휴 감지기
+ * 텔레메트리 스트림으로 MIG 인스턴스별 슬라이딩 윈도우(사용률 평균, 최대 메모리)를 유지하고,
+ * 할당되어 있으나 임계 시간 이상 활동이 없는 인스턴스를 근거와 함께 식별/회수
+ *
+ * 사용률 또는 메모리 사용량이 임계치 이상인 샘플을 "활동"으로 보며,
+ * 두 값이 모두 없는 샘플은 판정 근거로 사용하지 않음
+ *
+ * 마지막 활동 시각은 주기적으로 mig_instances.last_used_date 에 기록하고, 재시작 시 이 값(또는 할당 시각)으로
+ * 유휴 시작 시각을 복원하여 일 단위 임계 시간도 재시작과 무관하게 판정
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MigIdleDetector {
+
+    private static final int MIN_SAMPLES = 3;
+
+    private final GpuAllocationIndex allocationIndex;
+    private final GpuAllocationService allocationService;
+    private final MigInstanceRepository migInstanceRepository;
+
+    @Value("${gpu.management.mig.idle.window-minutes:60}")
+    private int windowMinutes;
+
+    @Value("${gpu.management.mig.idle.utilization-threshold-pct:5.0}")
+    private double utilizationThresholdPct;
+
+    @Value("${gpu.management.mig.idle.memory-threshold-mb:512}")
+    private long memoryThresholdMb;
+
+    @Value("${gpu.management.mig.idle.idle-threshold-minutes:120}")
+    private long idleThresholdMinutes;
+
+    // migId -> 슬라이딩 윈도우
+    private final Map<String, InstanceWindow> windows = new ConcurrentHashMap<>();
+
+    /**
+     * 할당된 인스턴스의 유휴 시작 시각을 저장된 마지막 활동 시각으로 복원
+     * (이후 활동 샘플이 들어오면 초기화되고, 판정에는 여전히 최근 샘플이 필요)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreIdleSince() {
+        int restored = 0;
+        for (Object[] row : migInstanceRepository.findAllocatedActivity()) {
+            LocalDateTime allocatedDate = (LocalDateTime) row[2];
+            LocalDateTime lastUsedDate = (LocalDateTime) row[3];
+            LocalDateTime lastActivity = lastUsedDate == null ? allocatedDate
+                : allocatedDate == null || lastUsedDate.isAfter(allocatedDate) ? lastUsedDate : allocatedDate;
+            if (lastActivity == null) {
+                continue;
+            }
+            windows.computeIfAbsent((String) row[0], migId -> new InstanceWindow((String) row[1]))
+                .restore(lastActivity);
+            restored++;
+        }
+        if (restored > 0) {
+            log.info("Restored idle tracking for {} allocated MIG instances", restored);
+        }
+    }
+
+    /**
+     * 마지막 활동 시각 기록 (재시작 후 유휴 시작 시각 복원용)
+     */
+    @Scheduled(fixedRate = 600000) // 10분마다 실행
+    public void persistLastActivity() {
+        windows.forEach((migId, window) -> {
+            LocalDateTime lastActiveAt = window.unpersistedActivity();
+            if (lastActiveAt == null) {
+                return;
+            }
+            try {
+                migInstanceRepository.updateLastUsedDate(migId, lastActiveAt);
+                window.markPersisted(lastActiveAt);
+            } catch (Exception e) {
+                log.warn("Failed to record last activity of MIG instance {}: {}", migId, e.getMessage());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAllocationCreated(GpuAllocationCreatedEvent event) {
+        if ("MIG_INSTANCE".equals(event.resourceType())) {
+            // 새 워크로드는 이전 할당의 유휴 기록을 물려받지 않음
+            windows.remove(event.allocatedResource());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResourceReleased(GpuResourceReleasedEvent event) {
+        if ("MIG_INSTANCE".equals(event.resourceType())) {
+            windows.remove(event.allocatedResource());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTelemetryCollected(GpuTelemetryCollectedEvent event) {
+        for (GpuTelemetrySample sample : event.samples()) {
+            if (sample.migId() == null || sample.allocationId() == null) {
+                continue;
+            }
+            windows.computeIfAbsent(sample.migId(), migId -> new InstanceWindow(sample.deviceId()))
+                .add(sample);
+        }
+    }
+
+    /**
+     * 할당되었으나 유휴 임계 시간을 넘긴 MIG 인스턴스 목록
+     */
+    public List<MigIdleInstanceInfo> getIdleInstances() {
+        return findIdleInstances(Duration.ofMinutes(idleThresholdMinutes));
+    }
+
+    /**
+     * 유휴 판정된 인스턴스의 할당을 해제하여 가용 용량으로 회수
+     *
+     * @param minIdle 최소 유휴 기간 (설정된 유휴 임계 시간보다 짧게 지정해도 임계 시간이 적용됨)
+     */
+    public List<MigIdleInstanceInfo> reclaimIdleInstances(Duration minIdle) {
+        Duration threshold = minIdle.compareTo(Duration.ofMinutes(idleThresholdMinutes)) > 0
+            ? minIdle : Duration.ofMinutes(idleThresholdMinutes);
+
+        List<MigIdleInstanceInfo> reclaimed = new ArrayList<>();
+        for (MigIdleInstanceInfo idle : findIdleInstances(threshold)) {
+            try {
+                if (allocationService.reclaimMigInstance(idle.getMigId(), idle.getAllocationId())) {
+                    reclaimed.add(idle);
+                    log.info("Reclaimed idle MIG instance {} (allocation {}, idle {} min, avg util {}%, max memory {} MB)",
+                            idle.getMigId(), idle.getAllocationId(), idle.getIdleMinutes(),
+                            idle.getAvgUtilizationPct(), idle.getMaxMemoryUsedMb());
+                }
+            } catch (Exception e) {
+                log.warn("Failed to reclaim idle MIG instance {}: {}", idle.getMigId(), e.getMessage());
+            }
+        }
+        return reclaimed;
+    }
+
+    // Private helper methods
+
+    private List<MigIdleInstanceInfo> findIdleInstances(Duration threshold) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MigIdleInstanceInfo> idle = new ArrayList<>();
+
+        windows.forEach((migId, window) -> {
+            Optional<GpuAllocationIndex.AllocationRef> allocation = allocationIndex.getExclusiveAllocation(migId);
+            if (allocation.isEmpty()) {
+                return;
+            }
+            MigIdleInstanceInfo info = window.evaluate(migId, allocation.get().allocationId(), now, threshold);
+            if (info != null) {
+                idle.add(info);
+            }
+        });
+
+        idle.sort(Comparator.comparing(MigIdleInstanceInfo::getIdleMinutes).reversed());
+        return idle;
+    }
+
+    private boolean isActive(GpuTelemetrySample sample) {
+        return (sample.gpuUtilizationPct() != null && sample.gpuUtilizationPct() >= utilizationThresholdPct)
+            || (sample.memoryUsedMb() != null && sample.memoryUsedMb() >= memoryThresholdMb);
+    }
+
+    private record Point(LocalDateTime timestamp, Double utilization, Long memoryUsedMb) {
+    }
+
+    // Inner class for per-instance sliding window
+    private class InstanceWindow {
+        private final String deviceId;
+        private final Deque<Point> points = new ArrayDeque<>();
+        private double utilizationSum;
+        private int utilizationCount;
+        private LocalDateTime idleSince;
+        private LocalDateTime lastActiveAt;
+        private LocalDateTime persistedActiveAt;
+
+        InstanceWindow(String deviceId) {
+            this.deviceId = deviceId;
+        }
+
+        synchronized void restore(LocalDateTime lastActivity) {
+            if (points.isEmpty() && lastActiveAt == null) {
+                idleSince = lastActivity;
+                lastActiveAt = lastActivity;
+                persistedActiveAt = lastActivity;
+            }
+        }
+
+        synchronized LocalDateTime unpersistedActivity() {
+            return lastActiveAt != null && !lastActiveAt.equals(persistedActiveAt) ? lastActiveAt : null;
+        }
+
+        synchronized void markPersisted(LocalDateTime activeAt) {
+            persistedActiveAt = activeAt;
+        }
+
+        synchronized void add(GpuTelemetrySample sample) {
+            if (sample.gpuUtilizationPct() == null && sample.memoryUsedMb() == null) {
+                return;
+            }
+            points.addLast(new Point(sample.timestamp(), sample.gpuUtilizationPct(), sample.memoryUsedMb()));
+            if (sample.gpuUtilizationPct() != null) {
+                utilizationSum += sample.gpuUtilizationPct();
+                utilizationCount++;
+            }
+
+            if (isActive(sample)) {
+                lastActiveAt = sample.timestamp();
+                idleSince = null;
+            } else if (idleSince == null) {
+                idleSince = sample.timestamp();
+            }
+            evictBefore(sample.timestamp().minusMinutes(windowMinutes));
+        }
+
+        synchronized MigIdleInstanceInfo evaluate(String migId, String allocationId, LocalDateTime now, Duration threshold) {
+            evictBefore(now.minusMinutes(windowMinutes));
+            // 최근 샘플이 없으면 판정하지 않음 (수집 중단 시 오탐 방지)
+            if (idleSince == null || points.size() < MIN_SAMPLES) {
+                return null;
+            }
+            long idleMinutes = Duration.between(idleSince, now).toMinutes();
+            if (idleMinutes < threshold.toMinutes()) {
+                return null;
+            }
+
+            long maxMemory = points.stream()
+                .map(Point::memoryUsedMb)
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .max()
+                .orElse(0L);
+
+            return MigIdleInstanceInfo.builder()
+                .migId(migId)
+                .deviceId(deviceId)
+                .allocationId(allocationId)
+                .idleSince(idleSince)
+                .idleMinutes(idleMinutes)
+                .lastActiveAt(lastActiveAt)
+                .lastSampleAt(points.peekLast().timestamp())
+                .windowMinutes(windowMinutes)
+                .sampleCount(points.size())
+                .avgUtilizationPct(utilizationCount > 0 ? utilizationSum / utilizationCount : null)
+                .maxMemoryUsedMb(maxMemory)
+                .utilizationThresholdPct(utilizationThresholdPct)
+                .memoryThresholdMb(memoryThresholdMb)
+                .build();
+        }
+
+        private void evictBefore(LocalDateTime cutoff) {
+            while (!points.isEmpty() && points.peekFirst().timestamp().isBefore(cutoff)) {
+                Point evicted = points.removeFirst();
+                if (evicted.utilization() != null) {
+                    utilizationSum -= evicted.utilization();
+                    utilizationCount--;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.dto.gpu.GpuAllocationRequest;
+import com.k8s.monitor.dto.gpu.MigReconfigurationPlan;
+import com.k8s.monitor.engine.MigLayoutPlanner;
+import com.k8s.monitor.entity.gpu.*;
+import com.k8s.monitor.repository.gpu.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * MIG 레이아웃 계획 서비스
+ * 대기열의 MIG 요청과 최근 동시 사용 최대치(예상 수요)를 프로필별 수요로 집계하고,
+ * 활성 할당이 없는 장비만 대상으로 모델별 MigLayoutPlanner 를 실행
+ * 같은 수요에 대해 현재 레이아웃을 유지할 때의 미충족 수요를 함께 제시하여 계획의 효과를 비교
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MigLayoutPlanningService {
+
+    private final GpuDeviceRepository gpuDeviceRepository;
+    private final MigInstanceRepository migInstanceRepository;
+    private final GpuAllocationRepository allocationRepository;
+    private final GpuAllocationQueueService queueService;
+    private final GpuModelCatalog modelCatalog;
+
+    private final MigLayoutPlanner planner = new MigLayoutPlanner();
+
+    @Value("${gpu.management.mig.planning.lookback-days:7}")
+    private int lookbackDays;
+
+    /**
+     * MIG 재구성 계획 생성 (적용하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public MigReconfigurationPlan buildPlan() {
+        long startTime = System.currentTimeMillis();
+
+        Map<String, List<GpuModelCatalog.CatalogProfile>> profilesByModel = new TreeMap<>(modelCatalog.getProfilesByModel());
+        List<MigInstance> instances = migInstanceRepository.findAll();
+
+        // 재구성 가능 여부 판단 (활성 할당이 있는 장비는 제외)
+        Set<String> lockedDeviceIds = new HashSet<>();
+        allocationRepository.findActiveAllocations().stream()
+            .filter(allocation -> !"MIG_INSTANCE".equals(allocation.getResourceType()))
+            .forEach(allocation -> lockedDeviceIds.add(allocation.getAllocatedResource()));
+        instances.stream()
+            .filter(instance -> "Y".equals(instance.getAllocated()))
+            .forEach(instance -> lockedDeviceIds.add(instance.getDevice().getDeviceId()));
+
+        Map<String, List<String>> reconfigurableByModel = new TreeMap<>();
+        int lockedDeviceCount = 0;
+        for (GpuDevice device : gpuDeviceRepository.findMigCapableDevices()) {
+            if (!"ACTIVE".equals(device.getDeviceStatus()) && !"MIG_ENABLED".equals(device.getDeviceStatus())) {
+                continue;
+            }
+            if (lockedDeviceIds.contains(device.getDeviceId())) {
+                lockedDeviceCount++;
+                continue;
+            }
+            reconfigurableByModel.computeIfAbsent(device.getModel().getModelId(), key -> new ArrayList<>())
+                .add(device.getDeviceId());
+        }
+        reconfigurableByModel.values().forEach(Collections::sort);
+
+        // 수요 집계
+        Map<String, Integer> pendingDemand = collectPendingDemand(profilesByModel);
+        Map<String, Integer> forecastDemand = collectPeakConcurrentDemand(instances);
+        Map<String, Integer> lockedSupply = instances.stream()
+            .filter(instance -> "ACTIVE".equals(instance.getInstanceStatus()))
+            .filter(instance -> lockedDeviceIds.contains(instance.getDevice().getDeviceId()))
+            .collect(Collectors.groupingBy(instance -> instance.getProfile().getProfileId(), TreeMap::new,
+                Collectors.summingInt(instance -> 1)));
+
+        Map<String, Integer> plannedDemand = new TreeMap<>();
+        Set<String> profileIds = new TreeSet<>(pendingDemand.keySet());
+        profileIds.addAll(forecastDemand.keySet());
+        for (String profileId : profileIds) {
+            int demand = pendingDemand.getOrDefault(profileId, 0) + forecastDemand.getOrDefault(profileId, 0)
+                - lockedSupply.getOrDefault(profileId, 0);
+            if (demand > 0) {
+                plannedDemand.put(profileId, demand);
+            }
+        }
+
+        // 모델별 계획
+        List<MigReconfigurationPlan.DeviceLayout> deviceLayouts = new ArrayList<>();
+        List<String> untouchedDeviceIds = new ArrayList<>();
+        Map<String, Integer> unmetDemand = new TreeMap<>();
+
+        for (Map.Entry<String, List<GpuModelCatalog.CatalogProfile>> entry : profilesByModel.entrySet()) {
+            String modelId = entry.getKey();
+            List<MigLayoutPlanner.ProfileSpec> specs = toSpecs(entry.getValue());
+            Map<String, Integer> modelDemand = specs.stream()
+                .filter(spec -> plannedDemand.containsKey(spec.profileId()))
+                .collect(Collectors.toMap(MigLayoutPlanner.ProfileSpec::profileId, spec -> plannedDemand.get(spec.profileId())));
+
+            MigLayoutPlanner.Plan plan = planner.plan(specs, modelDemand,
+                reconfigurableByModel.getOrDefault(modelId, List.of()));
+
+            plan.assignments().forEach(assignment -> deviceLayouts.add(toDeviceLayout(modelId, assignment)));
+            untouchedDeviceIds.addAll(plan.untouchedDevices());
+            unmetDemand.putAll(plan.unmetDemand());
+        }
+
+        // 비교 기준: 재구성 가능 장비의 현재 레이아웃으로 충족되지 않는 수요
+        Set<String> reconfigurableDeviceIds = reconfigurableByModel.values().stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toSet());
+        Map<String, Integer> currentSupply = instances.stream()
+            .filter(instance -> "ACTIVE".equals(instance.getInstanceStatus()))
+            .filter(instance -> reconfigurableDeviceIds.contains(instance.getDevice().getDeviceId()))
+            .collect(Collectors.groupingBy(instance -> instance.getProfile().getProfileId(), TreeMap::new,
+                Collectors.summingInt(instance -> 1)));
+        Map<String, Integer> currentUnmetDemand = new TreeMap<>();
+        plannedDemand.forEach((profileId, demand) -> {
+            int unmet = demand - currentSupply.getOrDefault(profileId, 0);
+            if (unmet > 0) {
+                currentUnmetDemand.put(profileId, unmet);
+            }
+        });
+
+        long planningTimeMs = System.currentTimeMillis() - startTime;
+        log.info("MIG reconfiguration plan: {} devices reconfigured, {} untouched, {} locked, unmet demand: {} (current layout: {}) ({} ms)",
+                deviceLayouts.size(), untouchedDeviceIds.size(), lockedDeviceCount, unmetDemand, currentUnmetDemand,
+                planningTimeMs);
+
+        return MigReconfigurationPlan.builder()
+            .pendingDemand(pendingDemand)
+            .forecastDemand(forecastDemand)
+            .lockedSupply(lockedSupply)
+            .plannedDemand(plannedDemand)
+            .unmetDemand(unmetDemand)
+            .currentUnmetDemand(currentUnmetDemand)
+            .deviceLayouts(deviceLayouts)
+            .untouchedDeviceIds(untouchedDeviceIds)
+            .reconfigurableDeviceCount(reconfigurableByModel.values().stream().mapToInt(List::size).sum())
+            .lockedDeviceCount(lockedDeviceCount)
+            .planningTimeMs(planningTimeMs)
+            .generatedAt(LocalDateTime.now())
+            .build();
+    }
+
+    // Private helper methods
+
+    /**
+     * 대기 중인 MIG 요청을 요구 메모리를 만족하는 가장 작은 프로필로 매핑
+     */
+    private Map<String, Integer> collectPendingDemand(Map<String, List<GpuModelCatalog.CatalogProfile>> profilesByModel) {
+        Map<String, Integer> demand = new TreeMap<>();
+        for (GpuAllocationRequest request : queueService.getPendingRequests()) {
+            if (!Boolean.TRUE.equals(request.getUseMig())) {
+                continue;
+            }
+            int requiredMemoryGb = request.getRequiredMemoryGb() != null ? request.getRequiredMemoryGb() : 0;
+
+            profilesByModel.entrySet().stream()
+                .filter(entry -> request.getPreferredModelId() == null || request.getPreferredModelId().equals(entry.getKey()))
+                .flatMap(entry -> entry.getValue().stream())
+                .filter(profile -> profile.memoryGb() >= requiredMemoryGb)
+                .min(Comparator.comparing(GpuModelCatalog.CatalogProfile::memoryGb)
+                    .thenComparing(GpuModelCatalog.CatalogProfile::computeSlices)
+                    .thenComparing(GpuModelCatalog.CatalogProfile::profileId))
+                .ifPresent(profile -> demand.merge(profile.profileId(), 1, Integer::sum));
+        }
+        return demand;
+    }
+
+    /**
+     * 최근 기간 프로필별 MIG 할당 동시 사용 최대치 (기간과 겹치는 모든 할당 기준)
+     */
+    private Map<String, Integer> collectPeakConcurrentDemand(List<MigInstance> instances) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = now.minusDays(lookbackDays);
+
+        Map<String, String> profileByMigId = instances.stream()
+            .collect(Collectors.toMap(MigInstance::getMigId, instance -> instance.getProfile().getProfileId()));
+
+        // 프로필별 (시각, +1/-1) 이벤트 스윕 (기간 이전에 시작된 할당은 기간 시작 시각부터 계산)
+        Map<String, List<long[]>> eventsByProfile = new HashMap<>();
+        for (GpuAllocation allocation : allocationRepository.findAllocationsOverlapping("MIG_INSTANCE", since, now)) {
+            String profileId = profileByMigId.get(allocation.getAllocatedResource());
+            if (profileId == null) {
+                continue;
+            }
+            LocalDateTime start = allocation.getAllocationTime().isBefore(since) ? since : allocation.getAllocationTime();
+            LocalDateTime end = allocation.getReleaseTime() != null ? allocation.getReleaseTime() : now;
+            List<long[]> events = eventsByProfile.computeIfAbsent(profileId, key -> new ArrayList<>());
+            events.add(new long[]{toEpochSecond(start), 1});
+            events.add(new long[]{toEpochSecond(end), -1});
+        }
+
+        Map<String, Integer> peak = new TreeMap<>();
+        eventsByProfile.forEach((profileId, events) -> {
+            events.sort(Comparator.<long[]>comparingLong(event -> event[0]).thenComparingLong(event -> event[1]));
+            int current = 0;
+            int max = 0;
+            for (long[] event : events) {
+                current += (int) event[1];
+                max = Math.max(max, current);
+            }
+            peak.put(profileId, max);
+        });
+        return peak;
+    }
+
+    private List<MigLayoutPlanner.ProfileSpec> toSpecs(List<GpuModelCatalog.CatalogProfile> profiles) {
+        return profiles.stream()
+            .map(profile -> new MigLayoutPlanner.ProfileSpec(profile.profileId(), profile.computeSlices(),
+                profile.memorySlices(), profile.maxInstancesPerGpu()))
+            .collect(Collectors.toList());
+    }
+
+    private MigReconfigurationPlan.DeviceLayout toDeviceLayout(String modelId, MigLayoutPlanner.DeviceAssignment assignment) {
+        List<String> profileIds = new ArrayList<>();
+        assignment.layout().instances().forEach((profileId, count) -> profileIds.addAll(Collections.nCopies(count, profileId)));
+
+        return MigReconfigurationPlan.DeviceLayout.builder()
+            .deviceId(assignment.deviceId())
+            .modelId(modelId)
+            .profileInstances(assignment.layout().instances())
+            .profileIds(profileIds)
+            .computeSlices(assignment.layout().computeSlices())
+            .memorySlices(assignment.layout().memorySlices())
+            .build();
+    }
+
+    private long toEpochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -1,13 +1,17 @@
 package com.k8s.monitor.service.gpu;
 
 import com.k8s.monitor.dto.gpu.*;
+import com.k8s.monitor.engine.MigLayoutPlanner;
 import com.k8s.monitor.entity.gpu.*;
+import com.k8s.monitor.event.gpu.MigInstancesChangedEvent;
 import com.k8s.monitor.repository.gpu.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -25,12 +29,28 @@ public class MigManagementService {
     private final MigProfileRepository migProfileRepository;
     private final MigInstanceRepository migInstanceRepository;
     private final GpuAllocationRepository allocationRepository;
+    private final GpuModelCatalog modelCatalog;
+    private final MigUsageCounters usageCounters;
+    private final MigIdleDetector idleDetector;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final MigLayoutPlanner layoutPlanner = new MigLayoutPlanner();
 
     /**
      * MIG 인스턴스 생성
+     * profileIds 의 각 항목이 인스턴스 1개이며, 전체 조합은 GPU slice 예산을 넘을 수 없음
      */
     @Transactional
     public List<MigInstanceInfo> createMigInstances(String deviceId, List<String> profileIds) {
+        return createMigInstances(deviceId, profileIds, loadProfiles(profileIds));
+    }
+
+    /**
+     * MIG 인스턴스 생성 (미리 로딩한 프로필 사용, 플릿 일괄 적용용)
+     */
+    @Transactional
+    public List<MigInstanceInfo> createMigInstances(String deviceId, List<String> profileIds,
+                                                    Map<String, MigProfile> profiles) {
         GpuDevice device = gpuDeviceRepository.findById(deviceId)
             .orElseThrow(() -> new RuntimeException("GPU device not found: " + deviceId));
 
@@ -43,6 +63,9 @@ public class MigManagementService {
             throw new RuntimeException("Cannot create MIG instances while device has active allocations");
         }
 
+        // 레이아웃 검증 (compute/memory slice 예산)
+        validateLayout(device, profileIds, profiles);
+
         // 기존 MIG 인스턴스 삭제
         migInstanceRepository.deleteByDeviceId(deviceId);
 
@@ -50,35 +73,53 @@ public class MigManagementService {
         device.setDeviceStatus("MIG_ENABLED");
         gpuDeviceRepository.save(device);
 
-        List<MigInstanceInfo> createdInstances = new ArrayList<>();
+        List<MigInstance> instances = new ArrayList<>(profileIds.size());
         int instanceIdCounter = 0;
 
         for (String profileId : profileIds) {
-            MigProfile profile = migProfileRepository.findById(profileId)
-                .orElseThrow(() -> new RuntimeException("MIG profile not found: " + profileId));
-
-            // 프로필별 최대 인스턴스 수만큼 생성
-            for (int i = 0; i < profile.getMaxInstancesPerGpu(); i++) {
-                MigInstance instance = MigInstance.builder()
-                    .migId(generateMigInstanceId(deviceId, instanceIdCounter))
-                    .device(device)
-                    .profile(profile)
-                    .instanceId(instanceIdCounter)
-                    .migUuid("MIG-" + UUID.randomUUID().toString())
-                    .allocated("N")
-                    .instanceStatus("ACTIVE")
-                    .build();
-
-                instance = migInstanceRepository.save(instance);
-                createdInstances.add(convertToMigDto(instance));
-                instanceIdCounter++;
-            }
+            instances.add(MigInstance.builder()
+                .migId(generateMigInstanceId(deviceId, instanceIdCounter))
+                .device(device)
+                .profile(migProfileRepository.getReferenceById(profileId))
+                .instanceId(instanceIdCounter)
+                .migUuid("MIG-" + UUID.randomUUID().toString()) // 첫 텔레메트리 수집 시 실제 UUID 로 교체
+                .allocated("N")
+                .instanceStatus("ACTIVE")
+                .build());
+            instanceIdCounter++;
         }
 
+        // 일괄 저장 (JDBC batch insert)
+        migInstanceRepository.saveAll(instances);
+
+        List<MigInstanceInfo> createdInstances = new ArrayList<>(instances.size());
+        for (MigInstance instance : instances) {
+            createdInstances.add(convertToMigDto(instance));
+        }
+
+        eventPublisher.publishEvent(new MigInstancesChangedEvent(deviceId, "CREATED"));
         log.info("Created {} MIG instances for device: {}", createdInstances.size(), deviceId);
         return createdInstances;
     }
 
+    /**
+     * MIG 프로필 일괄 로딩 (모델 포함)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, MigProfile> loadProfiles(Collection<String> profileIds) {
+        Set<String> requested = new HashSet<>(profileIds);
+        Map<String, MigProfile> profiles = migProfileRepository.findAllWithModelByProfileIdIn(requested).stream()
+            .collect(Collectors.toMap(MigProfile::getProfileId, profile -> profile));
+
+        requested.stream()
+            .filter(profileId -> !profiles.containsKey(profileId))
+            .findFirst()
+            .ifPresent(profileId -> {
+                throw new RuntimeException("MIG profile not found: " + profileId);
+            });
+        return profiles;
+    }
+
     /**
      * MIG 인스턴스 삭제
      */
@@ -102,6 +143,7 @@ public class MigManagementService {
         device.setDeviceStatus("ACTIVE");
         gpuDeviceRepository.save(device);
 
+        eventPublisher.publishEvent(new MigInstancesChangedEvent(deviceId, "DELETED"));
         log.info("Deleted {} MIG instances for device: {}", deletedCount, deviceId);
     }
 
@@ -124,69 +166,35 @@ public class MigManagementService {
     }
 
     /**
-     * MIG 사용률 통계 조회
+     * MIG 사용률 통계 조회 (메모리 카운터 기반)
      */
     public Map<String, Object> getMigUsageStatistics() {
-        List<Object[]> instanceCountByDevice = migInstanceRepository.findInstanceCountByDevice();
-        List<Object[]> usageByProfile = migInstanceRepository.findUsageByProfile();
-        
-        Map<String, Object> deviceStats = instanceCountByDevice.stream()
-            .collect(Collectors.toMap(
-                row -> (String) row[0],
-                row -> Map.of(
-                    "total", ((Number) row[1]).intValue(),
-                    "allocated", ((Number) row[2]).intValue()
-                )
-            ));
-        
-        Map<String, Object> profileStats = usageByProfile.stream()
-            .collect(Collectors.toMap(
-                row -> (String) row[0],
-                row -> Map.of(
-                    "total", ((Number) row[1]).intValue(),
-                    "allocated", ((Number) row[2]).intValue()
-                )
-            ));
-        
-        long totalInstances = migInstanceRepository.count();
-        long allocatedInstances = migInstanceRepository.findByAllocated("Y").size();
-        
-        return Map.of(
-            "totalInstances", totalInstances,
-            "allocatedInstances", allocatedInstances,
-            "availableInstances", totalInstances - allocatedInstances,
-            "utilizationPercent", totalInstances > 0 ? (double) allocatedInstances / totalInstances * 100 : 0,
-            "deviceStatistics", deviceStats,
-            "profileStatistics", profileStats,
-            "lastUpdated", LocalDateTime.now()
-        );
+        return usageCounters.getStatistics();
     }
 
     /**
      * 미사용 MIG 인스턴스 정리
+     * 텔레메트리 기반 유휴 판정을 받은 인스턴스 중 지정 기간 이상 유휴인 것만 할당 해제하여 회수
      */
-    @Transactional
     public int cleanupUnusedMigInstances(int unusedDays) {
-        LocalDateTime threshold = LocalDateTime.now().minusDays(unusedDays);
-        List<MigInstance> unusedInstances = migInstanceRepository.findUnusedInstances(threshold);
+        List<MigIdleInstanceInfo> reclaimed = idleDetector.reclaimIdleInstances(Duration.ofDays(unusedDays));
         
-        int cleanedCount = 0;
-        for (MigInstance instance : unusedInstances) {
-            instance.setAllocated("N");
-            instance.setInstanceStatus("INACTIVE");
-            migInstanceRepository.save(instance);
-            cleanedCount++;
-        }
-        
-        log.info("Cleaned up {} unused MIG instances", cleanedCount);
-        return cleanedCount;
+        log.info("Cleaned up {} unused MIG instances", reclaimed.size());
+        return reclaimed.size();
+    }
+
+    /**
+     * 유휴 MIG 인스턴스 조회 (판정 근거 포함)
+     */
+    public List<MigIdleInstanceInfo> getIdleMigInstances() {
+        return idleDetector.getIdleInstances();
     }
 
     /**
      * MIG 프로필 정보 조회
      */
     public List<MigProfileInfo> getMigProfilesByModel(String modelId) {
-        return migProfileRepository.findByModelModelId(modelId).stream()
+        return modelCatalog.getProfilesByModel(modelId).stream()
             .map(this::convertToProfileDto)
             .collect(Collectors.toList());
     }
@@ -194,25 +202,43 @@ public class MigManagementService {
     // Private helper methods
     
     private boolean hasActiveAllocations(String deviceId) {
-        // GPU 장비에 대한 직접 할당 확인
-        List<GpuAllocation> deviceAllocations = allocationRepository.findAllocationHistory(deviceId);
-        boolean hasDeviceAllocations = deviceAllocations.stream()
-            .anyMatch(allocation -> "ALLOCATED".equals(allocation.getStatus()));
-        
-        // MIG 인스턴스에 대한 할당 확인
-        List<MigInstance> migInstances = migInstanceRepository.findByDeviceDeviceId(deviceId);
-        boolean hasMigAllocations = migInstances.stream()
-            .anyMatch(instance -> "Y".equals(instance.getAllocated()));
-        
-        return hasDeviceAllocations || hasMigAllocations;
+        // GPU 장비에 대한 직접 할당 확인 / MIG 인스턴스에 대한 할당 확인
+        return allocationRepository.existsByAllocatedResourceAndStatus(deviceId, "ALLOCATED")
+            || migInstanceRepository.existsByDeviceDeviceIdAndAllocated(deviceId, "Y");
+    }
+
+    private void validateLayout(GpuDevice device, List<String> profileIds, Map<String, MigProfile> profiles) {
+        String modelId = device.getModel().getModelId();
+        List<MigLayoutPlanner.ProfileSpec> specs = new ArrayList<>();
+        for (String profileId : new LinkedHashSet<>(profileIds)) {
+            MigProfile profile = profiles.get(profileId);
+            if (profile == null) {
+                throw new RuntimeException("MIG profile not found: " + profileId);
+            }
+            if (!modelId.equals(profile.getModel().getModelId())) {
+                throw new RuntimeException("MIG profile " + profileId + " does not belong to model: " + modelId);
+            }
+            specs.add(new MigLayoutPlanner.ProfileSpec(profile.getProfileId(), profile.getComputeSlices(),
+                profile.getMemorySlices(), profile.getMaxInstancesPerGpu()));
+        }
+
+        Map<String, Integer> layout = profileIds.stream()
+            .collect(Collectors.groupingBy(profileId -> profileId, Collectors.summingInt(profileId -> 1)));
+        if (!layoutPlanner.isFeasible(specs, layout)) {
+            throw new RuntimeException("MIG layout exceeds GPU slice budget: " + layout);
+        }
     }
 
     private MigInstanceInfo convertToMigDto(MigInstance instance) {
+        // 프록시 ID 만 사용하고 프로필 정보는 카탈로그에서 조회
+        GpuModelCatalog.CatalogProfile profile = modelCatalog.getProfile(instance.getProfile().getProfileId())
+            .orElseThrow(() -> new RuntimeException("MIG profile not found: " + instance.getProfile().getProfileId()));
+
         return MigInstanceInfo.builder()
             .migId(instance.getMigId())
             .deviceId(instance.getDevice().getDeviceId())
-            .profileId(instance.getProfile().getProfileId())
-            .profileName(instance.getProfile().getProfileName())
+            .profileId(profile.profileId())
+            .profileName(profile.profileName())
             .instanceId(instance.getInstanceId())
             .migUuid(instance.getMigUuid())
             .allocated(Boolean.valueOf("Y".equals(instance.getAllocated())))
@@ -220,25 +246,25 @@ public class MigManagementService {
             .createdDate(instance.getCreatedDate())
             .allocatedDate(instance.getAllocatedDate())
             .lastUsedDate(instance.getLastUsedDate())
-            .memoryGb(instance.getProfile().getMemoryGb())
-            .computeSlices(instance.getProfile().getComputeSlices())
-            .memorySlices(instance.getProfile().getMemorySlices())
-            .performanceRatio(instance.getProfile().getPerformanceRatio())
+            .memoryGb(profile.memoryGb())
+            .computeSlices(profile.computeSlices())
+            .memorySlices(profile.memorySlices())
+            .performanceRatio(profile.performanceRatio())
             .build();
     }
 
-    private MigProfileInfo convertToProfileDto(MigProfile profile) {
+    private MigProfileInfo convertToProfileDto(GpuModelCatalog.CatalogProfile profile) {
         return MigProfileInfo.builder()
-            .profileId(profile.getProfileId())
-            .modelId(profile.getModel().getModelId())
-            .profileName(profile.getProfileName())
-            .computeSlices(profile.getComputeSlices())
-            .memorySlices(profile.getMemorySlices())
-            .memoryGb(profile.getMemoryGb())
-            .maxInstancesPerGpu(profile.getMaxInstancesPerGpu())
-            .performanceRatio(profile.getPerformanceRatio())
-            .useCase(profile.getUseCase())
-            .description(profile.getDescription())
+            .profileId(profile.profileId())
+            .modelId(profile.modelId())
+            .profileName(profile.profileName())
+            .computeSlices(profile.computeSlices())
+            .memorySlices(profile.memorySlices())
+            .memoryGb(profile.memoryGb())
+            .maxInstancesPerGpu(profile.maxInstancesPerGpu())
+            .performanceRatio(profile.performanceRatio())
+            .useCase(profile.useCase())
+            .description(profile.description())
             .build();
     }
 
@@ -0,0 +1,47 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.entity.gpu.GpuDevice;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MIG 텔레메트리 수집 소스
+ * GPU 1장당 1회 호출로 해당 GPU의 모든 MIG 인스턴스 메트릭을 반환 (nvidia-smi XML, DCGM 등으로 교체 가능)
+ */
+public interface MigTelemetrySource {
+
+    /**
+     * 소스 이름 (gpu.management.metrics.mig-source 값과 매칭)
+     */
+    String getSourceName();
+
+    /**
+     * GPU 1장의 텔레메트리 수집 (실패 시 empty)
+     */
+    Optional<GpuTelemetry> collect(GpuDevice device);
+
+    /**
+     * GPU 단위 텔레메트리 (물리 GPU 공통 값 + MIG 인스턴스별 값)
+     */
+    record GpuTelemetry(Double gpuUtilizationPct,
+                        Double memoryUtilizationPct,
+                        Long memoryUsedMb,
+                        Long memoryTotalMb,
+                        Double temperatureC,
+                        Double powerDrawW,
+                        List<MigTelemetry> migDevices) {
+    }
+
+    /**
+     * MIG 인스턴스 단위 텔레메트리 (migUuid 로 매핑, UUID 를 제공하지 않는 소스는 gpuInstanceId 배치로 매핑)
+     * gpuUtilizationPct 는 소스가 MIG 단위 SM 사용률을 제공하지 않으면 null (물리 GPU 값에서 추정하지 않음)
+     */
+    record MigTelemetry(String migUuid,
+                        Integer gpuInstanceId,
+                        Integer computeInstanceId,
+                        Double gpuUtilizationPct,
+                        Long memoryUsedMb,
+                        Long memoryTotalMb) {
+    }
+}
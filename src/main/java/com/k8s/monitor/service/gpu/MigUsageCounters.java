@@ -0,0 +1,224 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.event.gpu.GpuAllocationCreatedEvent;
+import com.k8s.monitor.event.gpu.GpuResourceReleasedEvent;
+import com.k8s.monitor.event.gpu.MigInstancesChangedEvent;
+import com.k8s.monitor.repository.gpu.MigInstanceRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MIG 사용량 카운터
+ * 장비별/프로필별 전체·할당 MIG 인스턴스 수를 메모리에 유지하여 통계를 상수 시간에 제공
+ * 할당/해제/생성/삭제 이벤트(커밋 이후)로 갱신하고, 주기적으로 DB 와 대조하여 보정
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MigUsageCounters {
+
+    private final MigInstanceRepository migInstanceRepository;
+    private final GpuModelCatalog modelCatalog;
+    private final MeterRegistry meterRegistry;
+
+    // migId -> 인스턴스 상태
+    private final Map<String, InstanceState> instances = new HashMap<>();
+    private final Map<String, Counter> deviceCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> profileCounters = new ConcurrentHashMap<>();
+    private final Counter totalCounter = new Counter();
+
+    private volatile LocalDateTime lastReconciled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Gauge.builder("gpu.mig.instances", totalCounter, counter -> counter.total)
+            .description("Total MIG instances")
+            .register(meterRegistry);
+        Gauge.builder("gpu.mig.instances.allocated", totalCounter, counter -> counter.allocated)
+            .description("Allocated MIG instances")
+            .register(meterRegistry);
+        reconcile();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAllocationCreated(GpuAllocationCreatedEvent event) {
+        if ("MIG_INSTANCE".equals(event.resourceType())) {
+            setAllocated(event.allocatedResource(), true);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResourceReleased(GpuResourceReleasedEvent event) {
+        if ("MIG_INSTANCE".equals(event.resourceType())) {
+            setAllocated(event.allocatedResource(), false);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMigInstancesChanged(MigInstancesChangedEvent event) {
+        if (event.deviceId() == null) {
+            reconcile();
+        } else {
+            reloadDevice(event.deviceId());
+        }
+    }
+
+    /**
+     * DB 기준 전체 재계산 (보정)
+     */
+    @Scheduled(fixedRate = 300000) // 5분마다 실행
+    public synchronized void reconcile() {
+        Map<String, InstanceState> loaded = new HashMap<>();
+        for (Object[] row : migInstanceRepository.findInstanceStates()) {
+            InstanceState state = toState(row);
+            loaded.put(state.migId(), state);
+        }
+
+        int drift = 0;
+        for (Map.Entry<String, InstanceState> entry : loaded.entrySet()) {
+            if (!entry.getValue().equals(instances.get(entry.getKey()))) {
+                drift++;
+            }
+        }
+        drift += (int) instances.keySet().stream().filter(migId -> !loaded.containsKey(migId)).count();
+
+        instances.clear();
+        instances.putAll(loaded);
+        recount();
+        lastReconciled = LocalDateTime.now();
+
+        if (drift > 0) {
+            log.info("MIG usage counters reconciled ({} instances, {} corrected)", loaded.size(), drift);
+        }
+    }
+
+    /**
+     * MIG 사용률 통계
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> deviceStats = new TreeMap<>();
+        deviceCounters.forEach((deviceId, counter) -> {
+            if (counter.total > 0) {
+                deviceStats.put(deviceId, Map.of("total", counter.total, "allocated", counter.allocated));
+            }
+        });
+
+        // 기존 응답 형식과 동일하게 프로필명 기준으로 집계
+        Map<String, int[]> byProfileName = new TreeMap<>();
+        profileCounters.forEach((profileId, counter) -> {
+            if (counter.total > 0) {
+                String profileName = modelCatalog.getProfile(profileId)
+                    .map(GpuModelCatalog.CatalogProfile::profileName)
+                    .orElse(profileId);
+                int[] totals = byProfileName.computeIfAbsent(profileName, key -> new int[2]);
+                totals[0] += counter.total;
+                totals[1] += counter.allocated;
+            }
+        });
+        Map<String, Object> profileStats = new TreeMap<>();
+        byProfileName.forEach((profileName, totals) ->
+            profileStats.put(profileName, Map.of("total", totals[0], "allocated", totals[1])));
+
+        long totalInstances = totalCounter.total;
+        long allocatedInstances = totalCounter.allocated;
+
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("totalInstances", totalInstances);
+        statistics.put("allocatedInstances", allocatedInstances);
+        statistics.put("availableInstances", totalInstances - allocatedInstances);
+        statistics.put("utilizationPercent", totalInstances > 0 ? (double) allocatedInstances / totalInstances * 100 : 0);
+        statistics.put("deviceStatistics", deviceStats);
+        statistics.put("profileStatistics", profileStats);
+        statistics.put("lastReconciled", lastReconciled);
+        statistics.put("lastUpdated", LocalDateTime.now());
+        return statistics;
+    }
+
+    // Private helper methods
+
+    private synchronized void setAllocated(String migId, boolean allocated) {
+        InstanceState state = instances.get(migId);
+        if (state == null || state.allocated() == allocated) {
+            return;
+        }
+        instances.put(migId, new InstanceState(migId, state.deviceId(), state.profileId(), allocated));
+        int delta = allocated ? 1 : -1;
+        deviceCounter(state.deviceId()).allocated += delta;
+        profileCounter(state.profileId()).allocated += delta;
+        totalCounter.allocated += delta;
+    }
+
+    private synchronized void reloadDevice(String deviceId) {
+        instances.values().removeIf(state -> deviceId.equals(state.deviceId()));
+        for (Object[] row : migInstanceRepository.findInstanceStatesByDevice(deviceId)) {
+            InstanceState state = toState(row);
+            instances.put(state.migId(), state);
+        }
+        recount();
+    }
+
+    private void recount() {
+        deviceCounters.values().forEach(Counter::reset);
+        profileCounters.values().forEach(Counter::reset);
+        totalCounter.reset();
+
+        for (InstanceState state : instances.values()) {
+            int allocated = state.allocated() ? 1 : 0;
+            Counter device = deviceCounter(state.deviceId());
+            device.total++;
+            device.allocated += allocated;
+            Counter profile = profileCounter(state.profileId());
+            profile.total++;
+            profile.allocated += allocated;
+            totalCounter.total++;
+            totalCounter.allocated += allocated;
+        }
+    }
+
+    private Counter deviceCounter(String deviceId) {
+        return deviceCounters.computeIfAbsent(deviceId, key -> registerGauges(new Counter(), "device", key));
+    }
+
+    private Counter profileCounter(String profileId) {
+        return profileCounters.computeIfAbsent(profileId, key -> registerGauges(new Counter(), "profile", key));
+    }
+
+    private Counter registerGauges(Counter counter, String tagName, String tagValue) {
+        Gauge.builder("gpu.mig.instances.by." + tagName, counter, value -> value.total)
+            .tag(tagName, tagValue)
+            .register(meterRegistry);
+        Gauge.builder("gpu.mig.instances.allocated.by." + tagName, counter, value -> value.allocated)
+            .tag(tagName, tagValue)
+            .register(meterRegistry);
+        return counter;
+    }
+
+    private InstanceState toState(Object[] row) {
+        return new InstanceState((String) row[0], (String) row[1], (String) row[2], "Y".equals(row[3]));
+    }
+
+    private record InstanceState(String migId, String deviceId, String profileId, boolean allocated) {
+    }
+
+    // Inner class for counter (변경은 동기화 블록 안에서만 수행)
+    private static class Counter {
+        private volatile int total;
+        private volatile int allocated;
+
+        void reset() {
+            total = 0;
+            allocated = 0;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.k8s.monitor.service.gpu;
+
+import com.k8s.monitor.entity.gpu.GpuDevice;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * nvidia-smi XML 기반 MIG 텔레메트리 소스
+ * GPU 1장당 "nvidia-smi -q -x -i <index>" 1회 실행으로 물리 GPU 와 모든 MIG 디바이스 값을 함께 수집
+ *
+ * nvidia-smi -q -x 는 MIG 디바이스별 SM 사용률을 제공하지 않으므로 (utilization 값이 N/A) MIG 사용률은 비어 있으며
+ * 물리 GPU 사용률에서 추정하지 않음 - MIG 단위 사용률이 필요하면 dcgm-exporter 소스 사용
+ * MIG 디바이스는 UUID 로 매핑하고, 처음 보는 UUID 는 GPU instance 배치로 연결한 뒤 실제 UUID 를 저장
+ */
+@Component
+@Slf4j
+public class NvidiaSmiMigTelemetrySource implements MigTelemetrySource {
+
+    public static final String SOURCE_NAME = "nvidia-smi-xml";
+
+    private final NvidiaSmiXmlParser parser = new NvidiaSmiXmlParser();
+
+    @Value("${gpu.management.metrics.nvidia-smi.path:nvidia-smi}")
+    private String nvidiaSmiPath;
+
+    @Value("${gpu.management.metrics.nvidia-smi.timeout:10s}")
+    private Duration timeout;
+
+    @Override
+    public String getSourceName() {
+        return SOURCE_NAME;
+    }
+
+    @Override
+    public Optional<GpuTelemetry> collect(GpuDevice device) {
+        Process process = null;
+        try {
+            process = new ProcessBuilder(nvidiaSmiPath, "-q", "-x", "-i", String.valueOf(device.getDeviceIndex()))
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+
+            List<GpuTelemetry> gpus;
+            try (InputStream output = process.getInputStream()) {
+                gpus = parser.parse(output);
+            }
+
+            if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("nvidia-smi timed out for device {}", device.getDeviceId());
+                return Optional.empty();
+            }
+            return gpus.stream().findFirst();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (Exception e) {
+            log.error("Error executing nvidia-smi XML query for device {}: {}", device.getDeviceId(), e.getMessage());
+            return Optional.empty();
+        } finally {
+            if (process != null && process.isAlive()) {
+                process.destroyForcibly();
+            }
+        }
+    }
+}
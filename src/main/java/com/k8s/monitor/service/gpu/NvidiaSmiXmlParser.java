@@ -0,0 +1,174 @@
+package com.k8s.monitor.service.gpu;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * nvidia-smi -q -x 출력 스트리밍(StAX) 파서
+ * 전체 문서를 DOM 으로 올리지 않고 필요한 요소만 읽어 GPU/MIG 텔레메트리로 변환
+ */
+class NvidiaSmiXmlParser {
+
+    private final XMLInputFactory factory;
+
+    NvidiaSmiXmlParser() {
+        factory = XMLInputFactory.newFactory();
+        // nvidia-smi 출력은 외부 DTD 를 참조하므로 DTD/외부 엔티티 처리 비활성화
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    /**
+     * 문서 내 모든 GPU 의 텔레메트리 파싱
+     */
+    List<MigTelemetrySource.GpuTelemetry> parse(InputStream input) throws XMLStreamException {
+        XMLStreamReader reader = factory.createXMLStreamReader(input);
+        List<MigTelemetrySource.GpuTelemetry> gpus = new ArrayList<>();
+        try {
+            GpuBuilder gpu = null;
+            MigBuilder mig = null;
+            // 현재 GPU/MIG 요소 기준 상대 경로 (예: "fb_memory_usage/used")
+            StringBuilder path = new StringBuilder();
+            StringBuilder text = new StringBuilder();
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    text.setLength(0);
+                    if ("gpu".equals(name) && gpu == null) {
+                        gpu = new GpuBuilder();
+                        path.setLength(0);
+                    } else if ("mig_device".equals(name) && gpu != null) {
+                        mig = new MigBuilder();
+                        path.setLength(0);
+                    } else if (gpu != null) {
+                        if (path.length() > 0) {
+                            path.append('/');
+                        }
+                        path.append(name);
+                    }
+                } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                    text.append(reader.getText());
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if ("mig_device".equals(name) && mig != null) {
+                        gpu.migDevices.add(mig.build());
+                        mig = null;
+                        path.setLength(0);
+                        path.append("mig_devices");
+                    } else if ("gpu".equals(name) && gpu != null && mig == null && path.length() == 0) {
+                        gpus.add(gpu.build());
+                        gpu = null;
+                    } else if (gpu != null) {
+                        String value = text.toString().trim();
+                        if (mig != null) {
+                            mig.accept(path.toString(), value);
+                        } else {
+                            gpu.accept(path.toString(), value);
+                        }
+                        int slash = path.lastIndexOf("/");
+                        path.setLength(Math.max(slash, 0));
+                    }
+                    text.setLength(0);
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return gpus;
+    }
+
+    // Private helper methods
+
+    /**
+     * "9856 MiB", "45 C", "61.52 W", "12 %" 형식에서 숫자만 추출 (N/A 는 null)
+     */
+    static Double parseNumber(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        int end = value.indexOf(' ');
+        String number = end > 0 ? value.substring(0, end) : value;
+        try {
+            return Double.parseDouble(number);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Long toLong(Double value) {
+        return value != null ? Math.round(value) : null;
+    }
+
+    private static Integer toInteger(Double value) {
+        return value != null ? (int) Math.round(value) : null;
+    }
+
+    private static class GpuBuilder {
+        private Double gpuUtil;
+        private Double memoryUtil;
+        private Double memoryUsed;
+        private Double memoryTotal;
+        private Double temperature;
+        private Double power;
+        private final List<MigTelemetrySource.MigTelemetry> migDevices = new ArrayList<>();
+
+        void accept(String path, String value) {
+            switch (path) {
+                case "utilization/gpu_util" -> gpuUtil = parseNumber(value);
+                case "utilization/memory_util" -> memoryUtil = parseNumber(value);
+                case "fb_memory_usage/used" -> memoryUsed = parseNumber(value);
+                case "fb_memory_usage/total" -> memoryTotal = parseNumber(value);
+                case "temperature/gpu_temp" -> temperature = parseNumber(value);
+                // 드라이버 버전에 따라 power_readings 또는 gpu_power_readings
+                case "power_readings/power_draw", "gpu_power_readings/power_draw" -> {
+                    Double draw = parseNumber(value);
+                    if (draw != null) {
+                        power = draw;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        MigTelemetrySource.GpuTelemetry build() {
+            return new MigTelemetrySource.GpuTelemetry(gpuUtil, memoryUtil, toLong(memoryUsed), toLong(memoryTotal),
+                    temperature, power, List.copyOf(migDevices));
+        }
+    }
+
+    private static class MigBuilder {
+        private String uuid;
+        private Double gpuInstanceId;
+        private Double computeInstanceId;
+        private Double gpuUtil;
+        private Double memoryUsed;
+        private Double memoryTotal;
+
+        void accept(String path, String value) {
+            switch (path) {
+                case "uuid" -> uuid = value.isEmpty() || "N/A".equals(value) ? null : value;
+                case "gpu_instance_id" -> gpuInstanceId = parseNumber(value);
+                case "compute_instance_id" -> computeInstanceId = parseNumber(value);
+                // MIG 디바이스는 보통 N/A (null 유지)
+                case "utilization/gpu_util" -> gpuUtil = parseNumber(value);
+                case "fb_memory_usage/used" -> memoryUsed = parseNumber(value);
+                case "fb_memory_usage/total" -> memoryTotal = parseNumber(value);
+                default -> {
+                }
+            }
+        }
+
+        MigTelemetrySource.MigTelemetry build() {
+            return new MigTelemetrySource.MigTelemetry(uuid, toInteger(gpuInstanceId), toInteger(computeInstanceId),
+                    gpuUtil, toLong(memoryUsed), toLong(memoryTotal));
+        }
+    }
+}